@@ -0,0 +1,67 @@
+package nl.amila.badminton.manager.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Counts the SQL statements of every HTTP request through {@link QueryCountInspector}.
+ *
+ * Each count is recorded in the {@code http.server.requests.statements} summary, tagged with the
+ * method and URI template, and a request issuing more than {@code app.query-count.warn-threshold}
+ * statements is logged — usually a loop fanning out into lazy loads. Runs ahead of the security
+ * filters so the whole request is counted.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    static final String STATEMENTS_SUMMARY = "http.server.requests.statements";
+
+    private static final Logger log = LoggerFactory.getLogger(QueryCountFilter.class);
+
+    private final MeterRegistry registry;
+    private final int warnThreshold;
+
+    public QueryCountFilter(MeterRegistry registry,
+                            @Value("${app.query-count.warn-threshold:50}") int warnThreshold) {
+        this.registry = registry;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        int statements;
+        try (QueryCountInspector.Scope scope = QueryCountInspector.open()) {
+            filterChain.doFilter(request, response);
+            statements = scope.statements();
+        }
+        // Set by the dispatcher once a handler matched; bounded, unlike the raw path
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        DistributionSummary.builder(STATEMENTS_SUMMARY)
+            .description("SQL statements issued per HTTP request")
+            .baseUnit("statements")
+            .tag("method", request.getMethod())
+            .tag("uri", uri)
+            .register(registry)
+            .record(statements);
+        if (statements > warnThreshold) {
+            log.warn("{} {} issued {} SQL statements (threshold {})", request.getMethod(), uri, statements, warnThreshold);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package nl.amila.badminton.manager.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Development aid: adds the request's SQL statement count so far as an {@code X-Query-Count}
+ * response header. Set just before the body is written, since headers cannot change once the
+ * response is committed; responses are built from DTOs, so serialisation issues no further queries.
+ * Enabled with {@code app.query-count.response-header=true} (the {@code dev} profile).
+ */
+@RestControllerAdvice
+@ConditionalOnProperty(name = "app.query-count.response-header", havingValue = "true")
+public class QueryCountHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    static final String HEADER = "X-Query-Count";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        response.getHeaders().set(HEADER, Integer.toString(QueryCountInspector.current()));
+        return body;
+    }
+}
@@ -0,0 +1,75 @@
+package nl.amila.badminton.manager.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread, so lazy-load fan-out
+ * (N+1 queries) shows up as a number instead of passing unnoticed.
+ *
+ * Hibernate creates the inspector itself from {@code hibernate.session_factory.statement_inspector};
+ * counts are kept in a thread-local {@link Scope} that {@link QueryCountFilter} opens per request
+ * and tests open around a call. Statements run through {@code JdbcTemplate} bypass Hibernate and
+ * are not counted.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.statements++;
+        }
+        return sql;
+    }
+
+    /**
+     * Start counting on this thread. Scopes nest: a closed inner scope adds its count to the outer one.
+     */
+    public static Scope open() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * Statements counted so far by the innermost open scope, or 0 when none is open.
+     */
+    public static int current() {
+        Scope scope = CURRENT.get();
+        return scope != null ? scope.statements : 0;
+    }
+
+    /**
+     * An open count; close it on the thread that opened it.
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope parent;
+        private int statements;
+        private boolean closed;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        public int statements() {
+            return statements;
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (parent != null) {
+                parent.statements += statements;
+                CURRENT.set(parent);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
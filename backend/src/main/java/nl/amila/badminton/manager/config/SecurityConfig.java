@@ -1,16 +1,24 @@
 package nl.amila.badminton.manager.config;
 
+import jakarta.servlet.DispatcherType;
 import nl.amila.badminton.manager.service.CustomUserDetailsService;
+import nl.amila.badminton.manager.service.TokenService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -59,15 +67,25 @@ public class SecurityConfig {
     }
 
     /**
-     * Security filter chain for role-based access control
+     * Security filter chain for role-based access control.
+     * Stateless: every request authenticates with a bearer access token issued by /api/auth/login.
      */
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http, AuthenticationManager authenticationManager) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, AuthenticationManager authenticationManager,
+                                                   TokenService tokenService,
+                                                   @Value("${management.server.port:}") Integer managementPort,
+                                                   @Value("${server.port:8080}") int serverPort) throws Exception {
         http
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .csrf(csrf -> csrf.disable())
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .exceptionHandling(exceptions -> exceptions.authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
             .authorizeHttpRequests(auth -> auth
-                // Auth endpoints - public
+                // SSE async re-dispatches carry no token; the initial request was already authorised
+                .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
+
+                // Auth endpoints - public, apart from stream tickets, which are issued against an access token
+                .requestMatchers(HttpMethod.POST, "/api/auth/stream-ticket").authenticated()
                 .requestMatchers("/api/auth/**").permitAll()
 
                 // Tournament endpoints - role-based access
@@ -78,6 +96,7 @@ public class SecurityConfig {
                 .requestMatchers("/api/tournaments/*/players/**").hasAnyRole("ADMIN", "TOURNY_ADMIN")
                 .requestMatchers(HttpMethod.PUT, "/api/tournaments/*/settings").hasAnyRole("ADMIN", "TOURNY_ADMIN")
                 .requestMatchers(HttpMethod.GET, "/api/tournaments/*/rankings").permitAll()
+                .requestMatchers(HttpMethod.POST, "/api/tournaments/*/rankings/recompute").hasAnyRole("ADMIN", "TOURNY_ADMIN")
 
                 // Player-only tournament endpoints (must be before the broad admin GET matcher)
                 .requestMatchers(HttpMethod.GET, "/api/tournaments/player-list").hasRole("PLAYER")
@@ -88,19 +107,47 @@ public class SecurityConfig {
                 .requestMatchers(HttpMethod.GET, "/api/tournaments/*/game-days/*/player-view").hasRole("PLAYER")
                 .requestMatchers(HttpMethod.PUT, "/api/tournaments/*/game-days/*/groups/*/matches/*/player-score").hasRole("PLAYER")
 
-                // Player history — any authenticated user can view any player's history
+                // Live score streams — admins and registered players, checked by the game-day services
+                .requestMatchers(HttpMethod.GET, "/api/tournaments/*/game-days/*/stream").authenticated()
+                .requestMatchers(HttpMethod.GET, "/api/tournaments/*/apl-game-days/*/stream").authenticated()
+
+                // Player history, rank progression and stats — any authenticated user can view any player's scores
                 .requestMatchers(HttpMethod.GET, "/api/tournaments/*/game-days/players/*/history").authenticated()
+                .requestMatchers(HttpMethod.GET, "/api/tournaments/*/rankings/progression").authenticated()
+                .requestMatchers(HttpMethod.GET, "/api/tournaments/*/stats/**").authenticated()
+
+                // One-off rounds and standings — anyone signed in can follow; drawing and scoring is for admins.
+                // The knockout bracket is public, like the rankings
+                .requestMatchers(HttpMethod.GET, "/api/tournaments/*/one-off/bracket").permitAll()
+                .requestMatchers(HttpMethod.GET, "/api/tournaments/*/one-off/**").authenticated()
+                .requestMatchers("/api/tournaments/*/one-off/**").hasAnyRole("ADMIN", "TOURNY_ADMIN")
 
                 // Admin/TournyAdmin game-day and tournament GET endpoints
                 .requestMatchers(HttpMethod.GET, "/api/tournaments/**").hasAnyRole("ADMIN", "TOURNY_ADMIN")
 
+                // Actuator — health is open for probes. The Prometheus scrape is only open on a separate
+                // management port (MANAGEMENT_PORT), which is not published; everything else is for admins
+                .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers(prometheusOnManagementPort(managementPort, serverPort)).permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
+
                 // All other requests require authentication
                 .anyRequest().authenticated()
             )
             .authenticationManager(authenticationManager)
-            .httpBasic(httpBasic -> {});
+            .addFilterBefore(new TokenAuthenticationFilter(tokenService), UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
+
+    /**
+     * The Prometheus scrape, when it arrives on a management port other than the application port.
+     */
+    private static RequestMatcher prometheusOnManagementPort(Integer managementPort, int serverPort) {
+        boolean separatePort = managementPort != null && managementPort > 0 && managementPort != serverPort;
+        return request -> separatePort
+            && request.getLocalPort() == managementPort
+            && "/actuator/prometheus".equals(request.getRequestURI());
+    }
 }
 
@@ -0,0 +1,65 @@
+package nl.amila.badminton.manager.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import nl.amila.badminton.manager.service.TokenService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Authenticates requests carrying an {@code Authorization: Bearer <token>} header
+ * (or, for SSE {@code /stream} endpoints only, a {@code ticket} query parameter holding a stream
+ * ticket from {@code POST /api/auth/stream-ticket}; access tokens are never read from the URL).
+ * Both are verified with an HMAC check only — no password hashing and no database lookup.
+ * Requests without a valid token continue unauthenticated and are rejected by the
+ * authorization rules in {@link SecurityConfig} where authentication is required.
+ */
+public class TokenAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String STREAM_TICKET_PARAM = "ticket";
+    private static final String STREAM_SUFFIX = "/stream";
+
+    private final TokenService tokenService;
+
+    public TokenAuthenticationFilter(TokenService tokenService) {
+        this.tokenService = tokenService;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        resolveClaims(request)
+            .ifPresent(claims -> {
+                UsernamePasswordAuthenticationToken authentication = UsernamePasswordAuthenticationToken.authenticated(
+                    claims.username(),
+                    null,
+                    List.of(new SimpleGrantedAuthority("ROLE_" + claims.role()))
+                );
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            });
+        filterChain.doFilter(request, response);
+    }
+
+    private Optional<TokenService.TokenClaims> resolveClaims(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith(BEARER_PREFIX)) {
+            return tokenService.verifyAccessToken(header.substring(BEARER_PREFIX.length()).trim());
+        }
+        // EventSource cannot set headers, so SSE streams accept a stream ticket as a query parameter
+        if (HttpMethod.GET.matches(request.getMethod()) && request.getRequestURI().endsWith(STREAM_SUFFIX)) {
+            return tokenService.verifyStreamTicket(request.getParameter(STREAM_TICKET_PARAM));
+        }
+        return Optional.empty();
+    }
+}
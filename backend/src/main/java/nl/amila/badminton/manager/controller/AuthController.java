@@ -3,9 +3,11 @@ package nl.amila.badminton.manager.controller;
 import nl.amila.badminton.manager.dto.SignupRequest;
 import nl.amila.badminton.manager.dto.LoginRequest;
 import nl.amila.badminton.manager.dto.AuthResponse;
+import nl.amila.badminton.manager.dto.RefreshTokenRequest;
 import nl.amila.badminton.manager.service.AuthService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -32,7 +34,7 @@ public class AuthController {
     }
 
     /**
-     * Authenticate user and return user details
+     * Authenticate user and return user details with an access and refresh token
      */
     @PostMapping("/login")
     public ResponseEntity<AuthResponse> login(@RequestBody LoginRequest request) {
@@ -44,6 +46,41 @@ public class AuthController {
         }
     }
 
+    /**
+     * Rotate a refresh token into a new access/refresh token pair
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(@RequestBody RefreshTokenRequest request) {
+        AuthResponse response = authService.refresh(request);
+        if (response.isSuccess()) {
+            return ResponseEntity.ok(response);
+        } else {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
+        }
+    }
+
+    /**
+     * Revoke a refresh token
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<AuthResponse> logout(@RequestBody RefreshTokenRequest request) {
+        return ResponseEntity.ok(authService.logout(request));
+    }
+
+    /**
+     * Issue a short-lived ticket for opening an SSE stream ({@code ?ticket=}), since EventSource
+     * cannot send the Authorization header. Requires a bearer access token.
+     */
+    @PostMapping("/stream-ticket")
+    public ResponseEntity<AuthResponse> streamTicket(Authentication authentication) {
+        AuthResponse response = authService.issueStreamTicket(authentication.getName());
+        if (response.isSuccess()) {
+            return ResponseEntity.ok(response);
+        } else {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
+        }
+    }
+
     /**
      * Health check endpoint
      */
@@ -2,21 +2,41 @@ package nl.amila.badminton.manager.controller;
 
 import nl.amila.badminton.manager.dto.*;
 import nl.amila.badminton.manager.entity.Role;
+import nl.amila.badminton.manager.service.PublicRankingsService;
 import nl.amila.badminton.manager.service.TournamentService;
+import nl.amila.badminton.manager.service.ranking.Downsampling;
+import nl.amila.badminton.manager.service.ranking.RankProgressionService;
+import nl.amila.badminton.manager.service.ranking.RankReplayService;
+import nl.amila.badminton.manager.service.stats.HeadToHeadService;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/tournaments")
 @CrossOrigin(origins = "*")
 public class TournamentController {
     private final TournamentService tournamentService;
+    private final PublicRankingsService publicRankingsService;
+    private final RankReplayService rankReplayService;
+    private final RankProgressionService rankProgressionService;
+    private final HeadToHeadService headToHeadService;
 
-    public TournamentController(TournamentService tournamentService) {
+    public TournamentController(TournamentService tournamentService, PublicRankingsService publicRankingsService,
+                                RankReplayService rankReplayService, RankProgressionService rankProgressionService,
+                                HeadToHeadService headToHeadService) {
         this.tournamentService = tournamentService;
+        this.publicRankingsService = publicRankingsService;
+        this.rankReplayService = rankReplayService;
+        this.rankProgressionService = rankProgressionService;
+        this.headToHeadService = headToHeadService;
     }
 
     /**
@@ -181,11 +201,63 @@ public class TournamentController {
     }
 
     /**
-     * Get public rankings for a tournament — no authentication required
+     * Get public rankings for a tournament — no authentication required.
+     * Served from an in-memory snapshot; a matching If-None-Match yields 304 Not Modified.
      */
     @GetMapping("/{id}/rankings")
-    public ResponseEntity<TournamentResponse> getPublicRankings(@PathVariable Long id) {
-        TournamentResponse response = tournamentService.getPublicRankings(id);
+    public ResponseEntity<TournamentResponse> getPublicRankings(@PathVariable Long id, WebRequest webRequest) {
+        Optional<PublicRankingsService.RankingsSnapshot> snapshot = publicRankingsService.getRankings(id);
+        if (snapshot.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new TournamentResponse(false, "Tournament not found"));
+        }
+        if (webRequest.checkNotModified(snapshot.get().etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(snapshot.get().etag()).build();
+        }
+        return ResponseEntity.ok()
+            .eTag(snapshot.get().etag())
+            .cacheControl(CacheControl.noCache())
+            .body(snapshot.get().response());
+    }
+
+    /**
+     * Rank score over time of the given tournament players (all players when omitted), as parallel
+     * arrays for charts. Any authenticated user. {@code downsample} is none, day (each game day's
+     * closing score) or lttb (at most {@code points} points per player).
+     */
+    @GetMapping("/{id}/rankings/progression")
+    public ResponseEntity<RankProgressionResponse> getRankProgression(
+            @PathVariable Long id,
+            @RequestParam(required = false) List<Long> players,
+            @RequestParam(defaultValue = "day") String downsample,
+            @RequestParam(required = false) Integer points) {
+        Downsampling downsampling;
+        try {
+            downsampling = Downsampling.fromParam(downsample);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new RankProgressionResponse(false, "Unknown downsample: " + downsample));
+        }
+        RankProgressionResponse response = rankProgressionService.getProgression(id, players, downsampling, points);
+        if (response.isSuccess()) {
+            return ResponseEntity.ok(response);
+        } else {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+        }
+    }
+
+    /**
+     * How two tournament players do overall, as partners and against each other (any authenticated user).
+     */
+    @GetMapping("/{id}/stats/head-to-head")
+    public ResponseEntity<HeadToHeadResponse> getHeadToHead(
+            @PathVariable Long id,
+            @RequestParam Long playerA,
+            @RequestParam Long playerB) {
+        if (playerA.equals(playerB)) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new HeadToHeadResponse(false, "Choose two different players"));
+        }
+        HeadToHeadResponse response = headToHeadService.getHeadToHead(id, playerA, playerB);
         if (response.isSuccess()) {
             return ResponseEntity.ok(response);
         } else {
@@ -214,6 +286,26 @@ public class TournamentController {
         }
     }
 
+    /**
+     * Replay all completed game days and rebuild rank history and scores
+     * (ADMIN or TOURNY_ADMIN of this tournament), e.g. after correcting a past score.
+     */
+    @PostMapping("/{id}/rankings/recompute")
+    public ResponseEntity<RecomputeRankingsResponse> recomputeRankings(@PathVariable Long id,
+                                                                       Authentication authentication) {
+        try {
+            RecomputeRankingsResponse response = rankReplayService.recompute(id, authentication.getName());
+            if (response.isSuccess()) {
+                return ResponseEntity.ok(response);
+            } else {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+            }
+        } catch (AccessDeniedException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(new RecomputeRankingsResponse(false, e.getMessage()));
+        }
+    }
+
     // ── Player-scoped endpoints ───────────────────────────────────────────────
 
     /**
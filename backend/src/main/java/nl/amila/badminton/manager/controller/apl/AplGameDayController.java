@@ -4,13 +4,22 @@ import nl.amila.badminton.manager.dto.apl.AplCreateGameDayRequest;
 import nl.amila.badminton.manager.dto.apl.AplGameDayResponse;
 import nl.amila.badminton.manager.dto.apl.AplPlayerHistoryResponse;
 import nl.amila.badminton.manager.dto.apl.AplSubmitMatchScoreRequest;
+import nl.amila.badminton.manager.dto.apl.AplSubmitMatchScoresRequest;
+import nl.amila.badminton.manager.entity.TournamentType;
+import nl.amila.badminton.manager.service.GameDayMetrics;
+import nl.amila.badminton.manager.service.GameDayStreamService;
+import nl.amila.badminton.manager.service.ScoreResponseView;
 import nl.amila.badminton.manager.service.apl.AplGameDayService;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/tournaments/{tournamentId}/apl-game-days")
@@ -18,9 +27,14 @@ import org.springframework.web.bind.annotation.*;
 public class AplGameDayController {
 
     private final AplGameDayService aplGameDayService;
+    private final GameDayStreamService gameDayStreamService;
+    private final GameDayMetrics gameDayMetrics;
 
-    public AplGameDayController(AplGameDayService aplGameDayService) {
+    public AplGameDayController(AplGameDayService aplGameDayService, GameDayStreamService gameDayStreamService,
+                                GameDayMetrics gameDayMetrics) {
         this.aplGameDayService = aplGameDayService;
+        this.gameDayStreamService = gameDayStreamService;
+        this.gameDayMetrics = gameDayMetrics;
     }
 
     /**
@@ -31,7 +45,8 @@ public class AplGameDayController {
             @PathVariable Long tournamentId,
             @RequestBody AplCreateGameDayRequest request,
             Authentication authentication) {
-        AplGameDayResponse response = aplGameDayService.createGameDay(tournamentId, request, authentication.getName());
+        AplGameDayResponse response = timed(GameDayMetrics.Operation.CREATE,
+            () -> aplGameDayService.createGameDay(tournamentId, request, authentication.getName()));
         if (response.isSuccess()) {
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
         } else {
@@ -78,7 +93,8 @@ public class AplGameDayController {
             @PathVariable Long tournamentId,
             @PathVariable Long dayId,
             Authentication authentication) {
-        AplGameDayResponse response = aplGameDayService.startGameDay(tournamentId, dayId, authentication.getName());
+        AplGameDayResponse response = timed(GameDayMetrics.Operation.START,
+            () -> aplGameDayService.startGameDay(tournamentId, dayId, authentication.getName()));
         if (response.isSuccess()) {
             return ResponseEntity.ok(response);
         } else {
@@ -119,7 +135,9 @@ public class AplGameDayController {
     }
 
     /**
-     * Submit or update the score for a match (ONGOING game days only)
+     * Submit or update the score for a match (ONGOING game days only).
+     * {@code ?view=match} returns only the scored match and its new version instead of the whole day;
+     * {@code ?view=group} adds the group's scoring progress.
      */
     @PutMapping("/{dayId}/groups/{groupId}/matches/{matchId}/score")
     public ResponseEntity<AplGameDayResponse> submitMatchScore(
@@ -127,10 +145,19 @@ public class AplGameDayController {
             @PathVariable Long dayId,
             @PathVariable Long groupId,
             @PathVariable Long matchId,
+            @RequestParam(defaultValue = "day") String view,
             @RequestBody AplSubmitMatchScoreRequest request,
             Authentication authentication) {
-        AplGameDayResponse response = aplGameDayService.submitMatchScore(
-                tournamentId, dayId, groupId, matchId, request, authentication.getName());
+        ScoreResponseView responseView;
+        try {
+            responseView = ScoreResponseView.fromParam(view);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new AplGameDayResponse(false, "Unknown view: " + view));
+        }
+        AplGameDayResponse response = timed(GameDayMetrics.Operation.SUBMIT,
+            () -> aplGameDayService.submitMatchScore(
+                tournamentId, dayId, groupId, matchId, request, authentication.getName(), responseView));
         if (response.isSuccess()) {
             return ResponseEntity.ok(response);
         } else {
@@ -138,6 +165,74 @@ public class AplGameDayController {
         }
     }
 
+    /**
+     * Submit or update the scores of several matches of a game day at once (ONGOING game days only).
+     * Scores are applied together or not at all. Returns HTTP 409 if a match changed since the
+     * {@code version} the client sent, or was updated concurrently.
+     */
+    @PutMapping("/{dayId}/scores")
+    public ResponseEntity<AplGameDayResponse> submitMatchScores(
+            @PathVariable Long tournamentId,
+            @PathVariable Long dayId,
+            @RequestBody AplSubmitMatchScoresRequest request,
+            Authentication authentication) {
+        return bulkScoreResponse(() -> aplGameDayService.submitMatchScores(
+                tournamentId, dayId, null, request, authentication.getName()));
+    }
+
+    /**
+     * Submit or update the scores of several matches of one group at once (ONGOING game days only).
+     */
+    @PutMapping("/{dayId}/groups/{groupId}/scores")
+    public ResponseEntity<AplGameDayResponse> submitGroupMatchScores(
+            @PathVariable Long tournamentId,
+            @PathVariable Long dayId,
+            @PathVariable Long groupId,
+            @RequestBody AplSubmitMatchScoresRequest request,
+            Authentication authentication) {
+        return bulkScoreResponse(() -> aplGameDayService.submitMatchScores(
+                tournamentId, dayId, groupId, request, authentication.getName()));
+    }
+
+    private ResponseEntity<AplGameDayResponse> bulkScoreResponse(Supplier<AplGameDayResponse> submit) {
+        try {
+            AplGameDayResponse response = timed(GameDayMetrics.Operation.SUBMIT, submit);
+            if (response.isSuccess()) {
+                return ResponseEntity.ok(response);
+            } else {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+            }
+        } catch (ObjectOptimisticLockingFailureException e) {
+            gameDayMetrics.scoreConflict(TournamentType.APL, GameDayMetrics.Submitter.ADMIN);
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new AplGameDayResponse(false, "Scores changed since they were loaded; reload the game day and try again"));
+        }
+    }
+
+    /**
+     * Run a lifecycle call through {@link GameDayMetrics}; the commit is part of the recorded time.
+     */
+    private AplGameDayResponse timed(GameDayMetrics.Operation operation, Supplier<AplGameDayResponse> call) {
+        return gameDayMetrics.time(TournamentType.APL, operation, call, AplGameDayResponse::isSuccess);
+    }
+
+    /**
+     * Live score stream for a game day (Server-Sent Events).
+     * Each submitted score is pushed as a compact {@code score} event instead of clients re-fetching the day.
+     * EventSource cannot send headers, so a stream ticket from {@code POST /api/auth/stream-ticket}
+     * may be passed as {@code ?ticket=} instead.
+     */
+    @GetMapping(path = "/{dayId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamGameDay(
+            @PathVariable Long tournamentId,
+            @PathVariable Long dayId,
+            Authentication authentication) {
+        if (!aplGameDayService.canWatchGameDay(tournamentId, dayId, authentication.getName())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(gameDayStreamService.subscribe(TournamentType.APL, dayId));
+    }
+
     /**
      * Finish a game day (ONGOING → COMPLETED): validates all scores, runs Modified-ELO calculation,
      * saves rank score history, and updates player rank scores.
@@ -147,7 +242,8 @@ public class AplGameDayController {
             @PathVariable Long tournamentId,
             @PathVariable Long dayId,
             Authentication authentication) {
-        AplGameDayResponse response = aplGameDayService.finishGameDay(tournamentId, dayId, authentication.getName());
+        AplGameDayResponse response = timed(GameDayMetrics.Operation.FINISH,
+            () -> aplGameDayService.finishGameDay(tournamentId, dayId, authentication.getName()));
         if (response.isSuccess()) {
             return ResponseEntity.ok(response);
         } else {
@@ -191,6 +287,7 @@ public class AplGameDayController {
     /**
      * Submit match score as a player. Score can only be set once — first submission wins.
      * Returns HTTP 409 if score was already submitted (concurrent duplicate).
+     * Accepts the same {@code view} parameter as the admin score endpoint.
      */
     @PutMapping("/{dayId}/groups/{groupId}/matches/{matchId}/player-score")
     public ResponseEntity<AplGameDayResponse> submitMatchScoreAsPlayer(
@@ -198,17 +295,27 @@ public class AplGameDayController {
             @PathVariable Long dayId,
             @PathVariable Long groupId,
             @PathVariable Long matchId,
+            @RequestParam(defaultValue = "day") String view,
             @RequestBody AplSubmitMatchScoreRequest request,
             Authentication authentication) {
+        ScoreResponseView responseView;
+        try {
+            responseView = ScoreResponseView.fromParam(view);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new AplGameDayResponse(false, "Unknown view: " + view));
+        }
         try {
-            AplGameDayResponse response = aplGameDayService.submitMatchScoreAsPlayer(
-                tournamentId, dayId, groupId, matchId, request, authentication.getName());
+            AplGameDayResponse response = timed(GameDayMetrics.Operation.SUBMIT,
+                () -> aplGameDayService.submitMatchScoreAsPlayer(
+                    tournamentId, dayId, groupId, matchId, request, authentication.getName(), responseView));
             if (response.isSuccess()) {
                 return ResponseEntity.ok(response);
             } else {
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
             }
         } catch (ObjectOptimisticLockingFailureException e) {
+            gameDayMetrics.scoreConflict(TournamentType.APL, GameDayMetrics.Submitter.PLAYER);
             return ResponseEntity.status(HttpStatus.CONFLICT)
                 .body(new AplGameDayResponse(false, "Score was already submitted by another player"));
         } catch (AccessDeniedException e) {
@@ -221,12 +328,20 @@ public class AplGameDayController {
      * Get completed game day history for a specific tournament player.
      * Any authenticated user may view any player's history.
      * URL: GET /api/tournaments/{tournamentId}/apl-game-days/players/{tournamentPlayerId}/history
+     * Paged newest first: pass the previous page's {@code nextCursor} as {@code cursor} for older entries.
      */
     @GetMapping("/players/{tournamentPlayerId}/history")
     public ResponseEntity<AplPlayerHistoryResponse> getPlayerHistory(
             @PathVariable Long tournamentId,
-            @PathVariable Long tournamentPlayerId) {
-        AplPlayerHistoryResponse response = aplGameDayService.getPlayerHistory(tournamentId, tournamentPlayerId);
+            @PathVariable Long tournamentPlayerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        AplPlayerHistoryResponse response;
+        try {
+            response = aplGameDayService.getPlayerHistory(tournamentId, tournamentPlayerId, cursor, limit);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new AplPlayerHistoryResponse(false, e.getMessage()));
+        }
         if (response.isSuccess()) {
             return ResponseEntity.ok(response);
         } else {
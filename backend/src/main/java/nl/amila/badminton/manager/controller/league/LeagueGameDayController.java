@@ -4,13 +4,22 @@ import nl.amila.badminton.manager.dto.league.CreateGameDayRequest;
 import nl.amila.badminton.manager.dto.league.GameDayResponse;
 import nl.amila.badminton.manager.dto.league.PlayerHistoryResponse;
 import nl.amila.badminton.manager.dto.league.SubmitMatchScoreRequest;
+import nl.amila.badminton.manager.dto.league.SubmitMatchScoresRequest;
+import nl.amila.badminton.manager.entity.TournamentType;
+import nl.amila.badminton.manager.service.GameDayMetrics;
+import nl.amila.badminton.manager.service.GameDayStreamService;
+import nl.amila.badminton.manager.service.ScoreResponseView;
 import nl.amila.badminton.manager.service.league.LeagueGameDayService;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/tournaments/{tournamentId}/game-days")
@@ -18,9 +27,14 @@ import org.springframework.web.bind.annotation.*;
 public class LeagueGameDayController {
 
     private final LeagueGameDayService leagueGameDayService;
+    private final GameDayStreamService gameDayStreamService;
+    private final GameDayMetrics gameDayMetrics;
 
-    public LeagueGameDayController(LeagueGameDayService leagueGameDayService) {
+    public LeagueGameDayController(LeagueGameDayService leagueGameDayService, GameDayStreamService gameDayStreamService,
+                                   GameDayMetrics gameDayMetrics) {
         this.leagueGameDayService = leagueGameDayService;
+        this.gameDayStreamService = gameDayStreamService;
+        this.gameDayMetrics = gameDayMetrics;
     }
 
     /**
@@ -31,7 +45,8 @@ public class LeagueGameDayController {
             @PathVariable Long tournamentId,
             @RequestBody CreateGameDayRequest request,
             Authentication authentication) {
-        GameDayResponse response = leagueGameDayService.createGameDay(tournamentId, request, authentication.getName());
+        GameDayResponse response = timed(GameDayMetrics.Operation.CREATE,
+            () -> leagueGameDayService.createGameDay(tournamentId, request, authentication.getName()));
         if (response.isSuccess()) {
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
         } else {
@@ -78,7 +93,8 @@ public class LeagueGameDayController {
             @PathVariable Long tournamentId,
             @PathVariable Long dayId,
             Authentication authentication) {
-        GameDayResponse response = leagueGameDayService.startGameDay(tournamentId, dayId, authentication.getName());
+        GameDayResponse response = timed(GameDayMetrics.Operation.START,
+            () -> leagueGameDayService.startGameDay(tournamentId, dayId, authentication.getName()));
         if (response.isSuccess()) {
             return ResponseEntity.ok(response);
         } else {
@@ -119,7 +135,9 @@ public class LeagueGameDayController {
     }
 
     /**
-     * Submit or update the score for a match (ONGOING game days only)
+     * Submit or update the score for a match (ONGOING game days only).
+     * {@code ?view=match} returns only the scored match and its new version instead of the whole day;
+     * {@code ?view=group} adds the group's scoring progress.
      */
     @PutMapping("/{dayId}/groups/{groupId}/matches/{matchId}/score")
     public ResponseEntity<GameDayResponse> submitMatchScore(
@@ -127,10 +145,19 @@ public class LeagueGameDayController {
             @PathVariable Long dayId,
             @PathVariable Long groupId,
             @PathVariable Long matchId,
+            @RequestParam(defaultValue = "day") String view,
             @RequestBody SubmitMatchScoreRequest request,
             Authentication authentication) {
-        GameDayResponse response = leagueGameDayService.submitMatchScore(
-                tournamentId, dayId, groupId, matchId, request, authentication.getName());
+        ScoreResponseView responseView;
+        try {
+            responseView = ScoreResponseView.fromParam(view);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new GameDayResponse(false, "Unknown view: " + view));
+        }
+        GameDayResponse response = timed(GameDayMetrics.Operation.SUBMIT,
+            () -> leagueGameDayService.submitMatchScore(
+                tournamentId, dayId, groupId, matchId, request, authentication.getName(), responseView));
         if (response.isSuccess()) {
             return ResponseEntity.ok(response);
         } else {
@@ -138,6 +165,74 @@ public class LeagueGameDayController {
         }
     }
 
+    /**
+     * Submit or update the scores of several matches of a game day at once (ONGOING game days only).
+     * Scores are applied together or not at all. Returns HTTP 409 if a match changed since the
+     * {@code version} the client sent, or was updated concurrently.
+     */
+    @PutMapping("/{dayId}/scores")
+    public ResponseEntity<GameDayResponse> submitMatchScores(
+            @PathVariable Long tournamentId,
+            @PathVariable Long dayId,
+            @RequestBody SubmitMatchScoresRequest request,
+            Authentication authentication) {
+        return bulkScoreResponse(() -> leagueGameDayService.submitMatchScores(
+                tournamentId, dayId, null, request, authentication.getName()));
+    }
+
+    /**
+     * Submit or update the scores of several matches of one group at once (ONGOING game days only).
+     */
+    @PutMapping("/{dayId}/groups/{groupId}/scores")
+    public ResponseEntity<GameDayResponse> submitGroupMatchScores(
+            @PathVariable Long tournamentId,
+            @PathVariable Long dayId,
+            @PathVariable Long groupId,
+            @RequestBody SubmitMatchScoresRequest request,
+            Authentication authentication) {
+        return bulkScoreResponse(() -> leagueGameDayService.submitMatchScores(
+                tournamentId, dayId, groupId, request, authentication.getName()));
+    }
+
+    private ResponseEntity<GameDayResponse> bulkScoreResponse(Supplier<GameDayResponse> submit) {
+        try {
+            GameDayResponse response = timed(GameDayMetrics.Operation.SUBMIT, submit);
+            if (response.isSuccess()) {
+                return ResponseEntity.ok(response);
+            } else {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+            }
+        } catch (ObjectOptimisticLockingFailureException e) {
+            gameDayMetrics.scoreConflict(TournamentType.LEAGUE, GameDayMetrics.Submitter.ADMIN);
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new GameDayResponse(false, "Scores changed since they were loaded; reload the game day and try again"));
+        }
+    }
+
+    /**
+     * Run a lifecycle call through {@link GameDayMetrics}; the commit is part of the recorded time.
+     */
+    private GameDayResponse timed(GameDayMetrics.Operation operation, Supplier<GameDayResponse> call) {
+        return gameDayMetrics.time(TournamentType.LEAGUE, operation, call, GameDayResponse::isSuccess);
+    }
+
+    /**
+     * Live score stream for a game day (Server-Sent Events).
+     * Each submitted score is pushed as a compact {@code score} event instead of clients re-fetching the day.
+     * EventSource cannot send headers, so a stream ticket from {@code POST /api/auth/stream-ticket}
+     * may be passed as {@code ?ticket=} instead.
+     */
+    @GetMapping(path = "/{dayId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamGameDay(
+            @PathVariable Long tournamentId,
+            @PathVariable Long dayId,
+            Authentication authentication) {
+        if (!leagueGameDayService.canWatchGameDay(tournamentId, dayId, authentication.getName())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(gameDayStreamService.subscribe(TournamentType.LEAGUE, dayId));
+    }
+
     /**
      * Finish a game day (ONGOING → COMPLETED): validates all scores, runs Modified-ELO calculation,
      * saves rank score history, and updates player rank scores.
@@ -147,7 +242,8 @@ public class LeagueGameDayController {
             @PathVariable Long tournamentId,
             @PathVariable Long dayId,
             Authentication authentication) {
-        GameDayResponse response = leagueGameDayService.finishGameDay(tournamentId, dayId, authentication.getName());
+        GameDayResponse response = timed(GameDayMetrics.Operation.FINISH,
+            () -> leagueGameDayService.finishGameDay(tournamentId, dayId, authentication.getName()));
         if (response.isSuccess()) {
             return ResponseEntity.ok(response);
         } else {
@@ -191,6 +287,7 @@ public class LeagueGameDayController {
     /**
      * Submit match score as a player. Score can only be set once — first submission wins.
      * Returns HTTP 409 if score was already submitted (concurrent duplicate).
+     * Accepts the same {@code view} parameter as the admin score endpoint.
      */
     @PutMapping("/{dayId}/groups/{groupId}/matches/{matchId}/player-score")
     public ResponseEntity<GameDayResponse> submitMatchScoreAsPlayer(
@@ -198,17 +295,27 @@ public class LeagueGameDayController {
             @PathVariable Long dayId,
             @PathVariable Long groupId,
             @PathVariable Long matchId,
+            @RequestParam(defaultValue = "day") String view,
             @RequestBody SubmitMatchScoreRequest request,
             Authentication authentication) {
+        ScoreResponseView responseView;
+        try {
+            responseView = ScoreResponseView.fromParam(view);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new GameDayResponse(false, "Unknown view: " + view));
+        }
         try {
-            GameDayResponse response = leagueGameDayService.submitMatchScoreAsPlayer(
-                tournamentId, dayId, groupId, matchId, request, authentication.getName());
+            GameDayResponse response = timed(GameDayMetrics.Operation.SUBMIT,
+                () -> leagueGameDayService.submitMatchScoreAsPlayer(
+                    tournamentId, dayId, groupId, matchId, request, authentication.getName(), responseView));
             if (response.isSuccess()) {
                 return ResponseEntity.ok(response);
             } else {
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
             }
         } catch (ObjectOptimisticLockingFailureException e) {
+            gameDayMetrics.scoreConflict(TournamentType.LEAGUE, GameDayMetrics.Submitter.PLAYER);
             return ResponseEntity.status(HttpStatus.CONFLICT)
                 .body(new GameDayResponse(false, "Score was already submitted by another player"));
         } catch (AccessDeniedException e) {
@@ -221,12 +328,20 @@ public class LeagueGameDayController {
      * Get completed game day history for a specific tournament player.
      * Any authenticated user may view any player's history.
      * URL: GET /api/tournaments/{tournamentId}/game-days/players/{tournamentPlayerId}/history
+     * Paged newest first: pass the previous page's {@code nextCursor} as {@code cursor} for older entries.
      */
     @GetMapping("/players/{tournamentPlayerId}/history")
     public ResponseEntity<PlayerHistoryResponse> getPlayerHistory(
             @PathVariable Long tournamentId,
-            @PathVariable Long tournamentPlayerId) {
-        PlayerHistoryResponse response = leagueGameDayService.getPlayerHistory(tournamentId, tournamentPlayerId);
+            @PathVariable Long tournamentPlayerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        PlayerHistoryResponse response;
+        try {
+            response = leagueGameDayService.getPlayerHistory(tournamentId, tournamentPlayerId, cursor, limit);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new PlayerHistoryResponse(false, e.getMessage()));
+        }
         if (response.isSuccess()) {
             return ResponseEntity.ok(response);
         } else {
@@ -0,0 +1,160 @@
+package nl.amila.badminton.manager.controller.oneoff;
+
+import nl.amila.badminton.manager.dto.oneoff.BracketResponse;
+import nl.amila.badminton.manager.dto.oneoff.CreateBracketRequest;
+import nl.amila.badminton.manager.dto.oneoff.OneOffRoundResponse;
+import nl.amila.badminton.manager.dto.oneoff.OneOffStandingsResponse;
+import nl.amila.badminton.manager.dto.oneoff.OneOffSubmitScoreRequest;
+import nl.amila.badminton.manager.service.oneoff.OneOffBracketService;
+import nl.amila.badminton.manager.service.oneoff.OneOffService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/tournaments/{tournamentId}/one-off")
+@CrossOrigin(origins = "*")
+public class OneOffController {
+
+    private final OneOffService oneOffService;
+    private final OneOffBracketService bracketService;
+
+    public OneOffController(OneOffService oneOffService, OneOffBracketService bracketService) {
+        this.oneOffService = oneOffService;
+        this.bracketService = bracketService;
+    }
+
+    /**
+     * Draw the next round (ADMIN or TOURNY_ADMIN of the tournament). Every match of the previous
+     * round must have a score.
+     */
+    @PostMapping("/rounds")
+    public ResponseEntity<OneOffRoundResponse> generateRound(
+            @PathVariable Long tournamentId,
+            Authentication authentication) {
+        OneOffRoundResponse response = oneOffService.generateRound(tournamentId, authentication.getName());
+        if (response.isSuccess()) {
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } else {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        }
+    }
+
+    /**
+     * Get all rounds of a tournament with their matches
+     */
+    @GetMapping("/rounds")
+    public ResponseEntity<OneOffRoundResponse> getRounds(@PathVariable Long tournamentId) {
+        OneOffRoundResponse response = oneOffService.getRounds(tournamentId);
+        if (response.isSuccess()) {
+            return ResponseEntity.ok(response);
+        } else {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+        }
+    }
+
+    /**
+     * Submit or correct a match score of the ongoing round.
+     * Returns HTTP 409 if the match changed since the {@code version} the client sent.
+     */
+    @PutMapping("/rounds/{roundId}/matches/{matchId}/score")
+    public ResponseEntity<OneOffRoundResponse> submitScore(
+            @PathVariable Long tournamentId,
+            @PathVariable Long roundId,
+            @PathVariable Long matchId,
+            @RequestBody OneOffSubmitScoreRequest request,
+            Authentication authentication) {
+        try {
+            OneOffRoundResponse response = oneOffService.submitScore(
+                tournamentId, roundId, matchId, request, authentication.getName());
+            if (response.isSuccess()) {
+                return ResponseEntity.ok(response);
+            } else {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+            }
+        } catch (ObjectOptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new OneOffRoundResponse(false, "Score changed since it was loaded; reload the round and try again"));
+        }
+    }
+
+    /**
+     * Get the live standings, best first
+     */
+    @GetMapping("/standings")
+    public ResponseEntity<OneOffStandingsResponse> getStandings(@PathVariable Long tournamentId) {
+        OneOffStandingsResponse response = oneOffService.getStandings(tournamentId);
+        if (response.isSuccess()) {
+            return ResponseEntity.ok(response);
+        } else {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+        }
+    }
+
+    // ── Knockout bracket ──────────────────────────────────────────────────────
+
+    /**
+     * Seed and draw the knockout bracket (ADMIN or TOURNY_ADMIN of the tournament)
+     */
+    @PostMapping("/bracket")
+    public ResponseEntity<BracketResponse> createBracket(
+            @PathVariable Long tournamentId,
+            @RequestBody CreateBracketRequest request,
+            Authentication authentication) {
+        BracketResponse response = bracketService.createBracket(tournamentId, request, authentication.getName());
+        if (response.isSuccess()) {
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } else {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        }
+    }
+
+    /**
+     * Get the knockout bracket — no authentication required.
+     * Served from an in-memory snapshot; a matching If-None-Match yields 304 Not Modified.
+     */
+    @GetMapping("/bracket")
+    public ResponseEntity<BracketResponse> getBracket(@PathVariable Long tournamentId, WebRequest webRequest) {
+        Optional<OneOffBracketService.BracketSnapshot> snapshot = bracketService.getBracket(tournamentId);
+        if (snapshot.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new BracketResponse(false, "Bracket not found"));
+        }
+        if (webRequest.checkNotModified(snapshot.get().etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(snapshot.get().etag()).build();
+        }
+        return ResponseEntity.ok()
+            .eTag(snapshot.get().etag())
+            .cacheControl(CacheControl.noCache())
+            .body(snapshot.get().response());
+    }
+
+    /**
+     * Record or correct a bracket match result; the winner advances immediately.
+     * Returns HTTP 409 if the bracket changed since the {@code version} the client sent.
+     */
+    @PutMapping("/bracket/matches/{matchNumber}/score")
+    public ResponseEntity<BracketResponse> submitBracketResult(
+            @PathVariable Long tournamentId,
+            @PathVariable int matchNumber,
+            @RequestBody OneOffSubmitScoreRequest request,
+            Authentication authentication) {
+        try {
+            BracketResponse response = bracketService.submitResult(
+                tournamentId, matchNumber, request, authentication.getName());
+            if (response.isSuccess()) {
+                return ResponseEntity.ok(response);
+            } else {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+            }
+        } catch (ObjectOptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new BracketResponse(false, "Bracket changed since it was loaded; reload it and try again"));
+        }
+    }
+}
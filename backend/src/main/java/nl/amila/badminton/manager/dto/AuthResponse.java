@@ -12,6 +12,8 @@ public class AuthResponse {
     private String message;
     private UserDto user;
     private String token;
+    private String refreshToken;
+    private Long expiresIn;
 
     // Constructors
     public AuthResponse(boolean success, String message) {
@@ -26,6 +28,12 @@ public class AuthResponse {
         this.token = token;
     }
 
+    public AuthResponse(boolean success, String message, UserDto user, String token, String refreshToken, Long expiresIn) {
+        this(success, message, user, token);
+        this.refreshToken = refreshToken;
+        this.expiresIn = expiresIn;
+    }
+
     // Inner class for user data
     @Getter
     @Setter
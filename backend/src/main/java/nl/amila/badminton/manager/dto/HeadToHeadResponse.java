@@ -0,0 +1,74 @@
+package nl.amila.badminton.manager.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * How two players of a tournament do overall, together as partners, and against each other.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class HeadToHeadResponse {
+    private boolean success;
+    private String message;
+    private PlayerRecordDto playerA;
+    private PlayerRecordDto playerB;
+    /** Matches where A and B were partners. */
+    private RecordDto asPartners;
+    /** Matches where A and B were opponents, from A's side. */
+    private RecordDto againstEachOther;
+
+    public HeadToHeadResponse(boolean success, String message) {
+        this.success = success;
+        this.message = message;
+    }
+
+    public HeadToHeadResponse(boolean success, String message, PlayerRecordDto playerA, PlayerRecordDto playerB,
+                              RecordDto asPartners, RecordDto againstEachOther) {
+        this.success = success;
+        this.message = message;
+        this.playerA = playerA;
+        this.playerB = playerB;
+        this.asPartners = asPartners;
+        this.againstEachOther = againstEachOther;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class PlayerRecordDto {
+        private Long tournamentPlayerId;
+        private String playerName;
+        /** Over all of the player's completed matches. */
+        private RecordDto overall;
+
+        public PlayerRecordDto(Long tournamentPlayerId, String playerName, RecordDto overall) {
+            this.tournamentPlayerId = tournamentPlayerId;
+            this.playerName = playerName;
+            this.overall = overall;
+        }
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class RecordDto {
+        private int played;
+        private int wins;
+        private int losses;
+        private int pointsFor;
+        private int pointsAgainst;
+        private int pointDifferential;
+
+        public RecordDto(int played, int wins, int losses, int pointsFor, int pointsAgainst) {
+            this.played = played;
+            this.wins = wins;
+            this.losses = losses;
+            this.pointsFor = pointsFor;
+            this.pointsAgainst = pointsAgainst;
+            this.pointDifferential = pointsFor - pointsAgainst;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package nl.amila.badminton.manager.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Compact per-match score change pushed to game day stream subscribers.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class MatchScoreUpdate {
+    private Long groupId;
+    private Long matchId;
+    private Integer team1Score;
+    private Integer team2Score;
+
+    // Constructors
+    public MatchScoreUpdate(Long groupId, Long matchId, Integer team1Score, Integer team2Score) {
+        this.groupId = groupId;
+        this.matchId = matchId;
+        this.team1Score = team1Score;
+        this.team2Score = team2Score;
+    }
+}
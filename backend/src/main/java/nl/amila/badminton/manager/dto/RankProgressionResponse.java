@@ -0,0 +1,66 @@
+package nl.amila.badminton.manager.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Rank score over time for one or more players of a tournament, as parallel arrays.
+ * Points refer to game days by index into {@link #gameDates}, so the dates are sent once.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class RankProgressionResponse {
+    private boolean success;
+    private String message;
+    private Long tournamentId;
+    /** Downsampling applied: NONE, DAY or LTTB. */
+    private String downsampling;
+    /** Completed game days with rank changes, oldest first. */
+    private List<Long> gameDayIds;
+    private List<String> gameDates;
+    private List<SeriesDto> series;
+
+    public RankProgressionResponse(boolean success, String message) {
+        this.success = success;
+        this.message = message;
+    }
+
+    public RankProgressionResponse(boolean success, String message, Long tournamentId, String downsampling,
+                                   List<Long> gameDayIds, List<String> gameDates, List<SeriesDto> series) {
+        this.success = success;
+        this.message = message;
+        this.tournamentId = tournamentId;
+        this.downsampling = downsampling;
+        this.gameDayIds = gameDayIds;
+        this.gameDates = gameDates;
+        this.series = series;
+    }
+
+    /**
+     * One player's points; the i-th point is ({@code day[i]}, {@code match[i]}, {@code score[i]}).
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class SeriesDto {
+        private Long tournamentPlayerId;
+        private String playerName;
+        /** Index into the game day arrays. */
+        private int[] day;
+        /** The player's match count at this point; 0 is the score before their first match. */
+        private int[] match;
+        private double[] score;
+
+        public SeriesDto(Long tournamentPlayerId, String playerName, int[] day, int[] match, double[] score) {
+            this.tournamentPlayerId = tournamentPlayerId;
+            this.playerName = playerName;
+            this.day = day;
+            this.match = match;
+            this.score = score;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package nl.amila.badminton.manager.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class RecomputeRankingsResponse {
+    private boolean success;
+    private String message;
+    private int matchesReplayed;
+    private int playersUpdated;
+
+    public RecomputeRankingsResponse(boolean success, String message) {
+        this.success = success;
+        this.message = message;
+    }
+
+    public RecomputeRankingsResponse(boolean success, String message, int matchesReplayed, int playersUpdated) {
+        this.success = success;
+        this.message = message;
+        this.matchesReplayed = matchesReplayed;
+        this.playersUpdated = playersUpdated;
+    }
+}
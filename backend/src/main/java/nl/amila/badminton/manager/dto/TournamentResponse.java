@@ -5,6 +5,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import nl.amila.badminton.manager.entity.RankingLogic;
 import nl.amila.badminton.manager.entity.TournamentType;
+import nl.amila.badminton.manager.entity.oneoff.OneOffFormat;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -69,8 +70,10 @@ public class TournamentResponse {
     public static class TournamentSettingsDto {
         private RankingLogic rankingLogic;
         private Integer k;
+        private Double tau;
         private Integer numberOfRounds;
         private Integer maxPoints;
+        private OneOffFormat format;
         private String absenteeDemeritPoints;
         private Integer deactivationCount;
     }
@@ -8,8 +8,9 @@ import lombok.Setter;
 @Setter
 @NoArgsConstructor
 public class UpdateTournamentSettingsRequest {
-    // LEAGUE / APL field:
+    // LEAGUE / APL fields (k for MODIFIED_ELO, tau for GLICKO2):
     private Integer k;
+    private Double tau;
     // ONE_OFF fields (required when tournament type is ONE_OFF):
     private Integer numberOfRounds;
     private Integer maxPoints;
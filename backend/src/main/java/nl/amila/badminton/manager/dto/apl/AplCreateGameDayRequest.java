@@ -14,4 +14,6 @@ public class AplCreateGameDayRequest {
     private String gameDate;
     /** List of TournamentPlayer IDs (not user IDs) to include */
     private List<Long> playerIds;
+    /** Optional number of available courts; when set, fewer, larger groups are formed to fit */
+    private Integer courtCount;
 }
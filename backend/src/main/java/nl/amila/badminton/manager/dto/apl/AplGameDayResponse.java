@@ -15,6 +15,10 @@ public class AplGameDayResponse {
     private String message;
     private GameDayDto gameDay;
     private List<GameDayDto> gameDays;
+    /** Set instead of {@code gameDay} when a score submit asks for the match view. */
+    private MatchScoreDto match;
+    /** Set with {@code match} when a score submit asks for the group view. */
+    private GroupSummaryDto groupSummary;
 
     public AplGameDayResponse(boolean success, String message) {
         this.success = success;
@@ -72,6 +76,30 @@ public class AplGameDayResponse {
         private String team2Player2Name;
         private Integer team1Score;
         private Integer team2Score;
+        private Integer courtNumber;
+        private Integer roundNumber;
+        /** Optimistic-lock version; echo it back on bulk score submission. */
+        private Long version;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class MatchScoreDto {
+        private Long id;
+        private Long groupId;
+        private Integer team1Score;
+        private Integer team2Score;
+        private Long version;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class GroupSummaryDto {
+        private Long groupId;
+        private long matchCount;
+        private long scoredCount;
     }
 
     @Getter
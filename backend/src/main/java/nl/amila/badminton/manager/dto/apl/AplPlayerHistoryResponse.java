@@ -16,6 +16,8 @@ public class AplPlayerHistoryResponse {
     private Long tournamentPlayerId;
     private String playerName;
     private List<GameDayHistoryDto> gameDays;
+    /** Cursor for the next (older) page; null on the last page. */
+    private String nextCursor;
 
     public AplPlayerHistoryResponse(boolean success, String message) {
         this.success = success;
@@ -11,6 +11,8 @@ import nl.amila.badminton.manager.entity.RankingLogic;
 public class AplSettingsRequest {
     private RankingLogic rankingLogic;
     private Integer k;
+    /** Glicko-2 only; defaults to 0.5 */
+    private Double tau;
     /** Comma-separated demerit point values per absence e.g. "10,8,5,3" */
     private String absenteeDemeritPoints;
     /** Number of absences before automatic deactivation (1–20) */
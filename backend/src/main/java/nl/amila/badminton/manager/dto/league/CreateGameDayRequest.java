@@ -3,6 +3,7 @@ package nl.amila.badminton.manager.dto.league;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import nl.amila.badminton.manager.service.scheduling.GroupingStrategy;
 
 import java.util.List;
 
@@ -14,5 +15,9 @@ public class CreateGameDayRequest {
     private String gameDate;
     /** List of TournamentPlayer IDs (not user IDs) to include */
     private List<Long> playerIds;
+    /** Optional number of available courts; when set, fewer, larger groups are formed to fit */
+    private Integer courtCount;
+    /** Optional; defaults to RANK */
+    private GroupingStrategy groupingStrategy;
 }
 
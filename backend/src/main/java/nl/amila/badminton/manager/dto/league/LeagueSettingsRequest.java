@@ -11,4 +11,6 @@ import nl.amila.badminton.manager.entity.RankingLogic;
 public class LeagueSettingsRequest {
     private RankingLogic rankingLogic;
     private Integer k;
+    /** Glicko-2 only; defaults to 0.5 */
+    private Double tau;
 }
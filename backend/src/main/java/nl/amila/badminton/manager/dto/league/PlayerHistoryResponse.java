@@ -20,6 +20,8 @@ public class PlayerHistoryResponse {
     private Long tournamentPlayerId;
     private String playerName;
     private List<GameDayHistoryDto> gameDays;
+    /** Cursor for the next (older) page; null on the last page. */
+    private String nextCursor;
 
     public PlayerHistoryResponse(boolean success, String message) {
         this.success = success;
@@ -0,0 +1,28 @@
+package nl.amila.badminton.manager.dto.league;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Scores for several matches of one game day, applied together or not at all.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class SubmitMatchScoresRequest {
+    private List<MatchScore> scores;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class MatchScore {
+        private Long matchId;
+        private Integer team1Score;
+        private Integer team2Score;
+        /** Match version the client last saw; when set, the score is rejected if the match changed since. */
+        private Long version;
+    }
+}
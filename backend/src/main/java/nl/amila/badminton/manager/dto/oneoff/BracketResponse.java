@@ -0,0 +1,68 @@
+package nl.amila.badminton.manager.dto.oneoff;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class BracketResponse {
+    private boolean success;
+    private String message;
+    private BracketDto bracket;
+
+    public BracketResponse(boolean success, String message) {
+        this.success = success;
+        this.message = message;
+    }
+
+    public BracketResponse(boolean success, String message, BracketDto bracket) {
+        this.success = success;
+        this.message = message;
+        this.bracket = bracket;
+    }
+
+    /**
+     * The bracket as parallel per-match arrays (index = match number - 1), so large draws stay small
+     * on the wire. Participants are seed numbers into {@code entrants}; 0 = not known yet, -1 = bye.
+     * Scores are -1 until played.
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class BracketDto {
+        private Long id;
+        private String format;
+        private int size;
+        private Long version;
+        /** Seed of the bracket winner, 0 while undecided. */
+        private int champion;
+        private List<EntrantDto> entrants;
+        /** 0 = winners bracket, 1 = losers bracket, 2 = grand final. */
+        private int[] section;
+        private int[] round;
+        private int[] top;
+        private int[] bottom;
+        private int[] winner;
+        private int[] topScore;
+        private int[] bottomScore;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class EntrantDto {
+        private int seed;
+        private Long tournamentPlayerId;
+        private String playerName;
+
+        public EntrantDto(int seed, Long tournamentPlayerId, String playerName) {
+            this.seed = seed;
+            this.tournamentPlayerId = tournamentPlayerId;
+            this.playerName = playerName;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package nl.amila.badminton.manager.dto.oneoff;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import nl.amila.badminton.manager.entity.oneoff.BracketFormat;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class CreateBracketRequest {
+    /** SINGLE_ELIMINATION when omitted. */
+    private BracketFormat format;
+    /**
+     * Seed by the rankings of this tournament instead of this tournament's own rank scores.
+     * Entrants not ranked there are seeded after those who are.
+     */
+    private Long seedFromTournamentId;
+}
@@ -0,0 +1,66 @@
+package nl.amila.badminton.manager.dto.oneoff;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class OneOffRoundResponse {
+    private boolean success;
+    private String message;
+    private RoundDto round;
+    private List<RoundDto> rounds;
+
+    public OneOffRoundResponse(boolean success, String message) {
+        this.success = success;
+        this.message = message;
+    }
+
+    public OneOffRoundResponse(boolean success, String message, RoundDto round) {
+        this.success = success;
+        this.message = message;
+        this.round = round;
+    }
+
+    public OneOffRoundResponse(boolean success, String message, List<RoundDto> rounds) {
+        this.success = success;
+        this.message = message;
+        this.rounds = rounds;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class RoundDto {
+        private Long id;
+        private int roundNumber;
+        private String status;
+        private List<MatchDto> matches;
+        /** Tournament player ids sitting this round out; only set on the response that draws the round. */
+        private List<Long> sittingOut;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class MatchDto {
+        private Long id;
+        /** Also the court number. */
+        private int matchOrder;
+        private Long team1Player1Id;
+        private String team1Player1Name;
+        private Long team1Player2Id;
+        private String team1Player2Name;
+        private Long team2Player1Id;
+        private String team2Player1Name;
+        private Long team2Player2Id;
+        private String team2Player2Name;
+        private Integer team1Score;
+        private Integer team2Score;
+        private Long version;
+    }
+}
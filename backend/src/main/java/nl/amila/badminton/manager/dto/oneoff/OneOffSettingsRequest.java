@@ -3,6 +3,7 @@ package nl.amila.badminton.manager.dto.oneoff;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import nl.amila.badminton.manager.entity.oneoff.OneOffFormat;
 
 @Getter
 @Setter
@@ -10,4 +11,6 @@ import lombok.Setter;
 public class OneOffSettingsRequest {
     private Integer numberOfRounds;
     private Integer maxPoints;
+    /** Round draw; SWISS when omitted. */
+    private OneOffFormat format;
 }
@@ -0,0 +1,43 @@
+package nl.amila.badminton.manager.dto.oneoff;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class OneOffStandingsResponse {
+    private boolean success;
+    private String message;
+    /** Best first; enabled players without a result yet come last with zeros. */
+    private List<StandingDto> standings;
+
+    public OneOffStandingsResponse(boolean success, String message) {
+        this.success = success;
+        this.message = message;
+    }
+
+    public OneOffStandingsResponse(boolean success, String message, List<StandingDto> standings) {
+        this.success = success;
+        this.message = message;
+        this.standings = standings;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class StandingDto {
+        private int position;
+        private Long tournamentPlayerId;
+        private String playerName;
+        private int played;
+        private int wins;
+        private int losses;
+        private int pointsFor;
+        private int pointsAgainst;
+        private int pointDifferential;
+    }
+}
@@ -0,0 +1,15 @@
+package nl.amila.badminton.manager.dto.oneoff;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class OneOffSubmitScoreRequest {
+    private Integer team1Score;
+    private Integer team2Score;
+    /** Match version the score was entered against; a stale version is rejected. Optional. */
+    private Long version;
+}
@@ -0,0 +1,8 @@
+package nl.amila.badminton.manager.entity;
+
+/**
+ * Glicko-2 settings. {@code tau} constrains how fast a player's volatility can change
+ * between rating periods (Glickman suggests 0.3–1.2).
+ */
+public record Glicko2Config(double tau) implements RankingConfig {
+}
@@ -0,0 +1,36 @@
+package nl.amila.badminton.manager.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Stores an int array as packed big-endian bytes.
+ */
+@Converter
+public class IntArrayConverter implements AttributeConverter<int[], byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(int[] values) {
+        if (values == null) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * Integer.BYTES);
+        buffer.asIntBuffer().put(values);
+        return buffer.array();
+    }
+
+    @Override
+    public int[] convertToEntityAttribute(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        if (bytes.length % Integer.BYTES != 0) {
+            throw new IllegalArgumentException("Cannot deserialize int array of " + bytes.length + " bytes");
+        }
+        int[] values = new int[bytes.length / Integer.BYTES];
+        ByteBuffer.wrap(bytes).asIntBuffer().get(values);
+        return values;
+    }
+}
@@ -0,0 +1,36 @@
+package nl.amila.badminton.manager.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Stores a long array as packed big-endian bytes.
+ */
+@Converter
+public class LongArrayConverter implements AttributeConverter<long[], byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(long[] values) {
+        if (values == null) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * Long.BYTES);
+        buffer.asLongBuffer().put(values);
+        return buffer.array();
+    }
+
+    @Override
+    public long[] convertToEntityAttribute(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        if (bytes.length % Long.BYTES != 0) {
+            throw new IllegalArgumentException("Cannot deserialize long array of " + bytes.length + " bytes");
+        }
+        long[] values = new long[bytes.length / Long.BYTES];
+        ByteBuffer.wrap(bytes).asLongBuffer().get(values);
+        return values;
+    }
+}
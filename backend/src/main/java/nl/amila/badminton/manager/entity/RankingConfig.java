@@ -5,7 +5,8 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo;
 
 @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
 @JsonSubTypes({
-    @JsonSubTypes.Type(value = ModifiedEloConfig.class, name = "MODIFIED_ELO")
+    @JsonSubTypes.Type(value = ModifiedEloConfig.class, name = "MODIFIED_ELO"),
+    @JsonSubTypes.Type(value = Glicko2Config.class, name = "GLICKO2")
 })
-public sealed interface RankingConfig permits ModifiedEloConfig {
+public sealed interface RankingConfig permits ModifiedEloConfig, Glicko2Config {
 }
@@ -1,6 +1,7 @@
 package nl.amila.badminton.manager.entity;
 
 public enum RankingLogic {
-    MODIFIED_ELO
+    MODIFIED_ELO,
+    GLICKO2
     // Future: POINTS_BASED, SCORE_DIFF, etc.
 }
@@ -7,11 +7,15 @@ import jakarta.persistence.*;
 import nl.amila.badminton.manager.entity.apl.AplTournamentSettings;
 import nl.amila.badminton.manager.entity.league.LeagueTournamentSettings;
 import nl.amila.badminton.manager.entity.oneoff.OneOffTournamentSettings;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tournament")
 @Table(name = "tournament")
 @Getter
 @Setter
@@ -32,6 +36,7 @@ public class Tournament {
     private TournamentType type;
 
     @OneToMany(mappedBy = "tournament", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tournament.admins")
     private List<TournamentAdmin> admins = new ArrayList<>();
 
     @OneToMany(mappedBy = "tournament", cascade = CascadeType.ALL, orphanRemoval = true)
@@ -40,6 +40,14 @@ public class TournamentPlayer {
     @Column(nullable = false, precision = 10, scale = 2)
     private BigDecimal rankScore = BigDecimal.ZERO;
 
+    /** Glicko-2 rating deviation; null until the player's first Glicko-2 rated game day. */
+    @Column(precision = 10, scale = 4)
+    private BigDecimal ratingDeviation;
+
+    /** Glicko-2 volatility; null until the player's first Glicko-2 rated game day. */
+    @Column(precision = 10, scale = 6)
+    private BigDecimal volatility;
+
     public TournamentPlayer(Tournament tournament, User user) {
         this(tournament, user, BigDecimal.ZERO);
     }
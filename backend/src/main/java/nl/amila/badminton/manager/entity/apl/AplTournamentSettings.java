@@ -8,8 +8,12 @@ import nl.amila.badminton.manager.entity.RankingConfigConverter;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tournamentSettings")
 @Table(name = "tournament_apl_settings")
 @Getter
 @Setter
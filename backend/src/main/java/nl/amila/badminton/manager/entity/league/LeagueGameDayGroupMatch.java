@@ -45,6 +45,14 @@ public class LeagueGameDayGroupMatch {
     @Column(name = "team2_score")
     private Integer team2Score;
 
+    /** 1-based court assigned by the court scheduler; null for game days created before scheduling existed. */
+    @Column(name = "court_number")
+    private Integer courtNumber;
+
+    /** 1-based round (time slot) assigned by the court scheduler. */
+    @Column(name = "round_number")
+    private Integer roundNumber;
+
     @Version
     @Column(nullable = false)
     private Long version = 0L;
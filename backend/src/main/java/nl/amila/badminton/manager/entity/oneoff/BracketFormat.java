@@ -0,0 +1,11 @@
+package nl.amila.badminton.manager.entity.oneoff;
+
+/**
+ * Elimination format of a one-off knockout bracket.
+ */
+public enum BracketFormat {
+    /** One loss and out. */
+    SINGLE_ELIMINATION,
+    /** A first loss drops an entrant into the losers bracket; its winner meets the winners bracket's in the grand final. */
+    DOUBLE_ELIMINATION
+}
@@ -0,0 +1,62 @@
+package nl.amila.badminton.manager.entity.oneoff;
+
+import jakarta.persistence.*;
+import nl.amila.badminton.manager.entity.IntArrayConverter;
+import nl.amila.badminton.manager.entity.LongArrayConverter;
+import nl.amila.badminton.manager.entity.Tournament;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "one_off_bracket")
+@Getter
+@Setter
+@NoArgsConstructor
+public class OneOffBracket {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "tournament_id", nullable = false, unique = true)
+    private Tournament tournament;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private BracketFormat format;
+
+    /** Entrant count rounded up to a power of two. */
+    @Column(name = "bracket_size", nullable = false)
+    private int size;
+
+    /** Tournament player ids in seed order: seed s is {@code seeds[s - 1]}. */
+    @Convert(converter = LongArrayConverter.class)
+    @Column(nullable = false, columnDefinition = "BLOB")
+    private long[] seeds;
+
+    @Convert(converter = IntArrayConverter.class)
+    @Column(nullable = false, columnDefinition = "BLOB")
+    private int[] state;
+
+    @Version
+    @Column(nullable = false)
+    private Long version = 0L;
+
+    @Column(nullable = false)
+    private long createdAt;
+
+    @Column(nullable = false)
+    private long updatedAt;
+
+    public OneOffBracket(Tournament tournament, BracketFormat format, int size, long[] seeds, int[] state) {
+        this.tournament = tournament;
+        this.format = format;
+        this.size = size;
+        this.seeds = seeds;
+        this.state = state;
+        this.createdAt = System.currentTimeMillis();
+        this.updatedAt = System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,11 @@
+package nl.amila.badminton.manager.entity.oneoff;
+
+/**
+ * How a one-off tournament's rounds are drawn.
+ */
+public enum OneOffFormat {
+    /** Each round groups players of similar standing, avoiding repeat partners. */
+    SWISS,
+    /** Partners rotate so that everyone partners everyone once over n - 1 rounds. */
+    ROUND_ROBIN
+}
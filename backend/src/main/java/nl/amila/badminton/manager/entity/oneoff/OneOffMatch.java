@@ -0,0 +1,64 @@
+package nl.amila.badminton.manager.entity.oneoff;
+
+import jakarta.persistence.*;
+import nl.amila.badminton.manager.entity.TournamentPlayer;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "one_off_match")
+@Getter
+@Setter
+@NoArgsConstructor
+public class OneOffMatch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "round_id", nullable = false)
+    private OneOffRound round;
+
+    /** 1-based; also the court the match is played on. */
+    @Column(name = "match_order", nullable = false)
+    private int matchOrder;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "team1_player1_id", nullable = false)
+    private TournamentPlayer team1Player1;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "team1_player2_id", nullable = false)
+    private TournamentPlayer team1Player2;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "team2_player1_id", nullable = false)
+    private TournamentPlayer team2Player1;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "team2_player2_id", nullable = false)
+    private TournamentPlayer team2Player2;
+
+    @Column(name = "team1_score")
+    private Integer team1Score;
+
+    @Column(name = "team2_score")
+    private Integer team2Score;
+
+    @Version
+    @Column(nullable = false)
+    private Long version = 0L;
+
+    public OneOffMatch(OneOffRound round, int matchOrder,
+                       TournamentPlayer team1Player1, TournamentPlayer team1Player2,
+                       TournamentPlayer team2Player1, TournamentPlayer team2Player2) {
+        this.round = round;
+        this.matchOrder = matchOrder;
+        this.team1Player1 = team1Player1;
+        this.team1Player2 = team1Player2;
+        this.team2Player1 = team2Player1;
+        this.team2Player2 = team2Player2;
+    }
+}
@@ -0,0 +1,50 @@
+package nl.amila.badminton.manager.entity.oneoff;
+
+import jakarta.persistence.*;
+import nl.amila.badminton.manager.entity.Tournament;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+@Entity
+@Table(name = "one_off_round")
+@Getter
+@Setter
+@NoArgsConstructor
+public class OneOffRound {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "tournament_id", nullable = false)
+    private Tournament tournament;
+
+    @Column(name = "round_number", nullable = false)
+    private int roundNumber;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OneOffRoundStatus status = OneOffRoundStatus.ONGOING;
+
+    @Column(nullable = false)
+    private long createdAt;
+
+    @Column(nullable = false)
+    private long updatedAt;
+
+    @OneToMany(mappedBy = "round", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("match_order ASC")
+    private Set<OneOffMatch> matches = new LinkedHashSet<>();
+
+    public OneOffRound(Tournament tournament, int roundNumber) {
+        this.tournament = tournament;
+        this.roundNumber = roundNumber;
+        this.createdAt = System.currentTimeMillis();
+        this.updatedAt = System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,6 @@
+package nl.amila.badminton.manager.entity.oneoff;
+
+public enum OneOffRoundStatus {
+    ONGOING,
+    COMPLETED
+}
@@ -5,8 +5,12 @@ import nl.amila.badminton.manager.entity.Tournament;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tournamentSettings")
 @Table(name = "tournament_one_off_settings")
 @Getter
 @Setter
@@ -27,9 +31,18 @@ public class OneOffTournamentSettings {
     @Column(nullable = false)
     private int maxPoints = 21;
 
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OneOffFormat format = OneOffFormat.SWISS;
+
     public OneOffTournamentSettings(Tournament tournament, int numberOfRounds, int maxPoints) {
         this.tournament = tournament;
         this.numberOfRounds = numberOfRounds;
         this.maxPoints = maxPoints;
     }
+
+    public OneOffTournamentSettings(Tournament tournament, int numberOfRounds, int maxPoints, OneOffFormat format) {
+        this(tournament, numberOfRounds, maxPoints);
+        this.format = format;
+    }
 }
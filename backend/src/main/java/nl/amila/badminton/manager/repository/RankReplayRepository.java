@@ -0,0 +1,231 @@
+package nl.amila.badminton.manager.repository;
+
+import nl.amila.badminton.manager.entity.TournamentType;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+
+/**
+ * Plain JDBC access for the season rank replay and rank progression series. Rows are streamed into
+ * callbacks and written back from primitive arrays so a full season never materialises as entities.
+ *
+ * League and APL game days live in identically shaped tables; {@link Tables} names the set to use.
+ */
+@Repository
+public class RankReplayRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private record Tables(String gameDay, String group, String groupPlayer, String match, String history) {}
+
+    private static final Tables LEAGUE = new Tables("league_game_day", "league_game_day_group",
+        "league_game_day_group_player", "league_game_day_group_match", "rank_score_history");
+    private static final Tables APL = new Tables("apl_game_day", "apl_game_day_group",
+        "apl_game_day_group_player", "apl_game_day_group_match", "apl_rank_score_history");
+
+    /**
+     * One completed match; players are tournament player ids.
+     */
+    @FunctionalInterface
+    public interface MatchRowHandler {
+        void onMatch(long gameDayId, long matchId, long team1Player1, long team1Player2,
+                     long team2Player1, long team2Player2, int team1Score, int team2Score);
+    }
+
+    /**
+     * One stored history row; scores are in hundredths of a point.
+     */
+    @FunctionalInterface
+    public interface HistoryRowHandler {
+        void onHistory(long matchId, long tournamentPlayerId, long previousHundredths, long newHundredths, long changedAt);
+    }
+
+    /**
+     * One rank change of a player in play order; scores are in hundredths of a point.
+     */
+    @FunctionalInterface
+    public interface ProgressionRowHandler {
+        void onChange(long tournamentPlayerId, long gameDayId, LocalDate gameDate,
+                      long previousHundredths, long newHundredths);
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RankReplayRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Stream all matches of the tournament's completed game days in play order:
+     * game date, game day, group number, match order.
+     */
+    public void streamCompletedMatches(TournamentType type, long tournamentId, MatchRowHandler handler) {
+        Tables t = tables(type);
+        String sql = """
+            SELECT d.id, m.id, p1.tournament_player_id, p2.tournament_player_id,
+                   p3.tournament_player_id, p4.tournament_player_id, m.team1_score, m.team2_score
+            FROM %s m
+            JOIN %s g ON g.id = m.group_id
+            JOIN %s d ON d.id = g.game_day_id
+            JOIN %s p1 ON p1.id = m.team1_player1_id
+            JOIN %s p2 ON p2.id = m.team1_player2_id
+            JOIN %s p3 ON p3.id = m.team2_player1_id
+            JOIN %s p4 ON p4.id = m.team2_player2_id
+            WHERE d.tournament_id = ? AND d.status = 'COMPLETED'
+            ORDER BY d.game_date, d.id, g.group_number, m.match_order
+            """.formatted(t.match(), t.group(), t.gameDay(),
+                t.groupPlayer(), t.groupPlayer(), t.groupPlayer(), t.groupPlayer());
+        jdbcTemplate.query(sql, rs -> {
+            handler.onMatch(rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getLong(4),
+                rs.getLong(5), rs.getLong(6), rs.getInt(7), rs.getInt(8));
+        }, tournamentId);
+    }
+
+    /**
+     * Stream the stored history rows of the tournament's completed game days.
+     */
+    public void streamHistory(TournamentType type, long tournamentId, HistoryRowHandler handler) {
+        Tables t = tables(type);
+        String sql = """
+            SELECT h.match_id, h.tournament_player_id, h.previous_score, h.new_score, h.changed_at
+            FROM %s h
+            JOIN %s m ON m.id = h.match_id
+            JOIN %s g ON g.id = m.group_id
+            JOIN %s d ON d.id = g.game_day_id
+            WHERE d.tournament_id = ? AND d.status = 'COMPLETED'
+            """.formatted(t.history(), t.match(), t.group(), t.gameDay());
+        jdbcTemplate.query(sql, rs -> {
+            handler.onHistory(rs.getLong(1), rs.getLong(2), hundredths(rs.getBigDecimal(3)),
+                hundredths(rs.getBigDecimal(4)), rs.getLong(5));
+        }, tournamentId);
+    }
+
+    /**
+     * Stream the rank changes of the tournament's completed game days player by player, each
+     * player's in play order. An empty {@code tournamentPlayerIds} streams every player.
+     */
+    public void streamProgression(TournamentType type, long tournamentId, long[] tournamentPlayerIds,
+                                  ProgressionRowHandler handler) {
+        Tables t = tables(type);
+        String playerFilter = tournamentPlayerIds.length == 0 ? ""
+            : " AND h.tournament_player_id IN (" + "?,".repeat(tournamentPlayerIds.length - 1) + "?)";
+        String sql = """
+            SELECT h.tournament_player_id, d.id, d.game_date, h.previous_score, h.new_score
+            FROM %s h
+            JOIN %s m ON m.id = h.match_id
+            JOIN %s g ON g.id = m.group_id
+            JOIN %s d ON d.id = g.game_day_id
+            WHERE d.tournament_id = ? AND d.status = 'COMPLETED'%s
+            ORDER BY h.tournament_player_id, d.game_date, d.id, g.group_number, m.match_order
+            """.formatted(t.history(), t.match(), t.group(), t.gameDay(), playerFilter);
+        Object[] args = new Object[tournamentPlayerIds.length + 1];
+        args[0] = tournamentId;
+        for (int i = 0; i < tournamentPlayerIds.length; i++) {
+            args[i + 1] = tournamentPlayerIds[i];
+        }
+        jdbcTemplate.query(sql, rs -> {
+            handler.onChange(rs.getLong(1), rs.getLong(2), rs.getObject(3, LocalDate.class),
+                hundredths(rs.getBigDecimal(4)), hundredths(rs.getBigDecimal(5)));
+        }, args);
+    }
+
+    /**
+     * Delete every history row of the tournament's game days.
+     */
+    public int deleteHistory(TournamentType type, long tournamentId) {
+        Tables t = tables(type);
+        String sql = """
+            DELETE h FROM %s h
+            JOIN %s m ON m.id = h.match_id
+            JOIN %s g ON g.id = m.group_id
+            JOIN %s d ON d.id = g.game_day_id
+            WHERE d.tournament_id = ?
+            """.formatted(t.history(), t.match(), t.group(), t.gameDay());
+        return jdbcTemplate.update(sql, tournamentId);
+    }
+
+    /**
+     * Insert the first {@code count} history rows from parallel arrays, in JDBC batches.
+     */
+    public void insertHistory(TournamentType type, long[] tournamentPlayerIds, long[] matchIds,
+                              long[] previousHundredths, long[] newHundredths, long[] changedAt, int count) {
+        String sql = """
+            INSERT INTO %s (tournament_player_id, match_id, previous_score, new_score, changed_at)
+            VALUES (?, ?, ?, ?, ?)
+            """.formatted(tables(type).history());
+        for (int offset = 0; offset < count; offset += BATCH_SIZE) {
+            int from = offset;
+            int size = Math.min(BATCH_SIZE, count - offset);
+            jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    int row = from + i;
+                    ps.setLong(1, tournamentPlayerIds[row]);
+                    ps.setLong(2, matchIds[row]);
+                    ps.setBigDecimal(3, BigDecimal.valueOf(previousHundredths[row], 2));
+                    ps.setBigDecimal(4, BigDecimal.valueOf(newHundredths[row], 2));
+                    ps.setLong(5, changedAt[row]);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return size;
+                }
+            });
+        }
+    }
+
+    /**
+     * Overwrite rank score, rating deviation and volatility of the first {@code count} players, in JDBC batches.
+     * A null deviation or volatility entry clears the column.
+     */
+    public void updatePlayers(long[] tournamentPlayerIds, long[] rankScoreHundredths,
+                              BigDecimal[] deviations, BigDecimal[] volatilities, int count) {
+        String sql = "UPDATE tournament_players SET rank_score = ?, rating_deviation = ?, volatility = ? WHERE id = ?";
+        for (int offset = 0; offset < count; offset += BATCH_SIZE) {
+            int from = offset;
+            int size = Math.min(BATCH_SIZE, count - offset);
+            jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    int row = from + i;
+                    ps.setBigDecimal(1, BigDecimal.valueOf(rankScoreHundredths[row], 2));
+                    setNullable(ps, 2, deviations[row]);
+                    setNullable(ps, 3, volatilities[row]);
+                    ps.setLong(4, tournamentPlayerIds[row]);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return size;
+                }
+            });
+        }
+    }
+
+    private static void setNullable(PreparedStatement ps, int index, BigDecimal value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.DECIMAL);
+        } else {
+            ps.setBigDecimal(index, value);
+        }
+    }
+
+    private static long hundredths(BigDecimal score) {
+        return score.movePointRight(2).longValueExact();
+    }
+
+    private static Tables tables(TournamentType type) {
+        return switch (type) {
+            case LEAGUE -> LEAGUE;
+            case APL -> APL;
+            default -> throw new IllegalArgumentException("No ranked game days for tournament type " + type);
+        };
+    }
+}
@@ -0,0 +1,35 @@
+package nl.amila.badminton.manager.repository;
+
+import nl.amila.badminton.manager.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    @Query("""
+        SELECT rt FROM RefreshToken rt
+        JOIN FETCH rt.user
+        WHERE rt.tokenHash = :tokenHash
+        """)
+    Optional<RefreshToken> findByTokenHashWithUser(@Param("tokenHash") String tokenHash);
+
+    /**
+     * Revoke every outstanding refresh token of a user (logout everywhere / reuse detected).
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken rt SET rt.revoked = true WHERE rt.user.id = :userId AND rt.revoked = false")
+    int revokeAllForUser(@Param("userId") Long userId);
+
+    /**
+     * Purge tokens that expired before the given instant.
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken rt WHERE rt.expiresAt < :now")
+    int deleteExpired(@Param("now") long now);
+}
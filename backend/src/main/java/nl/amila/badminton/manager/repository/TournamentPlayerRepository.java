@@ -1,9 +1,13 @@
 package nl.amila.badminton.manager.repository;
 
+import nl.amila.badminton.manager.entity.PlayerStatus;
 import nl.amila.badminton.manager.entity.TournamentPlayer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,5 +17,45 @@ public interface TournamentPlayerRepository extends JpaRepository<TournamentPlay
     List<TournamentPlayer> findByTournamentIdOrderByRankScoreDescUserIdAsc(Long tournamentId);
     List<TournamentPlayer> findByUserId(Long userId);
     List<TournamentPlayer> findByTournamentId(Long tournamentId);
+
+    /**
+     * Flat ranking rows for a tournament, ordered the same way as the tournament detail view.
+     */
+    @Query("""
+            SELECT tp.id AS tournamentPlayerId, u.id AS userId, u.firstName AS firstName, u.lastName AS lastName,
+                   tp.status AS status, tp.statusChangedAt AS statusChangedAt, tp.rank AS rank, tp.rankScore AS rankScore
+            FROM TournamentPlayer tp
+            JOIN tp.user u
+            WHERE tp.tournament.id = :tournamentId
+            ORDER BY tp.rankScore DESC, u.id ASC
+            """)
+    List<RankingRow> findRankingRows(@Param("tournamentId") Long tournamentId);
+
+    /**
+     * The user's registrations, one row per tournament.
+     */
+    @Query("""
+            SELECT tp.tournament.id AS tournamentId, tp.id AS tournamentPlayerId, tp.status AS status
+            FROM TournamentPlayer tp
+            WHERE tp.user.id = :userId
+            """)
+    List<MembershipRow> findMembershipRows(@Param("userId") Long userId);
+
+    interface MembershipRow {
+        Long getTournamentId();
+        Long getTournamentPlayerId();
+        PlayerStatus getStatus();
+    }
+
+    interface RankingRow {
+        Long getTournamentPlayerId();
+        Long getUserId();
+        String getFirstName();
+        String getLastName();
+        PlayerStatus getStatus();
+        long getStatusChangedAt();
+        Integer getRank();
+        BigDecimal getRankScore();
+    }
 }
 
@@ -1,7 +1,12 @@
 package nl.amila.badminton.manager.repository;
 
 import nl.amila.badminton.manager.entity.Tournament;
+import nl.amila.badminton.manager.entity.TournamentType;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,5 +18,41 @@ public interface TournamentRepository extends JpaRepository<Tournament, Long> {
     boolean existsByName(String name);
     List<Tournament> findByOwnerId(Long ownerId);
     List<Tournament> findByAdminsUserId(Long userId);
+
+    /**
+     * Ids of the tournaments the user is an admin of.
+     */
+    @Query("SELECT a.tournament.id FROM TournamentAdmin a WHERE a.user.id = :userId")
+    List<Long> findAdministeredTournamentIds(@Param("userId") Long userId);
+
+    /**
+     * The tournament with its row locked until the transaction ends. Taken by everything that
+     * rewrites rank scores and history (finishing a game day, recomputing rankings), so those
+     * run one at a time per tournament.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Tournament t WHERE t.id = :id")
+    Optional<Tournament> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * Tournament columns only — avoids the eager settings one-to-one loads of findById.
+     */
+    @Query("""
+            SELECT t.id AS id, t.name AS name, t.ownerId AS ownerId, t.enabled AS enabled,
+                   t.createdAt AS createdAt, t.updatedAt AS updatedAt, t.type AS type
+            FROM Tournament t
+            WHERE t.id = :id
+            """)
+    Optional<TournamentHeader> findHeaderById(@Param("id") Long id);
+
+    interface TournamentHeader {
+        Long getId();
+        String getName();
+        Long getOwnerId();
+        Boolean getEnabled();
+        long getCreatedAt();
+        long getUpdatedAt();
+        TournamentType getType();
+    }
 }
 
@@ -2,8 +2,38 @@ package nl.amila.badminton.manager.repository.apl;
 
 import nl.amila.badminton.manager.entity.apl.AplGameDayGroupMatch;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface AplGameDayGroupMatchRepository extends JpaRepository<AplGameDayGroupMatch, Long> {
+
+    /**
+     * The given matches that belong to the game day, with their group; ids of other days are left out.
+     */
+    @Query("""
+            SELECT m FROM AplGameDayGroupMatch m
+            JOIN FETCH m.group g
+            WHERE g.gameDay.id = :dayId AND m.id IN :ids
+            """)
+    List<AplGameDayGroupMatch> findAllByIdInGameDay(@Param("dayId") Long dayId, @Param("ids") Collection<Long> ids);
+
+    /**
+     * Number of matches in a group and how many of them have a score.
+     */
+    @Query("""
+            SELECT COUNT(m) AS matchCount, COUNT(m.team1Score) AS scoredCount
+            FROM AplGameDayGroupMatch m
+            WHERE m.group.id = :groupId
+            """)
+    GroupScoreCount countScoresByGroup(@Param("groupId") Long groupId);
+
+    interface GroupScoreCount {
+        long getMatchCount();
+        long getScoredCount();
+    }
 }
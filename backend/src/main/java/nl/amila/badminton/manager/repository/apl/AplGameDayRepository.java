@@ -1,12 +1,15 @@
 package nl.amila.badminton.manager.repository.apl;
 
 import nl.amila.badminton.manager.entity.apl.AplGameDay;
+import nl.amila.badminton.manager.entity.apl.AplGameDayStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,14 +19,34 @@ public interface AplGameDayRepository extends JpaRepository<AplGameDay, Long> {
     List<AplGameDay> findByTournamentIdOrderByGameDateDesc(Long tournamentId);
     boolean existsByTournamentIdAndGameDate(Long tournamentId, LocalDate gameDate);
 
+    /**
+     * Current consecutive-absence streak of every player in a tournament, in one query.
+     * A player's streak is the number of COMPLETED game days (excluding {@code currentDayId})
+     * dated after the last COMPLETED day they attended. Players with a zero streak are not returned.
+     */
     @Query("""
-            SELECT COUNT(gp) > 0 FROM AplGameDayGroupPlayer gp
-            WHERE gp.group.gameDay.id = :gameDayId
-              AND gp.tournamentPlayer.id = :playerId
+            SELECT tp.id AS tournamentPlayerId, COUNT(d) AS absences
+            FROM TournamentPlayer tp, AplGameDay d
+            WHERE tp.tournament.id = :tournamentId
+              AND d.tournament.id = :tournamentId
+              AND d.status = :completed
+              AND d.id <> :currentDayId
+              AND NOT EXISTS (
+                  SELECT 1 FROM AplGameDayGroupPlayer gp
+                  WHERE gp.tournamentPlayer = tp
+                    AND gp.group.gameDay.status = :completed
+                    AND gp.group.gameDay.id <> :currentDayId
+                    AND gp.group.gameDay.gameDate >= d.gameDate)
+            GROUP BY tp.id
             """)
-    boolean isPlayerPresentInGameDay(@Param("gameDayId") Long gameDayId,
-                                     @Param("playerId") Long playerId);
+    List<AbsenceStreak> findAbsenceStreaks(@Param("tournamentId") Long tournamentId,
+                                           @Param("currentDayId") Long currentDayId,
+                                           @Param("completed") AplGameDayStatus completed);
 
+    /**
+     * Eagerly fetch a game day with its groups, group players, matches and match-player references.
+     * Only used where the graph itself is processed (finishGameDay); reads use the flat queries below.
+     */
     @Query("""
             SELECT DISTINCT d FROM AplGameDay d
             LEFT JOIN FETCH d.groups g
@@ -46,4 +69,84 @@ public interface AplGameDayRepository extends JpaRepository<AplGameDay, Long> {
             WHERE d.id = :id
             """)
     Optional<AplGameDay> findByIdWithAll(@Param("id") Long id);
+
+    interface AbsenceStreak {
+        Long getTournamentPlayerId();
+        Long getAbsences();
+    }
+
+    // ── Flat read model ───────────────────────────────────────────────────────
+    // Three narrow queries (groups, group players with users, matches) replace the
+    // fetch-joined entity graph on read paths: no groups × players × matches row product.
+
+    /**
+     * Groups of the given game days, ordered by group number.
+     */
+    @Query("""
+            SELECT g.id AS id, g.gameDay.id AS gameDayId, g.groupNumber AS groupNumber
+            FROM AplGameDayGroup g
+            WHERE g.gameDay.id IN :dayIds
+            ORDER BY g.groupNumber ASC
+            """)
+    List<GroupRow> findGroupRows(@Param("dayIds") Collection<Long> dayIds);
+
+    /**
+     * Group players of the given game days, with their tournament player and user details.
+     */
+    @Query("""
+            SELECT gp.id AS id, gp.group.id AS groupId, tp.id AS tournamentPlayerId, u.id AS userId,
+                   u.firstName AS firstName, u.lastName AS lastName, tp.rankScore AS rankScore
+            FROM AplGameDayGroupPlayer gp
+            JOIN gp.tournamentPlayer tp
+            JOIN tp.user u
+            WHERE gp.group.gameDay.id IN :dayIds
+            """)
+    List<GroupPlayerRow> findGroupPlayerRows(@Param("dayIds") Collection<Long> dayIds);
+
+    /**
+     * Matches of the given game days, ordered by match order. Team slots are group player ids.
+     */
+    @Query("""
+            SELECT m.id AS id, m.group.id AS groupId, m.matchOrder AS matchOrder,
+                   m.team1Player1.id AS team1Player1Id, m.team1Player2.id AS team1Player2Id,
+                   m.team2Player1.id AS team2Player1Id, m.team2Player2.id AS team2Player2Id,
+                   m.team1Score AS team1Score, m.team2Score AS team2Score,
+                   m.courtNumber AS courtNumber, m.roundNumber AS roundNumber,
+                   m.version AS version
+            FROM AplGameDayGroupMatch m
+            WHERE m.group.gameDay.id IN :dayIds
+            ORDER BY m.matchOrder ASC
+            """)
+    List<MatchRow> findMatchRows(@Param("dayIds") Collection<Long> dayIds);
+
+    interface GroupRow {
+        Long getId();
+        Long getGameDayId();
+        int getGroupNumber();
+    }
+
+    interface GroupPlayerRow {
+        Long getId();
+        Long getGroupId();
+        Long getTournamentPlayerId();
+        Long getUserId();
+        String getFirstName();
+        String getLastName();
+        BigDecimal getRankScore();
+    }
+
+    interface MatchRow {
+        Long getId();
+        Long getGroupId();
+        int getMatchOrder();
+        Long getTeam1Player1Id();
+        Long getTeam1Player2Id();
+        Long getTeam2Player1Id();
+        Long getTeam2Player2Id();
+        Integer getTeam1Score();
+        Integer getTeam2Score();
+        Integer getCourtNumber();
+        Integer getRoundNumber();
+        Long getVersion();
+    }
 }
@@ -1,12 +1,82 @@
 package nl.amila.badminton.manager.repository.apl;
 
 import nl.amila.badminton.manager.entity.apl.AplRankScoreHistory;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 
 @Repository
-public interface AplRankScoreHistoryRepository extends JpaRepository<AplRankScoreHistory, Long> {
-    List<AplRankScoreHistory> findByTournamentPlayerIdOrderByChangedAtDesc(Long tournamentPlayerId);
+public interface AplRankScoreHistoryRepository extends JpaRepository<AplRankScoreHistory, Long>, AplRankScoreHistoryBatchRepository {
+
+    /** Columns and joins shared by the history page queries: one flat row per history entry. */
+    String HISTORY_ROW_SELECT = """
+            SELECT gd.id AS gameDayId, gd.gameDate AS gameDate,
+                   m.id AS matchId, m.matchOrder AS matchOrder,
+                   m.team1Score AS team1Score, m.team2Score AS team2Score,
+                   tp11.id AS team1Player1Id, tp12.id AS team1Player2Id,
+                   CONCAT(u11.firstName, ' ', u11.lastName) AS team1Player1Name,
+                   CONCAT(u12.firstName, ' ', u12.lastName) AS team1Player2Name,
+                   CONCAT(u21.firstName, ' ', u21.lastName) AS team2Player1Name,
+                   CONCAT(u22.firstName, ' ', u22.lastName) AS team2Player2Name,
+                   h.id AS historyId, h.changedAt AS changedAt,
+                   h.previousScore AS previousScore, h.newScore AS newScore
+            FROM AplRankScoreHistory h
+            JOIN h.match m
+            JOIN m.group g
+            JOIN g.gameDay gd
+            JOIN m.team1Player1 p11 JOIN p11.tournamentPlayer tp11 JOIN tp11.user u11
+            JOIN m.team1Player2 p12 JOIN p12.tournamentPlayer tp12 JOIN tp12.user u12
+            JOIN m.team2Player1 p21 JOIN p21.tournamentPlayer tp21 JOIN tp21.user u21
+            JOIN m.team2Player2 p22 JOIN p22.tournamentPlayer tp22 JOIN tp22.user u22
+            """;
+
+    /**
+     * First page of a player's history, newest first by (changed_at, id) of the history row, the order
+     * of the (tournament_player_id, changed_at) index: the last finished game day first, a day's entries
+     * in reverse play order.
+     */
+    @Query(HISTORY_ROW_SELECT + """
+            WHERE h.tournamentPlayer.id = :tournamentPlayerId
+            ORDER BY h.changedAt DESC, h.id DESC
+            """)
+    List<HistoryRow> findHistoryPage(@Param("tournamentPlayerId") Long tournamentPlayerId, Pageable page);
+
+    /**
+     * Next page of a player's history: the entries after the keyset cursor (changed_at, history id),
+     * a seek on the same index.
+     */
+    @Query(HISTORY_ROW_SELECT + """
+            WHERE h.tournamentPlayer.id = :tournamentPlayerId
+              AND (h.changedAt < :beforeChangedAt OR (h.changedAt = :beforeChangedAt AND h.id < :beforeHistoryId))
+            ORDER BY h.changedAt DESC, h.id DESC
+            """)
+    List<HistoryRow> findHistoryPageBefore(@Param("tournamentPlayerId") Long tournamentPlayerId,
+                                           @Param("beforeChangedAt") long beforeChangedAt,
+                                           @Param("beforeHistoryId") long beforeHistoryId,
+                                           Pageable page);
+
+    interface HistoryRow {
+        Long getGameDayId();
+        LocalDate getGameDate();
+        Long getMatchId();
+        int getMatchOrder();
+        Integer getTeam1Score();
+        Integer getTeam2Score();
+        Long getTeam1Player1Id();
+        Long getTeam1Player2Id();
+        String getTeam1Player1Name();
+        String getTeam1Player2Name();
+        String getTeam2Player1Name();
+        String getTeam2Player2Name();
+        Long getHistoryId();
+        long getChangedAt();
+        BigDecimal getPreviousScore();
+        BigDecimal getNewScore();
+    }
 }
@@ -2,9 +2,39 @@ package nl.amila.badminton.manager.repository.league;
 
 import nl.amila.badminton.manager.entity.league.LeagueGameDayGroupMatch;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface LeagueGameDayGroupMatchRepository extends JpaRepository<LeagueGameDayGroupMatch, Long> {
+
+    /**
+     * The given matches that belong to the game day, with their group; ids of other days are left out.
+     */
+    @Query("""
+            SELECT m FROM LeagueGameDayGroupMatch m
+            JOIN FETCH m.group g
+            WHERE g.gameDay.id = :dayId AND m.id IN :ids
+            """)
+    List<LeagueGameDayGroupMatch> findAllByIdInGameDay(@Param("dayId") Long dayId, @Param("ids") Collection<Long> ids);
+
+    /**
+     * Number of matches in a group and how many of them have a score.
+     */
+    @Query("""
+            SELECT COUNT(m) AS matchCount, COUNT(m.team1Score) AS scoredCount
+            FROM LeagueGameDayGroupMatch m
+            WHERE m.group.id = :groupId
+            """)
+    GroupScoreCount countScoresByGroup(@Param("groupId") Long groupId);
+
+    interface GroupScoreCount {
+        long getMatchCount();
+        long getScoredCount();
+    }
 }
 
@@ -6,7 +6,9 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +21,7 @@ public interface LeagueGameDayRepository extends JpaRepository<LeagueGameDay, Lo
     /**
      * Eagerly fetch a game day together with its groups, group players, group matches,
      * and all four match-player references in a single query.
+     * Only used where the graph itself is processed (finishGameDay); reads use the flat queries below.
      */
     @Query("""
             SELECT DISTINCT d FROM LeagueGameDay d
@@ -42,5 +45,79 @@ public interface LeagueGameDayRepository extends JpaRepository<LeagueGameDay, Lo
             WHERE d.id = :id
             """)
     Optional<LeagueGameDay> findByIdWithAll(@Param("id") Long id);
-}
 
+    // ── Flat read model ───────────────────────────────────────────────────────
+    // Three narrow queries (groups, group players with users, matches) replace the
+    // fetch-joined entity graph on read paths: no groups × players × matches row product.
+
+    /**
+     * Groups of the given game days, ordered by group number.
+     */
+    @Query("""
+            SELECT g.id AS id, g.gameDay.id AS gameDayId, g.groupNumber AS groupNumber
+            FROM LeagueGameDayGroup g
+            WHERE g.gameDay.id IN :dayIds
+            ORDER BY g.groupNumber ASC
+            """)
+    List<GroupRow> findGroupRows(@Param("dayIds") Collection<Long> dayIds);
+
+    /**
+     * Group players of the given game days, with their tournament player and user details.
+     */
+    @Query("""
+            SELECT gp.id AS id, gp.group.id AS groupId, tp.id AS tournamentPlayerId, u.id AS userId,
+                   u.firstName AS firstName, u.lastName AS lastName, tp.rankScore AS rankScore
+            FROM LeagueGameDayGroupPlayer gp
+            JOIN gp.tournamentPlayer tp
+            JOIN tp.user u
+            WHERE gp.group.gameDay.id IN :dayIds
+            """)
+    List<GroupPlayerRow> findGroupPlayerRows(@Param("dayIds") Collection<Long> dayIds);
+
+    /**
+     * Matches of the given game days, ordered by match order. Team slots are group player ids.
+     */
+    @Query("""
+            SELECT m.id AS id, m.group.id AS groupId, m.matchOrder AS matchOrder,
+                   m.team1Player1.id AS team1Player1Id, m.team1Player2.id AS team1Player2Id,
+                   m.team2Player1.id AS team2Player1Id, m.team2Player2.id AS team2Player2Id,
+                   m.team1Score AS team1Score, m.team2Score AS team2Score,
+                   m.courtNumber AS courtNumber, m.roundNumber AS roundNumber,
+                   m.version AS version
+            FROM LeagueGameDayGroupMatch m
+            WHERE m.group.gameDay.id IN :dayIds
+            ORDER BY m.matchOrder ASC
+            """)
+    List<MatchRow> findMatchRows(@Param("dayIds") Collection<Long> dayIds);
+
+    interface GroupRow {
+        Long getId();
+        Long getGameDayId();
+        int getGroupNumber();
+    }
+
+    interface GroupPlayerRow {
+        Long getId();
+        Long getGroupId();
+        Long getTournamentPlayerId();
+        Long getUserId();
+        String getFirstName();
+        String getLastName();
+        BigDecimal getRankScore();
+    }
+
+    interface MatchRow {
+        Long getId();
+        Long getGroupId();
+        int getMatchOrder();
+        Long getTeam1Player1Id();
+        Long getTeam1Player2Id();
+        Long getTeam2Player1Id();
+        Long getTeam2Player2Id();
+        Integer getTeam1Score();
+        Integer getTeam2Score();
+        Integer getCourtNumber();
+        Integer getRoundNumber();
+        Long getVersion();
+    }
+}
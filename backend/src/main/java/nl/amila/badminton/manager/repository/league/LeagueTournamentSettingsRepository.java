@@ -1,12 +1,19 @@
 package nl.amila.badminton.manager.repository.league;
 
+import jakarta.persistence.QueryHint;
 import nl.amila.badminton.manager.entity.league.LeagueTournamentSettings;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
 public interface LeagueTournamentSettingsRepository extends JpaRepository<LeagueTournamentSettings, Long> {
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "query.settingsByTournament")
+    })
     Optional<LeagueTournamentSettings> findByTournamentId(Long tournamentId);
 }
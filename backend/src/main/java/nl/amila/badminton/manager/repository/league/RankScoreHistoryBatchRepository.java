@@ -0,0 +1,17 @@
+package nl.amila.badminton.manager.repository.league;
+
+import nl.amila.badminton.manager.entity.league.RankScoreHistory;
+
+import java.util.List;
+
+/**
+ * Bulk write path for {@link RankScoreHistory}. The entity uses IDENTITY ids, which
+ * disables Hibernate insert batching, so rows are written with a single JDBC batch.
+ */
+public interface RankScoreHistoryBatchRepository {
+
+    /**
+     * Insert all rows in one JDBC batch. Generated ids are not populated on the given entities.
+     */
+    void insertBatch(List<RankScoreHistory> rows);
+}
@@ -0,0 +1,36 @@
+package nl.amila.badminton.manager.repository.league;
+
+import nl.amila.badminton.manager.entity.league.RankScoreHistory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+class RankScoreHistoryBatchRepositoryImpl implements RankScoreHistoryBatchRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL = """
+        INSERT INTO rank_score_history (tournament_player_id, match_id, previous_score, new_score, changed_at)
+        VALUES (?, ?, ?, ?, ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    RankScoreHistoryBatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insertBatch(List<RankScoreHistory> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, BATCH_SIZE, (ps, row) -> {
+            ps.setLong(1, row.getTournamentPlayer().getId());
+            ps.setLong(2, row.getMatch().getId());
+            ps.setBigDecimal(3, row.getPreviousScore());
+            ps.setBigDecimal(4, row.getNewScore());
+            ps.setLong(5, row.getChangedAt());
+        });
+    }
+}
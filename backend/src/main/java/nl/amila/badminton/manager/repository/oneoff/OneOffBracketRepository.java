@@ -0,0 +1,14 @@
+package nl.amila.badminton.manager.repository.oneoff;
+
+import nl.amila.badminton.manager.entity.oneoff.OneOffBracket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface OneOffBracketRepository extends JpaRepository<OneOffBracket, Long> {
+    Optional<OneOffBracket> findByTournamentId(Long tournamentId);
+
+    boolean existsByTournamentId(Long tournamentId);
+}
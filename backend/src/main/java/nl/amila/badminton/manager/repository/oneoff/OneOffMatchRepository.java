@@ -0,0 +1,47 @@
+package nl.amila.badminton.manager.repository.oneoff;
+
+import nl.amila.badminton.manager.entity.oneoff.OneOffMatch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface OneOffMatchRepository extends JpaRepository<OneOffMatch, Long> {
+
+    /**
+     * Every match of the tournament as flat rows of tournament player ids and scores (null until scored),
+     * in round and match order.
+     */
+    @Query("""
+            SELECT m.id AS matchId, m.version AS version, r.roundNumber AS roundNumber,
+                   m.team1Player1.id AS team1Player1Id, m.team1Player2.id AS team1Player2Id,
+                   m.team2Player1.id AS team2Player1Id, m.team2Player2.id AS team2Player2Id,
+                   m.team1Score AS team1Score, m.team2Score AS team2Score
+            FROM OneOffMatch m
+            JOIN m.round r
+            WHERE r.tournament.id = :tournamentId
+            ORDER BY r.roundNumber, m.matchOrder
+            """)
+    List<MatchRow> findMatchRows(@Param("tournamentId") Long tournamentId);
+
+    /**
+     * Number of matches of the round still without a score.
+     */
+    @Query("SELECT COUNT(m) FROM OneOffMatch m WHERE m.round.id = :roundId AND m.team1Score IS NULL")
+    long countUnscoredByRoundId(@Param("roundId") Long roundId);
+
+    interface MatchRow {
+        Long getMatchId();
+        Long getVersion();
+        int getRoundNumber();
+        Long getTeam1Player1Id();
+        Long getTeam1Player2Id();
+        Long getTeam2Player1Id();
+        Long getTeam2Player2Id();
+        Integer getTeam1Score();
+        Integer getTeam2Score();
+    }
+}
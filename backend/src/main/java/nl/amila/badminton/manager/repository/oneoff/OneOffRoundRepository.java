@@ -0,0 +1,17 @@
+package nl.amila.badminton.manager.repository.oneoff;
+
+import nl.amila.badminton.manager.entity.oneoff.OneOffRound;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OneOffRoundRepository extends JpaRepository<OneOffRound, Long> {
+    List<OneOffRound> findByTournamentIdOrderByRoundNumberAsc(Long tournamentId);
+
+    Optional<OneOffRound> findTopByTournamentIdOrderByRoundNumberDesc(Long tournamentId);
+
+    boolean existsByTournamentId(Long tournamentId);
+}
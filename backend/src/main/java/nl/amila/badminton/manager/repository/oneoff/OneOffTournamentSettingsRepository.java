@@ -1,12 +1,19 @@
 package nl.amila.badminton.manager.repository.oneoff;
 
+import jakarta.persistence.QueryHint;
 import nl.amila.badminton.manager.entity.oneoff.OneOffTournamentSettings;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
 public interface OneOffTournamentSettingsRepository extends JpaRepository<OneOffTournamentSettings, Long> {
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "query.settingsByTournament")
+    })
     Optional<OneOffTournamentSettings> findByTournamentId(Long tournamentId);
 }
@@ -3,11 +3,15 @@ package nl.amila.badminton.manager.service;
 import nl.amila.badminton.manager.dto.SignupRequest;
 import nl.amila.badminton.manager.dto.LoginRequest;
 import nl.amila.badminton.manager.dto.AuthResponse;
+import nl.amila.badminton.manager.dto.RefreshTokenRequest;
+import nl.amila.badminton.manager.entity.RefreshToken;
 import nl.amila.badminton.manager.entity.Role;
 import nl.amila.badminton.manager.entity.User;
+import nl.amila.badminton.manager.repository.RefreshTokenRepository;
 import nl.amila.badminton.manager.repository.UserRepository;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -15,10 +19,15 @@ import java.util.Optional;
 public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final TokenService tokenService;
+    private final RefreshTokenRepository refreshTokenRepository;
 
-    public AuthService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public AuthService(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                       TokenService tokenService, RefreshTokenRepository refreshTokenRepository) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.tokenService = tokenService;
+        this.refreshTokenRepository = refreshTokenRepository;
     }
 
     /**
@@ -82,8 +91,11 @@ public class AuthService {
     }
 
     /**
-     * Authenticate user and return response
+     * Authenticate user and issue an access token plus a refresh token.
+     * This is the only place a password hash is verified; subsequent requests
+     * authenticate with the signed access token.
      */
+    @Transactional
     public AuthResponse login(LoginRequest request) {
         // Validate input
         if (request.getUsername() == null || request.getUsername().trim().isEmpty()) {
@@ -111,7 +123,89 @@ public class AuthService {
             return new AuthResponse(false, "Invalid username or password");
         }
 
-        // Return success response with user data
+        refreshTokenRepository.deleteExpired(System.currentTimeMillis());
+        return issueTokens(user, "Login successful");
+    }
+
+    /**
+     * Exchange a refresh token for a new access/refresh token pair.
+     * The presented refresh token is revoked (rotation); presenting an already
+     * revoked token revokes every outstanding token of that user.
+     */
+    @Transactional
+    public AuthResponse refresh(RefreshTokenRequest request) {
+        if (request.getRefreshToken() == null || request.getRefreshToken().isBlank()) {
+            return new AuthResponse(false, "Refresh token is required");
+        }
+
+        Optional<RefreshToken> tokenOpt =
+            refreshTokenRepository.findByTokenHashWithUser(tokenService.hashRefreshToken(request.getRefreshToken()));
+        if (tokenOpt.isEmpty()) {
+            return new AuthResponse(false, "Invalid refresh token");
+        }
+
+        RefreshToken refreshToken = tokenOpt.get();
+        User user = refreshToken.getUser();
+
+        if (refreshToken.isRevoked()) {
+            // Reuse of a rotated token: assume it leaked and end all sessions of this user
+            refreshTokenRepository.revokeAllForUser(user.getId());
+            return new AuthResponse(false, "Refresh token has already been used");
+        }
+        if (refreshToken.getExpiresAt() <= System.currentTimeMillis()) {
+            return new AuthResponse(false, "Refresh token has expired");
+        }
+        if (!user.isEnabled()) {
+            return new AuthResponse(false, "User account is disabled");
+        }
+
+        refreshToken.setRevoked(true);
+        refreshTokenRepository.save(refreshToken);
+
+        return issueTokens(user, "Token refreshed");
+    }
+
+    /**
+     * Revoke the given refresh token. Access tokens expire on their own.
+     */
+    @Transactional
+    public AuthResponse logout(RefreshTokenRequest request) {
+        if (request.getRefreshToken() != null && !request.getRefreshToken().isBlank()) {
+            refreshTokenRepository.findByTokenHashWithUser(tokenService.hashRefreshToken(request.getRefreshToken()))
+                .ifPresent(token -> {
+                    token.setRevoked(true);
+                    refreshTokenRepository.save(token);
+                });
+        }
+        return new AuthResponse(true, "Logged out");
+    }
+
+    /**
+     * Issue a stream ticket for an authenticated user; see {@link TokenService#issueStreamTicket}.
+     * The ticket is returned as the response's token.
+     */
+    public AuthResponse issueStreamTicket(String username) {
+        Optional<User> userOpt = userRepository.findByUsername(username);
+        if (userOpt.isEmpty() || !userOpt.get().isEnabled()) {
+            return new AuthResponse(false, "User account is disabled");
+        }
+        AuthResponse response = new AuthResponse(true, "Stream ticket issued", null,
+            tokenService.issueStreamTicket(userOpt.get()));
+        response.setExpiresIn(tokenService.getStreamTicketTtlSeconds());
+        return response;
+    }
+
+    /**
+     * Build a success response carrying a fresh access token and a newly persisted refresh token.
+     */
+    private AuthResponse issueTokens(User user, String message) {
+        String refreshTokenValue = tokenService.newRefreshToken();
+        refreshTokenRepository.save(new RefreshToken(
+            user,
+            tokenService.hashRefreshToken(refreshTokenValue),
+            System.currentTimeMillis() + tokenService.getRefreshTokenTtlMillis()
+        ));
+
         AuthResponse.UserDto userDto = new AuthResponse.UserDto(
             user.getId(),
             user.getUsername(),
@@ -123,9 +217,11 @@ public class AuthService {
 
         return new AuthResponse(
             true,
-            "Login successful",
+            message,
             userDto,
-            null
+            tokenService.issueAccessToken(user),
+            refreshTokenValue,
+            tokenService.getAccessTokenTtlSeconds()
         );
     }
 
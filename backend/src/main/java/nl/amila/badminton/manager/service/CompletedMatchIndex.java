@@ -0,0 +1,173 @@
+package nl.amila.badminton.manager.service;
+
+import nl.amila.badminton.manager.entity.TournamentType;
+import nl.amila.badminton.manager.repository.RankReplayRepository;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Base of the in-memory per-tournament indexes over completed matches (pairing frequencies,
+ * head-to-head stats).
+ *
+ * A tournament's counts are loaded once, by streaming its completed matches, on first use; after that
+ * each {@link GameDayCompletedEvent} is added incrementally. Completed game days cannot be edited, so
+ * nothing else changes them. At most {@link #MAX_TOURNAMENTS} tournaments are kept: past that the least
+ * recently used one is dropped and streamed again when it is next needed.
+ */
+public abstract class CompletedMatchIndex<C extends CompletedMatchIndex.Counts> {
+
+    public static final int MAX_TOURNAMENTS = 200;
+
+    private record Key(TournamentType type, long tournamentId) {}
+
+    private final RankReplayRepository rankReplayRepository;
+    private final Map<Key, C> tournaments = new ConcurrentHashMap<>();
+    private final AtomicLong clock = new AtomicLong();
+
+    protected CompletedMatchIndex(RankReplayRepository rankReplayRepository) {
+        this.rankReplayRepository = rankReplayRepository;
+    }
+
+    /**
+     * Empty counts for a tournament that is about to be loaded.
+     */
+    protected abstract C newCounts();
+
+    /**
+     * The tournament's counts, loading them from its completed game days on first use.
+     */
+    public C forTournament(TournamentType type, long tournamentId) {
+        C counts = tournaments.computeIfAbsent(new Key(type, tournamentId), key -> {
+            C loaded = newCounts();
+            Counts sink = loaded;
+            rankReplayRepository.streamCompletedMatches(type, tournamentId, sink::addMatch);
+            return loaded;
+        });
+        ((Counts) counts).lastUsed = clock.incrementAndGet();
+        if (tournaments.size() > MAX_TOURNAMENTS) {
+            evictLeastRecentlyUsed();
+        }
+        return counts;
+    }
+
+    /**
+     * Add a finished game day to an already loaded tournament. Unloaded tournaments pick it up when loaded.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onGameDayCompleted(GameDayCompletedEvent event) {
+        // computeIfPresent waits for a load in progress, which may or may not have streamed this day;
+        // countedDays keeps it from being counted twice
+        tournaments.computeIfPresent(new Key(event.type(), event.tournamentId()), (key, counts) -> {
+            counts.addDay(event.dayId(), event.matchPlayers(), event.matchScores());
+            return counts;
+        });
+    }
+
+    private void evictLeastRecentlyUsed() {
+        Key oldest = null;
+        long oldestUse = Long.MAX_VALUE;
+        for (Map.Entry<Key, C> entry : tournaments.entrySet()) {
+            long lastUsed = ((Counts) entry.getValue()).lastUsed;
+            if (lastUsed < oldestUse) {
+                oldest = entry.getKey();
+                oldestUse = lastUsed;
+            }
+        }
+        if (oldest != null) {
+            tournaments.remove(oldest);
+        }
+    }
+
+    /**
+     * Counts of one tournament over a dense player index, with pairs of players as cells of a
+     * triangular layout. Subclasses keep the count arrays; every method that touches them is
+     * synchronized on the instance, so the counts are safe for concurrent readers and writers.
+     */
+    public abstract static class Counts {
+
+        private final Map<Long, Integer> indexOf = new HashMap<>();
+        /** Game days already counted, so a day loaded from the database is not added again by its event. */
+        private final Set<Long> countedDays = new HashSet<>();
+        private volatile long lastUsed;
+
+        /**
+         * Count a game day's matches, given as four tournament player ids and two scores per match.
+         * A day is only counted once.
+         */
+        public final synchronized void addDay(long dayId, long[] matchPlayers, int[] matchScores) {
+            if (!countedDays.add(dayId)) {
+                return;
+            }
+            for (int m = 0; m * 4 + 3 < matchPlayers.length; m++) {
+                count(index(matchPlayers[m * 4]), index(matchPlayers[m * 4 + 1]),
+                    index(matchPlayers[m * 4 + 2]), index(matchPlayers[m * 4 + 3]),
+                    matchScores[m * 2], matchScores[m * 2 + 1]);
+            }
+        }
+
+        private synchronized void addMatch(long dayId, long matchId, long p1, long p2, long p3, long p4,
+                                           int team1Score, int team2Score) {
+            countedDays.add(dayId);
+            count(index(p1), index(p2), index(p3), index(p4), team1Score, team2Score);
+        }
+
+        /**
+         * Count one match between the players with the given dense indexes.
+         */
+        protected abstract void count(int t1p1, int t1p2, int t2p1, int t2p2, int team1Score, int team2Score);
+
+        /**
+         * Grow the count arrays to hold this many players.
+         */
+        protected abstract void ensureCapacity(int playerCount);
+
+        /**
+         * The player's dense index, or -1 when they have no counted match.
+         */
+        protected final int denseIndex(long playerId) {
+            Integer index = indexOf.get(playerId);
+            return index == null ? -1 : index;
+        }
+
+        /**
+         * The pair's cell, or -1 when either player has no counted match or both are the same player.
+         */
+        protected final int cell(long a, long b) {
+            int i = denseIndex(a);
+            int j = denseIndex(b);
+            return i < 0 || j < 0 || i == j ? -1 : triangle(i, j);
+        }
+
+        /**
+         * Cells needed for all pairs of this many players. Player i's pairs are cells
+         * [i(i-1)/2, i(i+1)/2), so a new player only appends.
+         */
+        protected static int pairCells(int playerCount) {
+            return playerCount * (playerCount - 1) / 2;
+        }
+
+        protected static int triangle(int i, int j) {
+            int hi = Math.max(i, j);
+            int lo = Math.min(i, j);
+            return hi * (hi - 1) / 2 + lo;
+        }
+
+        private int index(long playerId) {
+            Integer existing = indexOf.get(playerId);
+            if (existing != null) {
+                return existing;
+            }
+            int index = indexOf.size();
+            indexOf.put(playerId, index);
+            ensureCapacity(index + 1);
+            return index;
+        }
+    }
+}
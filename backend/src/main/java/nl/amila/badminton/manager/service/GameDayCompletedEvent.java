@@ -0,0 +1,11 @@
+package nl.amila.badminton.manager.service;
+
+import nl.amila.badminton.manager.entity.TournamentType;
+
+/**
+ * Published when a game day is finished. {@code matchPlayers} holds four tournament player ids
+ * per match: team 1 player 1, team 1 player 2, team 2 player 1, team 2 player 2.
+ * {@code matchScores} holds two scores per match, team 1 then team 2, in the same match order.
+ */
+public record GameDayCompletedEvent(TournamentType type, Long tournamentId, Long dayId,
+                                    long[] matchPlayers, int[] matchScores) {}
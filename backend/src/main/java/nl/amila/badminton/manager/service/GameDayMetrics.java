@@ -0,0 +1,120 @@
+package nl.amila.badminton.manager.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import nl.amila.badminton.manager.entity.RankingLogic;
+import nl.amila.badminton.manager.entity.TournamentType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+import java.util.Locale;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Micrometer meters for the league and APL game-day lifecycle, exported through the actuator
+ * (/actuator/metrics and the Prometheus scrape endpoint).
+ *
+ * Tags are limited to tournament type, operation, outcome and ranking logic, so the number of
+ * series stays fixed however many tournaments and game days there are.
+ */
+@Service
+public class GameDayMetrics {
+
+    static final String OPERATION_TIMER = "gameday.operation";
+    static final String RANKING_TIMER = "gameday.ranking.computation";
+    static final String HISTORY_ROWS_COUNTER = "gameday.ranking.history.rows";
+    static final String ABSENCE_LOOKUP_TIMER = "gameday.absence.streak.lookup";
+    static final String SCORE_CONFLICT_COUNTER = "gameday.score.conflicts";
+
+    /** Timed game-day operations; SUBMIT covers admin, batch and player score submits. */
+    public enum Operation { CREATE, START, SUBMIT, FINISH }
+
+    /** Who submitted a score that lost an optimistic-lock race. */
+    public enum Submitter { ADMIN, PLAYER }
+
+    private final MeterRegistry registry;
+
+    public GameDayMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Run a game-day operation and record its duration. Called from outside the service's
+     * transaction, so the time includes the commit. The outcome tag is {@code success},
+     * {@code rejected} (the response reports failure), {@code conflict} (optimistic lock) or
+     * {@code error}; exceptions are rethrown unchanged.
+     */
+    public <R> R time(TournamentType type, Operation operation, Supplier<R> call, Predicate<R> succeeded) {
+        Timer.Sample sample = Timer.start(registry);
+        String outcome = "error";
+        try {
+            R result = call.get();
+            outcome = succeeded.test(result) ? "success" : "rejected";
+            return result;
+        } catch (ObjectOptimisticLockingFailureException e) {
+            outcome = "conflict";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(OPERATION_TIMER)
+                .description("Game-day create, start, score submit and finish calls")
+                .tag("type", tagValue(type))
+                .tag("operation", tagValue(operation))
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry));
+        }
+    }
+
+    /**
+     * Time one ranking engine run over a finished game day's matches.
+     */
+    public <R> R timeRankingComputation(TournamentType type, RankingLogic logic, Supplier<R> computation) {
+        return Timer.builder(RANKING_TIMER)
+            .description("Ranking engine runs when a game day is finished")
+            .tag("type", tagValue(type))
+            .tag("logic", tagValue(logic))
+            .publishPercentileHistogram()
+            .register(registry)
+            .record(computation);
+    }
+
+    /**
+     * Count the rank score history rows written for a finished game day.
+     */
+    public void historyRowsWritten(TournamentType type, int rows) {
+        Counter.builder(HISTORY_ROWS_COUNTER)
+            .description("Rank score history rows written when game days are finished")
+            .baseUnit("rows")
+            .tag("type", tagValue(type))
+            .register(registry)
+            .increment(rows);
+    }
+
+    /**
+     * Time the consecutive-absence lookup APL runs when a game day is finished.
+     */
+    public <R> R timeAbsenceStreakLookup(Supplier<R> lookup) {
+        return Timer.builder(ABSENCE_LOOKUP_TIMER)
+            .description("APL absence-streak queries run when a game day is finished")
+            .register(registry)
+            .record(lookup);
+    }
+
+    /**
+     * Count a score submit rejected because the match changed underneath it.
+     */
+    public void scoreConflict(TournamentType type, Submitter submitter) {
+        Counter.builder(SCORE_CONFLICT_COUNTER)
+            .description("Score submits rejected by optimistic locking")
+            .tag("type", tagValue(type))
+            .tag("submitter", tagValue(submitter))
+            .register(registry)
+            .increment();
+    }
+
+    private static String tagValue(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+}
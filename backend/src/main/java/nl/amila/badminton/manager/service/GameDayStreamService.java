@@ -0,0 +1,168 @@
+package nl.amila.badminton.manager.service;
+
+import nl.amila.badminton.manager.dto.MatchScoreUpdate;
+import nl.amila.badminton.manager.entity.TournamentType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Registry of Server-Sent Event subscribers per game day.
+ *
+ * Score submissions are pushed to every subscriber of the game day as a {@code score} event
+ * carrying a {@link MatchScoreUpdate}, once the submitting transaction has committed. The sends run
+ * on a separate executor, one subscriber at a time and in order, so a slow client never holds up the
+ * submitting thread; a subscriber that falls more than {@link #MAX_PENDING} updates behind is dropped.
+ */
+@Service
+public class GameDayStreamService {
+
+    static final String SCORE_EVENT = "score";
+    static final int MAX_PENDING = 32;
+
+    private record StreamKey(TournamentType type, Long dayId) {}
+
+    private final Map<StreamKey, List<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final long timeoutMillis;
+    private final Executor sender;
+
+    @Autowired
+    public GameDayStreamService(@Value("${app.game-day-stream.timeout-seconds:1800}") long timeoutSeconds) {
+        this(timeoutSeconds, Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    GameDayStreamService(long timeoutSeconds, Executor sender) {
+        this.timeoutMillis = timeoutSeconds * 1000L;
+        this.sender = sender;
+    }
+
+    /**
+     * Open a new stream for a game day. The emitter unregisters itself when it completes,
+     * times out or fails; clients are expected to reconnect (EventSource does so automatically).
+     */
+    public SseEmitter subscribe(TournamentType type, Long dayId) {
+        StreamKey key = new StreamKey(type, dayId);
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(key, emitter);
+        subscribers.compute(key, (k, list) -> {
+            List<Subscriber> updated = list != null ? list : new CopyOnWriteArrayList<>();
+            updated.add(subscriber);
+            return updated;
+        });
+
+        Runnable unregister = () -> unregister(subscriber);
+        emitter.onCompletion(unregister);
+        emitter.onTimeout(unregister);
+        emitter.onError(e -> unregister.run());
+
+        try {
+            // Flushes the response headers so the client sees the stream as open straight away
+            emitter.send(SseEmitter.event().comment("connected"));
+        } catch (IOException e) {
+            unregister.run();
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    /**
+     * Queue a committed score for the subscribers of its game day. Only queues; the sends happen
+     * on the sender executor.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMatchScoreSubmitted(MatchScoreSubmittedEvent event) {
+        List<Subscriber> list = subscribers.get(new StreamKey(event.type(), event.dayId()));
+        if (list == null) {
+            return;
+        }
+        MatchScoreUpdate update = new MatchScoreUpdate(
+            event.groupId(), event.matchId(), event.team1Score(), event.team2Score());
+        for (Subscriber subscriber : list) {
+            subscriber.push(update);
+        }
+    }
+
+    int subscriberCount(TournamentType type, Long dayId) {
+        List<Subscriber> list = subscribers.get(new StreamKey(type, dayId));
+        return list == null ? 0 : list.size();
+    }
+
+    private void unregister(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.key, (k, list) -> {
+            list.remove(subscriber);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    /**
+     * One open stream and the updates not yet sent to it. At most one drain task runs per subscriber,
+     * which keeps the updates in order.
+     */
+    private final class Subscriber {
+
+        private final StreamKey key;
+        private final SseEmitter emitter;
+        private final Queue<MatchScoreUpdate> pending = new ArrayBlockingQueue<>(MAX_PENDING);
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(StreamKey key, SseEmitter emitter) {
+            this.key = key;
+            this.emitter = emitter;
+        }
+
+        private void push(MatchScoreUpdate update) {
+            if (!pending.offer(update)) {
+                // Not keeping up (stalled connection); drop it, the client reconnects and reloads
+                drop();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                MatchScoreUpdate update;
+                while ((update = pending.poll()) != null) {
+                    emitter.send(SseEmitter.event().name(SCORE_EVENT).data(update));
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away; drop it so later pushes skip it
+                unregister(this);
+                pending.clear();
+                return;
+            } finally {
+                draining.set(false);
+            }
+            // An update queued after the last poll but before the flag was cleared
+            if (!pending.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private void drop() {
+            unregister(this);
+            pending.clear();
+            emitter.complete();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package nl.amila.badminton.manager.service;
+
+/**
+ * Keyset cursor for player history pages: the (changed_at, id) of the last history row returned.
+ * Sent to clients as {@code changedAt_historyId}.
+ */
+public record HistoryCursor(long changedAt, long historyId) {
+
+    private static final char SEPARATOR = '_';
+
+    /**
+     * @throws IllegalArgumentException for a malformed cursor
+     */
+    public static HistoryCursor parse(String cursor) {
+        int sep = cursor.indexOf(SEPARATOR);
+        if (sep <= 0) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        try {
+            return new HistoryCursor(Long.parseLong(cursor.substring(0, sep)),
+                Long.parseLong(cursor.substring(sep + 1)));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(changedAt) + SEPARATOR + historyId;
+    }
+}
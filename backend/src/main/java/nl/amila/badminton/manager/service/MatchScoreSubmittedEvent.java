@@ -0,0 +1,10 @@
+package nl.amila.badminton.manager.service;
+
+import nl.amila.badminton.manager.entity.TournamentType;
+
+/**
+ * Published when a match score is submitted on an ongoing game day.
+ * {@code type} tells league and APL game days apart, as their ids are not shared.
+ */
+public record MatchScoreSubmittedEvent(TournamentType type, Long dayId, Long groupId, Long matchId,
+                                       Integer team1Score, Integer team2Score) {}
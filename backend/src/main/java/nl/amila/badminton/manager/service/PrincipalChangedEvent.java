@@ -0,0 +1,7 @@
+package nl.amila.badminton.manager.service;
+
+/**
+ * Published when a user's tournament admin rights or player memberships change,
+ * so a cached {@link ResolvedPrincipal} for that user is dropped.
+ */
+public record PrincipalChangedEvent(Long userId) {}
@@ -0,0 +1,96 @@
+package nl.amila.badminton.manager.service;
+
+import nl.amila.badminton.manager.entity.Role;
+import nl.amila.badminton.manager.entity.User;
+import nl.amila.badminton.manager.repository.TournamentPlayerRepository;
+import nl.amila.badminton.manager.repository.TournamentRepository;
+import nl.amila.badminton.manager.repository.UserRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Resolves an authenticated username to a {@link ResolvedPrincipal}, built once per user and cached.
+ *
+ * Access tokens are stateless, so there is no server session to hang the principal on; the cache is
+ * keyed by the authenticated name instead. An entry is dropped when a {@link PrincipalChangedEvent}
+ * for its user commits. Roles never change after signup, so admin rights and memberships are all
+ * that can go stale; every write that changes them publishes the event. Today these are tournament
+ * creation, admin and player changes in {@link TournamentService}, and APL game days that
+ * deactivate absent players.
+ */
+@Service
+public class PrincipalResolver {
+
+    /** The cache is cleared rather than grown past this many users. */
+    static final int MAX_CACHED = 10_000;
+
+    private final UserRepository userRepository;
+    private final TournamentRepository tournamentRepository;
+    private final TournamentPlayerRepository tournamentPlayerRepository;
+    private final Map<String, ResolvedPrincipal> byUsername = new ConcurrentHashMap<>();
+    /** Bumped on every invalidation, so a principal loaded before one is not cached after it. */
+    private final AtomicLong generation = new AtomicLong();
+
+    public PrincipalResolver(UserRepository userRepository,
+                             TournamentRepository tournamentRepository,
+                             TournamentPlayerRepository tournamentPlayerRepository) {
+        this.userRepository = userRepository;
+        this.tournamentRepository = tournamentRepository;
+        this.tournamentPlayerRepository = tournamentPlayerRepository;
+    }
+
+    /**
+     * The caller's principal, loading it on first use.
+     */
+    public ResolvedPrincipal resolve(String username) {
+        ResolvedPrincipal cached = byUsername.get(username);
+        if (cached != null) {
+            return cached;
+        }
+        long loadedAt = generation.get();
+        ResolvedPrincipal principal = load(username);
+        if (byUsername.size() >= MAX_CACHED) {
+            byUsername.clear();
+        }
+        byUsername.put(username, principal);
+        // An invalidation bumps the generation before it evicts: either it evicts this entry
+        // afterwards, or the bump is seen here and the possibly stale entry is taken back out
+        if (generation.get() != loadedAt) {
+            byUsername.remove(username, principal);
+        }
+        return principal;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPrincipalChanged(PrincipalChangedEvent event) {
+        generation.incrementAndGet();
+        byUsername.values().removeIf(p -> p.userId().equals(event.userId()));
+    }
+
+    private ResolvedPrincipal load(String username) {
+        User user = userRepository.findByUsername(username)
+            .orElseThrow(() -> new RuntimeException("Authenticated user not found"));
+
+        Set<Long> administered = Set.of();
+        if (Role.TOURNY_ADMIN.name().equals(user.getRole())) {
+            administered = Set.copyOf(tournamentRepository.findAdministeredTournamentIds(user.getId()));
+        }
+        Map<Long, ResolvedPrincipal.Membership> memberships = new HashMap<>();
+        if (Role.PLAYER.name().equals(user.getRole())) {
+            for (TournamentPlayerRepository.MembershipRow row
+                    : tournamentPlayerRepository.findMembershipRows(user.getId())) {
+                memberships.put(row.getTournamentId(),
+                    new ResolvedPrincipal.Membership(row.getTournamentPlayerId(), row.getStatus()));
+            }
+        }
+        return new ResolvedPrincipal(user.getId(), user.getUsername(), user.getRole(),
+            administered, Map.copyOf(memberships));
+    }
+}
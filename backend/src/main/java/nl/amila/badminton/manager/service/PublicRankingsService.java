@@ -0,0 +1,119 @@
+package nl.amila.badminton.manager.service;
+
+import nl.amila.badminton.manager.dto.TournamentResponse;
+import nl.amila.badminton.manager.repository.TournamentPlayerRepository;
+import nl.amila.badminton.manager.repository.TournamentRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Read model behind the public (unauthenticated) rankings endpoint.
+ *
+ * Each tournament's rankings are built once from two flat queries and held in memory together
+ * with an ETag, until a {@link RankingsChangedEvent} for that tournament is committed.
+ */
+@Service
+public class PublicRankingsService {
+
+    private final TournamentRepository tournamentRepository;
+    private final TournamentPlayerRepository tournamentPlayerRepository;
+
+    private final Map<Long, RankingsSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public PublicRankingsService(TournamentRepository tournamentRepository,
+                                 TournamentPlayerRepository tournamentPlayerRepository) {
+        this.tournamentRepository = tournamentRepository;
+        this.tournamentPlayerRepository = tournamentPlayerRepository;
+    }
+
+    /**
+     * Cached rankings response plus its ETag.
+     */
+    public record RankingsSnapshot(TournamentResponse response, String etag) {}
+
+    /**
+     * Get the rankings snapshot for a tournament, building it on a cache miss.
+     * Returns empty when the tournament does not exist (not cached).
+     * Cache hits do not touch the database or open a transaction.
+     */
+    public Optional<RankingsSnapshot> getRankings(Long tournamentId) {
+        RankingsSnapshot cached = snapshots.get(tournamentId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        // Publish, then take the snapshot back out if anything was invalidated while building it.
+        // onRankingsChanged counts before it removes, so a concurrent invalidation either removes
+        // this snapshot itself or is seen by the re-check
+        long invalidationsBefore = invalidations.get();
+        Optional<RankingsSnapshot> built = build(tournamentId);
+        built.ifPresent(snapshot -> {
+            snapshots.putIfAbsent(tournamentId, snapshot);
+            if (invalidations.get() != invalidationsBefore) {
+                snapshots.remove(tournamentId, snapshot);
+            }
+        });
+        return built;
+    }
+
+    /**
+     * Drop the cached rankings of a tournament once the change that affected them has committed.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRankingsChanged(RankingsChangedEvent event) {
+        invalidations.incrementAndGet();
+        snapshots.remove(event.tournamentId());
+    }
+
+    private Optional<RankingsSnapshot> build(Long tournamentId) {
+        Optional<TournamentRepository.TournamentHeader> headerOpt = tournamentRepository.findHeaderById(tournamentId);
+        if (headerOpt.isEmpty()) {
+            return Optional.empty();
+        }
+        TournamentRepository.TournamentHeader header = headerOpt.get();
+        List<TournamentPlayerRepository.RankingRow> rows = tournamentPlayerRepository.findRankingRows(tournamentId);
+
+        TournamentResponse.TournamentDto dto = new TournamentResponse.TournamentDto(
+            header.getId(), header.getName(), header.getOwnerId(), header.getEnabled(),
+            header.getCreatedAt(), header.getUpdatedAt(), header.getType()
+        );
+        // Public payload: no admin details and no e-mail addresses
+        dto.setPlayerIds(rows.stream().map(TournamentPlayerRepository.RankingRow::getUserId).toList());
+        dto.setPlayers(rows.stream()
+            .map(r -> new TournamentResponse.PlayerDto(
+                r.getUserId(),
+                r.getTournamentPlayerId(),
+                r.getFirstName(),
+                r.getLastName(),
+                null,
+                r.getStatus().name(),
+                r.getStatusChangedAt(),
+                r.getRank(),
+                r.getRankScore()
+            ))
+            .toList());
+
+        StringBuilder fingerprint = new StringBuilder()
+            .append(header.getId()).append('|').append(header.getName()).append('|').append(header.getEnabled());
+        for (TournamentPlayerRepository.RankingRow r : rows) {
+            fingerprint.append('|').append(r.getTournamentPlayerId())
+                .append(':').append(r.getFirstName()).append(':').append(r.getLastName())
+                .append(':').append(r.getStatus()).append(':').append(r.getRank())
+                .append(':').append(r.getRankScore());
+        }
+        String etag = "\"" + DigestUtils.md5DigestAsHex(fingerprint.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+
+        return Optional.of(new RankingsSnapshot(
+            new TournamentResponse(true, "Rankings retrieved successfully", dto), etag));
+    }
+}
@@ -0,0 +1,7 @@
+package nl.amila.badminton.manager.service;
+
+/**
+ * Published whenever a tournament's player scores, statuses or roster change.
+ * Listeners that cache ranking data react after the publishing transaction commits.
+ */
+public record RankingsChangedEvent(Long tournamentId) {}
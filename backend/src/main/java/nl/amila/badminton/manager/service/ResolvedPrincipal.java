@@ -0,0 +1,39 @@
+package nl.amila.badminton.manager.service;
+
+import nl.amila.badminton.manager.entity.PlayerStatus;
+import nl.amila.badminton.manager.entity.Role;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * The authenticated user with everything authorization checks need, so they are in-memory lookups:
+ * the tournaments a TOURNY_ADMIN administers and, for a PLAYER, the tournament memberships.
+ * Built by {@link PrincipalResolver}.
+ */
+public record ResolvedPrincipal(Long userId, String username, String role,
+                                Set<Long> administeredTournamentIds,
+                                Map<Long, Membership> memberships) {
+
+    /**
+     * The caller's registration in one tournament.
+     */
+    public record Membership(Long tournamentPlayerId, PlayerStatus status) {}
+
+    public boolean hasRole(Role expected) {
+        return expected.name().equals(role);
+    }
+
+    /**
+     * True for an ADMIN, or a TOURNY_ADMIN who is an admin of the tournament.
+     */
+    public boolean canAdminister(Long tournamentId) {
+        return hasRole(Role.ADMIN)
+            || (hasRole(Role.TOURNY_ADMIN) && administeredTournamentIds.contains(tournamentId));
+    }
+
+    public Optional<Membership> membership(Long tournamentId) {
+        return Optional.ofNullable(memberships.get(tournamentId));
+    }
+}
@@ -0,0 +1,25 @@
+package nl.amila.badminton.manager.service;
+
+import java.util.Locale;
+
+/**
+ * What a single score submission returns. {@link #DAY} rebuilds the whole game day; the others
+ * return only the scored match and its new version, so a submit costs one small read and one update.
+ */
+public enum ScoreResponseView {
+    /** The full game day DTO. */
+    DAY,
+    /** Only the scored match. */
+    MATCH,
+    /** The scored match plus how many of its group's matches have a score. */
+    GROUP;
+
+    /**
+     * Parse the {@code view} request parameter, ignoring case.
+     *
+     * @throws IllegalArgumentException for an unknown view
+     */
+    public static ScoreResponseView fromParam(String view) {
+        return valueOf(view.trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,183 @@
+package nl.amila.badminton.manager.service;
+
+import nl.amila.badminton.manager.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Issues and verifies stateless, HMAC-SHA256 signed access tokens and stream tickets, and generates
+ * opaque refresh tokens.
+ *
+ * Access token format: {@code base64url(userId|role|expiresAt|username) + "." + base64url(signature)}.
+ * Verification is a single HMAC over the payload — no database access.
+ *
+ * A stream ticket has the same format but lives for {@link #STREAM_TICKET_TTL_MILLIS} and is signed
+ * under its own context, so neither verifies as the other. Tickets are the only credential accepted
+ * in a URL, where they end up in access logs.
+ */
+@Service
+public class TokenService {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder B64_ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder B64_DECODER = Base64.getUrlDecoder();
+    /** Long enough to open the stream right after requesting the ticket. */
+    static final long STREAM_TICKET_TTL_MILLIS = 30_000L;
+    private static final byte[] ACCESS_TOKEN_CONTEXT = new byte[0];
+    private static final byte[] STREAM_TICKET_CONTEXT = "stream-ticket|".getBytes(StandardCharsets.UTF_8);
+
+    private final SecretKeySpec signingKey;
+    private final long accessTokenTtlMillis;
+    private final long refreshTokenTtlMillis;
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final ThreadLocal<Mac> macs;
+
+    public TokenService(
+            @Value("${app.auth.token-secret:}") String tokenSecret,
+            @Value("${app.auth.access-token-ttl-seconds:900}") long accessTokenTtlSeconds,
+            @Value("${app.auth.refresh-token-ttl-seconds:1209600}") long refreshTokenTtlSeconds) {
+        byte[] keyBytes;
+        if (tokenSecret == null || tokenSecret.isBlank()) {
+            // No configured secret: tokens are only valid for the lifetime of this process
+            keyBytes = new byte[32];
+            secureRandom.nextBytes(keyBytes);
+        } else {
+            keyBytes = tokenSecret.getBytes(StandardCharsets.UTF_8);
+        }
+        this.signingKey = new SecretKeySpec(keyBytes, HMAC_ALGORITHM);
+        this.accessTokenTtlMillis = accessTokenTtlSeconds * 1000L;
+        this.refreshTokenTtlMillis = refreshTokenTtlSeconds * 1000L;
+        this.macs = ThreadLocal.withInitial(this::newMac);
+    }
+
+    /**
+     * Verified contents of an access token.
+     */
+    public record TokenClaims(Long userId, String username, String role, long expiresAt) {}
+
+    /**
+     * Issue a signed access token for the given user.
+     */
+    public String issueAccessToken(User user) {
+        return issue(user, accessTokenTtlMillis, ACCESS_TOKEN_CONTEXT);
+    }
+
+    /**
+     * Verify an access token's signature and expiry.
+     * Returns empty for malformed, tampered or expired tokens.
+     */
+    public Optional<TokenClaims> verifyAccessToken(String token) {
+        return verify(token, ACCESS_TOKEN_CONTEXT);
+    }
+
+    /**
+     * Issue a short-lived ticket that only opens SSE streams, for clients that cannot send headers.
+     */
+    public String issueStreamTicket(User user) {
+        return issue(user, STREAM_TICKET_TTL_MILLIS, STREAM_TICKET_CONTEXT);
+    }
+
+    /**
+     * Verify a stream ticket's signature and expiry. Access tokens are rejected.
+     */
+    public Optional<TokenClaims> verifyStreamTicket(String ticket) {
+        return verify(ticket, STREAM_TICKET_CONTEXT);
+    }
+
+    public long getStreamTicketTtlSeconds() {
+        return STREAM_TICKET_TTL_MILLIS / 1000L;
+    }
+
+    private String issue(User user, long ttlMillis, byte[] context) {
+        long expiresAt = System.currentTimeMillis() + ttlMillis;
+        String payload = user.getId() + "|" + user.getRole() + "|" + expiresAt + "|" + user.getUsername();
+        byte[] payloadBytes = payload.getBytes(StandardCharsets.UTF_8);
+        return B64_ENCODER.encodeToString(payloadBytes) + "." + B64_ENCODER.encodeToString(sign(context, payloadBytes));
+    }
+
+    private Optional<TokenClaims> verify(String token, byte[] context) {
+        if (token == null) {
+            return Optional.empty();
+        }
+        int dot = token.indexOf('.');
+        if (dot <= 0 || dot != token.lastIndexOf('.')) {
+            return Optional.empty();
+        }
+        try {
+            byte[] payloadBytes = B64_DECODER.decode(token.substring(0, dot));
+            byte[] signature = B64_DECODER.decode(token.substring(dot + 1));
+            if (!MessageDigest.isEqual(sign(context, payloadBytes), signature)) {
+                return Optional.empty();
+            }
+
+            String[] parts = new String(payloadBytes, StandardCharsets.UTF_8).split("\\|", 4);
+            if (parts.length != 4) {
+                return Optional.empty();
+            }
+            long expiresAt = Long.parseLong(parts[2]);
+            if (expiresAt <= System.currentTimeMillis()) {
+                return Optional.empty();
+            }
+            return Optional.of(new TokenClaims(Long.parseLong(parts[0]), parts[3], parts[1], expiresAt));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Generate a new opaque refresh token value. Only its hash is persisted.
+     */
+    public String newRefreshToken() {
+        byte[] bytes = new byte[32];
+        secureRandom.nextBytes(bytes);
+        return B64_ENCODER.encodeToString(bytes);
+    }
+
+    /**
+     * SHA-256 hex digest of a refresh token, used as its lookup key.
+     */
+    public String hashRefreshToken(String refreshToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(refreshToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public long getAccessTokenTtlSeconds() {
+        return accessTokenTtlMillis / 1000L;
+    }
+
+    public long getRefreshTokenTtlMillis() {
+        return refreshTokenTtlMillis;
+    }
+
+    private byte[] sign(byte[] context, byte[] payload) {
+        Mac mac = macs.get();
+        mac.reset();
+        mac.update(context);
+        return mac.doFinal(payload);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(signingKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to initialise " + HMAC_ALGORITHM, e);
+        }
+    }
+}
@@ -6,9 +6,13 @@ import nl.amila.badminton.manager.dto.league.LeagueSettingsRequest;
 import nl.amila.badminton.manager.dto.oneoff.OneOffSettingsRequest;
 import nl.amila.badminton.manager.entity.apl.AplTournamentSettings;
 import nl.amila.badminton.manager.entity.league.LeagueTournamentSettings;
+import nl.amila.badminton.manager.entity.Glicko2Config;
 import nl.amila.badminton.manager.entity.ModifiedEloConfig;
+import nl.amila.badminton.manager.entity.oneoff.OneOffFormat;
 import nl.amila.badminton.manager.entity.oneoff.OneOffTournamentSettings;
 import nl.amila.badminton.manager.entity.PlayerStatus;
+import nl.amila.badminton.manager.entity.RankingConfig;
+import nl.amila.badminton.manager.entity.RankingLogic;
 import nl.amila.badminton.manager.entity.Role;
 import nl.amila.badminton.manager.entity.Tournament;
 import nl.amila.badminton.manager.entity.TournamentAdmin;
@@ -19,10 +23,12 @@ import nl.amila.badminton.manager.repository.apl.AplGameDayRepository;
 import nl.amila.badminton.manager.repository.apl.AplTournamentSettingsRepository;
 import nl.amila.badminton.manager.repository.league.LeagueGameDayRepository;
 import nl.amila.badminton.manager.repository.league.LeagueTournamentSettingsRepository;
+import nl.amila.badminton.manager.repository.oneoff.OneOffRoundRepository;
 import nl.amila.badminton.manager.repository.oneoff.OneOffTournamentSettingsRepository;
 import nl.amila.badminton.manager.repository.TournamentPlayerRepository;
 import nl.amila.badminton.manager.repository.TournamentRepository;
 import nl.amila.badminton.manager.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,37 +37,52 @@ import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 public class TournamentService {
+    /** Glicko-2 tau used when none is given. */
+    private static final double DEFAULT_GLICKO2_TAU = 0.5;
+    private static final String ROUND_ROBIN_UNDERWAY =
+        "Players cannot change once a round-robin tournament has drawn its first round";
+
     private final TournamentRepository tournamentRepository;
     private final UserRepository userRepository;
     private final TournamentPlayerRepository tournamentPlayerRepository;
     private final LeagueTournamentSettingsRepository leagueSettingsRepository;
     private final OneOffTournamentSettingsRepository oneOffSettingsRepository;
+    private final OneOffRoundRepository oneOffRoundRepository;
     private final AplTournamentSettingsRepository aplSettingsRepository;
     private final LeagueGameDayRepository leagueGameDayRepository;
     private final AplGameDayRepository aplGameDayRepository;
+    private final PrincipalResolver principalResolver;
+    private final ApplicationEventPublisher eventPublisher;
 
     public TournamentService(TournamentRepository tournamentRepository,
                              UserRepository userRepository,
                              TournamentPlayerRepository tournamentPlayerRepository,
                              LeagueTournamentSettingsRepository leagueSettingsRepository,
                              OneOffTournamentSettingsRepository oneOffSettingsRepository,
+                             OneOffRoundRepository oneOffRoundRepository,
                              AplTournamentSettingsRepository aplSettingsRepository,
                              LeagueGameDayRepository leagueGameDayRepository,
-                             AplGameDayRepository aplGameDayRepository) {
+                             AplGameDayRepository aplGameDayRepository,
+                             PrincipalResolver principalResolver,
+                             ApplicationEventPublisher eventPublisher) {
         this.tournamentRepository = tournamentRepository;
         this.userRepository = userRepository;
         this.tournamentPlayerRepository = tournamentPlayerRepository;
         this.leagueSettingsRepository = leagueSettingsRepository;
         this.oneOffSettingsRepository = oneOffSettingsRepository;
+        this.oneOffRoundRepository = oneOffRoundRepository;
         this.aplSettingsRepository = aplSettingsRepository;
         this.leagueGameDayRepository = leagueGameDayRepository;
         this.aplGameDayRepository = aplGameDayRepository;
+        this.principalResolver = principalResolver;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -106,8 +127,9 @@ public class TournamentService {
             if (ls.getRankingLogic() == null) {
                 return new TournamentResponse(false, "Ranking logic is required");
             }
-            if (ls.getK() == null || ls.getK() <= 0) {
-                return new TournamentResponse(false, "k must be a positive integer");
+            String rankingError = validateRankingParams(ls.getRankingLogic(), ls.getK(), ls.getTau());
+            if (rankingError != null) {
+                return new TournamentResponse(false, rankingError);
             }
         } else if (type == TournamentType.ONE_OFF) {
             OneOffSettingsRequest os = request.getOneOffSettings();
@@ -128,8 +150,9 @@ public class TournamentService {
             if (as.getRankingLogic() == null) {
                 return new TournamentResponse(false, "Ranking logic is required");
             }
-            if (as.getK() == null || as.getK() <= 0) {
-                return new TournamentResponse(false, "k must be a positive integer");
+            String rankingError = validateRankingParams(as.getRankingLogic(), as.getK(), as.getTau());
+            if (rankingError != null) {
+                return new TournamentResponse(false, rankingError);
             }
             if (as.getDeactivationCount() != null && (as.getDeactivationCount() < 1 || as.getDeactivationCount() > 20)) {
                 return new TournamentResponse(false, "Deactivation count must be between 1 and 20");
@@ -148,18 +171,21 @@ public class TournamentService {
         tournament.getAdmins().add(new TournamentAdmin(tournament, owner));
 
         Tournament savedTournament = tournamentRepository.save(tournament);
+        // The owner's cached principal does not know the new tournament yet
+        eventPublisher.publishEvent(new PrincipalChangedEvent(owner.getId()));
 
         // Persist type-specific settings
         if (type == TournamentType.LEAGUE) {
             LeagueSettingsRequest ls = request.getLeagueSettings();
-            ModifiedEloConfig config = new ModifiedEloConfig(ls.getK());
+            RankingConfig config = toRankingConfig(ls.getRankingLogic(), ls.getK(), ls.getTau());
             leagueSettingsRepository.save(new LeagueTournamentSettings(savedTournament, ls.getRankingLogic(), config));
         } else if (type == TournamentType.ONE_OFF) {
             OneOffSettingsRequest os = request.getOneOffSettings();
-            oneOffSettingsRepository.save(new OneOffTournamentSettings(savedTournament, os.getNumberOfRounds(), os.getMaxPoints()));
+            OneOffFormat format = os.getFormat() != null ? os.getFormat() : OneOffFormat.SWISS;
+            oneOffSettingsRepository.save(new OneOffTournamentSettings(savedTournament, os.getNumberOfRounds(), os.getMaxPoints(), format));
         } else if (type == TournamentType.APL) {
             AplSettingsRequest as = request.getAplSettings();
-            ModifiedEloConfig config = new ModifiedEloConfig(as.getK());
+            RankingConfig config = toRankingConfig(as.getRankingLogic(), as.getK(), as.getTau());
             aplSettingsRepository.save(new AplTournamentSettings(savedTournament, as.getRankingLogic(), config,
                 as.getAbsenteeDemeritPoints(), as.getDeactivationCount()));
         }
@@ -188,28 +214,19 @@ public class TournamentService {
         }
 
         Tournament tournament = tournamentOpt.get();
-
-        User caller = userRepository.findByUsername(callerUsername)
-            .orElseThrow(() -> new RuntimeException("Authenticated user not found"));
-
-        if (Role.TOURNY_ADMIN.name().equals(caller.getRole())) {
-            boolean isAdmin = tournament.getAdmins().stream()
-                .anyMatch(a -> a.getUser().getId().equals(caller.getId()));
-            if (!isAdmin) {
-                throw new AccessDeniedException("You do not have access to this tournament");
-            }
-        }
+        checkAdminAccess(tournamentId, callerUsername);
 
         if (tournament.getType() == TournamentType.LEAGUE) {
             Optional<LeagueTournamentSettings> settingsOpt = leagueSettingsRepository.findByTournamentId(tournamentId);
             if (settingsOpt.isEmpty()) {
                 return new TournamentResponse(false, "League settings not found for this tournament");
             }
-            if (request.getK() == null || request.getK() <= 0) {
-                return new TournamentResponse(false, "k must be a positive integer");
-            }
             LeagueTournamentSettings settings = settingsOpt.get();
-            settings.setRankingConfig(new ModifiedEloConfig(request.getK()));
+            String rankingError = validateRankingParams(settings.getRankingLogic(), request.getK(), request.getTau());
+            if (rankingError != null) {
+                return new TournamentResponse(false, rankingError);
+            }
+            settings.setRankingConfig(toRankingConfig(settings.getRankingLogic(), request.getK(), request.getTau()));
             leagueSettingsRepository.save(settings);
         } else if (tournament.getType() == TournamentType.ONE_OFF) {
             Optional<OneOffTournamentSettings> settingsOpt = oneOffSettingsRepository.findByTournamentId(tournamentId);
@@ -231,14 +248,15 @@ public class TournamentService {
             if (settingsOpt.isEmpty()) {
                 return new TournamentResponse(false, "APL settings not found for this tournament");
             }
-            if (request.getK() == null || request.getK() <= 0) {
-                return new TournamentResponse(false, "k must be a positive integer");
+            AplTournamentSettings settings = settingsOpt.get();
+            String rankingError = validateRankingParams(settings.getRankingLogic(), request.getK(), request.getTau());
+            if (rankingError != null) {
+                return new TournamentResponse(false, rankingError);
             }
             if (request.getDeactivationCount() != null && (request.getDeactivationCount() < 1 || request.getDeactivationCount() > 20)) {
                 return new TournamentResponse(false, "Deactivation count must be between 1 and 20");
             }
-            AplTournamentSettings settings = settingsOpt.get();
-            settings.setRankingConfig(new ModifiedEloConfig(request.getK()));
+            settings.setRankingConfig(toRankingConfig(settings.getRankingLogic(), request.getK(), request.getTau()));
             settings.setAbsenteeDemeritPoints(request.getAbsenteeDemeritPoints());
             settings.setDeactivationCount(request.getDeactivationCount());
             aplSettingsRepository.save(settings);
@@ -284,6 +302,7 @@ public class TournamentService {
         // Add admin to tournament's admins list
         tournamentOpt.get().getAdmins().add(new TournamentAdmin(tournamentOpt.get(), userOpt.get()));
         tournamentRepository.save(tournamentOpt.get());
+        eventPublisher.publishEvent(new PrincipalChangedEvent(user.getId()));
 
         return new TournamentResponse(true, "Tournament admin added successfully");
     }
@@ -317,11 +336,16 @@ public class TournamentService {
         if (alreadyPlayer) {
             return new TournamentResponse(false, "User is already a tournament player");
         }
+        if (isRoundRobinUnderway(tournamentOpt.get())) {
+            return new TournamentResponse(false, ROUND_ROBIN_UNDERWAY);
+        }
 
         // Add player to tournament's players list
         BigDecimal rankScore = request.getRankScore() != null ? request.getRankScore() : BigDecimal.ZERO;
         tournamentOpt.get().getPlayers().add(new TournamentPlayer(tournamentOpt.get(), userOpt.get(), rankScore));
         tournamentRepository.save(tournamentOpt.get());
+        eventPublisher.publishEvent(new RankingsChangedEvent(tournamentId));
+        eventPublisher.publishEvent(new PrincipalChangedEvent(user.getId()));
 
         return new TournamentResponse(true, "Tournament player added successfully");
     }
@@ -345,6 +369,7 @@ public class TournamentService {
         }
 
         tournamentRepository.save(tournamentOpt.get());
+        eventPublisher.publishEvent(new PrincipalChangedEvent(userId));
 
         return new TournamentResponse(true, "Tournament admin removed successfully");
     }
@@ -398,9 +423,14 @@ public class TournamentService {
         if (player.getStatus() != PlayerStatus.DISABLED) {
             return new TournamentResponse(false, "Player can only be enabled when currently DISABLED");
         }
+        if (isRoundRobinUnderway(player.getTournament())) {
+            return new TournamentResponse(false, ROUND_ROBIN_UNDERWAY);
+        }
 
         player.setStatus(PlayerStatus.ENABLED);
         tournamentPlayerRepository.save(player);
+        eventPublisher.publishEvent(new RankingsChangedEvent(tournamentId));
+        eventPublisher.publishEvent(new PrincipalChangedEvent(userId));
 
         return new TournamentResponse(true, "Player enabled successfully");
     }
@@ -419,38 +449,38 @@ public class TournamentService {
         if (player.getStatus() == PlayerStatus.DISABLED) {
             return new TournamentResponse(false, "Player is already DISABLED");
         }
+        if (isRoundRobinUnderway(player.getTournament())) {
+            return new TournamentResponse(false, ROUND_ROBIN_UNDERWAY);
+        }
 
         player.setStatus(PlayerStatus.DISABLED);
         tournamentPlayerRepository.save(player);
+        eventPublisher.publishEvent(new RankingsChangedEvent(tournamentId));
+        eventPublisher.publishEvent(new PrincipalChangedEvent(userId));
 
         return new TournamentResponse(true, "Player disabled successfully");
     }
 
     /**
-     * Get public rankings for a tournament (no authentication required).
-     * Returns tournament name and players sorted by rank score descending.
+     * A round-robin draw rotates fixed positions over the players enabled at round 1, so once a
+     * round exists the field may no longer change.
      */
-    @Transactional(readOnly = true)
-    public TournamentResponse getPublicRankings(Long tournamentId) {
-        Optional<Tournament> tournamentOpt = tournamentRepository.findById(tournamentId);
-        if (tournamentOpt.isEmpty()) {
-            return new TournamentResponse(false, "Tournament not found");
-        }
-        Tournament tournament = tournamentOpt.get();
-        TournamentResponse.TournamentDto dto = toDto(tournament);
-        return new TournamentResponse(true, "Rankings retrieved successfully", dto);
+    private boolean isRoundRobinUnderway(Tournament tournament) {
+        return tournament.getType() == TournamentType.ONE_OFF
+            && oneOffSettingsRepository.findByTournamentId(tournament.getId())
+                .map(s -> s.getFormat() == OneOffFormat.ROUND_ROBIN).orElse(false)
+            && oneOffRoundRepository.existsByTournamentId(tournament.getId());
     }
 
     /**
      * Get tournaments - ADMIN sees all, TOURNY_ADMIN sees only tournaments they are an admin of
      */
     public TournamentResponse getTournaments(String username) {
-        User caller = userRepository.findByUsername(username)
-            .orElseThrow(() -> new RuntimeException("Authenticated user not found"));
+        ResolvedPrincipal caller = principalResolver.resolve(username);
 
         List<Tournament> tournaments;
-        if (Role.TOURNY_ADMIN.name().equals(caller.getRole())) {
-            tournaments = tournamentRepository.findByAdminsUserId(caller.getId());
+        if (caller.hasRole(Role.TOURNY_ADMIN)) {
+            tournaments = tournamentRepository.findAllById(caller.administeredTournamentIds());
         } else {
             tournaments = new ArrayList<>();
             tournamentRepository.findAll().forEach(tournaments::add);
@@ -472,18 +502,8 @@ public class TournamentService {
             return new TournamentResponse(false, "Tournament not found");
         }
 
-        User caller = userRepository.findByUsername(username)
-            .orElseThrow(() -> new RuntimeException("Authenticated user not found"));
-
         Tournament tournament = tournamentOpt.get();
-
-        if (Role.TOURNY_ADMIN.name().equals(caller.getRole())) {
-            boolean isAdmin = tournament.getAdmins().stream()
-                .anyMatch(a -> a.getUser().getId().equals(caller.getId()));
-            if (!isAdmin) {
-                throw new AccessDeniedException("You do not have access to this tournament");
-            }
-        }
+        checkAdminAccess(id, username);
 
         TournamentResponse.TournamentDto dto = toDto(tournament);
         dto.setSettings(toSettingsDto(tournament));
@@ -503,6 +523,7 @@ public class TournamentService {
         Tournament tournament = tournamentOpt.get();
         tournament.setEnabled(!tournament.isEnabled());
         tournamentRepository.save(tournament);
+        eventPublisher.publishEvent(new RankingsChangedEvent(id));
 
         String statusMsg = tournament.isEnabled() ? "enabled" : "disabled";
         return new TournamentResponse(true, "Tournament " + statusMsg + " successfully", toDto(tournament));
@@ -579,9 +600,7 @@ public class TournamentService {
                 LeagueTournamentSettings ls = t.getLeagueSettings();
                 if (ls != null) {
                     dto.setRankingLogic(ls.getRankingLogic());
-                    if (ls.getRankingConfig() instanceof ModifiedEloConfig elo) {
-                        dto.setK(elo.k());
-                    }
+                    applyRankingConfig(dto, ls.getRankingConfig());
                 }
             }
             case ONE_OFF -> {
@@ -589,15 +608,14 @@ public class TournamentService {
                 if (os != null) {
                     dto.setNumberOfRounds(os.getNumberOfRounds());
                     dto.setMaxPoints(os.getMaxPoints());
+                    dto.setFormat(os.getFormat());
                 }
             }
             case APL -> {
                 AplTournamentSettings as = t.getAplSettings();
                 if (as != null) {
                     dto.setRankingLogic(as.getRankingLogic());
-                    if (as.getRankingConfig() instanceof ModifiedEloConfig elo) {
-                        dto.setK(elo.k());
-                    }
+                    applyRankingConfig(dto, as.getRankingConfig());
                     dto.setAbsenteeDemeritPoints(as.getAbsenteeDemeritPoints());
                     dto.setDeactivationCount(as.getDeactivationCount());
                 }
@@ -606,15 +624,56 @@ public class TournamentService {
         return dto;
     }
 
+    private static void applyRankingConfig(TournamentResponse.TournamentSettingsDto dto, RankingConfig config) {
+        if (config instanceof ModifiedEloConfig elo) {
+            dto.setK(elo.k());
+        } else if (config instanceof Glicko2Config glicko) {
+            dto.setTau(glicko.tau());
+        }
+    }
+
+    /**
+     * Validate the parameters required by the given ranking logic.
+     * Returns an error message, or null when they are valid.
+     */
+    private static String validateRankingParams(RankingLogic logic, Integer k, Double tau) {
+        if (logic == RankingLogic.GLICKO2) {
+            if (tau != null && (tau < 0.2 || tau > 1.2)) {
+                return "tau must be between 0.2 and 1.2";
+            }
+            return null;
+        }
+        if (k == null || k <= 0) {
+            return "k must be a positive integer";
+        }
+        return null;
+    }
+
+    private static RankingConfig toRankingConfig(RankingLogic logic, Integer k, Double tau) {
+        return switch (logic) {
+            case MODIFIED_ELO -> new ModifiedEloConfig(k);
+            case GLICKO2 -> new Glicko2Config(tau != null ? tau : DEFAULT_GLICKO2_TAU);
+        };
+    }
+
+    /**
+     * A TOURNY_ADMIN must be an admin of the tournament; ADMINs may access any.
+     */
+    private void checkAdminAccess(Long tournamentId, String callerUsername) {
+        ResolvedPrincipal caller = principalResolver.resolve(callerUsername);
+        if (caller.hasRole(Role.TOURNY_ADMIN) && !caller.canAdminister(tournamentId)) {
+            throw new AccessDeniedException("You do not have access to this tournament");
+        }
+    }
+
     // ── Player-scoped tournament methods ──────────────────────────────────────
 
     /**
      * Resolve the calling user and verify they are a PLAYER role.
      */
-    private User resolvePlayerCaller(String callerUsername) {
-        User caller = userRepository.findByUsername(callerUsername)
-            .orElseThrow(() -> new RuntimeException("Authenticated user not found"));
-        if (!Role.PLAYER.name().equals(caller.getRole())) {
+    private ResolvedPrincipal resolvePlayerCaller(String callerUsername) {
+        ResolvedPrincipal caller = principalResolver.resolve(callerUsername);
+        if (!caller.hasRole(Role.PLAYER)) {
             throw new AccessDeniedException("Only players can access this resource");
         }
         return caller;
@@ -626,12 +685,14 @@ public class TournamentService {
      */
     @Transactional(readOnly = true)
     public PlayerTournamentResponse getTournamentsForPlayer(String callerUsername) {
-        User caller = resolvePlayerCaller(callerUsername);
-        List<PlayerTournamentResponse.TournamentDto> dtos = tournamentPlayerRepository
-            .findByUserId(caller.getId())
+        ResolvedPrincipal caller = resolvePlayerCaller(callerUsername);
+        List<Long> tournamentIds = caller.memberships().entrySet().stream()
+            .filter(e -> e.getValue().status() != PlayerStatus.DISABLED)
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toList());
+        List<PlayerTournamentResponse.TournamentDto> dtos = tournamentRepository.findAllById(tournamentIds)
             .stream()
-            .filter(tp -> tp.getStatus() != PlayerStatus.DISABLED)
-            .map(tp -> toPlayerTournamentDto(tp.getTournament()))
+            .map(this::toPlayerTournamentDto)
             .collect(Collectors.toList());
         return new PlayerTournamentResponse(true, "Tournaments retrieved successfully", dtos);
     }
@@ -642,20 +703,19 @@ public class TournamentService {
      */
     @Transactional(readOnly = true)
     public PlayerTournamentResponse getTournamentForPlayer(Long tournamentId, String callerUsername) {
-        User caller = resolvePlayerCaller(callerUsername);
+        ResolvedPrincipal caller = resolvePlayerCaller(callerUsername);
         Optional<Tournament> tournamentOpt = tournamentRepository.findById(tournamentId);
         if (tournamentOpt.isEmpty()) {
             return new PlayerTournamentResponse(false, "Tournament not found");
         }
         Tournament tournament = tournamentOpt.get();
-        Optional<TournamentPlayer> tpOpt = tournamentPlayerRepository
-            .findByTournamentIdAndUserId(tournamentId, caller.getId());
-        if (tpOpt.isEmpty() || tpOpt.get().getStatus() == PlayerStatus.DISABLED) {
+        Optional<ResolvedPrincipal.Membership> membership = caller.membership(tournamentId);
+        if (membership.isEmpty() || membership.get().status() == PlayerStatus.DISABLED) {
             return new PlayerTournamentResponse(false, "You are not registered in this tournament");
         }
 
         PlayerTournamentResponse.TournamentDto dto = toPlayerTournamentDto(tournament);
-        dto.setTournamentPlayerId(tpOpt.get().getId());
+        dto.setTournamentPlayerId(membership.get().tournamentPlayerId());
 
         // Attach game day summaries: ONGOING first, then remaining by date desc
         List<PlayerTournamentResponse.GameDaySummaryDto> summaries;
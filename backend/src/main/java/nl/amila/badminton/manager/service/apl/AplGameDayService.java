@@ -4,6 +4,7 @@ import nl.amila.badminton.manager.dto.apl.AplCreateGameDayRequest;
 import nl.amila.badminton.manager.dto.apl.AplGameDayResponse;
 import nl.amila.badminton.manager.dto.apl.AplPlayerHistoryResponse;
 import nl.amila.badminton.manager.dto.apl.AplSubmitMatchScoreRequest;
+import nl.amila.badminton.manager.dto.apl.AplSubmitMatchScoresRequest;
 import nl.amila.badminton.manager.entity.*;
 import nl.amila.badminton.manager.entity.apl.AplGameDay;
 import nl.amila.badminton.manager.entity.apl.AplGameDayGroup;
@@ -18,14 +19,30 @@ import nl.amila.badminton.manager.repository.apl.AplTournamentSettingsRepository
 import nl.amila.badminton.manager.repository.apl.AplRankScoreHistoryRepository;
 import nl.amila.badminton.manager.repository.TournamentPlayerRepository;
 import nl.amila.badminton.manager.repository.TournamentRepository;
-import nl.amila.badminton.manager.repository.UserRepository;
+import nl.amila.badminton.manager.service.GameDayCompletedEvent;
+import nl.amila.badminton.manager.service.GameDayMetrics;
+import nl.amila.badminton.manager.service.HistoryCursor;
+import nl.amila.badminton.manager.service.MatchScoreSubmittedEvent;
+import nl.amila.badminton.manager.service.PrincipalChangedEvent;
+import nl.amila.badminton.manager.service.PrincipalResolver;
+import nl.amila.badminton.manager.service.RankingsChangedEvent;
+import nl.amila.badminton.manager.service.ResolvedPrincipal;
+import nl.amila.badminton.manager.service.ScoreResponseView;
+import nl.amila.badminton.manager.service.ranking.MatchBatch;
+import nl.amila.badminton.manager.service.ranking.RankingEngine;
+import nl.amila.badminton.manager.service.ranking.RankingEngines;
+import nl.amila.badminton.manager.service.ranking.RankingResult;
+import nl.amila.badminton.manager.service.scheduling.CourtScheduler;
+import nl.amila.badminton.manager.service.scheduling.GroupAllocator;
+import nl.amila.badminton.manager.service.scheduling.PairingFrequencyIndex;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
 import java.util.*;
@@ -34,84 +51,86 @@ import java.util.stream.Collectors;
 @Service
 public class AplGameDayService {
 
-    /**
-     * Player counts that cannot be split into groups of 4 or 5 (up to MAX_PLAYERS).
-     * A count n is valid iff n = 4a + 5b (a,b >= 0). Invalid values up to 32: {1,2,3,6,7,11}.
-     */
-    private static final Set<Integer> INVALID_COUNTS = Set.of(1, 2, 3, 6, 7, 11);
-    private static final int MAX_PLAYERS = 32;
+    /** Player history entries per page when the client gives no limit, and the most it may ask for. */
+    static final int DEFAULT_HISTORY_PAGE_SIZE = 50;
+    static final int MAX_HISTORY_PAGE_SIZE = 200;
 
     private final TournamentRepository tournamentRepository;
     private final TournamentPlayerRepository tournamentPlayerRepository;
     private final AplGameDayRepository aplGameDayRepository;
     private final AplGameDayGroupMatchRepository matchRepository;
-    private final UserRepository userRepository;
+    private final PrincipalResolver principalResolver;
     private final AplTournamentSettingsRepository aplSettingsRepository;
     private final AplRankScoreHistoryRepository aplRankScoreHistoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RankingEngines rankingEngines;
+    private final PairingFrequencyIndex pairingFrequencyIndex;
+    private final GameDayMetrics gameDayMetrics;
 
     public AplGameDayService(TournamentRepository tournamentRepository,
                              TournamentPlayerRepository tournamentPlayerRepository,
                              AplGameDayRepository aplGameDayRepository,
                              AplGameDayGroupMatchRepository matchRepository,
-                             UserRepository userRepository,
+                             PrincipalResolver principalResolver,
                              AplTournamentSettingsRepository aplSettingsRepository,
-                             AplRankScoreHistoryRepository aplRankScoreHistoryRepository) {
+                             AplRankScoreHistoryRepository aplRankScoreHistoryRepository,
+                             ApplicationEventPublisher eventPublisher,
+                             RankingEngines rankingEngines,
+                             PairingFrequencyIndex pairingFrequencyIndex,
+                             GameDayMetrics gameDayMetrics) {
         this.tournamentRepository = tournamentRepository;
         this.tournamentPlayerRepository = tournamentPlayerRepository;
         this.aplGameDayRepository = aplGameDayRepository;
         this.matchRepository = matchRepository;
-        this.userRepository = userRepository;
+        this.principalResolver = principalResolver;
         this.aplSettingsRepository = aplSettingsRepository;
         this.aplRankScoreHistoryRepository = aplRankScoreHistoryRepository;
+        this.eventPublisher = eventPublisher;
+        this.rankingEngines = rankingEngines;
+        this.pairingFrequencyIndex = pairingFrequencyIndex;
+        this.gameDayMetrics = gameDayMetrics;
     }
 
     /**
-     * Compute a randomly-ordered list of group sizes (each 4 or 5) for n players.
-     * Minimises total group count.
-     *   n % 4 == 0  → all groups of 4
-     *   n % 4 == 2  → two groups of 5, rest groups of 4
-     *   n % 4 == 3  → one group of 5, rest groups of 4
-     *   n % 4 == 1  → only valid for n=5 (one group of 5); larger cases caught by INVALID_COUNTS
-     * The list is shuffled so the spread of 4s and 5s is randomised.
+     * Announce a submitted score to live game day subscribers (delivered after commit).
      */
-    static List<Integer> computeGroupSizes(int n) {
-        int fives;
-        switch (n % 4) {
-            case 0: fives = 0; break;
-            case 2: fives = 2; break;
-            case 3: fives = 1; break;
-            default: fives = 1; break; // n==5 (n%4==1, only valid case)
-        }
-        int fours = (n - 5 * fives) / 4;
-
-        List<Integer> sizes = new ArrayList<>();
-        for (int i = 0; i < fours; i++) sizes.add(4);
-        for (int i = 0; i < fives; i++) sizes.add(5);
-        Collections.shuffle(sizes);
-        return sizes;
+    private void publishScore(AplGameDay day, AplGameDayGroupMatch match) {
+        eventPublisher.publishEvent(new MatchScoreSubmittedEvent(
+            TournamentType.APL, day.getId(), match.getGroup().getId(), match.getId(),
+            match.getTeam1Score(), match.getTeam2Score()));
     }
 
     /**
-     * Validate that a player count is groupable.
+     * Match or group view of a score submit: the scored match with its new version, plus the
+     * group's scoring progress for the group view. Flushes so the version is the incremented one.
      */
-    static boolean isValidPlayerCount(int n) {
-        return n >= 4 && n <= MAX_PLAYERS && !INVALID_COUNTS.contains(n);
+    private AplGameDayResponse scoredMatchResponse(AplGameDayGroupMatch match, ScoreResponseView view) {
+        matchRepository.flush();
+        AplGameDayResponse.MatchScoreDto dto = new AplGameDayResponse.MatchScoreDto();
+        dto.setId(match.getId());
+        dto.setGroupId(match.getGroup().getId());
+        dto.setTeam1Score(match.getTeam1Score());
+        dto.setTeam2Score(match.getTeam2Score());
+        dto.setVersion(match.getVersion());
+        AplGameDayResponse response = new AplGameDayResponse(true, "Score submitted successfully");
+        response.setMatch(dto);
+        if (view == ScoreResponseView.GROUP) {
+            AplGameDayGroupMatchRepository.GroupScoreCount counts =
+                matchRepository.countScoresByGroup(dto.getGroupId());
+            AplGameDayResponse.GroupSummaryDto summary = new AplGameDayResponse.GroupSummaryDto();
+            summary.setGroupId(dto.getGroupId());
+            summary.setMatchCount(counts.getMatchCount());
+            summary.setScoredCount(counts.getScoredCount());
+            response.setGroupSummary(summary);
+        }
+        return response;
     }
 
     /**
      * Check that the caller is an ADMIN role, or a TOURNY_ADMIN who is an admin of this tournament.
      */
     private boolean isAuthorized(Tournament tournament, String callerUsername) {
-        User caller = userRepository.findByUsername(callerUsername)
-                .orElseThrow(() -> new RuntimeException("Authenticated user not found"));
-        if (Role.ADMIN.name().equals(caller.getRole())) {
-            return true;
-        }
-        if (Role.TOURNY_ADMIN.name().equals(caller.getRole())) {
-            return tournament.getAdmins().stream()
-                    .anyMatch(a -> a.getUser().getId().equals(caller.getId()));
-        }
-        return false;
+        return principalResolver.resolve(callerUsername).canAdminister(tournament.getId());
     }
 
     /**
@@ -155,20 +174,29 @@ public class AplGameDayService {
             return new AplGameDayResponse(false, "Player list is required");
         }
         int n = playerIds.size();
-        if (!isValidPlayerCount(n)) {
-            if (n < 4) return new AplGameDayResponse(false, "Cannot create a game day with fewer than 4 players");
-            if (n > MAX_PLAYERS) return new AplGameDayResponse(false, "Cannot create a game day with more than " + MAX_PLAYERS + " players");
-            return new AplGameDayResponse(false, "Player count of " + n + " cannot be split into groups of 4 or 5. Invalid counts: 6, 7, 11");
+        if (!GroupAllocator.isValidPlayerCount(n)) {
+            if (n < GroupAllocator.MIN_PLAYERS) return new AplGameDayResponse(false, "Cannot create a game day with fewer than " + GroupAllocator.MIN_PLAYERS + " players");
+            return new AplGameDayResponse(false, "Cannot create a game day with more than " + GroupAllocator.MAX_PLAYERS + " players");
+        }
+        if (new HashSet<>(playerIds).size() != n) {
+            return new AplGameDayResponse(false, "Player list contains duplicates");
+        }
+        Integer courtCount = request.getCourtCount();
+        if (courtCount != null && courtCount < 1) {
+            return new AplGameDayResponse(false, "Court count must be at least 1");
         }
 
-        // Resolve TournamentPlayer records, validate they belong to this tournament and are ENABLED/ACTIVE
-        List<TournamentPlayer> selectedPlayers = new ArrayList<>();
+        // Resolve TournamentPlayer records in one query, validate they belong to this tournament and are ENABLED/ACTIVE
+        Map<Long, TournamentPlayer> playersById = new HashMap<>();
+        for (TournamentPlayer tp : tournamentPlayerRepository.findAllById(playerIds)) {
+            playersById.put(tp.getId(), tp);
+        }
+        List<TournamentPlayer> selectedPlayers = new ArrayList<>(n);
         for (Long tpId : playerIds) {
-            Optional<TournamentPlayer> tpOpt = tournamentPlayerRepository.findById(tpId);
-            if (tpOpt.isEmpty()) {
+            TournamentPlayer tp = playersById.get(tpId);
+            if (tp == null) {
                 return new AplGameDayResponse(false, "Tournament player not found: " + tpId);
             }
-            TournamentPlayer tp = tpOpt.get();
             if (!tp.getTournament().getId().equals(tournamentId)) {
                 return new AplGameDayResponse(false, "Player " + tpId + " does not belong to this tournament");
             }
@@ -184,7 +212,7 @@ public class AplGameDayService {
                 .thenComparing(tp -> tp.getUser().getId()));
 
         // Compute randomised group sizes
-        List<Integer> groupSizes = computeGroupSizes(n);
+        List<Integer> groupSizes = GroupAllocator.groupSizes(n, courtCount);
 
         // Pre-check for duplicate date to avoid a constraint violation inside the transaction
         if (aplGameDayRepository.existsByTournamentIdAndGameDate(tournamentId, gameDate)) {
@@ -207,9 +235,11 @@ public class AplGameDayService {
         AplGameDay saved = aplGameDayRepository.save(gameDay);
 
         // Second pass: generate match combinations now that group players have ids
+        PairingFrequencyIndex.Pairings pairings = pairingFrequencyIndex.forTournament(TournamentType.APL, tournamentId);
         for (AplGameDayGroup group : saved.getGroups()) {
-            generateMatches(group);
+            generateMatches(group, pairings);
         }
+        scheduleCourts(saved.getGroups(), courtCount);
         // Save again to persist the matches (cascade ALL on matches covers this)
         saved = aplGameDayRepository.save(saved);
 
@@ -221,7 +251,7 @@ public class AplGameDayService {
      */
     @Transactional(readOnly = true)
     public AplGameDayResponse getGameDay(Long tournamentId, Long dayId, String callerUsername) {
-        Optional<AplGameDay> dayOpt = aplGameDayRepository.findByIdWithAll(dayId);
+        Optional<AplGameDay> dayOpt = aplGameDayRepository.findById(dayId);
         if (dayOpt.isEmpty() || !dayOpt.get().getTournament().getId().equals(tournamentId)) {
             return new AplGameDayResponse(false, "Game day not found");
         }
@@ -229,7 +259,7 @@ public class AplGameDayService {
         if (!isAuthorized(day.getTournament(), callerUsername)) {
             return new AplGameDayResponse(false, "Access denied");
         }
-        return new AplGameDayResponse(true, "Game day retrieved successfully", toDto(day));
+        return new AplGameDayResponse(true, "Game day retrieved successfully", loadDto(day));
     }
 
     /**
@@ -244,11 +274,8 @@ public class AplGameDayService {
         if (!isAuthorized(tournament, callerUsername)) {
             return new AplGameDayResponse(false, "Access denied");
         }
-        List<AplGameDayResponse.GameDayDto> dtos = aplGameDayRepository
-                .findByTournamentIdOrderByGameDateDesc(tournamentId)
-                .stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
+        List<AplGameDayResponse.GameDayDto> dtos = loadDtos(
+                aplGameDayRepository.findByTournamentIdOrderByGameDateDesc(tournamentId));
         return new AplGameDayResponse(true, "Game days retrieved successfully", dtos);
     }
 
@@ -257,7 +284,7 @@ public class AplGameDayService {
      */
     @Transactional
     public AplGameDayResponse startGameDay(Long tournamentId, Long dayId, String callerUsername) {
-        Optional<AplGameDay> dayOpt = aplGameDayRepository.findByIdWithAll(dayId);
+        Optional<AplGameDay> dayOpt = aplGameDayRepository.findById(dayId);
         if (dayOpt.isEmpty() || !dayOpt.get().getTournament().getId().equals(tournamentId)) {
             return new AplGameDayResponse(false, "Game day not found");
         }
@@ -271,7 +298,7 @@ public class AplGameDayService {
         day.setStatus(AplGameDayStatus.ONGOING);
         day.setUpdatedAt(System.currentTimeMillis());
         aplGameDayRepository.save(day);
-        return new AplGameDayResponse(true, "Game day started successfully", toDto(day));
+        return new AplGameDayResponse(true, "Game day started successfully", loadDto(day));
     }
 
     /**
@@ -315,13 +342,14 @@ public class AplGameDayService {
     }
 
     /**
-     * Submit or overwrite the score for a single match.
+     * Submit or overwrite the score for a single match, returning the given view of the result.
      * Only allowed when the game day is ONGOING.
      */
     @Transactional
     public AplGameDayResponse submitMatchScore(Long tournamentId, Long dayId, Long groupId, Long matchId,
-                                               AplSubmitMatchScoreRequest request, String callerUsername) {
-        Optional<AplGameDay> dayOpt = aplGameDayRepository.findByIdWithAll(dayId);
+                                               AplSubmitMatchScoreRequest request, String callerUsername,
+                                               ScoreResponseView view) {
+        Optional<AplGameDay> dayOpt = aplGameDayRepository.findById(dayId);
         if (dayOpt.isEmpty() || !dayOpt.get().getTournament().getId().equals(tournamentId)) {
             return new AplGameDayResponse(false, "Game day not found");
         }
@@ -354,10 +382,83 @@ public class AplGameDayService {
         match.setTeam1Score(request.getTeam1Score());
         match.setTeam2Score(request.getTeam2Score());
         matchRepository.save(match);
+        publishScore(day, match);
+
+        if (view != ScoreResponseView.DAY) {
+            return scoredMatchResponse(match, view);
+        }
+        return new AplGameDayResponse(true, "Score submitted successfully", loadDto(day));
+    }
+
+    /**
+     * Submit or overwrite the scores of several matches of one game day in a single transaction.
+     * Every score is validated before any is applied, so the batch succeeds or fails as a whole.
+     * When {@code groupId} is given, all matches must belong to that group.
+     * A score that carries a {@code version} older than the match's is rejected with
+     * {@link ObjectOptimisticLockingFailureException}, like a concurrent update at flush time.
+     */
+    @Transactional
+    public AplGameDayResponse submitMatchScores(Long tournamentId, Long dayId, Long groupId,
+                                  AplSubmitMatchScoresRequest request, String callerUsername) {
+        Optional<AplGameDay> dayOpt = aplGameDayRepository.findById(dayId);
+        if (dayOpt.isEmpty() || !dayOpt.get().getTournament().getId().equals(tournamentId)) {
+            return new AplGameDayResponse(false, "Game day not found");
+        }
+        AplGameDay day = dayOpt.get();
+        if (!isAuthorized(day.getTournament(), callerUsername)) {
+            return new AplGameDayResponse(false, "Access denied");
+        }
+        if (day.getStatus() != AplGameDayStatus.ONGOING) {
+            return new AplGameDayResponse(false, "Scores can only be submitted for ONGOING game days");
+        }
+
+        // Validate every score before touching any match
+        List<AplSubmitMatchScoresRequest.MatchScore> scores = request.getScores();
+        if (scores == null || scores.isEmpty()) {
+            return new AplGameDayResponse(false, "At least one score is required");
+        }
+        Set<Long> matchIds = new HashSet<>();
+        for (AplSubmitMatchScoresRequest.MatchScore score : scores) {
+            if (score.getMatchId() == null) {
+                return new AplGameDayResponse(false, "Every score needs a matchId");
+            }
+            if (!matchIds.add(score.getMatchId())) {
+                return new AplGameDayResponse(false, "Match " + score.getMatchId() + " appears more than once");
+            }
+            if (score.getTeam1Score() == null || score.getTeam2Score() == null) {
+                return new AplGameDayResponse(false, "Both team1Score and team2Score are required");
+            }
+            if (score.getTeam1Score() < 0 || score.getTeam2Score() < 0) {
+                return new AplGameDayResponse(false, "Scores must be non-negative");
+            }
+        }
+
+        // One query for all matches, restricted to this game day
+        Map<Long, AplGameDayGroupMatch> matches = new HashMap<>();
+        for (AplGameDayGroupMatch match : matchRepository.findAllByIdInGameDay(dayId, matchIds)) {
+            matches.put(match.getId(), match);
+        }
+        for (AplSubmitMatchScoresRequest.MatchScore score : scores) {
+            AplGameDayGroupMatch match = matches.get(score.getMatchId());
+            if (match == null || (groupId != null && !match.getGroup().getId().equals(groupId))) {
+                return new AplGameDayResponse(false, "Match " + score.getMatchId() + " does not belong to the specified group/day");
+            }
+            if (score.getVersion() != null && !score.getVersion().equals(match.getVersion())) {
+                throw new ObjectOptimisticLockingFailureException(AplGameDayGroupMatch.class, match.getId());
+            }
+        }
 
-        // Re-fetch with full joins so the returned DTO reflects the updated score
-        AplGameDay refreshed = aplGameDayRepository.findByIdWithAll(dayId).orElse(day);
-        return new AplGameDayResponse(true, "Score submitted successfully", toDto(refreshed));
+        for (AplSubmitMatchScoresRequest.MatchScore score : scores) {
+            AplGameDayGroupMatch match = matches.get(score.getMatchId());
+            match.setTeam1Score(score.getTeam1Score());
+            match.setTeam2Score(score.getTeam2Score());
+        }
+        matchRepository.saveAll(matches.values());
+        for (AplSubmitMatchScoresRequest.MatchScore score : scores) {
+            publishScore(day, matches.get(score.getMatchId()));
+        }
+
+        return new AplGameDayResponse(true, "Scores submitted successfully", loadDto(day));
     }
 
     /**
@@ -367,6 +468,9 @@ public class AplGameDayService {
      */
     @Transactional
     public AplGameDayResponse finishGameDay(Long tournamentId, Long dayId, String callerUsername) {
+        // Serialises with other finishes and ranking recomputes of this tournament; taken first so
+        // everything below reads what the previous holder committed
+        tournamentRepository.findByIdForUpdate(tournamentId);
         Optional<AplGameDay> dayOpt = aplGameDayRepository.findByIdWithAll(dayId);
         if (dayOpt.isEmpty() || !dayOpt.get().getTournament().getId().equals(tournamentId)) {
             return new AplGameDayResponse(false, "Game day not found");
@@ -390,69 +494,75 @@ public class AplGameDayService {
             }
         }
 
-        // Load ELO config
+        // Resolve the ranking engine for the configured logic
         Optional<AplTournamentSettings> settingsOpt =
             aplSettingsRepository.findByTournamentId(tournamentId);
-        if (settingsOpt.isEmpty() || !(settingsOpt.get().getRankingConfig() instanceof ModifiedEloConfig eloConfig)) {
+        Optional<RankingEngine> engineOpt = settingsOpt
+            .flatMap(found -> rankingEngines.forLogic(found.getRankingLogic()))
+            .filter(engine -> engine.supports(settingsOpt.get().getRankingConfig()));
+        if (engineOpt.isEmpty()) {
             return new AplGameDayResponse(false, "APL ELO settings not found for this tournament");
         }
         AplTournamentSettings settings = settingsOpt.get();
-        double K = eloConfig.k();
-
-        // For each match: compute ELO delta, save history rows (using current rankScore as baseline),
-        // then accumulate deltas. History records the pre-delta score for each player.
-        Map<Long, BigDecimal> deltas = new HashMap<>();
 
+        // Flatten the day's matches into one batch and rate them all against pre-day scores
+        List<AplGameDayGroupMatch> matches = new ArrayList<>();
         for (AplGameDayGroup group : day.getGroups()) {
-            for (AplGameDayGroupMatch match : group.getMatches()) {
-                TournamentPlayer tp1p1 = match.getTeam1Player1().getTournamentPlayer();
-                TournamentPlayer tp1p2 = match.getTeam1Player2().getTournamentPlayer();
-                TournamentPlayer tp2p1 = match.getTeam2Player1().getTournamentPlayer();
-                TournamentPlayer tp2p2 = match.getTeam2Player2().getTournamentPlayer();
-
-                double scoreK = tp1p1.getRankScore().doubleValue();
-                double scoreL = tp1p2.getRankScore().doubleValue();
-                double scoreM = tp2p1.getRankScore().doubleValue();
-                double scoreN = tp2p2.getRankScore().doubleValue();
-
-                double X = (scoreK + scoreL) / 2.0; // team1 average strength
-                double Y = (scoreM + scoreN) / 2.0; // team2 average strength
-                double T = 1.0 / (1.0 + Math.pow(10.0, (Y - X) / 480.0));
-
-                boolean team1Wins = match.getTeam1Score() > match.getTeam2Score();
-                double team1Delta = team1Wins ? K * T : -K * T;
-                double team2Delta = -team1Delta;
-
-                BigDecimal bd1 = BigDecimal.valueOf(team1Delta).setScale(2, RoundingMode.HALF_UP);
-                BigDecimal bd2 = BigDecimal.valueOf(team2Delta).setScale(2, RoundingMode.HALF_UP);
-
-                // Save history with current (pre-delta) score as previous
-                aplRankScoreHistoryRepository.save(new AplRankScoreHistory(tp1p1, match,
-                    tp1p1.getRankScore(), tp1p1.getRankScore().add(bd1)));
-                aplRankScoreHistoryRepository.save(new AplRankScoreHistory(tp1p2, match,
-                    tp1p2.getRankScore(), tp1p2.getRankScore().add(bd1)));
-                aplRankScoreHistoryRepository.save(new AplRankScoreHistory(tp2p1, match,
-                    tp2p1.getRankScore(), tp2p1.getRankScore().add(bd2)));
-                aplRankScoreHistoryRepository.save(new AplRankScoreHistory(tp2p2, match,
-                    tp2p2.getRankScore(), tp2p2.getRankScore().add(bd2)));
-
-                // Accumulate deltas
-                deltas.merge(tp1p1.getId(), bd1, BigDecimal::add);
-                deltas.merge(tp1p2.getId(), bd1, BigDecimal::add);
-                deltas.merge(tp2p1.getId(), bd2, BigDecimal::add);
-                deltas.merge(tp2p2.getId(), bd2, BigDecimal::add);
+            matches.addAll(group.getMatches());
+        }
+        MatchBatch batch = new MatchBatch(matches.size());
+        for (AplGameDayGroupMatch match : matches) {
+            batch.addMatch(
+                match.getTeam1Player1().getTournamentPlayer(), match.getTeam1Player2().getTournamentPlayer(),
+                match.getTeam2Player1().getTournamentPlayer(), match.getTeam2Player2().getTournamentPlayer(),
+                match.getTeam1Score(), match.getTeam2Score());
+        }
+        RankingResult result = gameDayMetrics.timeRankingComputation(TournamentType.APL, settings.getRankingLogic(),
+            () -> engineOpt.get().compute(settings.getRankingConfig(), batch));
+        // Deviation and volatility (Glicko-2) go straight onto the loaded players; saved with the scores
+        result.applyRatingState(batch);
+
+        // History records the pre-delta score as previous for each player in each match
+        Map<Long, BigDecimal> deltas = new HashMap<>();
+        Map<Long, TournamentPlayer> updatedPlayers = batch.playersById();
+        List<AplRankScoreHistory> historyRows = new ArrayList<>(matches.size() * MatchBatch.SLOTS_PER_MATCH);
+        for (int m = 0; m < matches.size(); m++) {
+            for (int slot = 0; slot < MatchBatch.SLOTS_PER_MATCH; slot++) {
+                TournamentPlayer tp = batch.player(m, slot);
+                BigDecimal delta = result.delta(m, slot);
+                historyRows.add(new AplRankScoreHistory(tp, matches.get(m),
+                    tp.getRankScore(), tp.getRankScore().add(delta)));
+                deltas.merge(tp.getId(), delta, BigDecimal::add);
             }
         }
 
-        // Apply accumulated deltas and persist updated rank scores
+        // Write all history rows in a single JDBC batch
+        aplRankScoreHistoryRepository.insertBatch(historyRows);
+        gameDayMetrics.historyRowsWritten(TournamentType.APL, historyRows.size());
+
+        // Apply accumulated deltas to the already-loaded players; the changes are flushed
+        // as one batched UPDATE (hibernate.jdbc.batch_size) instead of a find + save per player
         for (Map.Entry<Long, BigDecimal> entry : deltas.entrySet()) {
-            tournamentPlayerRepository.findById(entry.getKey()).ifPresent(tp -> {
-                tp.setRankScore(tp.getRankScore().add(entry.getValue()));
-                tournamentPlayerRepository.save(tp);
-            });
+            TournamentPlayer tp = updatedPlayers.get(entry.getKey());
+            tp.setRankScore(tp.getRankScore().add(entry.getValue()));
+        }
+
+        // Enabled players who sat the day out: the engine's inactivity step (Glicko-2 deviation),
+        // before absence processing can disable them
+        List<TournamentPlayer> allPlayers = null;
+        if (engineOpt.get().tracksDeviation()) {
+            allPlayers = tournamentPlayerRepository.findByTournamentId(tournamentId);
+            for (TournamentPlayer tp : allPlayers) {
+                if (tp.getStatus() != PlayerStatus.DISABLED && tp.getRatingDeviation() != null
+                        && !updatedPlayers.containsKey(tp.getId())) {
+                    RankingResult.applyIdleDeviation(engineOpt.get(), tp);
+                    updatedPlayers.put(tp.getId(), tp);
+                }
+            }
         }
 
         // Process absences: deduct demerit points and possibly disable absent players
+        List<Long> disabledUserIds = new ArrayList<>();
         boolean hasDemeritConfig = settings.getAbsenteeDemeritPoints() != null
             && !settings.getAbsenteeDemeritPoints().isBlank();
         boolean hasDeactivationConfig = settings.getDeactivationCount() != null;
@@ -463,13 +573,16 @@ public class AplGameDayService {
                 .collect(Collectors.toSet());
 
             int[] demeritPoints = parseDemeritPoints(settings.getAbsenteeDemeritPoints());
+            Map<Long, Integer> priorAbsences = loadPriorAbsenceStreaks(tournamentId, dayId);
 
-            List<TournamentPlayer> allPlayers = tournamentPlayerRepository.findByTournamentId(tournamentId);
+            if (allPlayers == null) {
+                allPlayers = tournamentPlayerRepository.findByTournamentId(tournamentId);
+            }
             for (TournamentPlayer tp : allPlayers) {
                 if (tp.getStatus() == PlayerStatus.DISABLED) continue;
                 if (participantIds.contains(tp.getId())) continue;
 
-                int consecutiveAbsences = countConsecutiveAbsences(tp.getId(), dayId, tournamentId) + 1;
+                int consecutiveAbsences = priorAbsences.getOrDefault(tp.getId(), 0) + 1;
 
                 if (demeritPoints.length > 0) {
                     int idx = Math.min(consecutiveAbsences - 1, demeritPoints.length - 1);
@@ -480,30 +593,70 @@ public class AplGameDayService {
                 if (hasDeactivationConfig && consecutiveAbsences >= settings.getDeactivationCount()) {
                     tp.setStatus(PlayerStatus.DISABLED);
                     tp.setStatusChangedAt(System.currentTimeMillis());
+                    disabledUserIds.add(tp.getUser().getId());
                 }
 
-                tournamentPlayerRepository.save(tp);
+                updatedPlayers.put(tp.getId(), tp);
             }
         }
+        tournamentPlayerRepository.saveAll(updatedPlayers.values());
 
         day.setStatus(AplGameDayStatus.COMPLETED);
         day.setUpdatedAt(System.currentTimeMillis());
         aplGameDayRepository.save(day);
+        eventPublisher.publishEvent(new RankingsChangedEvent(tournamentId));
+        eventPublisher.publishEvent(new GameDayCompletedEvent(TournamentType.APL, tournamentId, dayId,
+            matchPlayers(day), matchScores(day)));
+        // Deactivated players lose player access once this commits, like a disable by an admin
+        for (Long userId : disabledUserIds) {
+            eventPublisher.publishEvent(new PrincipalChangedEvent(userId));
+        }
+
+        return new AplGameDayResponse(true, "Game day finished and rankings updated", loadDto(day));
+    }
 
-        AplGameDay refreshed = aplGameDayRepository.findByIdWithAll(dayId).orElse(day);
-        return new AplGameDayResponse(true, "Game day finished and rankings updated", toDto(refreshed));
+    /**
+     * Tournament player ids of every match of the day, four per match, for {@link GameDayCompletedEvent}.
+     */
+    private static long[] matchPlayers(AplGameDay day) {
+        List<Long> ids = new ArrayList<>();
+        for (AplGameDayGroup group : day.getGroups()) {
+            for (AplGameDayGroupMatch m : group.getMatches()) {
+                ids.add(m.getTeam1Player1().getTournamentPlayer().getId());
+                ids.add(m.getTeam1Player2().getTournamentPlayer().getId());
+                ids.add(m.getTeam2Player1().getTournamentPlayer().getId());
+                ids.add(m.getTeam2Player2().getTournamentPlayer().getId());
+            }
+        }
+        return ids.stream().mapToLong(Long::longValue).toArray();
     }
 
-    private int countConsecutiveAbsences(Long playerId, Long currentDayId, Long tournamentId) {
-        List<AplGameDay> history = aplGameDayRepository.findByTournamentIdOrderByGameDateDesc(tournamentId);
-        int count = 0;
-        for (AplGameDay d : history) {
-            if (d.getId().equals(currentDayId)) continue;
-            if (d.getStatus() != AplGameDayStatus.COMPLETED) continue;
-            if (aplGameDayRepository.isPlayerPresentInGameDay(d.getId(), playerId)) break;
-            count++;
+    /**
+     * Team 1 and team 2 score of every match of the day, in {@link #matchPlayers} order.
+     */
+    private static int[] matchScores(AplGameDay day) {
+        List<Integer> scores = new ArrayList<>();
+        for (AplGameDayGroup group : day.getGroups()) {
+            for (AplGameDayGroupMatch m : group.getMatches()) {
+                scores.add(m.getTeam1Score());
+                scores.add(m.getTeam2Score());
+            }
         }
-        return count;
+        return scores.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Consecutive completed-day absences per tournament player before the given day,
+     * computed for the whole tournament in a single query.
+     */
+    private Map<Long, Integer> loadPriorAbsenceStreaks(Long tournamentId, Long currentDayId) {
+        Map<Long, Integer> streaks = new HashMap<>();
+        List<AplGameDayRepository.AbsenceStreak> rows = gameDayMetrics.timeAbsenceStreakLookup(
+            () -> aplGameDayRepository.findAbsenceStreaks(tournamentId, currentDayId, AplGameDayStatus.COMPLETED));
+        for (AplGameDayRepository.AbsenceStreak streak : rows) {
+            streaks.put(streak.getTournamentPlayerId(), streak.getAbsences().intValue());
+        }
+        return streaks;
     }
 
     private int[] parseDemeritPoints(String raw) {
@@ -531,52 +684,80 @@ public class AplGameDayService {
      *   3: A,E vs B,D
      *   4: A,D vs C,E
      *   5: B,C vs D,E
+     *
+     * Sizes 6 and 7 use the rotating-bye schedules of {@link GroupAllocator#schedule}.
+     *
+     * Letters are seats: players take the seats in rank order unless another order repeats fewer
+     * past partnerships and oppositions (see {@link PairingFrequencyIndex#leastRepeatedOrder}).
      */
-    private void generateMatches(AplGameDayGroup group) {
+    private void generateMatches(AplGameDayGroup group, PairingFrequencyIndex.Pairings pairings) {
         // Convert Set to indexed List (insertion order preserved via LinkedHashSet + @OrderBy id ASC)
         List<AplGameDayGroupPlayer> p = new ArrayList<>(group.getPlayers());
         int size = p.size();
 
-        int[][] schedule;
-        if (size == 4) {
-            // indices: A=0, B=1, C=2, D=3
-            schedule = new int[][] {
-                {0, 1, 2, 3},   // A,B vs C,D
-                {0, 2, 1, 3},   // A,C vs B,D
-                {0, 3, 1, 2},   // A,D vs B,C
-            };
-        } else { // size == 5
-            // indices: A=0, B=1, C=2, D=3, E=4
-            schedule = new int[][] {
-                {0, 1, 2, 3},   // A,B vs C,D
-                {0, 2, 1, 4},   // A,C vs B,E
-                {0, 4, 1, 3},   // A,E vs B,D
-                {0, 3, 2, 4},   // A,D vs C,E
-                {1, 2, 3, 4},   // B,C vs D,E
-            };
+        int[][] schedule = GroupAllocator.schedule(size);
+        long[] playerIds = new long[size];
+        for (int i = 0; i < size; i++) {
+            playerIds[i] = p.get(i).getTournamentPlayer().getId();
         }
+        int[] seat = PairingFrequencyIndex.leastRepeatedOrder(schedule, playerIds, pairings);
 
         for (int i = 0; i < schedule.length; i++) {
             int[] s = schedule[i];
             group.getMatches().add(new AplGameDayGroupMatch(
                     group, i + 1,
-                    p.get(s[0]), p.get(s[1]),
-                    p.get(s[2]), p.get(s[3])
+                    p.get(seat[s[0]]), p.get(seat[s[1]]),
+                    p.get(seat[s[2]]), p.get(seat[s[3]])
             ));
         }
     }
 
+    /**
+     * Assign every match of the day to a court and a round (see {@link CourtScheduler}).
+     * Without a court count each group gets a court of its own.
+     */
+    private void scheduleCourts(Collection<AplGameDayGroup> groups, Integer courtCount) {
+        List<AplGameDayGroupMatch> matches = new ArrayList<>();
+        List<int[]> matchPlayers = new ArrayList<>();
+        List<Integer> matchGroup = new ArrayList<>();
+        Map<AplGameDayGroupPlayer, Integer> playerIndex = new IdentityHashMap<>();
+        int groupIndex = 0;
+        for (AplGameDayGroup group : groups) {
+            for (AplGameDayGroupPlayer gp : group.getPlayers()) {
+                playerIndex.put(gp, playerIndex.size());
+            }
+            for (AplGameDayGroupMatch m : group.getMatches()) {
+                matches.add(m);
+                matchPlayers.add(new int[]{
+                        playerIndex.get(m.getTeam1Player1()), playerIndex.get(m.getTeam1Player2()),
+                        playerIndex.get(m.getTeam2Player1()), playerIndex.get(m.getTeam2Player2())
+                });
+                matchGroup.add(groupIndex);
+            }
+            groupIndex++;
+        }
+        if (matches.isEmpty()) {
+            return;
+        }
+
+        int courts = courtCount != null ? courtCount : groupIndex;
+        CourtScheduler.Schedule schedule = CourtScheduler.schedule(
+                matchPlayers.toArray(new int[0][]),
+                matchGroup.stream().mapToInt(Integer::intValue).toArray(),
+                courts);
+        for (int i = 0; i < matches.size(); i++) {
+            matches.get(i).setCourtNumber(schedule.courts()[i]);
+            matches.get(i).setRoundNumber(schedule.rounds()[i]);
+        }
+    }
+
     /**
      * Map an AplGameDay entity to a GameDayDto.
+     * Only for an entity graph that is already in memory (e.g. one just created).
+     * Read paths use {@link #loadDtos} instead.
      */
     private AplGameDayResponse.GameDayDto toDto(AplGameDay day) {
-        AplGameDayResponse.GameDayDto dto = new AplGameDayResponse.GameDayDto();
-        dto.setId(day.getId());
-        dto.setTournamentId(day.getTournament().getId());
-        dto.setGameDate(day.getGameDate().toString());
-        dto.setStatus(day.getStatus().name());
-        dto.setCreatedAt(day.getCreatedAt());
-        dto.setUpdatedAt(day.getUpdatedAt());
+        AplGameDayResponse.GameDayDto dto = toHeaderDto(day);
 
         List<AplGameDayResponse.GroupDto> groupDtos = day.getGroups().stream()
                 .map(group -> {
@@ -618,6 +799,9 @@ public class AplGameDayService {
                                         + " " + m.getTeam2Player2().getTournamentPlayer().getUser().getLastName());
                                 mdto.setTeam1Score(m.getTeam1Score());
                                 mdto.setTeam2Score(m.getTeam2Score());
+                                mdto.setCourtNumber(m.getCourtNumber());
+                                mdto.setRoundNumber(m.getRoundNumber());
+                                mdto.setVersion(m.getVersion());
                                 return mdto;
                             })
                             .collect(Collectors.toList());
@@ -630,25 +814,111 @@ public class AplGameDayService {
         return dto;
     }
 
+    private AplGameDayResponse.GameDayDto toHeaderDto(AplGameDay day) {
+        AplGameDayResponse.GameDayDto dto = new AplGameDayResponse.GameDayDto();
+        dto.setId(day.getId());
+        dto.setTournamentId(day.getTournament().getId());
+        dto.setGameDate(day.getGameDate().toString());
+        dto.setStatus(day.getStatus().name());
+        dto.setCreatedAt(day.getCreatedAt());
+        dto.setUpdatedAt(day.getUpdatedAt());
+        return dto;
+    }
+
+    private AplGameDayResponse.GameDayDto loadDto(AplGameDay day) {
+        return loadDtos(List.of(day)).get(0);
+    }
+
+    /**
+     * Build game day DTOs from three flat projections — groups, group players with users,
+     * and matches — keyed by id, instead of the fetch-joined entity graph.
+     * Returns the DTOs in the order of {@code days}.
+     */
+    private List<AplGameDayResponse.GameDayDto> loadDtos(List<AplGameDay> days) {
+        if (days.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Long> dayIds = days.stream().map(AplGameDay::getId).toList();
+
+        // Group player id → player; match team slots reference group players
+        Map<Long, AplGameDayResponse.GroupPlayerDto> playersById = new HashMap<>();
+        Map<Long, List<AplGameDayResponse.GroupPlayerDto>> playersByGroup = new HashMap<>();
+        for (AplGameDayRepository.GroupPlayerRow row : aplGameDayRepository.findGroupPlayerRows(dayIds)) {
+            AplGameDayResponse.GroupPlayerDto pdto = new AplGameDayResponse.GroupPlayerDto();
+            pdto.setTournamentPlayerId(row.getTournamentPlayerId());
+            pdto.setUserId(row.getUserId());
+            pdto.setFirstName(row.getFirstName());
+            pdto.setLastName(row.getLastName());
+            pdto.setRankScore(row.getRankScore());
+            playersById.put(row.getId(), pdto);
+            playersByGroup.computeIfAbsent(row.getGroupId(), k -> new ArrayList<>()).add(pdto);
+        }
+
+        Map<Long, List<AplGameDayResponse.MatchDto>> matchesByGroup = new HashMap<>();
+        for (AplGameDayRepository.MatchRow row : aplGameDayRepository.findMatchRows(dayIds)) {
+            AplGameDayResponse.GroupPlayerDto t1p1 = playersById.get(row.getTeam1Player1Id());
+            AplGameDayResponse.GroupPlayerDto t1p2 = playersById.get(row.getTeam1Player2Id());
+            AplGameDayResponse.GroupPlayerDto t2p1 = playersById.get(row.getTeam2Player1Id());
+            AplGameDayResponse.GroupPlayerDto t2p2 = playersById.get(row.getTeam2Player2Id());
+            AplGameDayResponse.MatchDto mdto = new AplGameDayResponse.MatchDto();
+            mdto.setId(row.getId());
+            mdto.setMatchOrder(row.getMatchOrder());
+            mdto.setTeam1Player1Id(t1p1.getTournamentPlayerId());
+            mdto.setTeam1Player1Name(t1p1.getFirstName() + " " + t1p1.getLastName());
+            mdto.setTeam1Player2Id(t1p2.getTournamentPlayerId());
+            mdto.setTeam1Player2Name(t1p2.getFirstName() + " " + t1p2.getLastName());
+            mdto.setTeam2Player1Id(t2p1.getTournamentPlayerId());
+            mdto.setTeam2Player1Name(t2p1.getFirstName() + " " + t2p1.getLastName());
+            mdto.setTeam2Player2Id(t2p2.getTournamentPlayerId());
+            mdto.setTeam2Player2Name(t2p2.getFirstName() + " " + t2p2.getLastName());
+            mdto.setTeam1Score(row.getTeam1Score());
+            mdto.setTeam2Score(row.getTeam2Score());
+            mdto.setCourtNumber(row.getCourtNumber());
+            mdto.setRoundNumber(row.getRoundNumber());
+            mdto.setVersion(row.getVersion());
+            matchesByGroup.computeIfAbsent(row.getGroupId(), k -> new ArrayList<>()).add(mdto);
+        }
+
+        Map<Long, List<AplGameDayResponse.GroupDto>> groupsByDay = new HashMap<>();
+        for (AplGameDayRepository.GroupRow row : aplGameDayRepository.findGroupRows(dayIds)) {
+            AplGameDayResponse.GroupDto groupDto = new AplGameDayResponse.GroupDto();
+            groupDto.setId(row.getId());
+            groupDto.setGroupNumber(row.getGroupNumber());
+            List<AplGameDayResponse.GroupPlayerDto> players = playersByGroup.getOrDefault(row.getId(), new ArrayList<>());
+            players.sort(Comparator.comparing(AplGameDayResponse.GroupPlayerDto::getRankScore,
+                            Comparator.nullsLast(Comparator.reverseOrder()))
+                    .thenComparing(AplGameDayResponse.GroupPlayerDto::getUserId));
+            groupDto.setPlayers(players);
+            groupDto.setMatches(matchesByGroup.getOrDefault(row.getId(), new ArrayList<>()));
+            groupsByDay.computeIfAbsent(row.getGameDayId(), k -> new ArrayList<>()).add(groupDto);
+        }
+
+        return days.stream()
+                .map(day -> {
+                    AplGameDayResponse.GameDayDto dto = toHeaderDto(day);
+                    dto.setGroups(groupsByDay.getOrDefault(day.getId(), new ArrayList<>()));
+                    return dto;
+                })
+                .collect(Collectors.toList());
+    }
+
     // ── Player-scoped game day methods ────────────────────────────────────────
 
     /**
      * Resolve the calling user, verify PLAYER role, and confirm they are a non-DISABLED
-     * TournamentPlayer in the given tournament. Returns the TournamentPlayer.
+     * TournamentPlayer in the given tournament. Returns the membership.
      */
-    private TournamentPlayer resolveRegisteredPlayer(Long tournamentId, String callerUsername) {
-        User caller = userRepository.findByUsername(callerUsername)
-            .orElseThrow(() -> new RuntimeException("Authenticated user not found"));
-        if (!Role.PLAYER.name().equals(caller.getRole())) {
+    private ResolvedPrincipal.Membership resolveRegisteredPlayer(Long tournamentId, String callerUsername) {
+        ResolvedPrincipal caller = principalResolver.resolve(callerUsername);
+        if (!caller.hasRole(Role.PLAYER)) {
             throw new AccessDeniedException("Only players can access this resource");
         }
-        TournamentPlayer tp = tournamentPlayerRepository
-            .findByTournamentIdAndUserId(tournamentId, caller.getId())
+        ResolvedPrincipal.Membership membership = caller.membership(tournamentId)
             .orElseThrow(() -> new AccessDeniedException("You are not registered in this tournament"));
-        if (tp.getStatus() == PlayerStatus.DISABLED) {
+        if (membership.status() == PlayerStatus.DISABLED) {
             throw new AccessDeniedException("Your participation in this tournament has been disabled");
         }
-        return tp;
+        return membership;
     }
 
     /**
@@ -666,10 +936,9 @@ public class AplGameDayService {
         } catch (AccessDeniedException e) {
             return new AplGameDayResponse(false, e.getMessage());
         }
-        List<AplGameDayResponse.GameDayDto> dtos = aplGameDayRepository
-            .findByTournamentIdOrderByGameDateDesc(tournamentId)
+        List<AplGameDayResponse.GameDayDto> dtos = loadDtos(aplGameDayRepository
+            .findByTournamentIdOrderByGameDateDesc(tournamentId))
             .stream()
-            .map(this::toDto)
             .sorted(Comparator.comparing(
                 (AplGameDayResponse.GameDayDto d) -> "ONGOING".equals(d.getStatus()) ? 0 : 1))
             .collect(Collectors.toList());
@@ -682,21 +951,21 @@ public class AplGameDayService {
      */
     @Transactional(readOnly = true)
     public AplGameDayResponse getGameDayForPlayer(Long tournamentId, Long dayId, String callerUsername) {
-        Optional<AplGameDay> dayOpt = aplGameDayRepository.findByIdWithAll(dayId);
+        Optional<AplGameDay> dayOpt = aplGameDayRepository.findById(dayId);
         if (dayOpt.isEmpty() || !dayOpt.get().getTournament().getId().equals(tournamentId)) {
             return new AplGameDayResponse(false, "Game day not found");
         }
-        TournamentPlayer tp;
+        ResolvedPrincipal.Membership tp;
         try {
             tp = resolveRegisteredPlayer(tournamentId, callerUsername);
         } catch (AccessDeniedException e) {
             return new AplGameDayResponse(false, e.getMessage());
         }
         AplGameDay day = dayOpt.get();
-        AplGameDayResponse.GameDayDto dto = toDto(day);
+        AplGameDayResponse.GameDayDto dto = loadDto(day);
 
         // Filter to only groups that contain this player
-        Long callerTpId = tp.getId();
+        Long callerTpId = tp.tournamentPlayerId();
         List<AplGameDayResponse.GroupDto> filtered = dto.getGroups().stream()
             .filter(g -> g.getPlayers().stream()
                 .anyMatch(p -> callerTpId.equals(p.getTournamentPlayerId())))
@@ -707,7 +976,7 @@ public class AplGameDayService {
     }
 
     /**
-     * Submit match score as a player.
+     * Submit match score as a player, returning the given view of the result.
      * Rules:
      *  - Caller must be one of the four players in the match.
      *  - Score may only be set once (code-level check); @Version provides DB-level race guard.
@@ -715,12 +984,12 @@ public class AplGameDayService {
     @Transactional
     public AplGameDayResponse submitMatchScoreAsPlayer(Long tournamentId, Long dayId, Long groupId,
                                                        Long matchId, AplSubmitMatchScoreRequest request,
-                                                       String callerUsername) {
-        Optional<AplGameDay> dayOpt = aplGameDayRepository.findByIdWithAll(dayId);
+                                                       String callerUsername, ScoreResponseView view) {
+        Optional<AplGameDay> dayOpt = aplGameDayRepository.findById(dayId);
         if (dayOpt.isEmpty() || !dayOpt.get().getTournament().getId().equals(tournamentId)) {
             return new AplGameDayResponse(false, "Game day not found");
         }
-        TournamentPlayer tp;
+        ResolvedPrincipal.Membership tp;
         try {
             tp = resolveRegisteredPlayer(tournamentId, callerUsername);
         } catch (AccessDeniedException e) {
@@ -749,7 +1018,7 @@ public class AplGameDayService {
         }
 
         // Verify caller is one of the four players in this match
-        Long tpId = tp.getId();
+        Long tpId = tp.tournamentPlayerId();
         boolean isParticipant = tpId.equals(match.getTeam1Player1().getTournamentPlayer().getId())
             || tpId.equals(match.getTeam1Player2().getTournamentPlayer().getId())
             || tpId.equals(match.getTeam2Player1().getTournamentPlayer().getId())
@@ -768,12 +1037,15 @@ public class AplGameDayService {
         // @Version on the entity provides DB-level optimistic lock —
         // a concurrent save will throw ObjectOptimisticLockingFailureException (caught in controller)
         matchRepository.save(match);
+        publishScore(day, match);
 
-        AplGameDay refreshed = aplGameDayRepository.findByIdWithAll(dayId).orElse(day);
-        AplGameDayResponse.GameDayDto dto = toDto(refreshed);
+        if (view != ScoreResponseView.DAY) {
+            return scoredMatchResponse(match, view);
+        }
+        AplGameDayResponse.GameDayDto dto = loadDto(day);
 
         // Return only the caller's groups
-        Long callerTpId = tp.getId();
+        Long callerTpId = tp.tournamentPlayerId();
         List<AplGameDayResponse.GroupDto> filtered = dto.getGroups().stream()
             .filter(g -> g.getPlayers().stream()
                 .anyMatch(p -> callerTpId.equals(p.getTournamentPlayerId())))
@@ -784,11 +1056,40 @@ public class AplGameDayService {
     }
 
     /**
-     * Get the completed-game-day history for a specific tournament player.
+     * Check whether the caller may subscribe to the live score stream of a game day:
+     * admins of the tournament and enabled players registered in it.
+     */
+    @Transactional(readOnly = true)
+    public boolean canWatchGameDay(Long tournamentId, Long dayId, String callerUsername) {
+        Optional<AplGameDay> dayOpt = aplGameDayRepository.findById(dayId);
+        if (dayOpt.isEmpty() || !dayOpt.get().getTournament().getId().equals(tournamentId)) {
+            return false;
+        }
+        if (isAuthorized(dayOpt.get().getTournament(), callerUsername)) {
+            return true;
+        }
+        try {
+            resolveRegisteredPlayer(tournamentId, callerUsername);
+            return true;
+        } catch (AccessDeniedException e) {
+            return false;
+        }
+    }
+
+    /**
+     * One page of a player's completed-game-day history, the last finished game day first.
      * Any authenticated user may view any player's history.
+     * Pages are keyset cursors over the history row's (changed_at, id), which the player's history
+     * index serves: pass the previous page's {@code nextCursor} to continue, or null for the first page.
+     * A game day can be split across two pages; its matches then arrive in both.
+     * Names and scores come from a single projection query, so no match graph is loaded.
+     *
+     * @param limit history entries (matches) per page; null for the default
+     * @throws IllegalArgumentException for a malformed cursor
      */
     @Transactional(readOnly = true)
-    public AplPlayerHistoryResponse getPlayerHistory(Long tournamentId, Long tournamentPlayerId) {
+    public AplPlayerHistoryResponse getPlayerHistory(Long tournamentId, Long tournamentPlayerId,
+                                 String cursor, Integer limit) {
         Optional<TournamentPlayer> tpOpt = tournamentPlayerRepository.findById(tournamentPlayerId);
         if (tpOpt.isEmpty() || !tpOpt.get().getTournament().getId().equals(tournamentId)) {
             return new AplPlayerHistoryResponse(false, "Player not found in this tournament");
@@ -796,57 +1097,59 @@ public class AplGameDayService {
         TournamentPlayer tp = tpOpt.get();
         String playerName = tp.getUser().getFirstName() + " " + tp.getUser().getLastName();
 
-        // All history rows for this player, oldest first so match order within a day is chronological
-        List<AplRankScoreHistory> historyRows = aplRankScoreHistoryRepository
-            .findByTournamentPlayerIdOrderByChangedAtDesc(tournamentPlayerId);
+        int pageSize = limit == null ? DEFAULT_HISTORY_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_HISTORY_PAGE_SIZE));
+        // One extra row tells whether another page follows
+        PageRequest page = PageRequest.of(0, pageSize + 1);
+        List<AplRankScoreHistoryRepository.HistoryRow> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = aplRankScoreHistoryRepository.findHistoryPage(tournamentPlayerId, page);
+        } else {
+            HistoryCursor after = HistoryCursor.parse(cursor);
+            rows = aplRankScoreHistoryRepository.findHistoryPageBefore(tournamentPlayerId, after.changedAt(), after.historyId(), page);
+        }
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            AplRankScoreHistoryRepository.HistoryRow last = rows.get(pageSize - 1);
+            nextCursor = new HistoryCursor(last.getChangedAt(), last.getHistoryId()).toString();
+        }
 
-        // Group by game day id, preserving insertion order (reversed so newest day is first)
-        Map<Long, List<AplRankScoreHistory>> byDay = new LinkedHashMap<>();
-        for (AplRankScoreHistory h : historyRows) {
-            Long dayId = h.getMatch().getGroup().getGameDay().getId();
-            byDay.computeIfAbsent(dayId, k -> new ArrayList<>()).add(h);
+        // Group by game day, keeping the newest-first day order of the rows
+        Map<Long, List<AplRankScoreHistoryRepository.HistoryRow>> byDay = new LinkedHashMap<>();
+        for (AplRankScoreHistoryRepository.HistoryRow row : rows) {
+            byDay.computeIfAbsent(row.getGameDayId(), k -> new ArrayList<>()).add(row);
         }
 
         List<AplPlayerHistoryResponse.GameDayHistoryDto> gameDayDtos = new ArrayList<>();
-        for (Map.Entry<Long, List<AplRankScoreHistory>> entry : byDay.entrySet()) {
-            List<AplRankScoreHistory> rows = entry.getValue();
-            // rows are already newest-first from the repo; reverse to chronological within the day
-            List<AplRankScoreHistory> chronological = new ArrayList<>(rows);
+        for (Map.Entry<Long, List<AplRankScoreHistoryRepository.HistoryRow>> entry : byDay.entrySet()) {
+            // rows are newest-first; reverse to chronological within the day
+            List<AplRankScoreHistoryRepository.HistoryRow> chronological = new ArrayList<>(entry.getValue());
             Collections.reverse(chronological);
 
-            String gameDate = chronological.get(0).getMatch().getGroup().getGameDay()
-                .getGameDate().toString();
-
             List<AplPlayerHistoryResponse.MatchHistoryDto> matchDtos = chronological.stream()
-                .map(h -> {
-                    AplGameDayGroupMatch m = h.getMatch();
-                    Long tpId = tp.getId();
-                    boolean onTeam1 = tpId.equals(m.getTeam1Player1().getTournamentPlayer().getId())
-                        || tpId.equals(m.getTeam1Player2().getTournamentPlayer().getId());
-                    return new AplPlayerHistoryResponse.MatchHistoryDto(
-                        m.getId(),
-                        m.getMatchOrder(),
-                        m.getTeam1Player1().getTournamentPlayer().getUser().getFirstName() + " "
-                            + m.getTeam1Player1().getTournamentPlayer().getUser().getLastName(),
-                        m.getTeam1Player2().getTournamentPlayer().getUser().getFirstName() + " "
-                            + m.getTeam1Player2().getTournamentPlayer().getUser().getLastName(),
-                        m.getTeam2Player1().getTournamentPlayer().getUser().getFirstName() + " "
-                            + m.getTeam2Player1().getTournamentPlayer().getUser().getLastName(),
-                        m.getTeam2Player2().getTournamentPlayer().getUser().getFirstName() + " "
-                            + m.getTeam2Player2().getTournamentPlayer().getUser().getLastName(),
-                        m.getTeam1Score(),
-                        m.getTeam2Score(),
-                        onTeam1,
-                        h.getPreviousScore(),
-                        h.getNewScore()
-                    );
-                })
+                .map(row -> new AplPlayerHistoryResponse.MatchHistoryDto(
+                    row.getMatchId(),
+                    row.getMatchOrder(),
+                    row.getTeam1Player1Name(),
+                    row.getTeam1Player2Name(),
+                    row.getTeam2Player1Name(),
+                    row.getTeam2Player2Name(),
+                    row.getTeam1Score(),
+                    row.getTeam2Score(),
+                    tournamentPlayerId.equals(row.getTeam1Player1Id())
+                        || tournamentPlayerId.equals(row.getTeam1Player2Id()),
+                    row.getPreviousScore(),
+                    row.getNewScore()
+                ))
                 .collect(Collectors.toList());
 
-            gameDayDtos.add(new AplPlayerHistoryResponse.GameDayHistoryDto(entry.getKey(), gameDate, matchDtos));
+            gameDayDtos.add(new AplPlayerHistoryResponse.GameDayHistoryDto(entry.getKey(),
+                chronological.get(0).getGameDate().toString(), matchDtos));
         }
 
-        return new AplPlayerHistoryResponse(true, "History retrieved successfully",
+        AplPlayerHistoryResponse response = new AplPlayerHistoryResponse(true, "History retrieved successfully",
             tournamentPlayerId, playerName, gameDayDtos);
+        response.setNextCursor(nextCursor);
+        return response;
     }
 }
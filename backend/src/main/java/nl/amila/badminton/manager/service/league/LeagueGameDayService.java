@@ -4,6 +4,7 @@ import nl.amila.badminton.manager.dto.league.CreateGameDayRequest;
 import nl.amila.badminton.manager.dto.league.GameDayResponse;
 import nl.amila.badminton.manager.dto.league.PlayerHistoryResponse;
 import nl.amila.badminton.manager.dto.league.SubmitMatchScoreRequest;
+import nl.amila.badminton.manager.dto.league.SubmitMatchScoresRequest;
 import nl.amila.badminton.manager.entity.*;
 import nl.amila.badminton.manager.entity.league.GameDayStatus;
 import nl.amila.badminton.manager.entity.league.LeagueGameDay;
@@ -18,100 +19,120 @@ import nl.amila.badminton.manager.repository.league.LeagueTournamentSettingsRepo
 import nl.amila.badminton.manager.repository.league.RankScoreHistoryRepository;
 import nl.amila.badminton.manager.repository.TournamentPlayerRepository;
 import nl.amila.badminton.manager.repository.TournamentRepository;
-import nl.amila.badminton.manager.repository.UserRepository;
+import nl.amila.badminton.manager.service.GameDayCompletedEvent;
+import nl.amila.badminton.manager.service.GameDayMetrics;
+import nl.amila.badminton.manager.service.HistoryCursor;
+import nl.amila.badminton.manager.service.MatchScoreSubmittedEvent;
+import nl.amila.badminton.manager.service.PrincipalResolver;
+import nl.amila.badminton.manager.service.RankingsChangedEvent;
+import nl.amila.badminton.manager.service.ResolvedPrincipal;
+import nl.amila.badminton.manager.service.ScoreResponseView;
+import nl.amila.badminton.manager.service.ranking.MatchBatch;
+import nl.amila.badminton.manager.service.ranking.RankingEngine;
+import nl.amila.badminton.manager.service.ranking.RankingEngines;
+import nl.amila.badminton.manager.service.ranking.RankingResult;
+import nl.amila.badminton.manager.service.scheduling.BalancedGrouping;
+import nl.amila.badminton.manager.service.scheduling.CourtScheduler;
+import nl.amila.badminton.manager.service.scheduling.GroupAllocator;
+import nl.amila.badminton.manager.service.scheduling.GroupingStrategy;
+import nl.amila.badminton.manager.service.scheduling.PairingFrequencyIndex;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
 @Service
 public class LeagueGameDayService {
 
-    /**
-     * Player counts that cannot be split into groups of 4 or 5 (up to MAX_PLAYERS).
-     * A count n is valid iff n = 4a + 5b (a,b >= 0). Invalid values up to 32: {1,2,3,6,7,11}.
-     */
-    private static final Set<Integer> INVALID_COUNTS = Set.of(1, 2, 3, 6, 7, 11);
-    private static final int MAX_PLAYERS = 32;
+    /** Player history entries per page when the client gives no limit, and the most it may ask for. */
+    static final int DEFAULT_HISTORY_PAGE_SIZE = 50;
+    static final int MAX_HISTORY_PAGE_SIZE = 200;
 
     private final TournamentRepository tournamentRepository;
     private final TournamentPlayerRepository tournamentPlayerRepository;
     private final LeagueGameDayRepository leagueGameDayRepository;
     private final LeagueGameDayGroupMatchRepository matchRepository;
-    private final UserRepository userRepository;
+    private final PrincipalResolver principalResolver;
     private final LeagueTournamentSettingsRepository leagueSettingsRepository;
     private final RankScoreHistoryRepository rankScoreHistoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RankingEngines rankingEngines;
+    private final PairingFrequencyIndex pairingFrequencyIndex;
+    private final GameDayMetrics gameDayMetrics;
 
     public LeagueGameDayService(TournamentRepository tournamentRepository,
                                 TournamentPlayerRepository tournamentPlayerRepository,
                                 LeagueGameDayRepository leagueGameDayRepository,
                                 LeagueGameDayGroupMatchRepository matchRepository,
-                                UserRepository userRepository,
+                                PrincipalResolver principalResolver,
                                 LeagueTournamentSettingsRepository leagueSettingsRepository,
-                                RankScoreHistoryRepository rankScoreHistoryRepository) {
+                                RankScoreHistoryRepository rankScoreHistoryRepository,
+                                ApplicationEventPublisher eventPublisher,
+                                RankingEngines rankingEngines,
+                                PairingFrequencyIndex pairingFrequencyIndex,
+                                GameDayMetrics gameDayMetrics) {
         this.tournamentRepository = tournamentRepository;
         this.tournamentPlayerRepository = tournamentPlayerRepository;
         this.leagueGameDayRepository = leagueGameDayRepository;
         this.matchRepository = matchRepository;
-        this.userRepository = userRepository;
+        this.principalResolver = principalResolver;
         this.leagueSettingsRepository = leagueSettingsRepository;
         this.rankScoreHistoryRepository = rankScoreHistoryRepository;
+        this.eventPublisher = eventPublisher;
+        this.rankingEngines = rankingEngines;
+        this.pairingFrequencyIndex = pairingFrequencyIndex;
+        this.gameDayMetrics = gameDayMetrics;
     }
 
     /**
-     * Compute a randomly-ordered list of group sizes (each 4 or 5) for n players.
-     * Minimises total group count.
-     *   n % 4 == 0  → all groups of 4
-     *   n % 4 == 2  → two groups of 5, rest groups of 4
-     *   n % 4 == 3  → one group of 5, rest groups of 4
-     *   n % 4 == 1  → only valid for n=5 (one group of 5); larger cases caught by INVALID_COUNTS
-     * The list is shuffled so the spread of 4s and 5s is randomised.
+     * Announce a submitted score to live game day subscribers (delivered after commit).
      */
-    static List<Integer> computeGroupSizes(int n) {
-        int fives;
-        switch (n % 4) {
-            case 0: fives = 0; break;
-            case 2: fives = 2; break;
-            case 3: fives = 1; break;
-            default: fives = 1; break; // n==5 (n%4==1, only valid case)
-        }
-        int fours = (n - 5 * fives) / 4;
-
-        List<Integer> sizes = new ArrayList<>();
-        for (int i = 0; i < fours; i++) sizes.add(4);
-        for (int i = 0; i < fives; i++) sizes.add(5);
-        Collections.shuffle(sizes);
-        return sizes;
+    private void publishScore(LeagueGameDay day, LeagueGameDayGroupMatch match) {
+        eventPublisher.publishEvent(new MatchScoreSubmittedEvent(
+            TournamentType.LEAGUE, day.getId(), match.getGroup().getId(), match.getId(),
+            match.getTeam1Score(), match.getTeam2Score()));
     }
 
     /**
-     * Validate that a player count is groupable.
+     * Match or group view of a score submit: the scored match with its new version, plus the
+     * group's scoring progress for the group view. Flushes so the version is the incremented one.
      */
-    static boolean isValidPlayerCount(int n) {
-        return n >= 4 && n <= MAX_PLAYERS && !INVALID_COUNTS.contains(n);
+    private GameDayResponse scoredMatchResponse(LeagueGameDayGroupMatch match, ScoreResponseView view) {
+        matchRepository.flush();
+        GameDayResponse.MatchScoreDto dto = new GameDayResponse.MatchScoreDto();
+        dto.setId(match.getId());
+        dto.setGroupId(match.getGroup().getId());
+        dto.setTeam1Score(match.getTeam1Score());
+        dto.setTeam2Score(match.getTeam2Score());
+        dto.setVersion(match.getVersion());
+        GameDayResponse response = new GameDayResponse(true, "Score submitted successfully");
+        response.setMatch(dto);
+        if (view == ScoreResponseView.GROUP) {
+            LeagueGameDayGroupMatchRepository.GroupScoreCount counts =
+                matchRepository.countScoresByGroup(dto.getGroupId());
+            GameDayResponse.GroupSummaryDto summary = new GameDayResponse.GroupSummaryDto();
+            summary.setGroupId(dto.getGroupId());
+            summary.setMatchCount(counts.getMatchCount());
+            summary.setScoredCount(counts.getScoredCount());
+            response.setGroupSummary(summary);
+        }
+        return response;
     }
 
     /**
      * Check that the caller is an ADMIN role, or a TOURNY_ADMIN who is an admin of this tournament.
      */
     private boolean isAuthorized(Tournament tournament, String callerUsername) {
-        User caller = userRepository.findByUsername(callerUsername)
-                .orElseThrow(() -> new RuntimeException("Authenticated user not found"));
-        if (Role.ADMIN.name().equals(caller.getRole())) {
-            return true;
-        }
-        if (Role.TOURNY_ADMIN.name().equals(caller.getRole())) {
-            return tournament.getAdmins().stream()
-                    .anyMatch(a -> a.getUser().getId().equals(caller.getId()));
-        }
-        return false;
+        return principalResolver.resolve(callerUsername).canAdminister(tournament.getId());
     }
 
     /**
@@ -155,20 +176,29 @@ public class LeagueGameDayService {
             return new GameDayResponse(false, "Player list is required");
         }
         int n = playerIds.size();
-        if (!isValidPlayerCount(n)) {
-            if (n < 4) return new GameDayResponse(false, "Cannot create a game day with fewer than 4 players");
-            if (n > MAX_PLAYERS) return new GameDayResponse(false, "Cannot create a game day with more than " + MAX_PLAYERS + " players");
-            return new GameDayResponse(false, "Player count of " + n + " cannot be split into groups of 4 or 5. Invalid counts: 6, 7, 11");
+        if (!GroupAllocator.isValidPlayerCount(n)) {
+            if (n < GroupAllocator.MIN_PLAYERS) return new GameDayResponse(false, "Cannot create a game day with fewer than " + GroupAllocator.MIN_PLAYERS + " players");
+            return new GameDayResponse(false, "Cannot create a game day with more than " + GroupAllocator.MAX_PLAYERS + " players");
+        }
+        if (new HashSet<>(playerIds).size() != n) {
+            return new GameDayResponse(false, "Player list contains duplicates");
+        }
+        Integer courtCount = request.getCourtCount();
+        if (courtCount != null && courtCount < 1) {
+            return new GameDayResponse(false, "Court count must be at least 1");
         }
 
-        // Resolve TournamentPlayer records, validate they belong to this tournament and are ENABLED/ACTIVE
-        List<TournamentPlayer> selectedPlayers = new ArrayList<>();
+        // Resolve TournamentPlayer records in one query, validate they belong to this tournament and are ENABLED/ACTIVE
+        Map<Long, TournamentPlayer> playersById = new HashMap<>();
+        for (TournamentPlayer tp : tournamentPlayerRepository.findAllById(playerIds)) {
+            playersById.put(tp.getId(), tp);
+        }
+        List<TournamentPlayer> selectedPlayers = new ArrayList<>(n);
         for (Long tpId : playerIds) {
-            Optional<TournamentPlayer> tpOpt = tournamentPlayerRepository.findById(tpId);
-            if (tpOpt.isEmpty()) {
+            TournamentPlayer tp = playersById.get(tpId);
+            if (tp == null) {
                 return new GameDayResponse(false, "Tournament player not found: " + tpId);
             }
-            TournamentPlayer tp = tpOpt.get();
             if (!tp.getTournament().getId().equals(tournamentId)) {
                 return new GameDayResponse(false, "Player " + tpId + " does not belong to this tournament");
             }
@@ -184,13 +214,19 @@ public class LeagueGameDayService {
                 .thenComparing(tp -> tp.getUser().getId()));
 
         // Compute randomised group sizes
-        List<Integer> groupSizes = computeGroupSizes(n);
+        List<Integer> groupSizes = GroupAllocator.groupSizes(n, courtCount);
 
         // Pre-check for duplicate date to avoid a constraint violation inside the transaction
         if (leagueGameDayRepository.existsByTournamentIdAndGameDate(tournamentId, gameDate)) {
             return new GameDayResponse(false, "A game day already exists for " + gameDate + " in this tournament");
         }
 
+        // Optionally trade strict rank slices for balanced groups
+        PairingFrequencyIndex.Pairings pairings = pairingFrequencyIndex.forTournament(TournamentType.LEAGUE, tournamentId);
+        if (request.getGroupingStrategy() == GroupingStrategy.BALANCED) {
+            selectedPlayers = arrangeBalanced(selectedPlayers, groupSizes, pairings);
+        }
+
         // Build the game day and groups (players only — no matches yet)
         LeagueGameDay gameDay = new LeagueGameDay(tournament, gameDate);
         int playerIndex = 0;
@@ -208,8 +244,9 @@ public class LeagueGameDayService {
 
         // Second pass: generate match combinations now that group players have ids
         for (LeagueGameDayGroup group : saved.getGroups()) {
-            generateMatches(group);
+            generateMatches(group, pairings);
         }
+        scheduleCourts(saved.getGroups(), courtCount);
         // Save again to persist the matches (cascade ALL on matches covers this)
         saved = leagueGameDayRepository.save(saved);
 
@@ -221,7 +258,7 @@ public class LeagueGameDayService {
      */
     @Transactional(readOnly = true)
     public GameDayResponse getGameDay(Long tournamentId, Long dayId, String callerUsername) {
-        Optional<LeagueGameDay> dayOpt = leagueGameDayRepository.findByIdWithAll(dayId);
+        Optional<LeagueGameDay> dayOpt = leagueGameDayRepository.findById(dayId);
         if (dayOpt.isEmpty() || !dayOpt.get().getTournament().getId().equals(tournamentId)) {
             return new GameDayResponse(false, "Game day not found");
         }
@@ -229,7 +266,7 @@ public class LeagueGameDayService {
         if (!isAuthorized(day.getTournament(), callerUsername)) {
             return new GameDayResponse(false, "Access denied");
         }
-        return new GameDayResponse(true, "Game day retrieved successfully", toDto(day));
+        return new GameDayResponse(true, "Game day retrieved successfully", loadDto(day));
     }
 
     /**
@@ -244,11 +281,8 @@ public class LeagueGameDayService {
         if (!isAuthorized(tournament, callerUsername)) {
             return new GameDayResponse(false, "Access denied");
         }
-        List<GameDayResponse.GameDayDto> dtos = leagueGameDayRepository
-                .findByTournamentIdOrderByGameDateDesc(tournamentId)
-                .stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
+        List<GameDayResponse.GameDayDto> dtos = loadDtos(
+                leagueGameDayRepository.findByTournamentIdOrderByGameDateDesc(tournamentId));
         return new GameDayResponse(true, "Game days retrieved successfully", dtos);
     }
 
@@ -257,7 +291,7 @@ public class LeagueGameDayService {
      */
     @Transactional
     public GameDayResponse startGameDay(Long tournamentId, Long dayId, String callerUsername) {
-        Optional<LeagueGameDay> dayOpt = leagueGameDayRepository.findByIdWithAll(dayId);
+        Optional<LeagueGameDay> dayOpt = leagueGameDayRepository.findById(dayId);
         if (dayOpt.isEmpty() || !dayOpt.get().getTournament().getId().equals(tournamentId)) {
             return new GameDayResponse(false, "Game day not found");
         }
@@ -271,7 +305,7 @@ public class LeagueGameDayService {
         day.setStatus(GameDayStatus.ONGOING);
         day.setUpdatedAt(System.currentTimeMillis());
         leagueGameDayRepository.save(day);
-        return new GameDayResponse(true, "Game day started successfully", toDto(day));
+        return new GameDayResponse(true, "Game day started successfully", loadDto(day));
     }
 
     /**
@@ -315,13 +349,14 @@ public class LeagueGameDayService {
     }
 
     /**
-     * Submit or overwrite the score for a single match.
+     * Submit or overwrite the score for a single match, returning the given view of the result.
      * Only allowed when the game day is ONGOING.
      */
     @Transactional
     public GameDayResponse submitMatchScore(Long tournamentId, Long dayId, Long groupId, Long matchId,
-                                            SubmitMatchScoreRequest request, String callerUsername) {
-        Optional<LeagueGameDay> dayOpt = leagueGameDayRepository.findByIdWithAll(dayId);
+                                            SubmitMatchScoreRequest request, String callerUsername,
+                                            ScoreResponseView view) {
+        Optional<LeagueGameDay> dayOpt = leagueGameDayRepository.findById(dayId);
         if (dayOpt.isEmpty() || !dayOpt.get().getTournament().getId().equals(tournamentId)) {
             return new GameDayResponse(false, "Game day not found");
         }
@@ -354,10 +389,83 @@ public class LeagueGameDayService {
         match.setTeam1Score(request.getTeam1Score());
         match.setTeam2Score(request.getTeam2Score());
         matchRepository.save(match);
+        publishScore(day, match);
+
+        if (view != ScoreResponseView.DAY) {
+            return scoredMatchResponse(match, view);
+        }
+        return new GameDayResponse(true, "Score submitted successfully", loadDto(day));
+    }
+
+    /**
+     * Submit or overwrite the scores of several matches of one game day in a single transaction.
+     * Every score is validated before any is applied, so the batch succeeds or fails as a whole.
+     * When {@code groupId} is given, all matches must belong to that group.
+     * A score that carries a {@code version} older than the match's is rejected with
+     * {@link ObjectOptimisticLockingFailureException}, like a concurrent update at flush time.
+     */
+    @Transactional
+    public GameDayResponse submitMatchScores(Long tournamentId, Long dayId, Long groupId,
+                                  SubmitMatchScoresRequest request, String callerUsername) {
+        Optional<LeagueGameDay> dayOpt = leagueGameDayRepository.findById(dayId);
+        if (dayOpt.isEmpty() || !dayOpt.get().getTournament().getId().equals(tournamentId)) {
+            return new GameDayResponse(false, "Game day not found");
+        }
+        LeagueGameDay day = dayOpt.get();
+        if (!isAuthorized(day.getTournament(), callerUsername)) {
+            return new GameDayResponse(false, "Access denied");
+        }
+        if (day.getStatus() != GameDayStatus.ONGOING) {
+            return new GameDayResponse(false, "Scores can only be submitted for ONGOING game days");
+        }
+
+        // Validate every score before touching any match
+        List<SubmitMatchScoresRequest.MatchScore> scores = request.getScores();
+        if (scores == null || scores.isEmpty()) {
+            return new GameDayResponse(false, "At least one score is required");
+        }
+        Set<Long> matchIds = new HashSet<>();
+        for (SubmitMatchScoresRequest.MatchScore score : scores) {
+            if (score.getMatchId() == null) {
+                return new GameDayResponse(false, "Every score needs a matchId");
+            }
+            if (!matchIds.add(score.getMatchId())) {
+                return new GameDayResponse(false, "Match " + score.getMatchId() + " appears more than once");
+            }
+            if (score.getTeam1Score() == null || score.getTeam2Score() == null) {
+                return new GameDayResponse(false, "Both team1Score and team2Score are required");
+            }
+            if (score.getTeam1Score() < 0 || score.getTeam2Score() < 0) {
+                return new GameDayResponse(false, "Scores must be non-negative");
+            }
+        }
+
+        // One query for all matches, restricted to this game day
+        Map<Long, LeagueGameDayGroupMatch> matches = new HashMap<>();
+        for (LeagueGameDayGroupMatch match : matchRepository.findAllByIdInGameDay(dayId, matchIds)) {
+            matches.put(match.getId(), match);
+        }
+        for (SubmitMatchScoresRequest.MatchScore score : scores) {
+            LeagueGameDayGroupMatch match = matches.get(score.getMatchId());
+            if (match == null || (groupId != null && !match.getGroup().getId().equals(groupId))) {
+                return new GameDayResponse(false, "Match " + score.getMatchId() + " does not belong to the specified group/day");
+            }
+            if (score.getVersion() != null && !score.getVersion().equals(match.getVersion())) {
+                throw new ObjectOptimisticLockingFailureException(LeagueGameDayGroupMatch.class, match.getId());
+            }
+        }
 
-        // Re-fetch with full joins so the returned DTO reflects the updated score
-        LeagueGameDay refreshed = leagueGameDayRepository.findByIdWithAll(dayId).orElse(day);
-        return new GameDayResponse(true, "Score submitted successfully", toDto(refreshed));
+        for (SubmitMatchScoresRequest.MatchScore score : scores) {
+            LeagueGameDayGroupMatch match = matches.get(score.getMatchId());
+            match.setTeam1Score(score.getTeam1Score());
+            match.setTeam2Score(score.getTeam2Score());
+        }
+        matchRepository.saveAll(matches.values());
+        for (SubmitMatchScoresRequest.MatchScore score : scores) {
+            publishScore(day, matches.get(score.getMatchId()));
+        }
+
+        return new GameDayResponse(true, "Scores submitted successfully", loadDto(day));
     }
 
     /**
@@ -367,6 +475,9 @@ public class LeagueGameDayService {
      */
     @Transactional
     public GameDayResponse finishGameDay(Long tournamentId, Long dayId, String callerUsername) {
+        // Serialises with other finishes and ranking recomputes of this tournament; taken first so
+        // everything below reads what the previous holder committed
+        tournamentRepository.findByIdForUpdate(tournamentId);
         Optional<LeagueGameDay> dayOpt = leagueGameDayRepository.findByIdWithAll(dayId);
         if (dayOpt.isEmpty() || !dayOpt.get().getTournament().getId().equals(tournamentId)) {
             return new GameDayResponse(false, "Game day not found");
@@ -390,73 +501,160 @@ public class LeagueGameDayService {
             }
         }
 
-        // Load ELO config
+        // Resolve the ranking engine for the configured logic
         Optional<LeagueTournamentSettings> settingsOpt =
             leagueSettingsRepository.findByTournamentId(tournamentId);
-        if (settingsOpt.isEmpty() || !(settingsOpt.get().getRankingConfig() instanceof ModifiedEloConfig eloConfig)) {
+        Optional<RankingEngine> engineOpt = settingsOpt
+            .flatMap(found -> rankingEngines.forLogic(found.getRankingLogic()))
+            .filter(engine -> engine.supports(settingsOpt.get().getRankingConfig()));
+        if (engineOpt.isEmpty()) {
             return new GameDayResponse(false, "League ELO settings not found for this tournament");
         }
-        double K = eloConfig.k();
-
-        // For each match: compute ELO delta, save history rows (using current rankScore as baseline),
-        // then accumulate deltas. History records the pre-delta score for each player.
-        Map<Long, BigDecimal> deltas = new HashMap<>();
-
-        for (LeagueGameDayGroup group : day.getGroups()) {
-            for (LeagueGameDayGroupMatch match : group.getMatches()) {
-                TournamentPlayer tp1p1 = match.getTeam1Player1().getTournamentPlayer();
-                TournamentPlayer tp1p2 = match.getTeam1Player2().getTournamentPlayer();
-                TournamentPlayer tp2p1 = match.getTeam2Player1().getTournamentPlayer();
-                TournamentPlayer tp2p2 = match.getTeam2Player2().getTournamentPlayer();
-
-                double scoreK = tp1p1.getRankScore().doubleValue();
-                double scoreL = tp1p2.getRankScore().doubleValue();
-                double scoreM = tp2p1.getRankScore().doubleValue();
-                double scoreN = tp2p2.getRankScore().doubleValue();
-
-                double X = (scoreK + scoreL) / 2.0; // team1 average strength
-                double Y = (scoreM + scoreN) / 2.0; // team2 average strength
-                double T = 1.0 / (1.0 + Math.pow(10.0, (Y - X) / 480.0));
-
-                boolean team1Wins = match.getTeam1Score() > match.getTeam2Score();
-                double team1Delta = team1Wins ? K * T : -K * T;
-                double team2Delta = -team1Delta;
-
-                BigDecimal bd1 = BigDecimal.valueOf(team1Delta).setScale(2, RoundingMode.HALF_UP);
-                BigDecimal bd2 = BigDecimal.valueOf(team2Delta).setScale(2, RoundingMode.HALF_UP);
-
-                // Save history with current (pre-delta) score as previous
-                rankScoreHistoryRepository.save(new RankScoreHistory(tp1p1, match,
-                    tp1p1.getRankScore(), tp1p1.getRankScore().add(bd1)));
-                rankScoreHistoryRepository.save(new RankScoreHistory(tp1p2, match,
-                    tp1p2.getRankScore(), tp1p2.getRankScore().add(bd1)));
-                rankScoreHistoryRepository.save(new RankScoreHistory(tp2p1, match,
-                    tp2p1.getRankScore(), tp2p1.getRankScore().add(bd2)));
-                rankScoreHistoryRepository.save(new RankScoreHistory(tp2p2, match,
-                    tp2p2.getRankScore(), tp2p2.getRankScore().add(bd2)));
-
-                // Accumulate deltas
-                deltas.merge(tp1p1.getId(), bd1, BigDecimal::add);
-                deltas.merge(tp1p2.getId(), bd1, BigDecimal::add);
-                deltas.merge(tp2p1.getId(), bd2, BigDecimal::add);
-                deltas.merge(tp2p2.getId(), bd2, BigDecimal::add);
+        LeagueTournamentSettings settings = settingsOpt.get();
+        RankChanges changes = gameDayMetrics.timeRankingComputation(TournamentType.LEAGUE, settings.getRankingLogic(),
+            () -> computeRankChanges(day.getGroups(), engineOpt.get(), settings.getRankingConfig()));
+        Map<Long, BigDecimal> deltas = changes.deltas();
+        Map<Long, TournamentPlayer> updatedPlayers = changes.updatedPlayers();
+        List<RankScoreHistory> historyRows = changes.historyRows();
+
+        // Enabled players who sat the day out: the engine's inactivity step (Glicko-2 deviation)
+        if (engineOpt.get().tracksDeviation()) {
+            for (TournamentPlayer tp : tournamentPlayerRepository.findByTournamentId(tournamentId)) {
+                if (tp.getStatus() != PlayerStatus.DISABLED && tp.getRatingDeviation() != null
+                        && !updatedPlayers.containsKey(tp.getId())) {
+                    RankingResult.applyIdleDeviation(engineOpt.get(), tp);
+                    updatedPlayers.put(tp.getId(), tp);
+                }
             }
         }
 
-        // Apply accumulated deltas and persist updated rank scores
+        // Write all history rows in a single JDBC batch
+        rankScoreHistoryRepository.insertBatch(historyRows);
+        gameDayMetrics.historyRowsWritten(TournamentType.LEAGUE, historyRows.size());
+
+        // Apply accumulated deltas to the already-loaded players; the changes are flushed
+        // as one batched UPDATE (hibernate.jdbc.batch_size) instead of a find + save per player
         for (Map.Entry<Long, BigDecimal> entry : deltas.entrySet()) {
-            tournamentPlayerRepository.findById(entry.getKey()).ifPresent(tp -> {
-                tp.setRankScore(tp.getRankScore().add(entry.getValue()));
-                tournamentPlayerRepository.save(tp);
-            });
+            TournamentPlayer tp = updatedPlayers.get(entry.getKey());
+            tp.setRankScore(tp.getRankScore().add(entry.getValue()));
         }
+        tournamentPlayerRepository.saveAll(updatedPlayers.values());
 
         day.setStatus(GameDayStatus.COMPLETED);
         day.setUpdatedAt(System.currentTimeMillis());
         leagueGameDayRepository.save(day);
+        eventPublisher.publishEvent(new RankingsChangedEvent(tournamentId));
+        eventPublisher.publishEvent(new GameDayCompletedEvent(TournamentType.LEAGUE, tournamentId, dayId,
+            matchPlayers(day), matchScores(day)));
+
+        return new GameDayResponse(true, "Game day finished and rankings updated", loadDto(day));
+    }
+
+    /**
+     * Tournament player ids of every match of the day, four per match, for {@link GameDayCompletedEvent}.
+     */
+    private static long[] matchPlayers(LeagueGameDay day) {
+        List<Long> ids = new ArrayList<>();
+        for (LeagueGameDayGroup group : day.getGroups()) {
+            for (LeagueGameDayGroupMatch m : group.getMatches()) {
+                ids.add(m.getTeam1Player1().getTournamentPlayer().getId());
+                ids.add(m.getTeam1Player2().getTournamentPlayer().getId());
+                ids.add(m.getTeam2Player1().getTournamentPlayer().getId());
+                ids.add(m.getTeam2Player2().getTournamentPlayer().getId());
+            }
+        }
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /**
+     * Team 1 and team 2 score of every match of the day, in {@link #matchPlayers} order.
+     */
+    private static int[] matchScores(LeagueGameDay day) {
+        List<Integer> scores = new ArrayList<>();
+        for (LeagueGameDayGroup group : day.getGroups()) {
+            for (LeagueGameDayGroupMatch m : group.getMatches()) {
+                scores.add(m.getTeam1Score());
+                scores.add(m.getTeam2Score());
+            }
+        }
+        return scores.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Result of a ranking pass over a game day: accumulated delta per tournament player id,
+     * the affected players keyed by id, and one history row per player per match.
+     */
+    record RankChanges(Map<Long, BigDecimal> deltas, Map<Long, TournamentPlayer> updatedPlayers,
+                       List<RankScoreHistory> historyRows) {}
+
+    /**
+     * Run the given ranking engine over all matches of the given groups.
+     * Every match is rated against the players' pre-day rank scores; nothing is persisted here,
+     * but engines that track rating deviation and volatility update them on the loaded players.
+     */
+    static RankChanges computeRankChanges(Collection<LeagueGameDayGroup> groups,
+                                          RankingEngine engine, RankingConfig config) {
+        List<LeagueGameDayGroupMatch> matches = new ArrayList<>();
+        for (LeagueGameDayGroup group : groups) {
+            matches.addAll(group.getMatches());
+        }
+
+        MatchBatch batch = new MatchBatch(matches.size());
+        for (LeagueGameDayGroupMatch match : matches) {
+            batch.addMatch(
+                match.getTeam1Player1().getTournamentPlayer(), match.getTeam1Player2().getTournamentPlayer(),
+                match.getTeam2Player1().getTournamentPlayer(), match.getTeam2Player2().getTournamentPlayer(),
+                match.getTeam1Score(), match.getTeam2Score());
+        }
+        RankingResult result = engine.compute(config, batch);
+        // Deviation and volatility (Glicko-2) go straight onto the loaded players; saved with the scores
+        result.applyRatingState(batch);
+
+        // History records the pre-day score as previous for each player in each match
+        Map<Long, BigDecimal> deltas = new HashMap<>();
+        List<RankScoreHistory> historyRows = new ArrayList<>(matches.size() * MatchBatch.SLOTS_PER_MATCH);
+        for (int m = 0; m < matches.size(); m++) {
+            for (int slot = 0; slot < MatchBatch.SLOTS_PER_MATCH; slot++) {
+                TournamentPlayer tp = batch.player(m, slot);
+                BigDecimal delta = result.delta(m, slot);
+                historyRows.add(new RankScoreHistory(tp, matches.get(m),
+                    tp.getRankScore(), tp.getRankScore().add(delta)));
+                deltas.merge(tp.getId(), delta, BigDecimal::add);
+            }
+        }
 
-        LeagueGameDay refreshed = leagueGameDayRepository.findByIdWithAll(dayId).orElse(day);
-        return new GameDayResponse(true, "Game day finished and rankings updated", toDto(refreshed));
+        return new RankChanges(deltas, batch.playersById(), historyRows);
+    }
+
+    /**
+     * Reorder the rank-sorted players so that slicing them by group size gives balanced groups
+     * (see {@link BalancedGrouping}), with the tournament's past partnerships and oppositions as history.
+     */
+    private static List<TournamentPlayer> arrangeBalanced(List<TournamentPlayer> players, List<Integer> groupSizes,
+                                                          PairingFrequencyIndex.Pairings pairings) {
+        int n = players.size();
+        // Unrated players sort last; rate them as the weakest rated player
+        double floor = players.stream()
+                .map(TournamentPlayer::getRankScore)
+                .filter(Objects::nonNull)
+                .mapToDouble(BigDecimal::doubleValue)
+                .min().orElse(0);
+        long[] playerIds = new long[n];
+        double[] ratings = new double[n];
+        for (int i = 0; i < n; i++) {
+            TournamentPlayer tp = players.get(i);
+            playerIds[i] = tp.getId();
+            ratings[i] = tp.getRankScore() != null ? tp.getRankScore().doubleValue() : floor;
+        }
+
+        int[][] repeated = pairings.repeatedPairs(playerIds);
+        int[] order = BalancedGrouping.arrange(ratings, groupSizes, repeated[0], repeated[1], repeated[2],
+                ThreadLocalRandom.current());
+        List<TournamentPlayer> arranged = new ArrayList<>(n);
+        for (int i : order) {
+            arranged.add(players.get(i));
+        }
+        return arranged;
     }
 
     /**
@@ -474,52 +672,80 @@ public class LeagueGameDayService {
      *   3: A,E vs B,D
      *   4: A,D vs C,E
      *   5: B,C vs D,E
+     *
+     * Sizes 6 and 7 use the rotating-bye schedules of {@link GroupAllocator#schedule}.
+     *
+     * Letters are seats: players take the seats in rank order unless another order repeats fewer
+     * past partnerships and oppositions (see {@link PairingFrequencyIndex#leastRepeatedOrder}).
      */
-    private void generateMatches(LeagueGameDayGroup group) {
+    static void generateMatches(LeagueGameDayGroup group, PairingFrequencyIndex.Pairings pairings) {
         // Convert Set to indexed List (insertion order preserved via LinkedHashSet + @OrderBy id ASC)
         List<LeagueGameDayGroupPlayer> p = new ArrayList<>(group.getPlayers());
         int size = p.size();
 
-        int[][] schedule;
-        if (size == 4) {
-            // indices: A=0, B=1, C=2, D=3
-            schedule = new int[][] {
-                {0, 1, 2, 3},   // A,B vs C,D
-                {0, 2, 1, 3},   // A,C vs B,D
-                {0, 3, 1, 2},   // A,D vs B,C
-            };
-        } else { // size == 5
-            // indices: A=0, B=1, C=2, D=3, E=4
-            schedule = new int[][] {
-                {0, 1, 2, 3},   // A,B vs C,D
-                {0, 2, 1, 4},   // A,C vs B,E
-                {0, 4, 1, 3},   // A,E vs B,D
-                {0, 3, 2, 4},   // A,D vs C,E
-                {1, 2, 3, 4},   // B,C vs D,E
-            };
+        int[][] schedule = GroupAllocator.schedule(size);
+        long[] playerIds = new long[size];
+        for (int i = 0; i < size; i++) {
+            playerIds[i] = p.get(i).getTournamentPlayer().getId();
         }
+        int[] seat = PairingFrequencyIndex.leastRepeatedOrder(schedule, playerIds, pairings);
 
         for (int i = 0; i < schedule.length; i++) {
             int[] s = schedule[i];
             group.getMatches().add(new LeagueGameDayGroupMatch(
                     group, i + 1,
-                    p.get(s[0]), p.get(s[1]),
-                    p.get(s[2]), p.get(s[3])
+                    p.get(seat[s[0]]), p.get(seat[s[1]]),
+                    p.get(seat[s[2]]), p.get(seat[s[3]])
             ));
         }
     }
 
+    /**
+     * Assign every match of the day to a court and a round (see {@link CourtScheduler}).
+     * Without a court count each group gets a court of its own.
+     */
+    static void scheduleCourts(Collection<LeagueGameDayGroup> groups, Integer courtCount) {
+        List<LeagueGameDayGroupMatch> matches = new ArrayList<>();
+        List<int[]> matchPlayers = new ArrayList<>();
+        List<Integer> matchGroup = new ArrayList<>();
+        Map<LeagueGameDayGroupPlayer, Integer> playerIndex = new IdentityHashMap<>();
+        int groupIndex = 0;
+        for (LeagueGameDayGroup group : groups) {
+            for (LeagueGameDayGroupPlayer gp : group.getPlayers()) {
+                playerIndex.put(gp, playerIndex.size());
+            }
+            for (LeagueGameDayGroupMatch m : group.getMatches()) {
+                matches.add(m);
+                matchPlayers.add(new int[]{
+                        playerIndex.get(m.getTeam1Player1()), playerIndex.get(m.getTeam1Player2()),
+                        playerIndex.get(m.getTeam2Player1()), playerIndex.get(m.getTeam2Player2())
+                });
+                matchGroup.add(groupIndex);
+            }
+            groupIndex++;
+        }
+        if (matches.isEmpty()) {
+            return;
+        }
+
+        int courts = courtCount != null ? courtCount : groupIndex;
+        CourtScheduler.Schedule schedule = CourtScheduler.schedule(
+                matchPlayers.toArray(new int[0][]),
+                matchGroup.stream().mapToInt(Integer::intValue).toArray(),
+                courts);
+        for (int i = 0; i < matches.size(); i++) {
+            matches.get(i).setCourtNumber(schedule.courts()[i]);
+            matches.get(i).setRoundNumber(schedule.rounds()[i]);
+        }
+    }
+
     /**
      * Map a LeagueGameDay entity to a GameDayDto.
+     * Only for an entity graph that is already in memory (e.g. one just created).
+     * Read paths use {@link #loadDtos} instead.
      */
-    private GameDayResponse.GameDayDto toDto(LeagueGameDay day) {
-        GameDayResponse.GameDayDto dto = new GameDayResponse.GameDayDto();
-        dto.setId(day.getId());
-        dto.setTournamentId(day.getTournament().getId());
-        dto.setGameDate(day.getGameDate().toString());
-        dto.setStatus(day.getStatus().name());
-        dto.setCreatedAt(day.getCreatedAt());
-        dto.setUpdatedAt(day.getUpdatedAt());
+    static GameDayResponse.GameDayDto toDto(LeagueGameDay day) {
+        GameDayResponse.GameDayDto dto = toHeaderDto(day);
 
         List<GameDayResponse.GroupDto> groupDtos = day.getGroups().stream()
                 .map(group -> {
@@ -561,6 +787,9 @@ public class LeagueGameDayService {
                                         + " " + m.getTeam2Player2().getTournamentPlayer().getUser().getLastName());
                                 mdto.setTeam1Score(m.getTeam1Score());
                                 mdto.setTeam2Score(m.getTeam2Score());
+                                mdto.setCourtNumber(m.getCourtNumber());
+                                mdto.setRoundNumber(m.getRoundNumber());
+                                mdto.setVersion(m.getVersion());
                                 return mdto;
                             })
                             .collect(Collectors.toList());
@@ -573,25 +802,123 @@ public class LeagueGameDayService {
         return dto;
     }
 
+    private static GameDayResponse.GameDayDto toHeaderDto(LeagueGameDay day) {
+        GameDayResponse.GameDayDto dto = new GameDayResponse.GameDayDto();
+        dto.setId(day.getId());
+        dto.setTournamentId(day.getTournament().getId());
+        dto.setGameDate(day.getGameDate().toString());
+        dto.setStatus(day.getStatus().name());
+        dto.setCreatedAt(day.getCreatedAt());
+        dto.setUpdatedAt(day.getUpdatedAt());
+        return dto;
+    }
+
+    private GameDayResponse.GameDayDto loadDto(LeagueGameDay day) {
+        return loadDtos(List.of(day)).get(0);
+    }
+
+    /**
+     * Build game day DTOs from three flat projections — groups, group players with users,
+     * and matches — keyed by id, instead of the fetch-joined entity graph.
+     * Returns the DTOs in the order of {@code days}.
+     */
+    private List<GameDayResponse.GameDayDto> loadDtos(List<LeagueGameDay> days) {
+        if (days.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Long> dayIds = days.stream().map(LeagueGameDay::getId).toList();
+        return assembleDtos(days,
+                leagueGameDayRepository.findGroupRows(dayIds),
+                leagueGameDayRepository.findGroupPlayerRows(dayIds),
+                leagueGameDayRepository.findMatchRows(dayIds));
+    }
+
+    /**
+     * Assemble game day DTOs from the flat rows returned by the read-model queries.
+     */
+    static List<GameDayResponse.GameDayDto> assembleDtos(List<LeagueGameDay> days,
+                                                         List<LeagueGameDayRepository.GroupRow> groupRows,
+                                                         List<LeagueGameDayRepository.GroupPlayerRow> playerRows,
+                                                         List<LeagueGameDayRepository.MatchRow> matchRows) {
+        // Group player id → player; match team slots reference group players
+        Map<Long, GameDayResponse.GroupPlayerDto> playersById = new HashMap<>();
+        Map<Long, List<GameDayResponse.GroupPlayerDto>> playersByGroup = new HashMap<>();
+        for (LeagueGameDayRepository.GroupPlayerRow row : playerRows) {
+            GameDayResponse.GroupPlayerDto pdto = new GameDayResponse.GroupPlayerDto();
+            pdto.setTournamentPlayerId(row.getTournamentPlayerId());
+            pdto.setUserId(row.getUserId());
+            pdto.setFirstName(row.getFirstName());
+            pdto.setLastName(row.getLastName());
+            pdto.setRankScore(row.getRankScore());
+            playersById.put(row.getId(), pdto);
+            playersByGroup.computeIfAbsent(row.getGroupId(), k -> new ArrayList<>()).add(pdto);
+        }
+
+        Map<Long, List<GameDayResponse.MatchDto>> matchesByGroup = new HashMap<>();
+        for (LeagueGameDayRepository.MatchRow row : matchRows) {
+            GameDayResponse.GroupPlayerDto t1p1 = playersById.get(row.getTeam1Player1Id());
+            GameDayResponse.GroupPlayerDto t1p2 = playersById.get(row.getTeam1Player2Id());
+            GameDayResponse.GroupPlayerDto t2p1 = playersById.get(row.getTeam2Player1Id());
+            GameDayResponse.GroupPlayerDto t2p2 = playersById.get(row.getTeam2Player2Id());
+            GameDayResponse.MatchDto mdto = new GameDayResponse.MatchDto();
+            mdto.setId(row.getId());
+            mdto.setMatchOrder(row.getMatchOrder());
+            mdto.setTeam1Player1Id(t1p1.getTournamentPlayerId());
+            mdto.setTeam1Player1Name(t1p1.getFirstName() + " " + t1p1.getLastName());
+            mdto.setTeam1Player2Id(t1p2.getTournamentPlayerId());
+            mdto.setTeam1Player2Name(t1p2.getFirstName() + " " + t1p2.getLastName());
+            mdto.setTeam2Player1Id(t2p1.getTournamentPlayerId());
+            mdto.setTeam2Player1Name(t2p1.getFirstName() + " " + t2p1.getLastName());
+            mdto.setTeam2Player2Id(t2p2.getTournamentPlayerId());
+            mdto.setTeam2Player2Name(t2p2.getFirstName() + " " + t2p2.getLastName());
+            mdto.setTeam1Score(row.getTeam1Score());
+            mdto.setTeam2Score(row.getTeam2Score());
+            mdto.setCourtNumber(row.getCourtNumber());
+            mdto.setRoundNumber(row.getRoundNumber());
+            mdto.setVersion(row.getVersion());
+            matchesByGroup.computeIfAbsent(row.getGroupId(), k -> new ArrayList<>()).add(mdto);
+        }
+
+        Map<Long, List<GameDayResponse.GroupDto>> groupsByDay = new HashMap<>();
+        for (LeagueGameDayRepository.GroupRow row : groupRows) {
+            GameDayResponse.GroupDto groupDto = new GameDayResponse.GroupDto();
+            groupDto.setId(row.getId());
+            groupDto.setGroupNumber(row.getGroupNumber());
+            List<GameDayResponse.GroupPlayerDto> players = playersByGroup.getOrDefault(row.getId(), new ArrayList<>());
+            players.sort(Comparator.comparing(GameDayResponse.GroupPlayerDto::getRankScore,
+                            Comparator.nullsLast(Comparator.reverseOrder()))
+                    .thenComparing(GameDayResponse.GroupPlayerDto::getUserId));
+            groupDto.setPlayers(players);
+            groupDto.setMatches(matchesByGroup.getOrDefault(row.getId(), new ArrayList<>()));
+            groupsByDay.computeIfAbsent(row.getGameDayId(), k -> new ArrayList<>()).add(groupDto);
+        }
+
+        return days.stream()
+                .map(day -> {
+                    GameDayResponse.GameDayDto dto = toHeaderDto(day);
+                    dto.setGroups(groupsByDay.getOrDefault(day.getId(), new ArrayList<>()));
+                    return dto;
+                })
+                .collect(Collectors.toList());
+    }
+
     // ── Player-scoped game day methods ────────────────────────────────────────
 
     /**
      * Resolve the calling user, verify PLAYER role, and confirm they are a non-DISABLED
-     * TournamentPlayer in the given tournament. Returns the TournamentPlayer.
+     * TournamentPlayer in the given tournament. Returns the membership.
      */
-    private TournamentPlayer resolveRegisteredPlayer(Long tournamentId, String callerUsername) {
-        User caller = userRepository.findByUsername(callerUsername)
-            .orElseThrow(() -> new RuntimeException("Authenticated user not found"));
-        if (!Role.PLAYER.name().equals(caller.getRole())) {
+    private ResolvedPrincipal.Membership resolveRegisteredPlayer(Long tournamentId, String callerUsername) {
+        ResolvedPrincipal caller = principalResolver.resolve(callerUsername);
+        if (!caller.hasRole(Role.PLAYER)) {
             throw new AccessDeniedException("Only players can access this resource");
         }
-        TournamentPlayer tp = tournamentPlayerRepository
-            .findByTournamentIdAndUserId(tournamentId, caller.getId())
+        ResolvedPrincipal.Membership membership = caller.membership(tournamentId)
             .orElseThrow(() -> new AccessDeniedException("You are not registered in this tournament"));
-        if (tp.getStatus() == PlayerStatus.DISABLED) {
+        if (membership.status() == PlayerStatus.DISABLED) {
             throw new AccessDeniedException("Your participation in this tournament has been disabled");
         }
-        return tp;
+        return membership;
     }
 
     /**
@@ -609,10 +936,9 @@ public class LeagueGameDayService {
         } catch (AccessDeniedException e) {
             return new GameDayResponse(false, e.getMessage());
         }
-        List<GameDayResponse.GameDayDto> dtos = leagueGameDayRepository
-            .findByTournamentIdOrderByGameDateDesc(tournamentId)
+        List<GameDayResponse.GameDayDto> dtos = loadDtos(leagueGameDayRepository
+            .findByTournamentIdOrderByGameDateDesc(tournamentId))
             .stream()
-            .map(this::toDto)
             .sorted(Comparator.comparing(
                 (GameDayResponse.GameDayDto d) -> "ONGOING".equals(d.getStatus()) ? 0 : 1))
             .collect(Collectors.toList());
@@ -625,21 +951,21 @@ public class LeagueGameDayService {
      */
     @Transactional(readOnly = true)
     public GameDayResponse getGameDayForPlayer(Long tournamentId, Long dayId, String callerUsername) {
-        Optional<LeagueGameDay> dayOpt = leagueGameDayRepository.findByIdWithAll(dayId);
+        Optional<LeagueGameDay> dayOpt = leagueGameDayRepository.findById(dayId);
         if (dayOpt.isEmpty() || !dayOpt.get().getTournament().getId().equals(tournamentId)) {
             return new GameDayResponse(false, "Game day not found");
         }
-        TournamentPlayer tp;
+        ResolvedPrincipal.Membership tp;
         try {
             tp = resolveRegisteredPlayer(tournamentId, callerUsername);
         } catch (AccessDeniedException e) {
             return new GameDayResponse(false, e.getMessage());
         }
         LeagueGameDay day = dayOpt.get();
-        GameDayResponse.GameDayDto dto = toDto(day);
+        GameDayResponse.GameDayDto dto = loadDto(day);
 
         // Filter to only groups that contain this player
-        Long callerTpId = tp.getId();
+        Long callerTpId = tp.tournamentPlayerId();
         List<GameDayResponse.GroupDto> filtered = dto.getGroups().stream()
             .filter(g -> g.getPlayers().stream()
                 .anyMatch(p -> callerTpId.equals(p.getTournamentPlayerId())))
@@ -650,7 +976,7 @@ public class LeagueGameDayService {
     }
 
     /**
-     * Submit match score as a player.
+     * Submit match score as a player, returning the given view of the result.
      * Rules:
      *  - Caller must be one of the four players in the match.
      *  - Score may only be set once (code-level check); @Version provides DB-level race guard.
@@ -658,12 +984,12 @@ public class LeagueGameDayService {
     @Transactional
     public GameDayResponse submitMatchScoreAsPlayer(Long tournamentId, Long dayId, Long groupId,
                                                     Long matchId, SubmitMatchScoreRequest request,
-                                                    String callerUsername) {
-        Optional<LeagueGameDay> dayOpt = leagueGameDayRepository.findByIdWithAll(dayId);
+                                                    String callerUsername, ScoreResponseView view) {
+        Optional<LeagueGameDay> dayOpt = leagueGameDayRepository.findById(dayId);
         if (dayOpt.isEmpty() || !dayOpt.get().getTournament().getId().equals(tournamentId)) {
             return new GameDayResponse(false, "Game day not found");
         }
-        TournamentPlayer tp;
+        ResolvedPrincipal.Membership tp;
         try {
             tp = resolveRegisteredPlayer(tournamentId, callerUsername);
         } catch (AccessDeniedException e) {
@@ -692,7 +1018,7 @@ public class LeagueGameDayService {
         }
 
         // Verify caller is one of the four players in this match
-        Long tpId = tp.getId();
+        Long tpId = tp.tournamentPlayerId();
         boolean isParticipant = tpId.equals(match.getTeam1Player1().getTournamentPlayer().getId())
             || tpId.equals(match.getTeam1Player2().getTournamentPlayer().getId())
             || tpId.equals(match.getTeam2Player1().getTournamentPlayer().getId())
@@ -711,12 +1037,15 @@ public class LeagueGameDayService {
         // @Version on the entity provides DB-level optimistic lock —
         // a concurrent save will throw ObjectOptimisticLockingFailureException (caught in controller)
         matchRepository.save(match);
+        publishScore(day, match);
 
-        LeagueGameDay refreshed = leagueGameDayRepository.findByIdWithAll(dayId).orElse(day);
-        GameDayResponse.GameDayDto dto = toDto(refreshed);
+        if (view != ScoreResponseView.DAY) {
+            return scoredMatchResponse(match, view);
+        }
+        GameDayResponse.GameDayDto dto = loadDto(day);
 
         // Return only the caller's groups
-        Long callerTpId = tp.getId();
+        Long callerTpId = tp.tournamentPlayerId();
         List<GameDayResponse.GroupDto> filtered = dto.getGroups().stream()
             .filter(g -> g.getPlayers().stream()
                 .anyMatch(p -> callerTpId.equals(p.getTournamentPlayerId())))
@@ -727,11 +1056,40 @@ public class LeagueGameDayService {
     }
 
     /**
-     * Get the completed-game-day history for a specific tournament player.
+     * Check whether the caller may subscribe to the live score stream of a game day:
+     * admins of the tournament and enabled players registered in it.
+     */
+    @Transactional(readOnly = true)
+    public boolean canWatchGameDay(Long tournamentId, Long dayId, String callerUsername) {
+        Optional<LeagueGameDay> dayOpt = leagueGameDayRepository.findById(dayId);
+        if (dayOpt.isEmpty() || !dayOpt.get().getTournament().getId().equals(tournamentId)) {
+            return false;
+        }
+        if (isAuthorized(dayOpt.get().getTournament(), callerUsername)) {
+            return true;
+        }
+        try {
+            resolveRegisteredPlayer(tournamentId, callerUsername);
+            return true;
+        } catch (AccessDeniedException e) {
+            return false;
+        }
+    }
+
+    /**
+     * One page of a player's completed-game-day history, the last finished game day first.
      * Any authenticated user may view any player's history.
+     * Pages are keyset cursors over the history row's (changed_at, id), which the player's history
+     * index serves: pass the previous page's {@code nextCursor} to continue, or null for the first page.
+     * A game day can be split across two pages; its matches then arrive in both.
+     * Names and scores come from a single projection query, so no match graph is loaded.
+     *
+     * @param limit history entries (matches) per page; null for the default
+     * @throws IllegalArgumentException for a malformed cursor
      */
     @Transactional(readOnly = true)
-    public PlayerHistoryResponse getPlayerHistory(Long tournamentId, Long tournamentPlayerId) {
+    public PlayerHistoryResponse getPlayerHistory(Long tournamentId, Long tournamentPlayerId,
+                                 String cursor, Integer limit) {
         Optional<TournamentPlayer> tpOpt = tournamentPlayerRepository.findById(tournamentPlayerId);
         if (tpOpt.isEmpty() || !tpOpt.get().getTournament().getId().equals(tournamentId)) {
             return new PlayerHistoryResponse(false, "Player not found in this tournament");
@@ -739,58 +1097,59 @@ public class LeagueGameDayService {
         TournamentPlayer tp = tpOpt.get();
         String playerName = tp.getUser().getFirstName() + " " + tp.getUser().getLastName();
 
-        // All history rows for this player, oldest first so match order within a day is chronological
-        List<RankScoreHistory> historyRows = rankScoreHistoryRepository
-            .findByTournamentPlayerIdOrderByChangedAtDesc(tournamentPlayerId);
+        int pageSize = limit == null ? DEFAULT_HISTORY_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_HISTORY_PAGE_SIZE));
+        // One extra row tells whether another page follows
+        PageRequest page = PageRequest.of(0, pageSize + 1);
+        List<RankScoreHistoryRepository.HistoryRow> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = rankScoreHistoryRepository.findHistoryPage(tournamentPlayerId, page);
+        } else {
+            HistoryCursor after = HistoryCursor.parse(cursor);
+            rows = rankScoreHistoryRepository.findHistoryPageBefore(tournamentPlayerId, after.changedAt(), after.historyId(), page);
+        }
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            RankScoreHistoryRepository.HistoryRow last = rows.get(pageSize - 1);
+            nextCursor = new HistoryCursor(last.getChangedAt(), last.getHistoryId()).toString();
+        }
 
-        // Group by game day id, preserving insertion order (reversed so newest day is first)
-        Map<Long, List<RankScoreHistory>> byDay = new LinkedHashMap<>();
-        for (RankScoreHistory h : historyRows) {
-            Long dayId = h.getMatch().getGroup().getGameDay().getId();
-            byDay.computeIfAbsent(dayId, k -> new ArrayList<>()).add(h);
+        // Group by game day, keeping the newest-first day order of the rows
+        Map<Long, List<RankScoreHistoryRepository.HistoryRow>> byDay = new LinkedHashMap<>();
+        for (RankScoreHistoryRepository.HistoryRow row : rows) {
+            byDay.computeIfAbsent(row.getGameDayId(), k -> new ArrayList<>()).add(row);
         }
 
         List<PlayerHistoryResponse.GameDayHistoryDto> gameDayDtos = new ArrayList<>();
-        for (Map.Entry<Long, List<RankScoreHistory>> entry : byDay.entrySet()) {
-            List<RankScoreHistory> rows = entry.getValue();
-            // rows are already newest-first from the repo; reverse to chronological within the day
-            List<RankScoreHistory> chronological = new ArrayList<>(rows);
+        for (Map.Entry<Long, List<RankScoreHistoryRepository.HistoryRow>> entry : byDay.entrySet()) {
+            // rows are newest-first; reverse to chronological within the day
+            List<RankScoreHistoryRepository.HistoryRow> chronological = new ArrayList<>(entry.getValue());
             Collections.reverse(chronological);
 
-            String gameDate = chronological.get(0).getMatch().getGroup().getGameDay()
-                .getGameDate().toString();
-
             List<PlayerHistoryResponse.MatchHistoryDto> matchDtos = chronological.stream()
-                .map(h -> {
-                    LeagueGameDayGroupMatch m = h.getMatch();
-                    Long tpId = tp.getId();
-                    boolean onTeam1 = tpId.equals(m.getTeam1Player1().getTournamentPlayer().getId())
-                        || tpId.equals(m.getTeam1Player2().getTournamentPlayer().getId());
-                    return new PlayerHistoryResponse.MatchHistoryDto(
-                        m.getId(),
-                        m.getMatchOrder(),
-                        m.getTeam1Player1().getTournamentPlayer().getUser().getFirstName() + " "
-                            + m.getTeam1Player1().getTournamentPlayer().getUser().getLastName(),
-                        m.getTeam1Player2().getTournamentPlayer().getUser().getFirstName() + " "
-                            + m.getTeam1Player2().getTournamentPlayer().getUser().getLastName(),
-                        m.getTeam2Player1().getTournamentPlayer().getUser().getFirstName() + " "
-                            + m.getTeam2Player1().getTournamentPlayer().getUser().getLastName(),
-                        m.getTeam2Player2().getTournamentPlayer().getUser().getFirstName() + " "
-                            + m.getTeam2Player2().getTournamentPlayer().getUser().getLastName(),
-                        m.getTeam1Score(),
-                        m.getTeam2Score(),
-                        onTeam1,
-                        h.getPreviousScore(),
-                        h.getNewScore()
-                    );
-                })
+                .map(row -> new PlayerHistoryResponse.MatchHistoryDto(
+                    row.getMatchId(),
+                    row.getMatchOrder(),
+                    row.getTeam1Player1Name(),
+                    row.getTeam1Player2Name(),
+                    row.getTeam2Player1Name(),
+                    row.getTeam2Player2Name(),
+                    row.getTeam1Score(),
+                    row.getTeam2Score(),
+                    tournamentPlayerId.equals(row.getTeam1Player1Id())
+                        || tournamentPlayerId.equals(row.getTeam1Player2Id()),
+                    row.getPreviousScore(),
+                    row.getNewScore()
+                ))
                 .collect(Collectors.toList());
 
-            gameDayDtos.add(new PlayerHistoryResponse.GameDayHistoryDto(entry.getKey(), gameDate, matchDtos));
+            gameDayDtos.add(new PlayerHistoryResponse.GameDayHistoryDto(entry.getKey(),
+                chronological.get(0).getGameDate().toString(), matchDtos));
         }
 
-        return new PlayerHistoryResponse(true, "History retrieved successfully",
+        PlayerHistoryResponse response = new PlayerHistoryResponse(true, "History retrieved successfully",
             tournamentPlayerId, playerName, gameDayDtos);
+        response.setNextCursor(nextCursor);
+        return response;
     }
 }
-
@@ -0,0 +1,396 @@
+package nl.amila.badminton.manager.service.oneoff;
+
+import nl.amila.badminton.manager.entity.oneoff.BracketFormat;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A knockout bracket as one flat int array, so it is stored in a single column and read without joins.
+ *
+ * Entrants are seeds 1..n, drawn into a bracket of the next power of two with the standard seeding
+ * (1 and 2 can only meet in the final); the missing seeds are byes given to the top seeds. Each match
+ * takes {@value #STRIDE} ints: top and bottom participant, winner, and the top and bottom score.
+ * A participant is a seed, {@link #TBD} or {@link #BYE}.
+ *
+ * Where a match's winner and loser go next depends only on the format and size, so those routes are
+ * computed once per shape and shared ({@link Layout}). Recording a result therefore writes the winner
+ * and loser straight into their next slots; only byes add walkovers, at most a few per result.
+ *
+ * Matches are numbered round by round: winners bracket rounds first, then (double elimination)
+ * the losers bracket rounds, the grand final and its reset. The reset is a walkover when the
+ * winners bracket champion wins the grand final.
+ */
+public final class Bracket {
+
+    /** Participant not known yet. */
+    public static final int TBD = 0;
+    /** No participant: the other side advances without playing. */
+    public static final int BYE = -1;
+    /** Score of a match that was not played (yet). */
+    public static final int NO_SCORE = -1;
+
+    public static final int MIN_ENTRANTS = 2;
+    public static final int MAX_ENTRANTS = 512;
+
+    /** Section of a match, as reported by {@link #section(int)}. */
+    public static final int WINNERS = 0;
+    public static final int LOSERS = 1;
+    public static final int GRAND_FINAL = 2;
+
+    static final int STRIDE = 5;
+    private static final int TOP = 0;
+    private static final int BOTTOM = 1;
+    private static final int WINNER = 2;
+    private static final int SCORE_TOP = 3;
+    private static final int SCORE_BOTTOM = 4;
+
+    private static final Map<Integer, Layout> LAYOUTS = new ConcurrentHashMap<>();
+
+    private final Layout layout;
+    private final int[] state;
+
+    private Bracket(Layout layout, int[] state) {
+        this.layout = layout;
+        this.state = state;
+    }
+
+    /**
+     * Draw a new bracket for {@code entrants} seeds; byes are resolved straight away.
+     */
+    public static Bracket create(BracketFormat format, int entrants) {
+        int min = format == BracketFormat.DOUBLE_ELIMINATION ? MIN_ENTRANTS + 1 : MIN_ENTRANTS;
+        if (entrants < min || entrants > MAX_ENTRANTS) {
+            throw new IllegalArgumentException("A " + format.name().toLowerCase().replace('_', ' ')
+                + " bracket takes " + min + " to " + MAX_ENTRANTS + " entrants, got " + entrants);
+        }
+        int size = Integer.highestOneBit(entrants - 1) << 1;
+        Layout layout = layout(format, size);
+        int[] state = new int[layout.matchCount() * STRIDE];
+        for (int m = 0; m < layout.matchCount(); m++) {
+            state[m * STRIDE + SCORE_TOP] = NO_SCORE;
+            state[m * STRIDE + SCORE_BOTTOM] = NO_SCORE;
+        }
+        Bracket bracket = new Bracket(layout, state);
+        int[] leaves = seedOrder(size);
+        for (int i = 0; i < size; i++) {
+            bracket.place(i, leaves[i] <= entrants ? leaves[i] : BYE);
+        }
+        return bracket;
+    }
+
+    /**
+     * A stored bracket.
+     */
+    public static Bracket of(BracketFormat format, int size, int[] state) {
+        Layout layout = layout(format, size);
+        if (state.length != layout.matchCount() * STRIDE) {
+            throw new IllegalArgumentException("Bracket state has " + state.length + " ints, expected "
+                + layout.matchCount() * STRIDE);
+        }
+        return new Bracket(layout, state);
+    }
+
+    /**
+     * Standard seeding of a power-of-two bracket: leaf i holds the returned seed, and pairs of leaves
+     * meet in the first round.
+     */
+    static int[] seedOrder(int size) {
+        int[] seeds = {1};
+        while (seeds.length < size) {
+            int n = seeds.length * 2;
+            int[] next = new int[n];
+            for (int i = 0; i < seeds.length; i++) {
+                next[2 * i] = seeds[i];
+                next[2 * i + 1] = n + 1 - seeds[i];
+            }
+            seeds = next;
+        }
+        return seeds;
+    }
+
+    /**
+     * Record (or correct) the score of a match between two known entrants. A correction that changes
+     * the winner is only accepted while the affected later matches are still unplayed.
+     *
+     * @throws IllegalArgumentException for an unknown match or a tied score
+     * @throws IllegalStateException    when the match cannot be (re)scored
+     */
+    public void record(int match, int topScore, int bottomScore) {
+        checkMatch(match);
+        if (topScore == bottomScore) {
+            throw new IllegalArgumentException("A match cannot end in a tie");
+        }
+        int base = match * STRIDE;
+        int top = state[base + TOP];
+        int bottom = state[base + BOTTOM];
+        if (top <= 0 || bottom <= 0) {
+            throw new IllegalStateException("Match " + (match + 1) + " does not have two entrants yet");
+        }
+        int winner = topScore > bottomScore ? top : bottom;
+        int previous = state[base + WINNER];
+        if (previous != TBD && previous != winner && !correctable(match)) {
+            throw new IllegalStateException("Match " + (match + 1)
+                + " can no longer change winner: a later match already has a result");
+        }
+        state[base + SCORE_TOP] = topScore;
+        state[base + SCORE_BOTTOM] = bottomScore;
+        if (previous == TBD) {
+            decide(match, winner);
+        } else if (previous != winner) {
+            redecide(match, winner);
+        }
+    }
+
+    /** Winner of the whole bracket, or {@link #TBD}. */
+    public int champion() {
+        int winner = state[layout.lastMatch() * STRIDE + WINNER];
+        return winner > 0 ? winner : TBD;
+    }
+
+    public BracketFormat format() {
+        return layout.format();
+    }
+
+    /** Number of leaves: the entrant count rounded up to a power of two. */
+    public int size() {
+        return layout.size();
+    }
+
+    public int matchCount() {
+        return layout.matchCount();
+    }
+
+    public int top(int match) {
+        return state[match * STRIDE + TOP];
+    }
+
+    public int bottom(int match) {
+        return state[match * STRIDE + BOTTOM];
+    }
+
+    public int winner(int match) {
+        return state[match * STRIDE + WINNER];
+    }
+
+    public int topScore(int match) {
+        return state[match * STRIDE + SCORE_TOP];
+    }
+
+    public int bottomScore(int match) {
+        return state[match * STRIDE + SCORE_BOTTOM];
+    }
+
+    /** {@link #WINNERS}, {@link #LOSERS} or {@link #GRAND_FINAL}. */
+    public int section(int match) {
+        return layout.section()[match];
+    }
+
+    /** 1-based round within the match's section. */
+    public int round(int match) {
+        return layout.round()[match];
+    }
+
+    /** The state array, for storing. Not a copy. */
+    public int[] state() {
+        return state;
+    }
+
+    // ── advancement ──────────────────────────────────────────────────────────
+
+    /** Put a participant in a slot (match * 2 + side) and settle the match if it is a walkover. */
+    private void place(int slot, int participant) {
+        int match = slot >> 1;
+        int base = match * STRIDE;
+        state[base + (slot & 1)] = participant;
+        int top = state[base + TOP];
+        int bottom = state[base + BOTTOM];
+        if (top != TBD && bottom != TBD && state[base + WINNER] == TBD && (top == BYE || bottom == BYE)) {
+            decide(match, top == BYE ? bottom : top);
+        }
+    }
+
+    private void decide(int match, int winner) {
+        int base = match * STRIDE;
+        state[base + WINNER] = winner;
+        int loser = state[base + TOP] == winner ? state[base + BOTTOM] : state[base + TOP];
+        if (match == layout.grandFinal()) {
+            routeGrandFinal(winner);
+            return;
+        }
+        if (layout.winnerTo()[match] >= 0) {
+            place(layout.winnerTo()[match], winner);
+        }
+        if (layout.loserTo()[match] >= 0) {
+            place(layout.loserTo()[match], loser);
+        }
+    }
+
+    /** Grand final won by the winners bracket side ends the bracket; otherwise the reset is played. */
+    private void routeGrandFinal(int winner) {
+        int gf = layout.grandFinal() * STRIDE;
+        int reset = layout.lastMatch();
+        int top = state[gf + TOP];
+        place(reset * 2, top);
+        place(reset * 2 + 1, winner == top ? BYE : state[gf + BOTTOM]);
+    }
+
+    /** Swap winner and loser of a decided match in the slots they were sent to. */
+    private void redecide(int match, int winner) {
+        int base = match * STRIDE;
+        state[base + WINNER] = winner;
+        int loser = state[base + TOP] == winner ? state[base + BOTTOM] : state[base + TOP];
+        if (match == layout.grandFinal()) {
+            int reset = layout.lastMatch() * STRIDE;
+            Arrays.fill(state, reset, reset + STRIDE, TBD);
+            state[reset + SCORE_TOP] = NO_SCORE;
+            state[reset + SCORE_BOTTOM] = NO_SCORE;
+            routeGrandFinal(winner);
+            return;
+        }
+        if (layout.winnerTo()[match] >= 0) {
+            replace(layout.winnerTo()[match], winner);
+        }
+        if (layout.loserTo()[match] >= 0) {
+            replace(layout.loserTo()[match], loser);
+        }
+    }
+
+    /** Replace a slot's participant, carrying the change through walkovers it won. */
+    private void replace(int slot, int participant) {
+        int match = slot >> 1;
+        int base = match * STRIDE;
+        state[base + (slot & 1)] = participant;
+        if (state[base + WINNER] != TBD) {
+            // Only a walkover can be decided here (see correctable), and its winner is this slot
+            state[base + WINNER] = participant;
+            if (layout.winnerTo()[match] >= 0) {
+                replace(layout.winnerTo()[match], participant);
+            }
+        }
+    }
+
+    /** Whether the slots a match feeds, followed through walkovers, are all unplayed. */
+    private boolean correctable(int match) {
+        if (match == layout.grandFinal()) {
+            return state[layout.lastMatch() * STRIDE + SCORE_TOP] == NO_SCORE;
+        }
+        return unplayedFrom(layout.winnerTo()[match]) && unplayedFrom(layout.loserTo()[match]);
+    }
+
+    private boolean unplayedFrom(int slot) {
+        while (slot >= 0) {
+            int base = (slot >> 1) * STRIDE;
+            if (state[base + SCORE_TOP] != NO_SCORE) {
+                return false;
+            }
+            if (state[base + WINNER] == TBD) {
+                return true;
+            }
+            slot = layout.winnerTo()[slot >> 1];
+        }
+        return true;
+    }
+
+    private void checkMatch(int match) {
+        if (match < 0 || match >= layout.matchCount()) {
+            throw new IllegalArgumentException("Unknown match " + (match + 1));
+        }
+    }
+
+    // ── layout ───────────────────────────────────────────────────────────────
+
+    /**
+     * Shape of a bracket: per match its section and round, and the slot (match * 2 + side) its winner
+     * and loser move to, or -1. The grand final's routes are handled in code.
+     */
+    private record Layout(BracketFormat format, int size, int matchCount, int[] section, int[] round,
+                          int[] winnerTo, int[] loserTo, int grandFinal, int lastMatch) {}
+
+    private static Layout layout(BracketFormat format, int size) {
+        if (size < MIN_ENTRANTS || size > MAX_ENTRANTS || Integer.bitCount(size) != 1) {
+            throw new IllegalArgumentException("Bracket size must be a power of two up to " + MAX_ENTRANTS + ", got " + size);
+        }
+        return LAYOUTS.computeIfAbsent(format.ordinal() << 16 | size, key -> buildLayout(format, size));
+    }
+
+    private static Layout buildLayout(BracketFormat format, int size) {
+        int k = Integer.numberOfTrailingZeros(size);
+        boolean doubleElimination = format == BracketFormat.DOUBLE_ELIMINATION;
+        int matchCount = doubleElimination ? 2 * size - 1 : size - 1;
+        int[] section = new int[matchCount];
+        int[] round = new int[matchCount];
+        int[] winnerTo = new int[matchCount];
+        int[] loserTo = new int[matchCount];
+        Arrays.fill(winnerTo, -1);
+        Arrays.fill(loserTo, -1);
+
+        // Winners bracket: round r has size >> r matches, the pair j, j ^ 1 feeding match j / 2 of the next
+        int[] wbStart = new int[k + 1];
+        int next = 0;
+        for (int r = 1; r <= k; r++) {
+            wbStart[r] = next;
+            for (int j = 0; j < size >> r; j++) {
+                section[next + j] = WINNERS;
+                round[next + j] = r;
+                if (r < k) {
+                    winnerTo[next + j] = slot(next + (size >> r) + j / 2, j % 2);
+                }
+            }
+            next += size >> r;
+        }
+        if (!doubleElimination) {
+            return new Layout(format, size, matchCount, section, round, winnerTo, loserTo, -1, wbStart[k]);
+        }
+
+        // Losers bracket: odd rounds pair up survivors, even rounds bring in the next winners bracket round's losers
+        int lbRounds = 2 * (k - 1);
+        int[] lbStart = new int[lbRounds + 1];
+        for (int lr = 1; lr <= lbRounds; lr++) {
+            lbStart[lr] = next;
+            for (int i = 0; i < losersRoundSize(size, lr); i++) {
+                section[next + i] = LOSERS;
+                round[next + i] = lr;
+            }
+            next += losersRoundSize(size, lr);
+        }
+        int grandFinal = next;
+        section[grandFinal] = GRAND_FINAL;
+        round[grandFinal] = 1;
+        section[grandFinal + 1] = GRAND_FINAL;
+        round[grandFinal + 1] = 2;
+
+        for (int j = 0; j < size / 2; j++) {
+            loserTo[wbStart[1] + j] = slot(lbStart[1] + j / 2, j % 2);
+        }
+        for (int r = 2; r <= k; r++) {
+            int count = size >> r;
+            for (int j = 0; j < count; j++) {
+                // Every other round drops in reversed, so early opponents do not meet again straight away
+                int target = r % 2 == 0 ? count - 1 - j : j;
+                loserTo[wbStart[r] + j] = slot(lbStart[2 * (r - 1)] + target, 1);
+            }
+        }
+        for (int lr = 1; lr < lbRounds; lr++) {
+            for (int i = 0; i < losersRoundSize(size, lr); i++) {
+                winnerTo[lbStart[lr] + i] = lr % 2 == 1
+                    ? slot(lbStart[lr + 1] + i, 0)
+                    : slot(lbStart[lr + 1] + i / 2, i % 2);
+            }
+        }
+        winnerTo[lbStart[lbRounds]] = slot(grandFinal, 1);
+        winnerTo[wbStart[k]] = slot(grandFinal, 0);
+
+        return new Layout(format, size, matchCount, section, round, winnerTo, loserTo, grandFinal, grandFinal + 1);
+    }
+
+    /** Matches in losers bracket round lr: round 2j has size >> (j + 1), round 2j + 1 has size >> (j + 2). */
+    private static int losersRoundSize(int size, int lr) {
+        return lr % 2 == 0 ? size >> (lr / 2 + 1) : size >> (lr / 2 + 2);
+    }
+
+    private static int slot(int match, int side) {
+        return match * 2 + side;
+    }
+}
@@ -0,0 +1,7 @@
+package nl.amila.badminton.manager.service.oneoff;
+
+/**
+ * Published when a tournament's knockout bracket is created or a result is recorded.
+ * Listeners run after commit.
+ */
+public record BracketChangedEvent(Long tournamentId) {}
@@ -0,0 +1,263 @@
+package nl.amila.badminton.manager.service.oneoff;
+
+import nl.amila.badminton.manager.dto.oneoff.BracketResponse;
+import nl.amila.badminton.manager.dto.oneoff.CreateBracketRequest;
+import nl.amila.badminton.manager.dto.oneoff.OneOffSubmitScoreRequest;
+import nl.amila.badminton.manager.entity.PlayerStatus;
+import nl.amila.badminton.manager.entity.Tournament;
+import nl.amila.badminton.manager.entity.TournamentType;
+import nl.amila.badminton.manager.entity.oneoff.BracketFormat;
+import nl.amila.badminton.manager.entity.oneoff.OneOffBracket;
+import nl.amila.badminton.manager.entity.oneoff.OneOffTournamentSettings;
+import nl.amila.badminton.manager.repository.TournamentPlayerRepository;
+import nl.amila.badminton.manager.repository.TournamentRepository;
+import nl.amila.badminton.manager.repository.oneoff.OneOffBracketRepository;
+import nl.amila.badminton.manager.repository.oneoff.OneOffTournamentSettingsRepository;
+import nl.amila.badminton.manager.service.PrincipalResolver;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Knockout brackets of ONE_OFF tournaments.
+ *
+ * A bracket is seeded from rank scores (this tournament's, or another tournament's rankings) and stored
+ * as one row holding the packed {@link Bracket} state. Spectator reads are served from an in-memory
+ * snapshot with an ETag, until a {@link BracketChangedEvent} for that tournament is committed.
+ */
+@Service
+public class OneOffBracketService {
+
+    private final TournamentRepository tournamentRepository;
+    private final TournamentPlayerRepository tournamentPlayerRepository;
+    private final OneOffTournamentSettingsRepository settingsRepository;
+    private final OneOffBracketRepository bracketRepository;
+    private final PrincipalResolver principalResolver;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Map<Long, BracketSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public OneOffBracketService(TournamentRepository tournamentRepository,
+                                TournamentPlayerRepository tournamentPlayerRepository,
+                                OneOffTournamentSettingsRepository settingsRepository,
+                                OneOffBracketRepository bracketRepository,
+                                PrincipalResolver principalResolver,
+                                ApplicationEventPublisher eventPublisher) {
+        this.tournamentRepository = tournamentRepository;
+        this.tournamentPlayerRepository = tournamentPlayerRepository;
+        this.settingsRepository = settingsRepository;
+        this.bracketRepository = bracketRepository;
+        this.principalResolver = principalResolver;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Cached bracket response plus its ETag.
+     */
+    public record BracketSnapshot(BracketResponse response, String etag) {}
+
+    /**
+     * Seed and draw the tournament's bracket from its enabled players (ADMIN or TOURNY_ADMIN of this tournament).
+     * Seeds follow rank score, highest first; with {@code seedFromTournamentId} they follow that tournament's
+     * rankings, with players not ranked there after those who are.
+     */
+    @Transactional
+    public BracketResponse createBracket(Long tournamentId, CreateBracketRequest request, String callerUsername) {
+        Optional<Tournament> tournamentOpt = tournamentRepository.findById(tournamentId);
+        if (tournamentOpt.isEmpty()) {
+            return new BracketResponse(false, "Tournament not found");
+        }
+        Tournament tournament = tournamentOpt.get();
+        if (tournament.getType() != TournamentType.ONE_OFF) {
+            return new BracketResponse(false, "Brackets can only be created for ONE_OFF tournaments");
+        }
+        if (!tournament.isEnabled()) {
+            return new BracketResponse(false, "Tournament is disabled");
+        }
+        if (!principalResolver.resolve(callerUsername).canAdminister(tournamentId)) {
+            return new BracketResponse(false, "Access denied: you are not an admin of this tournament");
+        }
+        if (bracketRepository.existsByTournamentId(tournamentId)) {
+            return new BracketResponse(false, "This tournament already has a bracket");
+        }
+
+        List<TournamentPlayerRepository.RankingRow> entrants = new ArrayList<>();
+        for (TournamentPlayerRepository.RankingRow row : tournamentPlayerRepository.findRankingRows(tournamentId)) {
+            if (row.getStatus() == PlayerStatus.ENABLED) {
+                entrants.add(row);
+            }
+        }
+        Long seedFrom = request.getSeedFromTournamentId();
+        if (seedFrom != null && !seedFrom.equals(tournamentId)) {
+            if (!tournamentRepository.existsById(seedFrom)) {
+                return new BracketResponse(false, "Seeding tournament not found");
+            }
+            Map<Long, Integer> seedingRank = new HashMap<>();
+            for (TournamentPlayerRepository.RankingRow row : tournamentPlayerRepository.findRankingRows(seedFrom)) {
+                seedingRank.putIfAbsent(row.getUserId(), seedingRank.size());
+            }
+            // Stable: players not ranked there keep their own rank score order
+            entrants.sort(Comparator.comparingInt(row -> seedingRank.getOrDefault(row.getUserId(), Integer.MAX_VALUE)));
+        }
+
+        BracketFormat format = request.getFormat() != null ? request.getFormat() : BracketFormat.SINGLE_ELIMINATION;
+        Bracket bracket;
+        try {
+            bracket = Bracket.create(format, entrants.size());
+        } catch (IllegalArgumentException e) {
+            return new BracketResponse(false, e.getMessage());
+        }
+        long[] seeds = entrants.stream().mapToLong(TournamentPlayerRepository.RankingRow::getTournamentPlayerId).toArray();
+        OneOffBracket saved = bracketRepository.save(
+            new OneOffBracket(tournament, format, bracket.size(), seeds, bracket.state()));
+        eventPublisher.publishEvent(new BracketChangedEvent(tournamentId));
+
+        return new BracketResponse(true, "Bracket created successfully", toDto(saved, bracket, names(tournamentId)));
+    }
+
+    /**
+     * Get the bracket snapshot for a tournament, building it on a cache miss.
+     * Returns empty when the tournament has no bracket (not cached).
+     */
+    public Optional<BracketSnapshot> getBracket(Long tournamentId) {
+        BracketSnapshot cached = snapshots.get(tournamentId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        // Publish, then take the snapshot back out if anything was invalidated while building it.
+        // onBracketChanged counts before it removes, so a concurrent invalidation either removes
+        // this snapshot itself or is seen by the re-check
+        long invalidationsBefore = invalidations.get();
+        Optional<BracketSnapshot> built = bracketRepository.findByTournamentId(tournamentId).map(entity -> {
+            Bracket bracket = Bracket.of(entity.getFormat(), entity.getSize(), entity.getState());
+            BracketResponse response = new BracketResponse(true, "Bracket retrieved successfully",
+                toDto(entity, bracket, names(tournamentId)));
+            return new BracketSnapshot(response, "\"" + entity.getId() + "-" + entity.getVersion() + "\"");
+        });
+        built.ifPresent(snapshot -> {
+            snapshots.putIfAbsent(tournamentId, snapshot);
+            if (invalidations.get() != invalidationsBefore) {
+                snapshots.remove(tournamentId, snapshot);
+            }
+        });
+        return built;
+    }
+
+    /**
+     * Record or correct the result of a bracket match (ADMIN or TOURNY_ADMIN of this tournament).
+     * Team 1 is the match's top entrant. The winner moves on straight away; see {@link Bracket#record}.
+     *
+     * @param matchNumber 1-based match number
+     * @throws ObjectOptimisticLockingFailureException when the request carries a stale bracket version
+     */
+    @Transactional
+    public BracketResponse submitResult(Long tournamentId, int matchNumber, OneOffSubmitScoreRequest request,
+                                        String callerUsername) {
+        Optional<OneOffBracket> entityOpt = bracketRepository.findByTournamentId(tournamentId);
+        if (entityOpt.isEmpty()) {
+            return new BracketResponse(false, "Bracket not found");
+        }
+        OneOffBracket entity = entityOpt.get();
+        if (!entity.getTournament().isEnabled()) {
+            return new BracketResponse(false, "Tournament is disabled");
+        }
+        if (!principalResolver.resolve(callerUsername).canAdminister(tournamentId)) {
+            return new BracketResponse(false, "Access denied");
+        }
+        if (request.getTeam1Score() == null || request.getTeam2Score() == null) {
+            return new BracketResponse(false, "Both team1Score and team2Score are required");
+        }
+        int maxPoints = settingsRepository.findByTournamentId(tournamentId)
+            .map(OneOffTournamentSettings::getMaxPoints).orElse(21);
+        String scoreError = OneOffService.validateScore(request.getTeam1Score(), request.getTeam2Score(), maxPoints);
+        if (scoreError != null) {
+            return new BracketResponse(false, scoreError);
+        }
+        if (request.getVersion() != null && !request.getVersion().equals(entity.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(OneOffBracket.class, entity.getId());
+        }
+
+        // Work on a copy so the entity gets a new array and is seen as dirty
+        Bracket bracket = Bracket.of(entity.getFormat(), entity.getSize(), entity.getState().clone());
+        try {
+            bracket.record(matchNumber - 1, request.getTeam1Score(), request.getTeam2Score());
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return new BracketResponse(false, e.getMessage());
+        }
+        entity.setState(bracket.state());
+        entity.setUpdatedAt(System.currentTimeMillis());
+        // Flush now so the response carries the incremented version
+        bracketRepository.saveAndFlush(entity);
+        eventPublisher.publishEvent(new BracketChangedEvent(tournamentId));
+
+        return new BracketResponse(true, "Result recorded successfully", toDto(entity, bracket, names(tournamentId)));
+    }
+
+    /**
+     * Drop the cached bracket of a tournament once the change has committed.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBracketChanged(BracketChangedEvent event) {
+        invalidations.incrementAndGet();
+        snapshots.remove(event.tournamentId());
+    }
+
+    private Map<Long, String> names(Long tournamentId) {
+        Map<Long, String> names = new HashMap<>();
+        for (TournamentPlayerRepository.RankingRow row : tournamentPlayerRepository.findRankingRows(tournamentId)) {
+            names.put(row.getTournamentPlayerId(), row.getFirstName() + " " + row.getLastName());
+        }
+        return names;
+    }
+
+    private static BracketResponse.BracketDto toDto(OneOffBracket entity, Bracket bracket, Map<Long, String> names) {
+        BracketResponse.BracketDto dto = new BracketResponse.BracketDto();
+        dto.setId(entity.getId());
+        dto.setFormat(entity.getFormat().name());
+        dto.setSize(entity.getSize());
+        dto.setVersion(entity.getVersion());
+        dto.setChampion(bracket.champion());
+
+        long[] seeds = entity.getSeeds();
+        List<BracketResponse.EntrantDto> entrants = new ArrayList<>(seeds.length);
+        for (int i = 0; i < seeds.length; i++) {
+            entrants.add(new BracketResponse.EntrantDto(i + 1, seeds[i], names.get(seeds[i])));
+        }
+        dto.setEntrants(entrants);
+
+        int matches = bracket.matchCount();
+        int[] section = new int[matches];
+        int[] round = new int[matches];
+        int[] top = new int[matches];
+        int[] bottom = new int[matches];
+        int[] winner = new int[matches];
+        int[] topScore = new int[matches];
+        int[] bottomScore = new int[matches];
+        for (int m = 0; m < matches; m++) {
+            section[m] = bracket.section(m);
+            round[m] = bracket.round(m);
+            top[m] = bracket.top(m);
+            bottom[m] = bracket.bottom(m);
+            winner[m] = bracket.winner(m);
+            topScore[m] = bracket.topScore(m);
+            bottomScore[m] = bracket.bottomScore(m);
+        }
+        dto.setSection(section);
+        dto.setRound(round);
+        dto.setTop(top);
+        dto.setBottom(bottom);
+        dto.setWinner(winner);
+        dto.setTopScore(topScore);
+        dto.setBottomScore(bottomScore);
+        return dto;
+    }
+}
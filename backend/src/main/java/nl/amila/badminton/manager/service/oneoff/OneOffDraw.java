@@ -0,0 +1,115 @@
+package nl.amila.badminton.manager.service.oneoff;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.IntBinaryOperator;
+
+/**
+ * Draws the doubles matches of one round of a one-off tournament.
+ *
+ * Players are given as positions 0..n-1; each match is returned as four positions:
+ * team 1 player 1, team 1 player 2, team 2 player 1, team 2 player 2. When n is not a
+ * multiple of four the remaining players sit the round out. Both draws are linear in n
+ * apart from one sort, so several hundred entrants draw instantly.
+ */
+public final class OneOffDraw {
+
+    /** Fewest players a round can be drawn for. */
+    public static final int MIN_PLAYERS = 4;
+
+    private OneOffDraw() {
+    }
+
+    /**
+     * Round-robin partner rotation (circle method): over n - 1 rounds (n rounded up to even) every
+     * player partners every other player exactly once. Consecutive partner pairs play each other;
+     * an odd pair out sits the round out. Rounds past the cycle start it again.
+     *
+     * @param round 0-based round number
+     */
+    public static int[][] roundRobin(int n, int round) {
+        checkPlayerCount(n);
+        int slots = n % 2 == 0 ? n : n + 1; // slot n is a bye when n is odd
+        int rotation = round % (slots - 1);
+        int[] circle = new int[slots];
+        for (int i = 1; i < slots; i++) {
+            circle[i] = 1 + (i - 1 + rotation) % (slots - 1);
+        }
+
+        List<int[]> pairs = new ArrayList<>(slots / 2);
+        for (int i = 0; i < slots / 2; i++) {
+            int a = circle[i];
+            int b = circle[slots - 1 - i];
+            if (a < n && b < n) {
+                pairs.add(new int[]{a, b});
+            }
+        }
+        int[][] matches = new int[pairs.size() / 2][];
+        for (int m = 0; m < matches.length; m++) {
+            int[] team1 = pairs.get(2 * m);
+            int[] team2 = pairs.get(2 * m + 1);
+            matches[m] = new int[]{team1[0], team1[1], team2[0], team2[1]};
+        }
+        return matches;
+    }
+
+    /**
+     * Swiss round: players sorted by standing are cut into consecutive groups of four, and each group
+     * is split into the two teams that repeat the fewest earlier partnerships (strongest with weakest
+     * on ties). The {@code n % 4} players sitting out are those who have played the most matches,
+     * lowest standing first, so sitting out rotates through the field.
+     *
+     * @param appearances   matches played so far, by position
+     * @param partnerCounts times two positions have partnered before
+     */
+    public static int[][] swiss(int n, int[] appearances, IntBinaryOperator partnerCounts) {
+        checkPlayerCount(n);
+        boolean[] sitsOut = new boolean[n];
+        Integer[] byAppearances = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            byAppearances[i] = i;
+        }
+        Arrays.sort(byAppearances, Comparator.<Integer>comparingInt(p -> appearances[p]).reversed()
+            .thenComparing(Comparator.<Integer>naturalOrder().reversed()));
+        for (int i = 0; i < n % 4; i++) {
+            sitsOut[byAppearances[i]] = true;
+        }
+
+        int[] playing = new int[n - n % 4];
+        int next = 0;
+        for (int p = 0; p < n; p++) {
+            if (!sitsOut[p]) {
+                playing[next++] = p;
+            }
+        }
+
+        int[][] matches = new int[playing.length / 4][];
+        for (int m = 0; m < matches.length; m++) {
+            int a = playing[4 * m];
+            int b = playing[4 * m + 1];
+            int c = playing[4 * m + 2];
+            int d = playing[4 * m + 3];
+            // Candidate splits, most balanced first
+            int[][] splits = {{a, d, b, c}, {a, c, b, d}, {a, b, c, d}};
+            int[] best = splits[0];
+            int bestRepeats = Integer.MAX_VALUE;
+            for (int[] split : splits) {
+                int repeats = partnerCounts.applyAsInt(split[0], split[1]) + partnerCounts.applyAsInt(split[2], split[3]);
+                if (repeats < bestRepeats) {
+                    bestRepeats = repeats;
+                    best = split;
+                }
+            }
+            matches[m] = best;
+        }
+        return matches;
+    }
+
+    private static void checkPlayerCount(int n) {
+        if (n < MIN_PLAYERS) {
+            throw new IllegalArgumentException("A round needs at least " + MIN_PLAYERS + " players, got " + n);
+        }
+    }
+}
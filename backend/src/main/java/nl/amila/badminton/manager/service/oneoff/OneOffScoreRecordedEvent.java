@@ -0,0 +1,9 @@
+package nl.amila.badminton.manager.service.oneoff;
+
+/**
+ * Published when a one-off match score is submitted or corrected. {@code version} is the match's
+ * version after the update; {@code players} holds team 1 player 1, team 1 player 2, team 2 player 1
+ * and team 2 player 2 as tournament player ids.
+ */
+public record OneOffScoreRecordedEvent(Long tournamentId, Long matchId, long version, long[] players,
+                                       int team1Score, int team2Score) {}
@@ -0,0 +1,358 @@
+package nl.amila.badminton.manager.service.oneoff;
+
+import nl.amila.badminton.manager.dto.oneoff.OneOffRoundResponse;
+import nl.amila.badminton.manager.dto.oneoff.OneOffStandingsResponse;
+import nl.amila.badminton.manager.dto.oneoff.OneOffSubmitScoreRequest;
+import nl.amila.badminton.manager.entity.PlayerStatus;
+import nl.amila.badminton.manager.entity.Tournament;
+import nl.amila.badminton.manager.entity.TournamentPlayer;
+import nl.amila.badminton.manager.entity.TournamentType;
+import nl.amila.badminton.manager.entity.oneoff.OneOffFormat;
+import nl.amila.badminton.manager.entity.oneoff.OneOffMatch;
+import nl.amila.badminton.manager.entity.oneoff.OneOffRound;
+import nl.amila.badminton.manager.entity.oneoff.OneOffRoundStatus;
+import nl.amila.badminton.manager.entity.oneoff.OneOffTournamentSettings;
+import nl.amila.badminton.manager.repository.TournamentPlayerRepository;
+import nl.amila.badminton.manager.repository.TournamentRepository;
+import nl.amila.badminton.manager.repository.oneoff.OneOffMatchRepository;
+import nl.amila.badminton.manager.repository.oneoff.OneOffRoundRepository;
+import nl.amila.badminton.manager.repository.oneoff.OneOffTournamentSettingsRepository;
+import nl.amila.badminton.manager.service.PrincipalResolver;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * Rounds, scores and standings of ONE_OFF tournaments.
+ *
+ * Each round is drawn over the tournament's enabled players with the format from its settings
+ * (Swiss or round robin) once every match of the previous round has a score, up to the configured
+ * number of rounds. A round robin keeps the field of its first round: {@link
+ * nl.amila.badminton.manager.service.TournamentService} rejects player changes once a round exists. Scores are checked against the tournament's max points. Standings are served
+ * from {@link OneOffStandings}, which applies every committed score incrementally.
+ */
+@Service
+public class OneOffService {
+
+    private final TournamentRepository tournamentRepository;
+    private final TournamentPlayerRepository tournamentPlayerRepository;
+    private final OneOffTournamentSettingsRepository settingsRepository;
+    private final OneOffRoundRepository roundRepository;
+    private final OneOffMatchRepository matchRepository;
+    private final PrincipalResolver principalResolver;
+    private final OneOffStandings standings;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public OneOffService(TournamentRepository tournamentRepository,
+                         TournamentPlayerRepository tournamentPlayerRepository,
+                         OneOffTournamentSettingsRepository settingsRepository,
+                         OneOffRoundRepository roundRepository,
+                         OneOffMatchRepository matchRepository,
+                         PrincipalResolver principalResolver,
+                         OneOffStandings standings,
+                         ApplicationEventPublisher eventPublisher) {
+        this.tournamentRepository = tournamentRepository;
+        this.tournamentPlayerRepository = tournamentPlayerRepository;
+        this.settingsRepository = settingsRepository;
+        this.roundRepository = roundRepository;
+        this.matchRepository = matchRepository;
+        this.principalResolver = principalResolver;
+        this.standings = standings;
+        this.eventPublisher = eventPublisher;
+    }
+
+    private boolean isAuthorized(Tournament tournament, String callerUsername) {
+        return principalResolver.resolve(callerUsername).canAdminister(tournament.getId());
+    }
+
+    /**
+     * Draw the next round (ADMIN or TOURNY_ADMIN of this tournament). The previous round must be fully
+     * scored; it is marked COMPLETED here.
+     */
+    @Transactional
+    public OneOffRoundResponse generateRound(Long tournamentId, String callerUsername) {
+        Optional<Tournament> tournamentOpt = tournamentRepository.findById(tournamentId);
+        if (tournamentOpt.isEmpty()) {
+            return new OneOffRoundResponse(false, "Tournament not found");
+        }
+        Tournament tournament = tournamentOpt.get();
+        if (tournament.getType() != TournamentType.ONE_OFF) {
+            return new OneOffRoundResponse(false, "Rounds can only be created for ONE_OFF tournaments");
+        }
+        if (!tournament.isEnabled()) {
+            return new OneOffRoundResponse(false, "Tournament is disabled");
+        }
+        if (!isAuthorized(tournament, callerUsername)) {
+            return new OneOffRoundResponse(false, "Access denied: you are not an admin of this tournament");
+        }
+        Optional<OneOffTournamentSettings> settingsOpt = settingsRepository.findByTournamentId(tournamentId);
+        if (settingsOpt.isEmpty()) {
+            return new OneOffRoundResponse(false, "One-off settings not found for this tournament");
+        }
+        OneOffTournamentSettings settings = settingsOpt.get();
+
+        Optional<OneOffRound> latest = roundRepository.findTopByTournamentIdOrderByRoundNumberDesc(tournamentId);
+        int roundNumber = latest.map(r -> r.getRoundNumber() + 1).orElse(1);
+        if (roundNumber > settings.getNumberOfRounds()) {
+            return new OneOffRoundResponse(false, "All " + settings.getNumberOfRounds() + " rounds have been drawn");
+        }
+        if (latest.isPresent() && latest.get().getStatus() == OneOffRoundStatus.ONGOING) {
+            OneOffRound previous = latest.get();
+            if (matchRepository.countUnscoredByRoundId(previous.getId()) > 0) {
+                return new OneOffRoundResponse(false,
+                    "Every match of round " + previous.getRoundNumber() + " needs a score before the next round");
+            }
+            previous.setStatus(OneOffRoundStatus.COMPLETED);
+            previous.setUpdatedAt(System.currentTimeMillis());
+            roundRepository.save(previous);
+        }
+
+        List<TournamentPlayer> entrants = new ArrayList<>();
+        for (TournamentPlayer tp : tournamentPlayerRepository.findByTournamentId(tournamentId)) {
+            if (tp.getStatus() == PlayerStatus.ENABLED) {
+                entrants.add(tp);
+            }
+        }
+        if (entrants.size() < OneOffDraw.MIN_PLAYERS) {
+            return new OneOffRoundResponse(false,
+                "A round needs at least " + OneOffDraw.MIN_PLAYERS + " enabled players");
+        }
+
+        int[][] draw;
+        if (settings.getFormat() == OneOffFormat.ROUND_ROBIN) {
+            entrants.sort(Comparator.comparing(TournamentPlayer::getId));
+            draw = OneOffDraw.roundRobin(entrants.size(), roundNumber - 1);
+        } else {
+            OneOffStandings.Table table = standings.forTournament(tournamentId);
+            Map<Long, OneOffStandings.Standing> current = new HashMap<>();
+            for (TournamentPlayer tp : entrants) {
+                current.put(tp.getId(), table.standing(tp.getId()));
+            }
+            entrants.sort((x, y) -> OneOffStandings.ORDER.compare(current.get(x.getId()), current.get(y.getId())));
+            draw = swissDraw(tournamentId, entrants);
+        }
+
+        OneOffRound round = new OneOffRound(tournament, roundNumber);
+        boolean[] playing = new boolean[entrants.size()];
+        for (int m = 0; m < draw.length; m++) {
+            int[] d = draw[m];
+            round.getMatches().add(new OneOffMatch(round, m + 1, entrants.get(d[0]), entrants.get(d[1]),
+                entrants.get(d[2]), entrants.get(d[3])));
+            for (int p : d) {
+                playing[p] = true;
+            }
+        }
+        OneOffRound saved = roundRepository.save(round);
+
+        OneOffRoundResponse.RoundDto dto = toDto(saved);
+        List<Long> sittingOut = new ArrayList<>();
+        for (int p = 0; p < playing.length; p++) {
+            if (!playing[p]) {
+                sittingOut.add(entrants.get(p).getId());
+            }
+        }
+        dto.setSittingOut(sittingOut);
+        return new OneOffRoundResponse(true, "Round " + roundNumber + " drawn successfully", dto);
+    }
+
+    /**
+     * Swiss draw over the entrants in standing order, with partner history and match counts
+     * of all earlier rounds from one flat query.
+     */
+    private int[][] swissDraw(Long tournamentId, List<TournamentPlayer> entrants) {
+        Map<Long, Integer> position = new HashMap<>();
+        for (int i = 0; i < entrants.size(); i++) {
+            position.put(entrants.get(i).getId(), i);
+        }
+        int[] appearances = new int[entrants.size()];
+        Map<Long, Integer> partnerCounts = new HashMap<>();
+        for (OneOffMatchRepository.MatchRow row : matchRepository.findMatchRows(tournamentId)) {
+            Integer[] seats = {position.get(row.getTeam1Player1Id()), position.get(row.getTeam1Player2Id()),
+                position.get(row.getTeam2Player1Id()), position.get(row.getTeam2Player2Id())};
+            for (Integer seat : seats) {
+                if (seat != null) {
+                    appearances[seat]++;
+                }
+            }
+            if (seats[0] != null && seats[1] != null) {
+                partnerCounts.merge(pairKey(seats[0], seats[1]), 1, Integer::sum);
+            }
+            if (seats[2] != null && seats[3] != null) {
+                partnerCounts.merge(pairKey(seats[2], seats[3]), 1, Integer::sum);
+            }
+        }
+        return OneOffDraw.swiss(entrants.size(), appearances,
+            (a, b) -> partnerCounts.getOrDefault(pairKey(a, b), 0));
+    }
+
+    private static long pairKey(int a, int b) {
+        return (long) Math.min(a, b) << 32 | Math.max(a, b);
+    }
+
+    /**
+     * All rounds of a tournament with their matches. Any authenticated user may view them.
+     */
+    @Transactional(readOnly = true)
+    public OneOffRoundResponse getRounds(Long tournamentId) {
+        Optional<Tournament> tournamentOpt = tournamentRepository.findById(tournamentId);
+        if (tournamentOpt.isEmpty() || tournamentOpt.get().getType() != TournamentType.ONE_OFF) {
+            return new OneOffRoundResponse(false, "Tournament not found");
+        }
+        List<OneOffRoundResponse.RoundDto> dtos = roundRepository.findByTournamentIdOrderByRoundNumberAsc(tournamentId)
+            .stream().map(this::toDto).toList();
+        return new OneOffRoundResponse(true, "Rounds retrieved successfully", dtos);
+    }
+
+    /**
+     * Submit or correct a match score of the ongoing round (ADMIN or TOURNY_ADMIN of this tournament).
+     * A winner must reach the tournament's max points with a two-point lead; see {@link #validateScore}.
+     *
+     * @throws ObjectOptimisticLockingFailureException when the request carries a stale match version
+     */
+    @Transactional
+    public OneOffRoundResponse submitScore(Long tournamentId, Long roundId, Long matchId,
+                                           OneOffSubmitScoreRequest request, String callerUsername) {
+        Optional<OneOffMatch> matchOpt = matchRepository.findById(matchId);
+        if (matchOpt.isEmpty() || !matchOpt.get().getRound().getId().equals(roundId)
+                || !matchOpt.get().getRound().getTournament().getId().equals(tournamentId)) {
+            return new OneOffRoundResponse(false, "Match not found");
+        }
+        OneOffMatch match = matchOpt.get();
+        OneOffRound round = match.getRound();
+        if (!round.getTournament().isEnabled()) {
+            return new OneOffRoundResponse(false, "Tournament is disabled");
+        }
+        if (!isAuthorized(round.getTournament(), callerUsername)) {
+            return new OneOffRoundResponse(false, "Access denied");
+        }
+        if (round.getStatus() != OneOffRoundStatus.ONGOING) {
+            return new OneOffRoundResponse(false, "Scores can only be submitted for the ongoing round");
+        }
+        if (request.getTeam1Score() == null || request.getTeam2Score() == null) {
+            return new OneOffRoundResponse(false, "Both team1Score and team2Score are required");
+        }
+        int maxPoints = settingsRepository.findByTournamentId(tournamentId)
+            .map(OneOffTournamentSettings::getMaxPoints).orElse(21);
+        String scoreError = validateScore(request.getTeam1Score(), request.getTeam2Score(), maxPoints);
+        if (scoreError != null) {
+            return new OneOffRoundResponse(false, scoreError);
+        }
+        if (request.getVersion() != null && !request.getVersion().equals(match.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(OneOffMatch.class, match.getId());
+        }
+
+        match.setTeam1Score(request.getTeam1Score());
+        match.setTeam2Score(request.getTeam2Score());
+        // Flush now so the event carries the incremented version
+        matchRepository.saveAndFlush(match);
+        eventPublisher.publishEvent(new OneOffScoreRecordedEvent(tournamentId, match.getId(), match.getVersion(),
+            new long[]{match.getTeam1Player1().getId(), match.getTeam1Player2().getId(),
+                match.getTeam2Player1().getId(), match.getTeam2Player2().getId()},
+            match.getTeam1Score(), match.getTeam2Score()));
+
+        return new OneOffRoundResponse(true, "Score submitted successfully", toDto(round));
+    }
+
+    /**
+     * Live standings of a tournament, best first, without touching its matches.
+     * Any authenticated user may view them.
+     */
+    @Transactional(readOnly = true)
+    public OneOffStandingsResponse getStandings(Long tournamentId) {
+        Optional<Tournament> tournamentOpt = tournamentRepository.findById(tournamentId);
+        if (tournamentOpt.isEmpty() || tournamentOpt.get().getType() != TournamentType.ONE_OFF) {
+            return new OneOffStandingsResponse(false, "Tournament not found");
+        }
+        Map<Long, TournamentPlayer> players = new LinkedHashMap<>();
+        for (TournamentPlayer tp : tournamentPlayerRepository.findByTournamentId(tournamentId)) {
+            players.put(tp.getId(), tp);
+        }
+
+        List<OneOffStandingsResponse.StandingDto> dtos = new ArrayList<>(players.size());
+        Set<Long> listed = new HashSet<>();
+        for (OneOffStandings.Standing s : standings.forTournament(tournamentId).standings()) {
+            TournamentPlayer tp = players.get(s.tournamentPlayerId());
+            if (tp != null) {
+                dtos.add(standingDto(dtos.size() + 1, tp, s));
+                listed.add(tp.getId());
+            }
+        }
+        // Enabled players without a result yet
+        for (TournamentPlayer tp : players.values()) {
+            if (!listed.contains(tp.getId()) && tp.getStatus() == PlayerStatus.ENABLED) {
+                dtos.add(standingDto(dtos.size() + 1, tp, new OneOffStandings.Standing(tp.getId(), 0, 0, 0, 0, 0)));
+            }
+        }
+        return new OneOffStandingsResponse(true, "Standings retrieved successfully", dtos);
+    }
+
+    /**
+     * Check a game score against the tournament's max points: the winner reaches max points with a
+     * two-point lead, or extends past it until one side leads by two, capped at 30 (21-point games)
+     * or 21 (15-point games) where one point decides.
+     *
+     * @return an error message, or null for a valid score
+     */
+    static String validateScore(int team1Score, int team2Score, int maxPoints) {
+        if (team1Score < 0 || team2Score < 0) {
+            return "Scores must be non-negative";
+        }
+        int winner = Math.max(team1Score, team2Score);
+        int loser = Math.min(team1Score, team2Score);
+        int cap = maxPoints == 15 ? 21 : maxPoints + 9;
+        boolean valid = (winner == maxPoints && loser <= maxPoints - 2)
+            || (winner > maxPoints && winner <= cap && winner - loser == 2)
+            || (winner == cap && loser == cap - 1);
+        if (!valid) {
+            return "Invalid score " + team1Score + "-" + team2Score + " for games to " + maxPoints;
+        }
+        return null;
+    }
+
+    private OneOffRoundResponse.RoundDto toDto(OneOffRound round) {
+        OneOffRoundResponse.RoundDto dto = new OneOffRoundResponse.RoundDto();
+        dto.setId(round.getId());
+        dto.setRoundNumber(round.getRoundNumber());
+        dto.setStatus(round.getStatus().name());
+        dto.setMatches(round.getMatches().stream().map(m -> {
+            OneOffRoundResponse.MatchDto md = new OneOffRoundResponse.MatchDto();
+            md.setId(m.getId());
+            md.setMatchOrder(m.getMatchOrder());
+            md.setTeam1Player1Id(m.getTeam1Player1().getId());
+            md.setTeam1Player1Name(playerName(m.getTeam1Player1()));
+            md.setTeam1Player2Id(m.getTeam1Player2().getId());
+            md.setTeam1Player2Name(playerName(m.getTeam1Player2()));
+            md.setTeam2Player1Id(m.getTeam2Player1().getId());
+            md.setTeam2Player1Name(playerName(m.getTeam2Player1()));
+            md.setTeam2Player2Id(m.getTeam2Player2().getId());
+            md.setTeam2Player2Name(playerName(m.getTeam2Player2()));
+            md.setTeam1Score(m.getTeam1Score());
+            md.setTeam2Score(m.getTeam2Score());
+            md.setVersion(m.getVersion());
+            return md;
+        }).toList());
+        return dto;
+    }
+
+    private static OneOffStandingsResponse.StandingDto standingDto(int position, TournamentPlayer tp,
+                                                                   OneOffStandings.Standing s) {
+        OneOffStandingsResponse.StandingDto dto = new OneOffStandingsResponse.StandingDto();
+        dto.setPosition(position);
+        dto.setTournamentPlayerId(tp.getId());
+        dto.setPlayerName(playerName(tp));
+        dto.setPlayed(s.played());
+        dto.setWins(s.wins());
+        dto.setLosses(s.losses());
+        dto.setPointsFor(s.pointsFor());
+        dto.setPointsAgainst(s.pointsAgainst());
+        dto.setPointDifferential(s.pointDifferential());
+        return dto;
+    }
+
+    private static String playerName(TournamentPlayer tp) {
+        return tp.getUser().getFirstName() + " " + tp.getUser().getLastName();
+    }
+}
@@ -0,0 +1,160 @@
+package nl.amila.badminton.manager.service.oneoff;
+
+import nl.amila.badminton.manager.repository.oneoff.OneOffMatchRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Live standings of one-off tournaments, kept in memory.
+ *
+ * A tournament's table is built once from its scored matches on first use; after that every
+ * committed {@link OneOffScoreRecordedEvent} is applied as a delta (a corrected score first takes
+ * the old result back out). Results are applied per match version, so an event the initial load
+ * already saw is ignored. The sorted standings are cached until the next result.
+ */
+@Component
+public class OneOffStandings {
+
+    private final OneOffMatchRepository matchRepository;
+    private final Map<Long, Table> tournaments = new ConcurrentHashMap<>();
+
+    public OneOffStandings(OneOffMatchRepository matchRepository) {
+        this.matchRepository = matchRepository;
+    }
+
+    /**
+     * One player's line in the standings.
+     */
+    public record Standing(long tournamentPlayerId, int played, int wins, int losses,
+                           int pointsFor, int pointsAgainst) {
+
+        public int pointDifferential() {
+            return pointsFor - pointsAgainst;
+        }
+    }
+
+    /** Standings order: wins, then point differential, then points scored, then tournament player id. */
+    static final Comparator<Standing> ORDER = Comparator.comparingInt(Standing::wins).reversed()
+        .thenComparing(Comparator.comparingInt(Standing::pointDifferential).reversed())
+        .thenComparing(Comparator.comparingInt(Standing::pointsFor).reversed())
+        .thenComparingLong(Standing::tournamentPlayerId);
+
+    /**
+     * The tournament's table, loading it from its scored matches on first use.
+     */
+    public Table forTournament(long tournamentId) {
+        return tournaments.computeIfAbsent(tournamentId, id -> {
+            Table table = new Table();
+            for (OneOffMatchRepository.MatchRow row : matchRepository.findMatchRows(id)) {
+                if (row.getTeam1Score() != null && row.getTeam2Score() != null) {
+                    table.apply(row.getMatchId(), row.getVersion(),
+                        new long[]{row.getTeam1Player1Id(), row.getTeam1Player2Id(),
+                            row.getTeam2Player1Id(), row.getTeam2Player2Id()},
+                        row.getTeam1Score(), row.getTeam2Score());
+                }
+            }
+            return table;
+        });
+    }
+
+    /**
+     * Apply a committed score to a loaded tournament. Waits for a load in progress, which may or may
+     * not have seen the score; the version check makes both cases come out the same.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onScoreRecorded(OneOffScoreRecordedEvent event) {
+        tournaments.computeIfPresent(event.tournamentId(), (id, table) -> {
+            table.apply(event.matchId(), event.version(), event.players(), event.team1Score(), event.team2Score());
+            return table;
+        });
+    }
+
+    /**
+     * Per-player results of one tournament. Safe for concurrent readers and writers.
+     */
+    public static final class Table {
+
+        private record Result(long version, long[] players, int team1Score, int team2Score) {}
+
+        private final Map<Long, int[]> totals = new HashMap<>();
+        private final Map<Long, Result> results = new HashMap<>();
+        private List<Standing> sorted;
+
+        /** No results yet. */
+        public static Table empty() {
+            return new Table();
+        }
+
+        /**
+         * Record a match result, replacing any older version of the same match.
+         */
+        public synchronized void apply(long matchId, long version, long[] players, int team1Score, int team2Score) {
+            Result previous = results.get(matchId);
+            if (previous != null) {
+                if (previous.version() >= version) {
+                    return;
+                }
+                count(previous, -1);
+            }
+            Result result = new Result(version, players, team1Score, team2Score);
+            results.put(matchId, result);
+            count(result, 1);
+            sorted = null;
+        }
+
+        /**
+         * All players with a result, best first.
+         */
+        public synchronized List<Standing> standings() {
+            if (sorted == null) {
+                List<Standing> list = new ArrayList<>(totals.size());
+                for (Map.Entry<Long, int[]> entry : totals.entrySet()) {
+                    list.add(standing(entry.getKey(), entry.getValue()));
+                }
+                list.sort(ORDER);
+                sorted = List.copyOf(list);
+            }
+            return sorted;
+        }
+
+        /**
+         * One player's line; all zeros before their first result.
+         */
+        public synchronized Standing standing(long tournamentPlayerId) {
+            int[] t = totals.get(tournamentPlayerId);
+            return t == null ? new Standing(tournamentPlayerId, 0, 0, 0, 0, 0) : standing(tournamentPlayerId, t);
+        }
+
+        private void count(Result r, int sign) {
+            add(r.players()[0], r.team1Score(), r.team2Score(), sign);
+            add(r.players()[1], r.team1Score(), r.team2Score(), sign);
+            add(r.players()[2], r.team2Score(), r.team1Score(), sign);
+            add(r.players()[3], r.team2Score(), r.team1Score(), sign);
+        }
+
+        private void add(long playerId, int scoreFor, int scoreAgainst, int sign) {
+            // played, wins, losses, points for, points against
+            int[] t = totals.computeIfAbsent(playerId, id -> new int[5]);
+            t[0] += sign;
+            if (scoreFor > scoreAgainst) {
+                t[1] += sign;
+            } else if (scoreFor < scoreAgainst) {
+                t[2] += sign;
+            }
+            t[3] += sign * scoreFor;
+            t[4] += sign * scoreAgainst;
+        }
+
+        private static Standing standing(long playerId, int[] t) {
+            return new Standing(playerId, t[0], t[1], t[2], t[3], t[4]);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package nl.amila.badminton.manager.service.ranking;
+
+import java.util.Locale;
+
+/**
+ * How a rank progression series is thinned out before it is returned.
+ */
+public enum Downsampling {
+    /** Every rank change. */
+    NONE,
+    /** The starting score plus each game day's closing score. */
+    DAY,
+    /** At most the requested number of points, chosen by {@link LargestTriangleThreeBuckets}. */
+    LTTB;
+
+    /**
+     * Parse the {@code downsample} request parameter, ignoring case.
+     *
+     * @throws IllegalArgumentException for an unknown value
+     */
+    public static Downsampling fromParam(String downsample) {
+        return valueOf(downsample.trim().toUpperCase(Locale.ROOT));
+    }
+}
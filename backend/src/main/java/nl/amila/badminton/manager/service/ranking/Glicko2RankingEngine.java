@@ -0,0 +1,197 @@
+package nl.amila.badminton.manager.service.ranking;
+
+import nl.amila.badminton.manager.entity.Glicko2Config;
+import nl.amila.badminton.manager.entity.RankingConfig;
+import nl.amila.badminton.manager.entity.RankingLogic;
+import org.springframework.stereotype.Component;
+
+/**
+ * Glicko-2 (Glickman, 2013) with one game day as one rating period.
+ *
+ * Doubles are rated team against team: a player's strength in a match is the average of
+ * their team's ratings, and the opponent is a composite of the other team with the averaged
+ * rating and the root-mean-square deviation. All matches of the day are rated against the
+ * start-of-day values, so the whole update is a pass over the matches to accumulate
+ * {@code v} and {@code Δ} per player, followed by one volatility solve per player.
+ *
+ * The rating change is {@code φ'² · Σ g(φ_j)(s_j − E_j)}, a sum of per-match terms,
+ * so each match slot gets its own share and history rows add up to the day's change.
+ *
+ * A rated player who sits a game day out only gets the paper's step 6, {@code φ' = √(φ² + σ²)}:
+ * their rating and volatility stay, their deviation grows once per finished day.
+ */
+@Component
+public class Glicko2RankingEngine implements RankingEngine {
+
+    /** Conversion between the Glicko rating scale and the internal Glicko-2 scale. */
+    static final double SCALE = 173.7178;
+    /** Deviation of a player who has never been rated, and the ceiling for any deviation. */
+    static final double INITIAL_DEVIATION = 350.0;
+    static final double INITIAL_VOLATILITY = 0.06;
+
+    private static final double CONVERGENCE = 0.000001;
+    private static final int MAX_ITERATIONS = 100;
+    private static final double PI_SQUARED = Math.PI * Math.PI;
+
+    @Override
+    public RankingLogic logic() {
+        return RankingLogic.GLICKO2;
+    }
+
+    @Override
+    public boolean supports(RankingConfig config) {
+        return config instanceof Glicko2Config;
+    }
+
+    @Override
+    public RankingResult compute(RankingConfig config, MatchBatch batch) {
+        if (!(config instanceof Glicko2Config glicko)) {
+            throw new IllegalArgumentException("Glicko-2 requires a Glicko2Config, got " + config);
+        }
+        double tau = glicko.tau();
+        int playerCount = batch.playerCount();
+        int matchCount = batch.matchCount();
+        int[] slots = batch.slotPlayers();
+        int[] team1Scores = batch.team1Scores();
+        int[] team2Scores = batch.team2Scores();
+
+        // Start-of-day state on the Glicko-2 scale; the rating offset cancels out in every formula
+        double[] mu = new double[playerCount];
+        double[] phi = new double[playerCount];
+        double[] sigma = new double[playerCount];
+        double[] ratings = batch.ratings();
+        double[] deviations = batch.deviations();
+        double[] volatilities = batch.volatilities();
+        for (int i = 0; i < playerCount; i++) {
+            mu[i] = ratings[i] / SCALE;
+            phi[i] = (Double.isNaN(deviations[i]) ? INITIAL_DEVIATION : deviations[i]) / SCALE;
+            sigma[i] = Double.isNaN(volatilities[i]) ? INITIAL_VOLATILITY : volatilities[i];
+        }
+
+        // Pass 1: per-slot g(s - E) and per-player sums for v and Δ
+        double[] slotImpact = new double[matchCount * MatchBatch.SLOTS_PER_MATCH];
+        double[] vInverse = new double[playerCount];
+        double[] impactSum = new double[playerCount];
+        for (int m = 0; m < matchCount; m++) {
+            int base = m * MatchBatch.SLOTS_PER_MATCH;
+            int a = slots[base], b = slots[base + 1], c = slots[base + 2], d = slots[base + 3];
+            double team1Mu = (mu[a] + mu[b]) / 2.0;
+            double team2Mu = (mu[c] + mu[d]) / 2.0;
+            double team1Phi = Math.sqrt((phi[a] * phi[a] + phi[b] * phi[b]) / 2.0);
+            double team2Phi = Math.sqrt((phi[c] * phi[c] + phi[d] * phi[d]) / 2.0);
+            double team1Outcome = team1Scores[m] > team2Scores[m] ? 1.0 : 0.0;
+
+            // Team 1 players face team 2 as a composite opponent, and vice versa
+            double g2 = g(team2Phi);
+            double e1 = expected(team1Mu, team2Mu, g2);
+            double g1 = g(team1Phi);
+            double e2 = expected(team2Mu, team1Mu, g1);
+
+            accumulate(slotImpact, vInverse, impactSum, base, a, g2, e1, team1Outcome);
+            accumulate(slotImpact, vInverse, impactSum, base + 1, b, g2, e1, team1Outcome);
+            accumulate(slotImpact, vInverse, impactSum, base + 2, c, g1, e2, 1.0 - team1Outcome);
+            accumulate(slotImpact, vInverse, impactSum, base + 3, d, g1, e2, 1.0 - team1Outcome);
+        }
+
+        // Pass 2: volatility solve and new deviation per player
+        double[] phiPrimeSquared = new double[playerCount];
+        double[] newDeviations = new double[playerCount];
+        double[] newVolatilities = new double[playerCount];
+        double maxPhi = INITIAL_DEVIATION / SCALE;
+        for (int i = 0; i < playerCount; i++) {
+            double v = 1.0 / vInverse[i];
+            double delta = v * impactSum[i];
+            double newSigma = solveVolatility(phi[i], sigma[i], v, delta, tau);
+            double phiStar = Math.sqrt(phi[i] * phi[i] + newSigma * newSigma);
+            double phiPrime = Math.min(1.0 / Math.sqrt(1.0 / (phiStar * phiStar) + 1.0 / v), maxPhi);
+            phiPrimeSquared[i] = phiPrime * phiPrime;
+            newDeviations[i] = phiPrime * SCALE;
+            newVolatilities[i] = newSigma;
+        }
+
+        // Pass 3: each slot's share of the rating change, back on the rank score scale
+        double[] deltas = new double[slotImpact.length];
+        for (int idx = 0; idx < slotImpact.length; idx++) {
+            deltas[idx] = SCALE * phiPrimeSquared[slots[idx]] * slotImpact[idx];
+        }
+        return new RankingResult(deltas, newDeviations, newVolatilities);
+    }
+
+    @Override
+    public boolean tracksDeviation() {
+        return true;
+    }
+
+    @Override
+    public double idleDeviation(double deviation, double volatility) {
+        if (Double.isNaN(deviation)) {
+            // Never rated: the next rated day starts from the initial deviation anyway
+            return deviation;
+        }
+        double phi = deviation / SCALE;
+        double sigma = Double.isNaN(volatility) ? INITIAL_VOLATILITY : volatility;
+        return Math.min(Math.sqrt(phi * phi + sigma * sigma) * SCALE, INITIAL_DEVIATION);
+    }
+
+    private static void accumulate(double[] slotImpact, double[] vInverse, double[] impactSum,
+                                   int slotIndex, int player, double g, double e, double outcome) {
+        double impact = g * (outcome - e);
+        slotImpact[slotIndex] = impact;
+        vInverse[player] += g * g * e * (1.0 - e);
+        impactSum[player] += impact;
+    }
+
+    private static double g(double phi) {
+        return 1.0 / Math.sqrt(1.0 + 3.0 * phi * phi / PI_SQUARED);
+    }
+
+    private static double expected(double mu, double opponentMu, double opponentG) {
+        return 1.0 / (1.0 + Math.exp(-opponentG * (mu - opponentMu)));
+    }
+
+    /**
+     * Step 5 of the Glicko-2 paper: find the new volatility with the Illinois variant of regula falsi.
+     */
+    static double solveVolatility(double phi, double sigma, double v, double delta, double tau) {
+        double phiSquared = phi * phi;
+        double deltaSquared = delta * delta;
+        double a = Math.log(sigma * sigma);
+        double tauSquared = tau * tau;
+
+        double bigA = a;
+        double bigB;
+        if (deltaSquared > phiSquared + v) {
+            bigB = Math.log(deltaSquared - phiSquared - v);
+        } else {
+            int k = 1;
+            while (volatilityFn(a - k * tau, a, phiSquared, v, deltaSquared, tauSquared) < 0 && k < MAX_ITERATIONS) {
+                k++;
+            }
+            bigB = a - k * tau;
+        }
+
+        double fA = volatilityFn(bigA, a, phiSquared, v, deltaSquared, tauSquared);
+        double fB = volatilityFn(bigB, a, phiSquared, v, deltaSquared, tauSquared);
+        for (int iteration = 0; Math.abs(bigB - bigA) > CONVERGENCE && iteration < MAX_ITERATIONS; iteration++) {
+            double bigC = bigA + (bigA - bigB) * fA / (fB - fA);
+            double fC = volatilityFn(bigC, a, phiSquared, v, deltaSquared, tauSquared);
+            if (fC * fB <= 0) {
+                bigA = bigB;
+                fA = fB;
+            } else {
+                fA = fA / 2.0;
+            }
+            bigB = bigC;
+            fB = fC;
+        }
+        return Math.exp(bigA / 2.0);
+    }
+
+    private static double volatilityFn(double x, double a, double phiSquared, double v,
+                                       double deltaSquared, double tauSquared) {
+        double ex = Math.exp(x);
+        double denominator = phiSquared + v + ex;
+        return ex * (deltaSquared - phiSquared - v - ex) / (2.0 * denominator * denominator)
+            - (x - a) / tauSquared;
+    }
+}
@@ -0,0 +1,74 @@
+package nl.amila.badminton.manager.service.ranking;
+
+/**
+ * Largest-Triangle-Three-Buckets downsampling of a line series.
+ *
+ * The first and last points are always kept. The points in between are split into equal buckets,
+ * and from each bucket the point kept is the one forming the largest triangle with the point kept
+ * from the previous bucket and the average of the next bucket. Peaks and dips survive, which a
+ * plain every-n-th sample would drop.
+ */
+public final class LargestTriangleThreeBuckets {
+
+    /** Fewest points the selection can return: first, last and one bucket. */
+    public static final int MIN_THRESHOLD = 3;
+
+    private LargestTriangleThreeBuckets() {
+    }
+
+    /**
+     * Choose which of the first {@code count} points to keep.
+     *
+     * @param x         x values, ascending
+     * @param y         y values
+     * @param threshold number of points to keep, at least {@link #MIN_THRESHOLD}
+     * @return indices of the kept points, ascending; every index when {@code count <= threshold}
+     */
+    public static int[] select(double[] x, double[] y, int count, int threshold) {
+        if (threshold < MIN_THRESHOLD) {
+            throw new IllegalArgumentException("Threshold must be at least " + MIN_THRESHOLD + ", was " + threshold);
+        }
+        if (count <= threshold) {
+            int[] all = new int[count];
+            for (int i = 0; i < count; i++) {
+                all[i] = i;
+            }
+            return all;
+        }
+
+        int[] kept = new int[threshold];
+        double bucketSize = (double) (count - 2) / (threshold - 2);
+        int previous = 0;
+        for (int b = 0; b < threshold - 2; b++) {
+            int start = (int) (b * bucketSize) + 1;
+            int end = (int) ((b + 1) * bucketSize) + 1;
+            int nextEnd = Math.min((int) ((b + 2) * bucketSize) + 1, count);
+
+            double avgX = 0;
+            double avgY = 0;
+            for (int i = end; i < nextEnd; i++) {
+                avgX += x[i];
+                avgY += y[i];
+            }
+            int nextCount = nextEnd - end;
+            avgX /= nextCount;
+            avgY /= nextCount;
+
+            double maxArea = -1;
+            int chosen = start;
+            for (int i = start; i < end; i++) {
+                // Twice the triangle area; only the comparison matters
+                double area = Math.abs((x[previous] - avgX) * (y[i] - y[previous])
+                    - (x[previous] - x[i]) * (avgY - y[previous]));
+                if (area > maxArea) {
+                    maxArea = area;
+                    chosen = i;
+                }
+            }
+            kept[b + 1] = chosen;
+            previous = chosen;
+        }
+        kept[threshold - 1] = count - 1;
+        return kept;
+    }
+}
@@ -0,0 +1,183 @@
+package nl.amila.badminton.manager.service.ranking;
+
+import nl.amila.badminton.manager.entity.TournamentPlayer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A game day's matches flattened into primitive arrays for a {@link RankingEngine}.
+ *
+ * Players are numbered 0..playerCount-1 in the order they are first seen. Every match has
+ * four slots (team 1 player 1, team 1 player 2, team 2 player 1, team 2 player 2); slot
+ * {@code s} of match {@code m} lives at index {@code m * SLOTS_PER_MATCH + s}.
+ *
+ * A batch is either built from loaded {@link TournamentPlayer} entities (finishGameDay) or
+ * from bare ids and ratings (the season replay); the entity accessors are only valid for the former.
+ */
+public final class MatchBatch {
+
+    public static final int SLOTS_PER_MATCH = 4;
+
+    private final int[] slotPlayers;
+    private final int[] team1Scores;
+    private final int[] team2Scores;
+    private final List<TournamentPlayer> players = new ArrayList<>();
+    private final Map<Long, Integer> indexById = new HashMap<>();
+    private long[] playerIds = new long[16];
+    private double[] ratings = new double[16];
+    private double[] deviations = new double[16];
+    private double[] volatilities = new double[16];
+    private int playerCount;
+    private int matchCount;
+
+    public MatchBatch(int matchCapacity) {
+        this.slotPlayers = new int[matchCapacity * SLOTS_PER_MATCH];
+        this.team1Scores = new int[matchCapacity];
+        this.team2Scores = new int[matchCapacity];
+    }
+
+    /**
+     * Add a scored match between loaded players. Returns its index in the batch.
+     */
+    public int addMatch(TournamentPlayer team1Player1, TournamentPlayer team1Player2,
+                        TournamentPlayer team2Player1, TournamentPlayer team2Player2,
+                        int team1Score, int team2Score) {
+        return addMatch(indexOf(team1Player1), indexOf(team1Player2),
+            indexOf(team2Player1), indexOf(team2Player2), team1Score, team2Score);
+    }
+
+    /**
+     * Add a scored match between players already registered with {@link #addPlayer}. Returns its index in the batch.
+     */
+    public int addMatch(int team1Player1, int team1Player2, int team2Player1, int team2Player2,
+                        int team1Score, int team2Score) {
+        int m = matchCount++;
+        int base = m * SLOTS_PER_MATCH;
+        slotPlayers[base] = team1Player1;
+        slotPlayers[base + 1] = team1Player2;
+        slotPlayers[base + 2] = team2Player1;
+        slotPlayers[base + 3] = team2Player2;
+        team1Scores[m] = team1Score;
+        team2Scores[m] = team2Score;
+        return m;
+    }
+
+    /**
+     * Register a player by tournament player id with its start-of-day state (NaN deviation or
+     * volatility when it has none yet). Returns the player's index; a known id keeps its first state.
+     */
+    public int addPlayer(long tournamentPlayerId, double rating, double deviation, double volatility) {
+        Integer existing = indexById.get(tournamentPlayerId);
+        if (existing != null) {
+            return existing;
+        }
+        int index = playerCount++;
+        if (index == ratings.length) {
+            int capacity = ratings.length * 2;
+            playerIds = Arrays.copyOf(playerIds, capacity);
+            ratings = Arrays.copyOf(ratings, capacity);
+            deviations = Arrays.copyOf(deviations, capacity);
+            volatilities = Arrays.copyOf(volatilities, capacity);
+        }
+        playerIds[index] = tournamentPlayerId;
+        ratings[index] = rating;
+        deviations[index] = deviation;
+        volatilities[index] = volatility;
+        indexById.put(tournamentPlayerId, index);
+        return index;
+    }
+
+    public int matchCount() {
+        return matchCount;
+    }
+
+    public int playerCount() {
+        return playerCount;
+    }
+
+    /**
+     * Tournament player id per player index.
+     */
+    public long playerId(int index) {
+        return playerIds[index];
+    }
+
+    /**
+     * Start-of-day rating per player index. Backing array: only the first {@link #playerCount()} entries are valid.
+     */
+    public double[] ratings() {
+        return ratings;
+    }
+
+    /**
+     * Start-of-day rating deviation per player index, NaN when the player has none yet.
+     * Backing array: only the first {@link #playerCount()} entries are valid.
+     */
+    public double[] deviations() {
+        return deviations;
+    }
+
+    /**
+     * Start-of-day volatility per player index, NaN when the player has none yet.
+     * Backing array: only the first {@link #playerCount()} entries are valid.
+     */
+    public double[] volatilities() {
+        return volatilities;
+    }
+
+    /**
+     * Player index per match slot. Backing array: only the first {@code matchCount() * SLOTS_PER_MATCH} entries are valid.
+     */
+    public int[] slotPlayers() {
+        return slotPlayers;
+    }
+
+    public int[] team1Scores() {
+        return team1Scores;
+    }
+
+    public int[] team2Scores() {
+        return team2Scores;
+    }
+
+    /**
+     * The player in slot {@code slot} of match {@code match}.
+     */
+    public TournamentPlayer player(int match, int slot) {
+        return players.get(slotPlayers[match * SLOTS_PER_MATCH + slot]);
+    }
+
+    /**
+     * The player with the given index.
+     */
+    public TournamentPlayer player(int index) {
+        return players.get(index);
+    }
+
+    /**
+     * All players in the batch keyed by tournament player id.
+     */
+    public Map<Long, TournamentPlayer> playersById() {
+        Map<Long, TournamentPlayer> byId = new HashMap<>();
+        for (TournamentPlayer tp : players) {
+            byId.put(tp.getId(), tp);
+        }
+        return byId;
+    }
+
+    private int indexOf(TournamentPlayer tp) {
+        // Keyed by id: TournamentPlayer's equals/hashCode cover mutable fields
+        int before = playerCount;
+        int index = addPlayer(tp.getId(), tp.getRankScore().doubleValue(),
+            tp.getRatingDeviation() != null ? tp.getRatingDeviation().doubleValue() : Double.NaN,
+            tp.getVolatility() != null ? tp.getVolatility().doubleValue() : Double.NaN);
+        if (playerCount > before) {
+            players.add(tp);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,52 @@
+package nl.amila.badminton.manager.service.ranking;
+
+import nl.amila.badminton.manager.entity.ModifiedEloConfig;
+import nl.amila.badminton.manager.entity.RankingConfig;
+import nl.amila.badminton.manager.entity.RankingLogic;
+import org.springframework.stereotype.Component;
+
+/**
+ * Modified-ELO for doubles: each team's strength is the average of its two players' rank scores,
+ * the expected result uses a 480-point scale, and both players of a team gain or lose {@code K * T}.
+ */
+@Component
+public class ModifiedEloRankingEngine implements RankingEngine {
+
+    @Override
+    public RankingLogic logic() {
+        return RankingLogic.MODIFIED_ELO;
+    }
+
+    @Override
+    public boolean supports(RankingConfig config) {
+        return config instanceof ModifiedEloConfig;
+    }
+
+    @Override
+    public RankingResult compute(RankingConfig config, MatchBatch batch) {
+        if (!(config instanceof ModifiedEloConfig eloConfig)) {
+            throw new IllegalArgumentException("Modified-ELO requires a ModifiedEloConfig, got " + config);
+        }
+        double k = eloConfig.k();
+        double[] ratings = batch.ratings();
+        int[] slots = batch.slotPlayers();
+        int[] team1Scores = batch.team1Scores();
+        int[] team2Scores = batch.team2Scores();
+        int matchCount = batch.matchCount();
+
+        double[] deltas = new double[matchCount * MatchBatch.SLOTS_PER_MATCH];
+        for (int m = 0; m < matchCount; m++) {
+            int base = m * MatchBatch.SLOTS_PER_MATCH;
+            double x = (ratings[slots[base]] + ratings[slots[base + 1]]) / 2.0;     // team1 average strength
+            double y = (ratings[slots[base + 2]] + ratings[slots[base + 3]]) / 2.0; // team2 average strength
+            double t = 1.0 / (1.0 + Math.pow(10.0, (y - x) / 480.0));
+
+            double team1Delta = team1Scores[m] > team2Scores[m] ? k * t : -k * t;
+            deltas[base] = team1Delta;
+            deltas[base + 1] = team1Delta;
+            deltas[base + 2] = -team1Delta;
+            deltas[base + 3] = -team1Delta;
+        }
+        return new RankingResult(deltas);
+    }
+}
@@ -0,0 +1,171 @@
+package nl.amila.badminton.manager.service.ranking;
+
+import nl.amila.badminton.manager.dto.RankProgressionResponse;
+import nl.amila.badminton.manager.entity.TournamentType;
+import nl.amila.badminton.manager.repository.RankReplayRepository;
+import nl.amila.badminton.manager.repository.TournamentPlayerRepository;
+import nl.amila.badminton.manager.repository.TournamentRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Rank score over time of a league or APL tournament's players, for charts.
+ *
+ * All requested players' rank changes are streamed over JDBC in one query, collected into
+ * primitive arrays per player and optionally downsampled before they are returned as parallel
+ * arrays, so a whole tournament's chart is one small response instead of a history call per player.
+ */
+@Service
+public class RankProgressionService {
+
+    /** Points per series for LTTB when the client gives no count, and the most it may ask for. */
+    static final int DEFAULT_POINTS = 200;
+    static final int MAX_POINTS = 2000;
+
+    private final TournamentRepository tournamentRepository;
+    private final TournamentPlayerRepository tournamentPlayerRepository;
+    private final RankReplayRepository rankReplayRepository;
+
+    public RankProgressionService(TournamentRepository tournamentRepository,
+                                  TournamentPlayerRepository tournamentPlayerRepository,
+                                  RankReplayRepository rankReplayRepository) {
+        this.tournamentRepository = tournamentRepository;
+        this.tournamentPlayerRepository = tournamentPlayerRepository;
+        this.rankReplayRepository = rankReplayRepository;
+    }
+
+    /**
+     * Rank progression of the given tournament players, or of every player when none are given.
+     * Players without rank changes have no series.
+     *
+     * @param points points per series for {@link Downsampling#LTTB}; null for the default
+     */
+    @Transactional(readOnly = true)
+    public RankProgressionResponse getProgression(Long tournamentId, List<Long> tournamentPlayerIds,
+                                                  Downsampling downsampling, Integer points) {
+        Optional<TournamentRepository.TournamentHeader> header = tournamentRepository.findHeaderById(tournamentId);
+        if (header.isEmpty()) {
+            return new RankProgressionResponse(false, "Tournament not found");
+        }
+        TournamentType type = header.get().getType();
+        if (type != TournamentType.LEAGUE && type != TournamentType.APL) {
+            return new RankProgressionResponse(false, "Only league and APL tournaments have rank progression");
+        }
+
+        Map<Long, String> names = new HashMap<>();
+        for (TournamentPlayerRepository.RankingRow row : tournamentPlayerRepository.findRankingRows(tournamentId)) {
+            names.put(row.getTournamentPlayerId(), row.getFirstName() + " " + row.getLastName());
+        }
+        Set<Long> requested = tournamentPlayerIds == null ? Set.of() : new LinkedHashSet<>(tournamentPlayerIds);
+        for (Long id : requested) {
+            if (!names.containsKey(id)) {
+                return new RankProgressionResponse(false, "Player " + id + " not found in this tournament");
+            }
+        }
+        int maxPoints = points == null ? DEFAULT_POINTS
+            : Math.max(LargestTriangleThreeBuckets.MIN_THRESHOLD, Math.min(points, MAX_POINTS));
+
+        List<RawSeries> raw = new ArrayList<>();
+        Map<Long, LocalDate> days = new HashMap<>();
+        rankReplayRepository.streamProgression(type, tournamentId,
+            requested.stream().mapToLong(Long::longValue).toArray(),
+            (playerId, dayId, gameDate, previous, next) -> {
+                RawSeries current = raw.isEmpty() ? null : raw.get(raw.size() - 1);
+                if (current == null || current.playerId != playerId) {
+                    // Rows arrive player by player; open with the score before the first match
+                    current = new RawSeries(playerId);
+                    current.add(dayId, previous);
+                    raw.add(current);
+                }
+                current.add(dayId, next);
+                days.putIfAbsent(dayId, gameDate);
+            });
+
+        List<Map.Entry<Long, LocalDate>> dayOrder = new ArrayList<>(days.entrySet());
+        dayOrder.sort(Map.Entry.<Long, LocalDate>comparingByValue().thenComparing(Map.Entry.comparingByKey()));
+        Map<Long, Integer> dayIndex = new HashMap<>();
+        List<Long> gameDayIds = new ArrayList<>(dayOrder.size());
+        List<String> gameDates = new ArrayList<>(dayOrder.size());
+        for (Map.Entry<Long, LocalDate> day : dayOrder) {
+            dayIndex.put(day.getKey(), gameDayIds.size());
+            gameDayIds.add(day.getKey());
+            gameDates.add(day.getValue().toString());
+        }
+
+        List<RankProgressionResponse.SeriesDto> series = new ArrayList<>(raw.size());
+        for (RawSeries s : raw) {
+            int[] kept = switch (downsampling) {
+                case NONE -> s.all();
+                case DAY -> s.dayCloses();
+                case LTTB -> s.largestTriangles(maxPoints);
+            };
+            int[] day = new int[kept.length];
+            double[] score = new double[kept.length];
+            for (int i = 0; i < kept.length; i++) {
+                day[i] = dayIndex.get(s.dayIds[kept[i]]);
+                score[i] = s.hundredths[kept[i]] / 100.0;
+            }
+            series.add(new RankProgressionResponse.SeriesDto(s.playerId, names.get(s.playerId), day, kept, score));
+        }
+
+        return new RankProgressionResponse(true, "Rank progression retrieved successfully",
+            tournamentId, downsampling.name(), gameDayIds, gameDates, series);
+    }
+
+    /**
+     * One player's scores in play order; point i is the score after the player's i-th match.
+     */
+    private static final class RawSeries {
+        private final long playerId;
+        private long[] dayIds = new long[16];
+        private long[] hundredths = new long[16];
+        private int size;
+
+        private RawSeries(long playerId) {
+            this.playerId = playerId;
+        }
+
+        private void add(long dayId, long scoreHundredths) {
+            if (size == dayIds.length) {
+                dayIds = Arrays.copyOf(dayIds, size * 2);
+                hundredths = Arrays.copyOf(hundredths, size * 2);
+            }
+            dayIds[size] = dayId;
+            hundredths[size] = scoreHundredths;
+            size++;
+        }
+
+        private int[] all() {
+            int[] all = new int[size];
+            for (int i = 0; i < size; i++) {
+                all[i] = i;
+            }
+            return all;
+        }
+
+        private int[] dayCloses() {
+            int[] kept = new int[size];
+            int count = 0;
+            kept[count++] = 0;
+            for (int i = 1; i < size; i++) {
+                if (i == size - 1 || dayIds[i + 1] != dayIds[i]) {
+                    kept[count++] = i;
+                }
+            }
+            return Arrays.copyOf(kept, count);
+        }
+
+        private int[] largestTriangles(int maxPoints) {
+            double[] x = new double[size];
+            double[] y = new double[size];
+            for (int i = 0; i < size; i++) {
+                x[i] = i;
+                y[i] = hundredths[i];
+            }
+            return LargestTriangleThreeBuckets.select(x, y, size, maxPoints);
+        }
+    }
+}
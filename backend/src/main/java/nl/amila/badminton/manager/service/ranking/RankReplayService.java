@@ -0,0 +1,130 @@
+package nl.amila.badminton.manager.service.ranking;
+
+import nl.amila.badminton.manager.dto.RecomputeRankingsResponse;
+import nl.amila.badminton.manager.entity.RankingConfig;
+import nl.amila.badminton.manager.entity.RankingLogic;
+import nl.amila.badminton.manager.entity.Role;
+import nl.amila.badminton.manager.entity.Tournament;
+import nl.amila.badminton.manager.entity.TournamentType;
+import nl.amila.badminton.manager.entity.apl.AplTournamentSettings;
+import nl.amila.badminton.manager.entity.league.LeagueTournamentSettings;
+import nl.amila.badminton.manager.repository.RankReplayRepository;
+import nl.amila.badminton.manager.repository.TournamentPlayerRepository;
+import nl.amila.badminton.manager.repository.TournamentRepository;
+import nl.amila.badminton.manager.repository.apl.AplTournamentSettingsRepository;
+import nl.amila.badminton.manager.repository.league.LeagueTournamentSettingsRepository;
+import nl.amila.badminton.manager.service.PrincipalResolver;
+import nl.amila.badminton.manager.service.RankingsChangedEvent;
+import nl.amila.badminton.manager.service.ResolvedPrincipal;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Recomputes a league or APL tournament's rankings from scratch by replaying every completed
+ * game day through the tournament's ranking engine, e.g. after a past score was corrected.
+ *
+ * Matches and history are streamed over JDBC into a {@link SeasonReplay}; the old history is
+ * then deleted and the replayed history and scores written in one transaction, so readers see
+ * either the old rankings or the new ones. The tournament row is locked for the whole recompute,
+ * the same lock finishing a game day takes, so no game day can add history in between.
+ */
+@Service
+public class RankReplayService {
+
+    private final TournamentRepository tournamentRepository;
+    private final TournamentPlayerRepository tournamentPlayerRepository;
+    private final PrincipalResolver principalResolver;
+    private final LeagueTournamentSettingsRepository leagueSettingsRepository;
+    private final AplTournamentSettingsRepository aplSettingsRepository;
+    private final RankReplayRepository rankReplayRepository;
+    private final RankingEngines rankingEngines;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public RankReplayService(TournamentRepository tournamentRepository,
+                             TournamentPlayerRepository tournamentPlayerRepository,
+                             PrincipalResolver principalResolver,
+                             LeagueTournamentSettingsRepository leagueSettingsRepository,
+                             AplTournamentSettingsRepository aplSettingsRepository,
+                             RankReplayRepository rankReplayRepository,
+                             RankingEngines rankingEngines,
+                             ApplicationEventPublisher eventPublisher) {
+        this.tournamentRepository = tournamentRepository;
+        this.tournamentPlayerRepository = tournamentPlayerRepository;
+        this.principalResolver = principalResolver;
+        this.leagueSettingsRepository = leagueSettingsRepository;
+        this.aplSettingsRepository = aplSettingsRepository;
+        this.rankReplayRepository = rankReplayRepository;
+        this.rankingEngines = rankingEngines;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Replay all completed game days of the tournament and replace its rank history and scores
+     * (ADMIN or TOURNY_ADMIN of this tournament).
+     */
+    @Transactional
+    public RecomputeRankingsResponse recompute(Long tournamentId, String callerUsername) {
+        Optional<Tournament> tournamentOpt = tournamentRepository.findByIdForUpdate(tournamentId);
+        if (tournamentOpt.isEmpty()) {
+            return new RecomputeRankingsResponse(false, "Tournament not found");
+        }
+        Tournament tournament = tournamentOpt.get();
+        checkAccess(tournament, callerUsername);
+
+        TournamentType type = tournament.getType();
+        RankingLogic logic;
+        RankingConfig config;
+        if (type == TournamentType.LEAGUE) {
+            Optional<LeagueTournamentSettings> settings = leagueSettingsRepository.findByTournamentId(tournamentId);
+            logic = settings.map(LeagueTournamentSettings::getRankingLogic).orElse(null);
+            config = settings.map(LeagueTournamentSettings::getRankingConfig).orElse(null);
+        } else if (type == TournamentType.APL) {
+            Optional<AplTournamentSettings> settings = aplSettingsRepository.findByTournamentId(tournamentId);
+            logic = settings.map(AplTournamentSettings::getRankingLogic).orElse(null);
+            config = settings.map(AplTournamentSettings::getRankingConfig).orElse(null);
+        } else {
+            return new RecomputeRankingsResponse(false, "Only league and APL tournaments have rankings to recompute");
+        }
+        Optional<RankingEngine> engineOpt = rankingEngines.forLogic(logic).filter(engine -> engine.supports(config));
+        if (engineOpt.isEmpty()) {
+            return new RecomputeRankingsResponse(false, "Ranking settings not found for this tournament");
+        }
+
+        SeasonReplay replay = new SeasonReplay();
+        rankReplayRepository.streamCompletedMatches(type, tournamentId, replay::addMatch);
+        rankReplayRepository.streamHistory(type, tournamentId, replay::addStoredHistory);
+        for (TournamentPlayerRepository.RankingRow row : tournamentPlayerRepository.findRankingRows(tournamentId)) {
+            replay.setCurrentScore(row.getTournamentPlayerId(), row.getRankScore().movePointRight(2).longValueExact());
+        }
+        replay.run(engineOpt.get(), config, System.currentTimeMillis());
+
+        // Swap in the replayed history and scores
+        int slotCount = replay.matchCount() * MatchBatch.SLOTS_PER_MATCH;
+        long[] historyPlayerIds = new long[slotCount];
+        long[] historyMatchIds = new long[slotCount];
+        for (int idx = 0; idx < slotCount; idx++) {
+            historyPlayerIds[idx] = replay.playerIds()[replay.slotPlayers()[idx]];
+            historyMatchIds[idx] = replay.matchIds()[idx / MatchBatch.SLOTS_PER_MATCH];
+        }
+        rankReplayRepository.deleteHistory(type, tournamentId);
+        rankReplayRepository.insertHistory(type, historyPlayerIds, historyMatchIds,
+            replay.historyPrevious(), replay.historyNew(), replay.historyChangedAt(), slotCount);
+        rankReplayRepository.updatePlayers(replay.playerIds(), replay.finalScores(),
+            replay.finalDeviations(), replay.finalVolatilities(), replay.playerCount());
+        eventPublisher.publishEvent(new RankingsChangedEvent(tournamentId));
+
+        return new RecomputeRankingsResponse(true, "Rankings recomputed",
+            replay.matchCount(), replay.playerCount());
+    }
+
+    private void checkAccess(Tournament tournament, String callerUsername) {
+        ResolvedPrincipal caller = principalResolver.resolve(callerUsername);
+        if (caller.hasRole(Role.TOURNY_ADMIN) && !caller.canAdminister(tournament.getId())) {
+            throw new AccessDeniedException("You do not have access to this tournament");
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package nl.amila.badminton.manager.service.ranking;
+
+import nl.amila.badminton.manager.entity.RankingConfig;
+import nl.amila.badminton.manager.entity.RankingLogic;
+
+/**
+ * Computes rank score changes for all matches of a finished game day.
+ *
+ * Implementations work on the primitive arrays of a {@link MatchBatch} and must not touch
+ * entities or the database; callers persist the returned {@link RankingResult}.
+ * Each implementation is a Spring bean and is selected through {@link RankingEngines}
+ * by the tournament's {@link RankingLogic}.
+ */
+public interface RankingEngine {
+
+    /**
+     * The ranking logic this engine implements.
+     */
+    RankingLogic logic();
+
+    /**
+     * Whether the given tournament config can drive this engine.
+     */
+    boolean supports(RankingConfig config);
+
+    /**
+     * Compute the rank score change of every match slot in the batch.
+     * All matches are rated against the players' ratings at the start of the day.
+     */
+    RankingResult compute(RankingConfig config, MatchBatch batch);
+
+    /**
+     * Whether this engine keeps a rating deviation that changes on days a player sits out.
+     * Callers only load the non-playing players when it does.
+     */
+    default boolean tracksDeviation() {
+        return false;
+    }
+
+    /**
+     * The rating deviation after a finished game day of a player who was enabled but did not play,
+     * given their start-of-day deviation and volatility (NaN when they have none yet).
+     */
+    default double idleDeviation(double deviation, double volatility) {
+        return deviation;
+    }
+}
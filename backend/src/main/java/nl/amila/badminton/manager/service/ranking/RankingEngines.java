@@ -0,0 +1,34 @@
+package nl.amila.badminton.manager.service.ranking;
+
+import nl.amila.badminton.manager.entity.RankingLogic;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Registry of the available {@link RankingEngine} beans, keyed by {@link RankingLogic}.
+ */
+@Component
+public class RankingEngines {
+
+    private final Map<RankingLogic, RankingEngine> engines = new EnumMap<>(RankingLogic.class);
+
+    public RankingEngines(List<RankingEngine> engines) {
+        for (RankingEngine engine : engines) {
+            RankingEngine previous = this.engines.put(engine.logic(), engine);
+            if (previous != null) {
+                throw new IllegalStateException("Multiple ranking engines for " + engine.logic());
+            }
+        }
+    }
+
+    /**
+     * The engine for the given ranking logic, if one is registered.
+     */
+    public Optional<RankingEngine> forLogic(RankingLogic logic) {
+        return logic == null ? Optional.empty() : Optional.ofNullable(engines.get(logic));
+    }
+}
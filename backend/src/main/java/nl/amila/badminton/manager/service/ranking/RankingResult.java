@@ -0,0 +1,66 @@
+package nl.amila.badminton.manager.service.ranking;
+
+import nl.amila.badminton.manager.entity.TournamentPlayer;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Output of a {@link RankingEngine}: the unrounded rank score change per match slot,
+ * indexed like {@link MatchBatch#slotPlayers()}, and for engines that track rating
+ * uncertainty the end-of-day deviation and volatility per player index (null otherwise).
+ */
+public record RankingResult(double[] slotDeltas, double[] deviations, double[] volatilities) {
+
+    /**
+     * Rank scores are stored with two decimals.
+     */
+    public static final int SCALE = 2;
+
+    public RankingResult(double[] slotDeltas) {
+        this(slotDeltas, null, null);
+    }
+
+    /**
+     * The change for one match slot, rounded HALF_UP to the stored scale.
+     */
+    public BigDecimal delta(int match, int slot) {
+        return BigDecimal.valueOf(slotDeltas[match * MatchBatch.SLOTS_PER_MATCH + slot])
+            .setScale(SCALE, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * The change for one match slot in hundredths of a point, rounded like {@link #delta}.
+     */
+    public long deltaHundredths(int match, int slot) {
+        return delta(match, slot).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Copy the end-of-day rating deviation and volatility onto the batch's players.
+     * Does nothing for engines that do not track them.
+     */
+    public void applyRatingState(MatchBatch batch) {
+        if (deviations == null || volatilities == null) {
+            return;
+        }
+        for (int i = 0; i < batch.playerCount(); i++) {
+            TournamentPlayer tp = batch.player(i);
+            tp.setRatingDeviation(BigDecimal.valueOf(deviations[i]).setScale(4, RoundingMode.HALF_UP));
+            tp.setVolatility(BigDecimal.valueOf(volatilities[i]).setScale(6, RoundingMode.HALF_UP));
+        }
+    }
+
+    /**
+     * Apply the engine's inactivity step to a loaded player who was enabled but did not play
+     * the finished day. Players without a deviation yet are left alone.
+     */
+    public static void applyIdleDeviation(RankingEngine engine, TournamentPlayer tp) {
+        if (tp.getRatingDeviation() == null) {
+            return;
+        }
+        double volatility = tp.getVolatility() != null ? tp.getVolatility().doubleValue() : Double.NaN;
+        double deviation = engine.idleDeviation(tp.getRatingDeviation().doubleValue(), volatility);
+        tp.setRatingDeviation(BigDecimal.valueOf(deviation).setScale(4, RoundingMode.HALF_UP));
+    }
+}
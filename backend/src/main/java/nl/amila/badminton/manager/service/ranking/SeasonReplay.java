@@ -0,0 +1,311 @@
+package nl.amila.badminton.manager.service.ranking;
+
+import nl.amila.badminton.manager.entity.RankingConfig;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * In-memory replay of a season's completed matches through a {@link RankingEngine}.
+ *
+ * Matches are fed in play order and every game day is rated as one batch, exactly like
+ * finishGameDay. Scores are kept as hundredths of a point in {@code long}s so the replay
+ * reproduces the stored two-decimal values exactly.
+ *
+ * Score changes outside the engine (APL absence demerits, manual corrections) are kept:
+ * the gap between a player's stored post-day score and their stored pre-day score on the next
+ * day they play is re-applied on top of the replayed score, and so is the gap between their
+ * last stored post-day score and their current score.
+ *
+ * Players who played an earlier day and sit a day out get the engine's inactivity step for it,
+ * like the enabled non-players in finishGameDay. Past enable/disable periods are not recorded,
+ * so the replay applies it to every such player.
+ */
+final class SeasonReplay {
+
+    private final Map<Long, Integer> playerIndexById = new HashMap<>();
+    private final Map<Long, Integer> matchIndexById = new HashMap<>();
+
+    private long[] playerIds = new long[64];
+    private long[] currentScores = new long[64];
+    private boolean[] hasCurrentScore = new boolean[64];
+    private int playerCount;
+
+    private long[] matchIds = new long[256];
+    private long[] dayIds = new long[256];
+    private int[] slotPlayers = new int[256 * MatchBatch.SLOTS_PER_MATCH];
+    private int[] team1Scores = new int[256];
+    private int[] team2Scores = new int[256];
+    private int matchCount;
+
+    private long[] storedPrevious = new long[256 * MatchBatch.SLOTS_PER_MATCH];
+    private long[] storedNew = new long[256 * MatchBatch.SLOTS_PER_MATCH];
+    private long[] storedChangedAt = new long[256 * MatchBatch.SLOTS_PER_MATCH];
+    private boolean[] hasStored = new boolean[256 * MatchBatch.SLOTS_PER_MATCH];
+
+    // Output, filled by run()
+    private long[] historyPrevious;
+    private long[] historyNew;
+    private long[] historyChangedAt;
+    private long[] finalScores;
+    private BigDecimal[] finalDeviations;
+    private BigDecimal[] finalVolatilities;
+
+    /**
+     * Add the next completed match in play order.
+     */
+    void addMatch(long dayId, long matchId, long team1Player1, long team1Player2,
+                  long team2Player1, long team2Player2, int team1Score, int team2Score) {
+        if (matchCount == matchIds.length) {
+            int capacity = matchIds.length * 2;
+            matchIds = Arrays.copyOf(matchIds, capacity);
+            dayIds = Arrays.copyOf(dayIds, capacity);
+            team1Scores = Arrays.copyOf(team1Scores, capacity);
+            team2Scores = Arrays.copyOf(team2Scores, capacity);
+            int slotCapacity = capacity * MatchBatch.SLOTS_PER_MATCH;
+            slotPlayers = Arrays.copyOf(slotPlayers, slotCapacity);
+            storedPrevious = Arrays.copyOf(storedPrevious, slotCapacity);
+            storedNew = Arrays.copyOf(storedNew, slotCapacity);
+            storedChangedAt = Arrays.copyOf(storedChangedAt, slotCapacity);
+            hasStored = Arrays.copyOf(hasStored, slotCapacity);
+        }
+        int m = matchCount++;
+        int base = m * MatchBatch.SLOTS_PER_MATCH;
+        matchIds[m] = matchId;
+        dayIds[m] = dayId;
+        slotPlayers[base] = playerIndex(team1Player1);
+        slotPlayers[base + 1] = playerIndex(team1Player2);
+        slotPlayers[base + 2] = playerIndex(team2Player1);
+        slotPlayers[base + 3] = playerIndex(team2Player2);
+        team1Scores[m] = team1Score;
+        team2Scores[m] = team2Score;
+        matchIndexById.put(matchId, m);
+    }
+
+    /**
+     * Attach a stored history row to its match slot. Rows for unknown matches or players are ignored.
+     */
+    void addStoredHistory(long matchId, long tournamentPlayerId, long previousHundredths,
+                          long newHundredths, long changedAt) {
+        Integer m = matchIndexById.get(matchId);
+        Integer p = playerIndexById.get(tournamentPlayerId);
+        if (m == null || p == null) {
+            return;
+        }
+        int base = m * MatchBatch.SLOTS_PER_MATCH;
+        for (int slot = 0; slot < MatchBatch.SLOTS_PER_MATCH; slot++) {
+            if (slotPlayers[base + slot] == p) {
+                storedPrevious[base + slot] = previousHundredths;
+                storedNew[base + slot] = newHundredths;
+                storedChangedAt[base + slot] = changedAt;
+                hasStored[base + slot] = true;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Record a player's current rank score. Players that never played are ignored.
+     */
+    void setCurrentScore(long tournamentPlayerId, long hundredths) {
+        Integer p = playerIndexById.get(tournamentPlayerId);
+        if (p != null) {
+            currentScores[p] = hundredths;
+            hasCurrentScore[p] = true;
+        }
+    }
+
+    /**
+     * Replay all matches, one game day per engine batch.
+     */
+    void run(RankingEngine engine, RankingConfig config, long now) {
+        int slotCount = matchCount * MatchBatch.SLOTS_PER_MATCH;
+        historyPrevious = new long[slotCount];
+        historyNew = new long[slotCount];
+        historyChangedAt = new long[slotCount];
+
+        long[] rating = new long[playerCount];
+        long[] lastStoredPost = new long[playerCount];
+        boolean[] hasStoredPost = new boolean[playerCount];
+        boolean[] played = new boolean[playerCount];
+        double[] deviation = new double[playerCount];
+        double[] volatility = new double[playerCount];
+        Arrays.fill(deviation, Double.NaN);
+        Arrays.fill(volatility, Double.NaN);
+
+        // Per-day scratch, reset lazily through a day stamp
+        int[] dayStamp = new int[playerCount];
+        Arrays.fill(dayStamp, -1);
+        long[] dayStoredPre = new long[playerCount];
+        long[] dayStoredDelta = new long[playerCount];
+        boolean[] dayHasStored = new boolean[playerCount];
+        long[] dayGain = new long[playerCount];
+        int[] localIndex = new int[playerCount];
+
+        int dayNumber = 0;
+        for (int start = 0; start < matchCount; dayNumber++) {
+            int end = start;
+            while (end < matchCount && dayIds[end] == dayIds[start]) {
+                end++;
+            }
+
+            // Stored pre-day score and stored day change per participant
+            for (int idx = start * MatchBatch.SLOTS_PER_MATCH; idx < end * MatchBatch.SLOTS_PER_MATCH; idx++) {
+                int p = slotPlayers[idx];
+                if (dayStamp[p] != dayNumber) {
+                    dayStamp[p] = dayNumber;
+                    dayHasStored[p] = false;
+                    dayStoredDelta[p] = 0;
+                    dayGain[p] = 0;
+                    localIndex[p] = -1;
+                }
+                if (hasStored[idx]) {
+                    if (!dayHasStored[p]) {
+                        dayHasStored[p] = true;
+                        dayStoredPre[p] = storedPrevious[idx];
+                    }
+                    dayStoredDelta[p] += storedNew[idx] - storedPrevious[idx];
+                }
+            }
+
+            // Carry over adjustments made outside the engine since the player's previous day
+            MatchBatch batch = new MatchBatch(end - start);
+            int[] localToGlobal = new int[Math.min(playerCount, (end - start) * MatchBatch.SLOTS_PER_MATCH)];
+            for (int idx = start * MatchBatch.SLOTS_PER_MATCH; idx < end * MatchBatch.SLOTS_PER_MATCH; idx++) {
+                int p = slotPlayers[idx];
+                if (localIndex[p] >= 0) {
+                    continue;
+                }
+                if (dayHasStored[p]) {
+                    if (!played[p]) {
+                        // First day played: start from the stored pre-day score
+                        rating[p] = dayStoredPre[p];
+                    } else if (hasStoredPost[p]) {
+                        rating[p] += dayStoredPre[p] - lastStoredPost[p];
+                    }
+                    lastStoredPost[p] = dayStoredPre[p] + dayStoredDelta[p];
+                    hasStoredPost[p] = true;
+                } else if (!played[p]) {
+                    // No stored history to anchor on: start from the current score
+                    rating[p] = currentScores[p];
+                }
+                played[p] = true;
+                int local = batch.addPlayer(playerIds[p], rating[p] / 100.0, deviation[p], volatility[p]);
+                localIndex[p] = local;
+                localToGlobal[local] = p;
+            }
+
+            for (int m = start; m < end; m++) {
+                int base = m * MatchBatch.SLOTS_PER_MATCH;
+                batch.addMatch(localIndex[slotPlayers[base]], localIndex[slotPlayers[base + 1]],
+                    localIndex[slotPlayers[base + 2]], localIndex[slotPlayers[base + 3]],
+                    team1Scores[m], team2Scores[m]);
+            }
+            RankingResult result = engine.compute(config, batch);
+
+            // History against the pre-day score; gains applied once the whole day is rated
+            for (int m = start; m < end; m++) {
+                int base = m * MatchBatch.SLOTS_PER_MATCH;
+                for (int slot = 0; slot < MatchBatch.SLOTS_PER_MATCH; slot++) {
+                    int idx = base + slot;
+                    int p = slotPlayers[idx];
+                    long delta = result.deltaHundredths(m - start, slot);
+                    historyPrevious[idx] = rating[p];
+                    historyNew[idx] = rating[p] + delta;
+                    historyChangedAt[idx] = hasStored[idx] ? storedChangedAt[idx] : now;
+                    dayGain[p] += delta;
+                }
+            }
+            for (int local = 0; local < batch.playerCount(); local++) {
+                int p = localToGlobal[local];
+                rating[p] += dayGain[p];
+                if (result.deviations() != null && result.volatilities() != null) {
+                    deviation[p] = result.deviations()[local];
+                    volatility[p] = result.volatilities()[local];
+                }
+            }
+            for (int p = 0; p < playerCount; p++) {
+                if (played[p] && dayStamp[p] != dayNumber) {
+                    deviation[p] = engine.idleDeviation(deviation[p], volatility[p]);
+                }
+            }
+            start = end;
+        }
+
+        finalScores = new long[playerCount];
+        finalDeviations = new BigDecimal[playerCount];
+        finalVolatilities = new BigDecimal[playerCount];
+        for (int p = 0; p < playerCount; p++) {
+            long trailing = hasStoredPost[p] && hasCurrentScore[p] ? currentScores[p] - lastStoredPost[p] : 0;
+            finalScores[p] = rating[p] + trailing;
+            finalDeviations[p] = Double.isNaN(deviation[p]) ? null
+                : BigDecimal.valueOf(deviation[p]).setScale(4, RoundingMode.HALF_UP);
+            finalVolatilities[p] = Double.isNaN(volatility[p]) ? null
+                : BigDecimal.valueOf(volatility[p]).setScale(6, RoundingMode.HALF_UP);
+        }
+    }
+
+    int matchCount() {
+        return matchCount;
+    }
+
+    int playerCount() {
+        return playerCount;
+    }
+
+    long[] playerIds() {
+        return playerIds;
+    }
+
+    long[] matchIds() {
+        return matchIds;
+    }
+
+    int[] slotPlayers() {
+        return slotPlayers;
+    }
+
+    long[] historyPrevious() {
+        return historyPrevious;
+    }
+
+    long[] historyNew() {
+        return historyNew;
+    }
+
+    long[] historyChangedAt() {
+        return historyChangedAt;
+    }
+
+    long[] finalScores() {
+        return finalScores;
+    }
+
+    BigDecimal[] finalDeviations() {
+        return finalDeviations;
+    }
+
+    BigDecimal[] finalVolatilities() {
+        return finalVolatilities;
+    }
+
+    private int playerIndex(long tournamentPlayerId) {
+        Integer existing = playerIndexById.get(tournamentPlayerId);
+        if (existing != null) {
+            return existing;
+        }
+        if (playerCount == playerIds.length) {
+            int capacity = playerIds.length * 2;
+            playerIds = Arrays.copyOf(playerIds, capacity);
+            currentScores = Arrays.copyOf(currentScores, capacity);
+            hasCurrentScore = Arrays.copyOf(hasCurrentScore, capacity);
+        }
+        int index = playerCount++;
+        playerIds[index] = tournamentPlayerId;
+        playerIndexById.put(tournamentPlayerId, index);
+        return index;
+    }
+}
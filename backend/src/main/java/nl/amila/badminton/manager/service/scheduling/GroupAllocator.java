@@ -0,0 +1,118 @@
+package nl.amila.badminton.manager.service.scheduling;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Splits a game day's players into groups and gives the doubles schedule for each group size.
+ * Shared by the league and APL game day services.
+ *
+ * Groups are 4 or 5 players wherever possible. The only counts that cannot be written as
+ * 4a + 5b are 6, 7 and 11; those get a single group of 6 or 7, or a 5 + 6 split.
+ * Groups of 6 and 7 play with rotating byes, every player still playing four matches.
+ *
+ * Sizing is O(1) and building the size list O(groups), so any player count up to
+ * {@link #MAX_PLAYERS} is allocated in linear time.
+ */
+public final class GroupAllocator {
+
+    public static final int MIN_PLAYERS = 4;
+    public static final int MAX_PLAYERS = 2000;
+
+    /**
+     * Schedules per group size, indexed by the players' position in the group.
+     * Each row is {team1Player1, team1Player2, team2Player1, team2Player2}; nobody partners the same player twice.
+     */
+    private static final int[][] SCHEDULE_4 = {
+        {0, 1, 2, 3},   // A,B vs C,D
+        {0, 2, 1, 3},   // A,C vs B,D
+        {0, 3, 1, 2},   // A,D vs B,C
+    };
+    private static final int[][] SCHEDULE_5 = {
+        {0, 1, 2, 3},   // A,B vs C,D
+        {0, 2, 1, 4},   // A,C vs B,E
+        {0, 4, 1, 3},   // A,E vs B,D
+        {0, 3, 2, 4},   // A,D vs C,E
+        {1, 2, 3, 4},   // B,C vs D,E
+    };
+    /** Six matches, two byes per match, four matches per player. */
+    private static final int[][] SCHEDULE_6 = {
+        {0, 1, 2, 3},
+        {0, 2, 1, 4},
+        {0, 5, 1, 2},
+        {0, 3, 4, 5},
+        {1, 5, 3, 4},
+        {2, 4, 3, 5},
+    };
+    /** Seven matches (cyclic: i,i+1 vs i+3,i+5 mod 7), three byes per match, four matches per player. */
+    private static final int[][] SCHEDULE_7 = {
+        {0, 1, 3, 5},
+        {1, 2, 4, 6},
+        {2, 3, 5, 0},
+        {3, 4, 6, 1},
+        {4, 5, 0, 2},
+        {5, 6, 1, 3},
+        {6, 0, 2, 4},
+    };
+
+    private GroupAllocator() {
+    }
+
+    /**
+     * Whether a game day can be created for this many players.
+     */
+    public static boolean isValidPlayerCount(int n) {
+        return n >= MIN_PLAYERS && n <= MAX_PLAYERS;
+    }
+
+    /**
+     * Compute a randomly-ordered list of group sizes for n players.
+     *
+     * Without a court count, groups of 4 are preferred (as many as possible, the remainder as 5s).
+     * With a court count, groups of 4 are merged into groups of 5 (five 4s become four 5s)
+     * until every group has its own court, or no more merging is possible.
+     *
+     * @param courtCount number of courts available, or null when unconstrained
+     */
+    public static List<Integer> groupSizes(int n, Integer courtCount) {
+        if (!isValidPlayerCount(n)) {
+            throw new IllegalArgumentException("Cannot allocate groups for " + n + " players");
+        }
+        List<Integer> sizes = new ArrayList<>(n / 4 + 1);
+        switch (n) {
+            case 6, 7 -> sizes.add(n);
+            case 11 -> {
+                sizes.add(5);
+                sizes.add(6);
+            }
+            default -> {
+                // n = 4a + 5b: b ≡ n (mod 4) gives the most 4s
+                int fives = n % 4;
+                int fours = (n - 5 * fives) / 4;
+                if (courtCount != null && courtCount > 0) {
+                    int merges = Math.max(0, Math.min(fours + fives - courtCount, fours / 5));
+                    fours -= 5 * merges;
+                    fives += 4 * merges;
+                }
+                for (int i = 0; i < fours; i++) sizes.add(4);
+                for (int i = 0; i < fives; i++) sizes.add(5);
+            }
+        }
+        Collections.shuffle(sizes);
+        return sizes;
+    }
+
+    /**
+     * The match schedule for a group of the given size.
+     */
+    public static int[][] schedule(int groupSize) {
+        return switch (groupSize) {
+            case 4 -> SCHEDULE_4;
+            case 5 -> SCHEDULE_5;
+            case 6 -> SCHEDULE_6;
+            case 7 -> SCHEDULE_7;
+            default -> throw new IllegalArgumentException("No schedule for a group of " + groupSize);
+        };
+    }
+}
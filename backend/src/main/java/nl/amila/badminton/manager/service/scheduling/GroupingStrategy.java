@@ -0,0 +1,11 @@
+package nl.amila.badminton.manager.service.scheduling;
+
+/**
+ * How a game day's selected players are split into groups.
+ */
+public enum GroupingStrategy {
+    /** Consecutive slices of the players sorted by rank score. */
+    RANK,
+    /** Rank order balanced against recent repeat groupings, see {@link BalancedGrouping}. */
+    BALANCED
+}
@@ -0,0 +1,203 @@
+package nl.amila.badminton.manager.service.scheduling;
+
+import nl.amila.badminton.manager.repository.RankReplayRepository;
+import nl.amila.badminton.manager.service.CompletedMatchIndex;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * How often each pair of a tournament's players partnered or opposed each other on completed game days.
+ *
+ * A tournament's counts are loaded the first time a game day is generated for it and kept up to date
+ * as game days finish (see {@link CompletedMatchIndex}).
+ *
+ * Balanced grouping takes its repeat penalty from {@link Pairings#repeatedPairs}, and the match
+ * generator uses {@link #leastRepeatedOrder} to choose which group member takes which seat of the
+ * group's schedule.
+ */
+@Component
+public class PairingFrequencyIndex extends CompletedMatchIndex<PairingFrequencyIndex.Pairings> {
+
+    /** A repeated partnership counts this many times as much as a repeated opponent. */
+    static final int PARTNER_WEIGHT = 2;
+
+    public PairingFrequencyIndex(RankReplayRepository rankReplayRepository) {
+        super(rankReplayRepository);
+    }
+
+    @Override
+    protected Pairings newCounts() {
+        return new Pairings();
+    }
+
+    /**
+     * Partner and opponent counts of one tournament. Safe for concurrent readers and writers.
+     */
+    public static final class Pairings extends CompletedMatchIndex.Counts {
+
+        private int[] partner = new int[64];
+        private int[] opponent = new int[64];
+
+        /** No history: every order is as good as the template's own. */
+        public static Pairings empty() {
+            return new Pairings();
+        }
+
+        public synchronized int partnerCount(long a, long b) {
+            int cell = cell(a, b);
+            return cell < 0 ? 0 : partner[cell];
+        }
+
+        public synchronized int opponentCount(long a, long b) {
+            int cell = cell(a, b);
+            return cell < 0 ? 0 : opponent[cell];
+        }
+
+        /**
+         * Count a game day's matches, given as four tournament player ids per match. A day is only counted once.
+         */
+        public void addDay(long dayId, long[] matchPlayers) {
+            // Scores do not matter for pairings
+            addDay(dayId, matchPlayers, new int[matchPlayers.length / 2]);
+        }
+
+        /**
+         * Every pair of the given players that partnered or opposed before, as three parallel arrays:
+         * the two players' positions in {@code playerIds} and their weighted repeat count (see
+         * {@link BalancedGrouping#arrange}).
+         */
+        public synchronized int[][] repeatedPairs(long[] playerIds) {
+            int k = playerIds.length;
+            int[] pairA = new int[16];
+            int[] pairB = new int[16];
+            int[] times = new int[16];
+            int size = 0;
+            for (int i = 0; i < k; i++) {
+                for (int j = i + 1; j < k; j++) {
+                    int cell = cell(playerIds[i], playerIds[j]);
+                    if (cell < 0 || partner[cell] + opponent[cell] == 0) {
+                        continue;
+                    }
+                    if (size == pairA.length) {
+                        pairA = Arrays.copyOf(pairA, size * 2);
+                        pairB = Arrays.copyOf(pairB, size * 2);
+                        times = Arrays.copyOf(times, size * 2);
+                    }
+                    pairA[size] = i;
+                    pairB[size] = j;
+                    times[size] = PARTNER_WEIGHT * partner[cell] + opponent[cell];
+                    size++;
+                }
+            }
+            return new int[][]{Arrays.copyOf(pairA, size), Arrays.copyOf(pairB, size), Arrays.copyOf(times, size)};
+        }
+
+        /**
+         * Weighted repeat cost of every pair of the given players, as a k x k matrix:
+         * {@code [i][j][0]} if they partner, {@code [i][j][1]} if they oppose.
+         */
+        synchronized int[][][] costs(long[] playerIds) {
+            int k = playerIds.length;
+            int[][][] costs = new int[k][k][2];
+            for (int i = 0; i < k; i++) {
+                for (int j = i + 1; j < k; j++) {
+                    int cell = cell(playerIds[i], playerIds[j]);
+                    if (cell >= 0) {
+                        costs[i][j][0] = costs[j][i][0] = PARTNER_WEIGHT * partner[cell];
+                        costs[i][j][1] = costs[j][i][1] = opponent[cell];
+                    }
+                }
+            }
+            return costs;
+        }
+
+        @Override
+        protected void count(int a, int b, int c, int d, int team1Score, int team2Score) {
+            partner[triangle(a, b)]++;
+            partner[triangle(c, d)]++;
+            opponent[triangle(a, c)]++;
+            opponent[triangle(a, d)]++;
+            opponent[triangle(b, c)]++;
+            opponent[triangle(b, d)]++;
+        }
+
+        @Override
+        protected void ensureCapacity(int playerCount) {
+            int needed = pairCells(playerCount);
+            if (needed > partner.length) {
+                int capacity = Math.max(needed, partner.length * 2);
+                partner = Arrays.copyOf(partner, capacity);
+                opponent = Arrays.copyOf(opponent, capacity);
+            }
+        }
+    }
+
+    /**
+     * Choose which player takes which seat of a group schedule, so that the group's partnerships
+     * and oppositions repeat past ones as little as possible. Every permutation of the (at most 7)
+     * players is tried; ties keep the earliest, so without history the players keep their order.
+     *
+     * In the 4- and 5-player schedules every pair partners once and opposes twice, so all orders cost
+     * the same there and the players keep their order without a search; the choice matters for the
+     * 6- and 7-player schedules, which leave some pairs out.
+     *
+     * @return seat to player position: {@code order[seat]} is the index into {@code playerIds}
+     */
+    public static int[] leastRepeatedOrder(int[][] schedule, long[] playerIds, Pairings pairings) {
+        int k = playerIds.length;
+        int[] perm = new int[k];
+        for (int i = 0; i < k; i++) {
+            perm[i] = i;
+        }
+        if (k <= 5) {
+            return perm;
+        }
+        int[][][] costs = pairings.costs(playerIds);
+
+        int[] best = perm.clone();
+        long bestCost = orderCost(schedule, perm, costs);
+        if (bestCost == 0) {
+            return best;
+        }
+
+        // Heap's algorithm, iterative
+        int[] c = new int[k];
+        int i = 0;
+        while (i < k) {
+            if (c[i] < i) {
+                int swapWith = (i % 2 == 0) ? 0 : c[i];
+                int tmp = perm[swapWith];
+                perm[swapWith] = perm[i];
+                perm[i] = tmp;
+                long cost = orderCost(schedule, perm, costs);
+                if (cost < bestCost) {
+                    bestCost = cost;
+                    System.arraycopy(perm, 0, best, 0, k);
+                    if (cost == 0) {
+                        break;
+                    }
+                }
+                c[i]++;
+                i = 0;
+            } else {
+                c[i] = 0;
+                i++;
+            }
+        }
+        return best;
+    }
+
+    private static long orderCost(int[][] schedule, int[] perm, int[][][] costs) {
+        long cost = 0;
+        for (int[] s : schedule) {
+            int a = perm[s[0]];
+            int b = perm[s[1]];
+            int c = perm[s[2]];
+            int d = perm[s[3]];
+            cost += costs[a][b][0] + costs[c][d][0]
+                + costs[a][c][1] + costs[a][d][1] + costs[b][c][1] + costs[b][d][1];
+        }
+        return cost;
+    }
+}
@@ -0,0 +1,69 @@
+package nl.amila.badminton.manager.service.stats;
+
+import nl.amila.badminton.manager.dto.HeadToHeadResponse;
+import nl.amila.badminton.manager.entity.TournamentPlayer;
+import nl.amila.badminton.manager.entity.TournamentType;
+import nl.amila.badminton.manager.repository.TournamentPlayerRepository;
+import nl.amila.badminton.manager.repository.TournamentRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Head-to-head and partnership statistics of two players, answered from {@link HeadToHeadStats}.
+ */
+@Service
+public class HeadToHeadService {
+
+    private final TournamentRepository tournamentRepository;
+    private final TournamentPlayerRepository tournamentPlayerRepository;
+    private final HeadToHeadStats headToHeadStats;
+
+    public HeadToHeadService(TournamentRepository tournamentRepository,
+                             TournamentPlayerRepository tournamentPlayerRepository,
+                             HeadToHeadStats headToHeadStats) {
+        this.tournamentRepository = tournamentRepository;
+        this.tournamentPlayerRepository = tournamentPlayerRepository;
+        this.headToHeadStats = headToHeadStats;
+    }
+
+    /**
+     * Overall records of players A and B, their record as partners, and A's record against B,
+     * over the tournament's completed game days. Any authenticated user may view them.
+     */
+    @Transactional(readOnly = true)
+    public HeadToHeadResponse getHeadToHead(Long tournamentId, Long playerAId, Long playerBId) {
+        Optional<TournamentRepository.TournamentHeader> header = tournamentRepository.findHeaderById(tournamentId);
+        if (header.isEmpty()) {
+            return new HeadToHeadResponse(false, "Tournament not found");
+        }
+        TournamentType type = header.get().getType();
+        if (type != TournamentType.LEAGUE && type != TournamentType.APL) {
+            return new HeadToHeadResponse(false, "Only league and APL tournaments have match statistics");
+        }
+        Optional<TournamentPlayer> a = tournamentPlayerRepository.findById(playerAId);
+        Optional<TournamentPlayer> b = tournamentPlayerRepository.findById(playerBId);
+        if (a.isEmpty() || !a.get().getTournament().getId().equals(tournamentId)
+                || b.isEmpty() || !b.get().getTournament().getId().equals(tournamentId)) {
+            return new HeadToHeadResponse(false, "Player not found in this tournament");
+        }
+
+        HeadToHeadStats.Aggregates stats = headToHeadStats.forTournament(type, tournamentId);
+        return new HeadToHeadResponse(true, "Statistics retrieved successfully",
+            playerDto(a.get(), stats.player(playerAId)),
+            playerDto(b.get(), stats.player(playerBId)),
+            dto(stats.partnership(playerAId, playerBId)),
+            dto(stats.headToHead(playerAId, playerBId)));
+    }
+
+    private static HeadToHeadResponse.PlayerRecordDto playerDto(TournamentPlayer tp, HeadToHeadStats.Record record) {
+        return new HeadToHeadResponse.PlayerRecordDto(tp.getId(),
+            tp.getUser().getFirstName() + " " + tp.getUser().getLastName(), dto(record));
+    }
+
+    private static HeadToHeadResponse.RecordDto dto(HeadToHeadStats.Record record) {
+        return new HeadToHeadResponse.RecordDto(record.played(), record.wins(), record.losses(),
+            record.pointsFor(), record.pointsAgainst());
+    }
+}
@@ -0,0 +1,144 @@
+package nl.amila.badminton.manager.service.stats;
+
+import nl.amila.badminton.manager.repository.RankReplayRepository;
+import nl.amila.badminton.manager.service.CompletedMatchIndex;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * Win/loss and point-differential aggregates of a tournament's completed matches: per player,
+ * per pair of partners and per pair of opponents.
+ *
+ * A tournament's aggregates are loaded on the first query and kept up to date as game days finish
+ * (see {@link CompletedMatchIndex}). Records live in flat int arrays, so every query is a few array reads.
+ */
+@Component
+public class HeadToHeadStats extends CompletedMatchIndex<HeadToHeadStats.Aggregates> {
+
+    public HeadToHeadStats(RankReplayRepository rankReplayRepository) {
+        super(rankReplayRepository);
+    }
+
+    @Override
+    protected Aggregates newCounts() {
+        return new Aggregates();
+    }
+
+    /**
+     * Wins, losses and points of a player or a pair of players, seen from the first-named side.
+     */
+    public record Record(int played, int wins, int losses, int pointsFor, int pointsAgainst) {
+
+        public static final Record NONE = new Record(0, 0, 0, 0, 0);
+
+        public int pointDifferential() {
+            return pointsFor - pointsAgainst;
+        }
+    }
+
+    /**
+     * Player, partnership and head-to-head records of one tournament. Safe for concurrent readers and writers.
+     */
+    public static final class Aggregates extends CompletedMatchIndex.Counts {
+
+        // Each record is FIELDS consecutive ints
+        private static final int FIELDS = 5;
+        private static final int PLAYED = 0;
+        private static final int WINS = 1;
+        private static final int LOSSES = 2;
+        private static final int POINTS_FOR = 3;
+        private static final int POINTS_AGAINST = 4;
+
+        private int[] players = new int[16 * FIELDS];
+        private int[] partners = new int[64 * FIELDS];
+        /** Opponent records, seen from the player with the lower dense index. */
+        private int[] opponents = new int[64 * FIELDS];
+
+        /** No matches yet. */
+        public static Aggregates empty() {
+            return new Aggregates();
+        }
+
+        /**
+         * The player's record over all their completed matches.
+         */
+        public synchronized Record player(long playerId) {
+            int i = denseIndex(playerId);
+            return i < 0 ? Record.NONE : record(players, i * FIELDS, false);
+        }
+
+        /**
+         * The record of the two players when they partnered each other.
+         */
+        public synchronized Record partnership(long a, long b) {
+            int cell = cell(a, b);
+            return cell < 0 ? Record.NONE : record(partners, cell * FIELDS, false);
+        }
+
+        /**
+         * Player a's record in matches against player b.
+         */
+        public synchronized Record headToHead(long a, long b) {
+            int cell = cell(a, b);
+            return cell < 0 ? Record.NONE : record(opponents, cell * FIELDS, denseIndex(a) > denseIndex(b));
+        }
+
+        @Override
+        protected void count(int a, int b, int c, int d, int team1Score, int team2Score) {
+            add(players, a * FIELDS, team1Score, team2Score);
+            add(players, b * FIELDS, team1Score, team2Score);
+            add(players, c * FIELDS, team2Score, team1Score);
+            add(players, d * FIELDS, team2Score, team1Score);
+            add(partners, triangle(a, b) * FIELDS, team1Score, team2Score);
+            add(partners, triangle(c, d) * FIELDS, team2Score, team1Score);
+            addOpponents(a, c, team1Score, team2Score);
+            addOpponents(a, d, team1Score, team2Score);
+            addOpponents(b, c, team1Score, team2Score);
+            addOpponents(b, d, team1Score, team2Score);
+        }
+
+        @Override
+        protected void ensureCapacity(int playerCount) {
+            if (playerCount * FIELDS > players.length) {
+                players = Arrays.copyOf(players, Math.max(playerCount * FIELDS, players.length * 2));
+            }
+            int needed = pairCells(playerCount) * FIELDS;
+            if (needed > partners.length) {
+                int capacity = Math.max(needed, partners.length * 2);
+                partners = Arrays.copyOf(partners, capacity);
+                opponents = Arrays.copyOf(opponents, capacity);
+            }
+        }
+
+        /** Count a match between x (scoring xScore) and y from the lower index's side. */
+        private void addOpponents(int x, int y, int xScore, int yScore) {
+            int base = triangle(x, y) * FIELDS;
+            if (x < y) {
+                add(opponents, base, xScore, yScore);
+            } else {
+                add(opponents, base, yScore, xScore);
+            }
+        }
+
+        private static void add(int[] records, int base, int scoreFor, int scoreAgainst) {
+            records[base + PLAYED]++;
+            if (scoreFor > scoreAgainst) {
+                records[base + WINS]++;
+            } else if (scoreFor < scoreAgainst) {
+                records[base + LOSSES]++;
+            }
+            records[base + POINTS_FOR] += scoreFor;
+            records[base + POINTS_AGAINST] += scoreAgainst;
+        }
+
+        private static Record record(int[] records, int base, boolean flipped) {
+            if (flipped) {
+                return new Record(records[base + PLAYED], records[base + LOSSES], records[base + WINS],
+                    records[base + POINTS_AGAINST], records[base + POINTS_FOR]);
+            }
+            return new Record(records[base + PLAYED], records[base + WINS], records[base + LOSSES],
+                records[base + POINTS_FOR], records[base + POINTS_AGAINST]);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+-- Migration: Add one_off_bracket table (knockout bracket packed into one row)
+
+-- Create one_off_bracket table
+CREATE TABLE IF NOT EXISTS one_off_bracket (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    tournament_id BIGINT NOT NULL,
+    format VARCHAR(30) NOT NULL,
+    bracket_size INT NOT NULL,
+    seeds BLOB NOT NULL,
+    state BLOB NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0,
+    created_at BIGINT NOT NULL,
+    updated_at BIGINT NOT NULL,
+    UNIQUE KEY uk_one_off_bracket_tournament (tournament_id),
+    FOREIGN KEY (tournament_id) REFERENCES tournament(id) ON DELETE CASCADE
+);
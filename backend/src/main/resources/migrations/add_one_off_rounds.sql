@@ -0,0 +1,36 @@
+-- Migration: Add one-off format setting and one_off_round / one_off_match tables
+
+ALTER TABLE tournament_one_off_settings
+    ADD COLUMN IF NOT EXISTS format VARCHAR(20) NOT NULL DEFAULT 'SWISS';
+
+-- Create one_off_round table
+CREATE TABLE IF NOT EXISTS one_off_round (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    tournament_id BIGINT NOT NULL,
+    round_number INT NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'ONGOING',
+    created_at BIGINT NOT NULL,
+    updated_at BIGINT NOT NULL,
+    UNIQUE KEY uk_one_off_round_tournament_number (tournament_id, round_number),
+    FOREIGN KEY (tournament_id) REFERENCES tournament(id) ON DELETE CASCADE
+);
+
+-- Create one_off_match table
+CREATE TABLE IF NOT EXISTS one_off_match (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    round_id BIGINT NOT NULL,
+    match_order INT NOT NULL,
+    team1_player1_id BIGINT NOT NULL,
+    team1_player2_id BIGINT NOT NULL,
+    team2_player1_id BIGINT NOT NULL,
+    team2_player2_id BIGINT NOT NULL,
+    team1_score INT NULL,
+    team2_score INT NULL,
+    version BIGINT NOT NULL DEFAULT 0,
+    FOREIGN KEY (round_id) REFERENCES one_off_round(id) ON DELETE CASCADE,
+    FOREIGN KEY (team1_player1_id) REFERENCES tournament_players(id) ON DELETE CASCADE,
+    FOREIGN KEY (team1_player2_id) REFERENCES tournament_players(id) ON DELETE CASCADE,
+    FOREIGN KEY (team2_player1_id) REFERENCES tournament_players(id) ON DELETE CASCADE,
+    FOREIGN KEY (team2_player2_id) REFERENCES tournament_players(id) ON DELETE CASCADE,
+    INDEX idx_oom_round_id (round_id)
+);
@@ -0,0 +1,9 @@
+-- Migration: Add scheduled court and round to league and APL group matches
+
+ALTER TABLE league_game_day_group_match
+    ADD COLUMN IF NOT EXISTS court_number INT NULL,
+    ADD COLUMN IF NOT EXISTS round_number INT NULL;
+
+ALTER TABLE apl_game_day_group_match
+    ADD COLUMN IF NOT EXISTS court_number INT NULL,
+    ADD COLUMN IF NOT EXISTS round_number INT NULL;
@@ -0,0 +1,10 @@
+-- Migration: Replace the single-column player index on rank score history with (player, changed_at)
+-- The composite index still serves the tournament_player_id foreign key, so the old one can go.
+
+CREATE INDEX IF NOT EXISTS idx_rsh_player_changed_at
+    ON rank_score_history (tournament_player_id, changed_at);
+DROP INDEX IF EXISTS idx_rsh_tournament_player_id ON rank_score_history;
+
+CREATE INDEX IF NOT EXISTS idx_arsh_player_changed_at
+    ON apl_rank_score_history (tournament_player_id, changed_at);
+DROP INDEX IF EXISTS idx_arsh_tournament_player_id ON apl_rank_score_history;
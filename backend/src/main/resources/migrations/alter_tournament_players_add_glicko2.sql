@@ -0,0 +1,5 @@
+-- Migration: Add Glicko-2 rating deviation and volatility to tournament_players
+
+ALTER TABLE tournament_players
+    ADD COLUMN IF NOT EXISTS rating_deviation DECIMAL(10, 4) NULL,
+    ADD COLUMN IF NOT EXISTS volatility DECIMAL(10, 6) NULL;
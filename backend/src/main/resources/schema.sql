@@ -48,6 +48,8 @@ CREATE TABLE IF NOT EXISTS tournament_players (
     status_changed_at BIGINT NOT NULL,
     `rank` INT NULL,
     rank_score DECIMAL(10, 2) NOT NULL DEFAULT 0.00,
+    rating_deviation DECIMAL(10, 4) NULL,
+    volatility DECIMAL(10, 6) NULL,
     UNIQUE KEY uk_tournament_user (tournament_id, user_id),
     FOREIGN KEY (tournament_id) REFERENCES tournament(id) ON DELETE CASCADE,
     FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
@@ -103,10 +105,58 @@ CREATE TABLE IF NOT EXISTS tournament_one_off_settings (
     tournament_id BIGINT NOT NULL,
     number_of_rounds INT NOT NULL DEFAULT 1,
     max_points INT NOT NULL DEFAULT 21,
+    format VARCHAR(20) NOT NULL DEFAULT 'SWISS',
     UNIQUE KEY uk_one_off_settings_tournament (tournament_id),
     FOREIGN KEY (tournament_id) REFERENCES tournament(id) ON DELETE CASCADE
 );
 
+-- Create one_off_round table
+CREATE TABLE IF NOT EXISTS one_off_round (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    tournament_id BIGINT NOT NULL,
+    round_number INT NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'ONGOING',
+    created_at BIGINT NOT NULL,
+    updated_at BIGINT NOT NULL,
+    UNIQUE KEY uk_one_off_round_tournament_number (tournament_id, round_number),
+    FOREIGN KEY (tournament_id) REFERENCES tournament(id) ON DELETE CASCADE
+);
+
+-- Create one_off_match table
+CREATE TABLE IF NOT EXISTS one_off_match (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    round_id BIGINT NOT NULL,
+    match_order INT NOT NULL,
+    team1_player1_id BIGINT NOT NULL,
+    team1_player2_id BIGINT NOT NULL,
+    team2_player1_id BIGINT NOT NULL,
+    team2_player2_id BIGINT NOT NULL,
+    team1_score INT NULL,
+    team2_score INT NULL,
+    version BIGINT NOT NULL DEFAULT 0,
+    FOREIGN KEY (round_id) REFERENCES one_off_round(id) ON DELETE CASCADE,
+    FOREIGN KEY (team1_player1_id) REFERENCES tournament_players(id) ON DELETE CASCADE,
+    FOREIGN KEY (team1_player2_id) REFERENCES tournament_players(id) ON DELETE CASCADE,
+    FOREIGN KEY (team2_player1_id) REFERENCES tournament_players(id) ON DELETE CASCADE,
+    FOREIGN KEY (team2_player2_id) REFERENCES tournament_players(id) ON DELETE CASCADE,
+    INDEX idx_oom_round_id (round_id)
+);
+
+-- Create one_off_bracket table
+CREATE TABLE IF NOT EXISTS one_off_bracket (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    tournament_id BIGINT NOT NULL,
+    format VARCHAR(30) NOT NULL,
+    bracket_size INT NOT NULL,
+    seeds BLOB NOT NULL,
+    state BLOB NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0,
+    created_at BIGINT NOT NULL,
+    updated_at BIGINT NOT NULL,
+    UNIQUE KEY uk_one_off_bracket_tournament (tournament_id),
+    FOREIGN KEY (tournament_id) REFERENCES tournament(id) ON DELETE CASCADE
+);
+
 -- Create league_game_day_group_match table
 CREATE TABLE IF NOT EXISTS league_game_day_group_match (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
@@ -118,6 +168,8 @@ CREATE TABLE IF NOT EXISTS league_game_day_group_match (
     team2_player2_id BIGINT NOT NULL,
     team1_score INT NULL,
     team2_score INT NULL,
+    court_number INT NULL,
+    round_number INT NULL,
     version BIGINT NOT NULL DEFAULT 0,
     FOREIGN KEY (group_id) REFERENCES league_game_day_group(id) ON DELETE CASCADE,
     FOREIGN KEY (team1_player1_id) REFERENCES league_game_day_group_player(id) ON DELETE CASCADE,
@@ -137,7 +189,7 @@ CREATE TABLE IF NOT EXISTS rank_score_history (
     changed_at BIGINT NOT NULL,
     FOREIGN KEY (tournament_player_id) REFERENCES tournament_players(id) ON DELETE CASCADE,
     FOREIGN KEY (match_id) REFERENCES league_game_day_group_match(id) ON DELETE CASCADE,
-    INDEX idx_rsh_tournament_player_id (tournament_player_id),
+    INDEX idx_rsh_player_changed_at (tournament_player_id, changed_at),
     INDEX idx_rsh_match_id (match_id)
 );
 
@@ -197,6 +249,8 @@ CREATE TABLE IF NOT EXISTS apl_game_day_group_match (
     team2_player2_id BIGINT NOT NULL,
     team1_score INT NULL,
     team2_score INT NULL,
+    court_number INT NULL,
+    round_number INT NULL,
     version BIGINT NOT NULL DEFAULT 0,
     FOREIGN KEY (group_id) REFERENCES apl_game_day_group(id) ON DELETE CASCADE,
     FOREIGN KEY (team1_player1_id) REFERENCES apl_game_day_group_player(id) ON DELETE CASCADE,
@@ -216,7 +270,20 @@ CREATE TABLE IF NOT EXISTS apl_rank_score_history (
     changed_at BIGINT NOT NULL,
     FOREIGN KEY (tournament_player_id) REFERENCES tournament_players(id) ON DELETE CASCADE,
     FOREIGN KEY (match_id) REFERENCES apl_game_day_group_match(id) ON DELETE CASCADE,
-    INDEX idx_arsh_tournament_player_id (tournament_player_id),
+    INDEX idx_arsh_player_changed_at (tournament_player_id, changed_at),
     INDEX idx_arsh_match_id (match_id)
 );
 
+
+-- Create refresh_tokens table
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    token_hash VARCHAR(64) NOT NULL UNIQUE,
+    expires_at BIGINT NOT NULL,
+    revoked BOOLEAN NOT NULL DEFAULT FALSE,
+    created_at BIGINT NOT NULL,
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    INDEX idx_rt_user_id (user_id),
+    INDEX idx_rt_expires_at (expires_at)
+);
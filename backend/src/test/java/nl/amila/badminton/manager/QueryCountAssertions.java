@@ -0,0 +1,70 @@
+package nl.amila.badminton.manager;
+
+import nl.amila.badminton.manager.config.QueryCountInspector;
+import org.mockito.Mockito;
+import org.mockito.invocation.Invocation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Query-count budgets for tests, so N+1 regressions fail a build instead of slowing production.
+ *
+ * Service unit tests run against Mockito repository mocks and issue no SQL; there each repository
+ * call stands for at least one statement, and {@link #assertMaxRepositoryCalls} bounds them. That
+ * bound is only a proxy: it counts calls on the mocks, not statements, so lazy loading, cascades and
+ * flushes behind a single call go unseen, as do calls on repositories that are not passed in.
+ *
+ * The real guard is {@link #assertMaxStatements}, which counts the SQL Hibernate prepares; it needs
+ * a database and runs in {@link QueryCountTests}.
+ */
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    /**
+     * Run the call and fail when it makes more than {@code max} calls on the given repository mocks.
+     * Stubbing done before the call is not counted.
+     */
+    public static <T> T assertMaxRepositoryCalls(int max, Supplier<T> call, Object... repositories) {
+        int[] before = new int[repositories.length];
+        for (int i = 0; i < repositories.length; i++) {
+            before[i] = Mockito.mockingDetails(repositories[i]).getInvocations().size();
+        }
+        T result = call.get();
+
+        List<String> calls = new ArrayList<>();
+        for (int i = 0; i < repositories.length; i++) {
+            String repository = Mockito.mockingDetails(repositories[i]).getMockCreationSettings()
+                .getTypeToMock().getSimpleName();
+            List<Invocation> invocations = new ArrayList<>(Mockito.mockingDetails(repositories[i]).getInvocations());
+            for (Invocation invocation : invocations.subList(before[i], invocations.size())) {
+                calls.add(repository + "." + invocation.getMethod().getName());
+            }
+        }
+        if (calls.size() > max) {
+            fail("Expected at most " + max + " repository calls but there were " + calls.size() + ": " + calls);
+        }
+        return result;
+    }
+
+    /**
+     * Run the call and fail when Hibernate prepares more than {@code max} SQL statements for it.
+     */
+    public static <T> T assertMaxStatements(int max, Supplier<T> call) {
+        T result;
+        int statements;
+        try (QueryCountInspector.Scope scope = QueryCountInspector.open()) {
+            result = call.get();
+            statements = scope.statements();
+        }
+        if (statements > max) {
+            fail("Expected at most " + max + " SQL statements but there were " + statements);
+        }
+        return result;
+    }
+}
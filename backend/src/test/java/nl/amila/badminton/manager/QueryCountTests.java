@@ -0,0 +1,78 @@
+package nl.amila.badminton.manager;
+
+import nl.amila.badminton.manager.config.QueryCountInspector;
+import nl.amila.badminton.manager.dto.TournamentResponse;
+import nl.amila.badminton.manager.entity.Role;
+import nl.amila.badminton.manager.entity.Tournament;
+import nl.amila.badminton.manager.entity.TournamentAdmin;
+import nl.amila.badminton.manager.entity.TournamentPlayer;
+import nl.amila.badminton.manager.entity.TournamentType;
+import nl.amila.badminton.manager.entity.User;
+import nl.amila.badminton.manager.repository.TournamentRepository;
+import nl.amila.badminton.manager.repository.UserRepository;
+import nl.amila.badminton.manager.service.TournamentService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+
+import static nl.amila.badminton.manager.QueryCountAssertions.assertMaxStatements;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Statement budgets against the real database, where lazy loading shows up as extra SQL.
+ * Budgets are relative: a larger tournament must not need more statements than a small one.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+class QueryCountTests {
+
+	@Autowired private TournamentService tournamentService;
+	@Autowired private TournamentRepository tournamentRepository;
+	@Autowired private UserRepository userRepository;
+	@Autowired private PlatformTransactionManager transactionManager;
+
+	@Test
+	void getTournamentById_statementsDoNotGrowWithPlayers() {
+		userRepository.save(user("qc_admin", Role.ADMIN));
+		Long small = tournament("qc_small", 2);
+		Long large = tournament("qc_large", 12);
+		// Like a request with open-in-view: the lazy admins and players load inside one session
+		TransactionTemplate session = new TransactionTemplate(transactionManager);
+		session.setReadOnly(true);
+
+		int baseline;
+		try (QueryCountInspector.Scope scope = QueryCountInspector.open()) {
+			session.execute(status -> tournamentService.getTournamentById(small, "qc_admin"));
+			baseline = scope.statements();
+		}
+		TournamentResponse response = assertMaxStatements(baseline,
+			() -> session.execute(status -> tournamentService.getTournamentById(large, "qc_admin")));
+
+		assertTrue(baseline > 0, "statement inspector is not active");
+		assertEquals(12, response.getTournament().getPlayers().size());
+		assertEquals(1, response.getTournament().getAdmins().size());
+	}
+
+	private Long tournament(String key, int playerCount) {
+		User owner = userRepository.save(user(key + "_owner", Role.TOURNY_ADMIN));
+		Tournament tournament = new Tournament(key, owner.getId(), true, TournamentType.LEAGUE);
+		tournament.getAdmins().add(new TournamentAdmin(tournament, owner));
+		for (int i = 0; i < playerCount; i++) {
+			User player = userRepository.save(user(key + "_player" + i, Role.PLAYER));
+			tournament.getPlayers().add(new TournamentPlayer(tournament, player, BigDecimal.valueOf(100 - i)));
+		}
+		return tournamentRepository.save(tournament).getId();
+	}
+
+	private static User user(String username, Role role) {
+		User user = new User(username, username + "@test.com", "password", "First", username);
+		user.setRole(role);
+		return user;
+	}
+
+}
@@ -0,0 +1,60 @@
+package nl.amila.badminton.manager.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryCountInspectorTest {
+
+    private final QueryCountInspector inspector = new QueryCountInspector();
+
+    @Test
+    void inspect_returnsSqlUnchanged() {
+        assertEquals("select 1", inspector.inspect("select 1"));
+    }
+
+    @Test
+    void inspect_outsideScope_notCounted() {
+        inspector.inspect("select 1");
+
+        assertEquals(0, QueryCountInspector.current());
+    }
+
+    @Test
+    void open_countsStatementsUntilClosed() {
+        QueryCountInspector.Scope scope = QueryCountInspector.open();
+        inspector.inspect("select 1");
+        inspector.inspect("select 2");
+        scope.close();
+        inspector.inspect("select 3");
+
+        assertEquals(2, scope.statements());
+        assertEquals(0, QueryCountInspector.current());
+    }
+
+    @Test
+    void open_nestedScope_addsToEnclosingScopeOnClose() {
+        try (QueryCountInspector.Scope outer = QueryCountInspector.open()) {
+            inspector.inspect("select 1");
+            try (QueryCountInspector.Scope inner = QueryCountInspector.open()) {
+                inspector.inspect("select 2");
+                inspector.inspect("select 3");
+                assertEquals(2, inner.statements());
+            }
+            assertEquals(3, outer.statements());
+            assertEquals(3, QueryCountInspector.current());
+        }
+    }
+
+    @Test
+    void close_twice_doesNotCountAgain() {
+        try (QueryCountInspector.Scope outer = QueryCountInspector.open()) {
+            QueryCountInspector.Scope inner = QueryCountInspector.open();
+            inspector.inspect("select 1");
+            inner.close();
+            inner.close();
+
+            assertEquals(1, outer.statements());
+        }
+    }
+}
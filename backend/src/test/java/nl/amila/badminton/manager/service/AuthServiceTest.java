@@ -3,8 +3,11 @@ package nl.amila.badminton.manager.service;
 import nl.amila.badminton.manager.dto.SignupRequest;
 import nl.amila.badminton.manager.dto.LoginRequest;
 import nl.amila.badminton.manager.dto.AuthResponse;
+import nl.amila.badminton.manager.dto.RefreshTokenRequest;
+import nl.amila.badminton.manager.entity.RefreshToken;
 import nl.amila.badminton.manager.entity.Role;
 import nl.amila.badminton.manager.entity.User;
+import nl.amila.badminton.manager.repository.RefreshTokenRepository;
 import nl.amila.badminton.manager.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,12 +23,16 @@ public class AuthServiceTest {
     private AuthService authService;
     private UserRepository userRepository;
     private PasswordEncoder passwordEncoder;
+    private TokenService tokenService;
+    private RefreshTokenRepository refreshTokenRepository;
 
     @BeforeEach
     public void setUp() {
         userRepository = mock(UserRepository.class);
         passwordEncoder = mock(PasswordEncoder.class);
-        authService = new AuthService(userRepository, passwordEncoder);
+        refreshTokenRepository = mock(RefreshTokenRepository.class);
+        tokenService = new TokenService("test-secret", 900, 3600);
+        authService = new AuthService(userRepository, passwordEncoder, tokenService, refreshTokenRepository);
     }
 
     @Test
@@ -104,6 +111,104 @@ public class AuthServiceTest {
         assertNotNull(response.getUser());
         assertEquals("testuser", response.getUser().getUsername());
         assertEquals("PLAYER", response.getUser().getRole());
+        assertNotNull(response.getToken());
+        assertNotNull(response.getRefreshToken());
+        assertEquals(900L, response.getExpiresIn());
+        verify(refreshTokenRepository).save(any(RefreshToken.class));
+
+        TokenService.TokenClaims claims = tokenService.verifyAccessToken(response.getToken()).orElseThrow();
+        assertEquals(1L, claims.userId());
+        assertEquals("testuser", claims.username());
+        assertEquals("PLAYER", claims.role());
+    }
+
+    @Test
+    public void testAccessTokenTamperedIsRejected() {
+        User user = new User("testuser", "test@example.com", "encodedPassword", "Test", "User");
+        user.setId(1L);
+        user.setRole(Role.PLAYER);
+        String token = tokenService.issueAccessToken(user);
+
+        User admin = new User("testuser", "test@example.com", "encodedPassword", "Test", "User");
+        admin.setId(1L);
+        admin.setRole(Role.ADMIN);
+        String forgedPayload = tokenService.issueAccessToken(admin).split("\\.")[0];
+        String forged = forgedPayload + token.substring(token.indexOf('.'));
+
+        assertTrue(tokenService.verifyAccessToken(token).isPresent());
+        assertTrue(tokenService.verifyAccessToken(forged).isEmpty());
+        assertTrue(tokenService.verifyAccessToken("not-a-token").isEmpty());
+        assertTrue(new TokenService("other-secret", 900, 3600).verifyAccessToken(token).isEmpty());
+    }
+
+    @Test
+    public void testStreamTicketOnlyVerifiesAsStreamTicket() {
+        User user = new User("testuser", "test@example.com", "encodedPassword", "Test", "User");
+        user.setId(1L);
+        user.setRole(Role.PLAYER);
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user));
+
+        AuthResponse response = authService.issueStreamTicket("testuser");
+        String ticket = response.getToken();
+        String accessToken = tokenService.issueAccessToken(user);
+
+        assertTrue(response.isSuccess());
+        assertEquals(TokenService.STREAM_TICKET_TTL_MILLIS / 1000L, response.getExpiresIn());
+        assertEquals("testuser", tokenService.verifyStreamTicket(ticket).orElseThrow().username());
+        assertTrue(tokenService.verifyAccessToken(ticket).isEmpty());
+        assertTrue(tokenService.verifyStreamTicket(accessToken).isEmpty());
+    }
+
+    @Test
+    public void testRefreshRotatesToken() {
+        User user = new User("testuser", "test@example.com", "encodedPassword", "Test", "User");
+        user.setId(1L);
+        RefreshToken stored = new RefreshToken(user, tokenService.hashRefreshToken("old-refresh"),
+            System.currentTimeMillis() + 60_000);
+        when(refreshTokenRepository.findByTokenHashWithUser(tokenService.hashRefreshToken("old-refresh")))
+            .thenReturn(Optional.of(stored));
+
+        AuthResponse response = authService.refresh(new RefreshTokenRequest("old-refresh"));
+
+        assertTrue(response.isSuccess());
+        assertTrue(stored.isRevoked());
+        assertNotNull(response.getToken());
+        assertNotNull(response.getRefreshToken());
+        assertNotEquals("old-refresh", response.getRefreshToken());
+        verify(refreshTokenRepository, times(2)).save(any(RefreshToken.class));
+    }
+
+    @Test
+    public void testRefreshWithRevokedTokenRevokesAllSessions() {
+        User user = new User("testuser", "test@example.com", "encodedPassword", "Test", "User");
+        user.setId(1L);
+        RefreshToken stored = new RefreshToken(user, tokenService.hashRefreshToken("used-refresh"),
+            System.currentTimeMillis() + 60_000);
+        stored.setRevoked(true);
+        when(refreshTokenRepository.findByTokenHashWithUser(tokenService.hashRefreshToken("used-refresh")))
+            .thenReturn(Optional.of(stored));
+
+        AuthResponse response = authService.refresh(new RefreshTokenRequest("used-refresh"));
+
+        assertFalse(response.isSuccess());
+        assertEquals("Refresh token has already been used", response.getMessage());
+        verify(refreshTokenRepository).revokeAllForUser(1L);
+        verify(refreshTokenRepository, never()).save(any(RefreshToken.class));
+    }
+
+    @Test
+    public void testRefreshWithExpiredToken() {
+        User user = new User("testuser", "test@example.com", "encodedPassword", "Test", "User");
+        user.setId(1L);
+        RefreshToken stored = new RefreshToken(user, tokenService.hashRefreshToken("expired-refresh"),
+            System.currentTimeMillis() - 1);
+        when(refreshTokenRepository.findByTokenHashWithUser(tokenService.hashRefreshToken("expired-refresh")))
+            .thenReturn(Optional.of(stored));
+
+        AuthResponse response = authService.refresh(new RefreshTokenRequest("expired-refresh"));
+
+        assertFalse(response.isSuccess());
+        assertEquals("Refresh token has expired", response.getMessage());
     }
 
     @Test
@@ -0,0 +1,85 @@
+package nl.amila.badminton.manager.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nl.amila.badminton.manager.entity.RankingLogic;
+import nl.amila.badminton.manager.entity.TournamentType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameDayMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private GameDayMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metrics = new GameDayMetrics(registry);
+    }
+
+    @Test
+    void time_tagsOutcomeFromResponse() {
+        assertEquals("ok", metrics.time(TournamentType.LEAGUE, GameDayMetrics.Operation.FINISH, () -> "ok", r -> true));
+        metrics.time(TournamentType.LEAGUE, GameDayMetrics.Operation.FINISH, () -> "no", r -> false);
+        metrics.time(TournamentType.APL, GameDayMetrics.Operation.FINISH, () -> "ok", r -> true);
+
+        assertEquals(1, operationCount("league", "finish", "success"));
+        assertEquals(1, operationCount("league", "finish", "rejected"));
+        assertEquals(1, operationCount("apl", "finish", "success"));
+    }
+
+    @Test
+    void time_optimisticLockConflict_recordedAndRethrown() {
+        assertThrows(ObjectOptimisticLockingFailureException.class, () ->
+            metrics.time(TournamentType.APL, GameDayMetrics.Operation.SUBMIT, () -> {
+                throw new ObjectOptimisticLockingFailureException(Object.class, 1L);
+            }, r -> true));
+        assertThrows(IllegalStateException.class, () ->
+            metrics.time(TournamentType.APL, GameDayMetrics.Operation.SUBMIT, () -> {
+                throw new IllegalStateException("boom");
+            }, r -> true));
+
+        assertEquals(1, operationCount("apl", "submit", "conflict"));
+        assertEquals(1, operationCount("apl", "submit", "error"));
+    }
+
+    @Test
+    void timeRankingComputation_returnsResultAndTagsLogic() {
+        int result = metrics.timeRankingComputation(TournamentType.LEAGUE, RankingLogic.MODIFIED_ELO, () -> 42);
+
+        assertEquals(42, result);
+        assertEquals(1, registry.get(GameDayMetrics.RANKING_TIMER)
+            .tag("type", "league").tag("logic", "modified_elo").timer().count());
+    }
+
+    @Test
+    void historyRowsWritten_accumulatesPerType() {
+        metrics.historyRowsWritten(TournamentType.APL, 8);
+        metrics.historyRowsWritten(TournamentType.APL, 4);
+
+        assertEquals(12.0, registry.get(GameDayMetrics.HISTORY_ROWS_COUNTER).tag("type", "apl").counter().count());
+    }
+
+    @Test
+    void scoreConflict_countedPerSubmitter() {
+        metrics.scoreConflict(TournamentType.LEAGUE, GameDayMetrics.Submitter.PLAYER);
+        metrics.scoreConflict(TournamentType.LEAGUE, GameDayMetrics.Submitter.PLAYER);
+        metrics.scoreConflict(TournamentType.LEAGUE, GameDayMetrics.Submitter.ADMIN);
+
+        assertEquals(2.0, registry.get(GameDayMetrics.SCORE_CONFLICT_COUNTER)
+            .tag("submitter", "player").counter().count());
+        assertEquals(1.0, registry.get(GameDayMetrics.SCORE_CONFLICT_COUNTER)
+            .tag("submitter", "admin").counter().count());
+    }
+
+    // ── helpers ───────────────────────────────────────────────────────────────
+
+    private long operationCount(String type, String operation, String outcome) {
+        return registry.get(GameDayMetrics.OPERATION_TIMER)
+            .tag("type", type).tag("operation", operation).tag("outcome", outcome)
+            .timer().count();
+    }
+}
@@ -0,0 +1,86 @@
+package nl.amila.badminton.manager.service;
+
+import nl.amila.badminton.manager.entity.TournamentType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameDayStreamServiceTest {
+
+    private GameDayStreamService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new GameDayStreamService(60, Runnable::run);
+    }
+
+    @Test
+    void subscribe_registersPerGameDayAndType() {
+        SseEmitter emitter = service.subscribe(TournamentType.LEAGUE, 1L);
+
+        assertNotNull(emitter);
+        assertEquals(1, service.subscriberCount(TournamentType.LEAGUE, 1L));
+        // League and APL game day ids are independent
+        assertEquals(0, service.subscriberCount(TournamentType.APL, 1L));
+        assertEquals(0, service.subscriberCount(TournamentType.LEAGUE, 2L));
+    }
+
+    @Test
+    void onMatchScoreSubmitted_keepsLiveSubscribers() {
+        service.subscribe(TournamentType.APL, 3L);
+        service.subscribe(TournamentType.APL, 3L);
+
+        service.onMatchScoreSubmitted(new MatchScoreSubmittedEvent(TournamentType.APL, 3L, 7L, 11L, 21, 19));
+
+        assertEquals(2, service.subscriberCount(TournamentType.APL, 3L));
+    }
+
+    @Test
+    void onMatchScoreSubmitted_dropsCompletedSubscribers() {
+        SseEmitter emitter = service.subscribe(TournamentType.LEAGUE, 1L);
+        emitter.complete();
+
+        service.onMatchScoreSubmitted(new MatchScoreSubmittedEvent(TournamentType.LEAGUE, 1L, 5L, 10L, 21, 15));
+
+        assertEquals(0, service.subscriberCount(TournamentType.LEAGUE, 1L));
+    }
+
+    @Test
+    void onMatchScoreSubmitted_noSubscribers_isNoop() {
+        assertDoesNotThrow(() -> service.onMatchScoreSubmitted(
+            new MatchScoreSubmittedEvent(TournamentType.LEAGUE, 99L, 1L, 1L, 21, 10)));
+    }
+
+    @Test
+    void onMatchScoreSubmitted_sendsOnTheSenderExecutor() {
+        List<Runnable> sends = new ArrayList<>();
+        GameDayStreamService deferred = new GameDayStreamService(60, sends::add);
+        deferred.subscribe(TournamentType.LEAGUE, 1L);
+
+        deferred.onMatchScoreSubmitted(new MatchScoreSubmittedEvent(TournamentType.LEAGUE, 1L, 5L, 10L, 21, 15));
+        deferred.onMatchScoreSubmitted(new MatchScoreSubmittedEvent(TournamentType.LEAGUE, 1L, 5L, 11L, 21, 17));
+
+        // Nothing is sent on the submitting thread, and one drain task covers both updates
+        assertEquals(1, sends.size());
+        sends.get(0).run();
+        assertEquals(1, deferred.subscriberCount(TournamentType.LEAGUE, 1L));
+    }
+
+    @Test
+    void onMatchScoreSubmitted_subscriberFallingBehind_isDropped() {
+        List<Runnable> sends = new ArrayList<>();
+        GameDayStreamService deferred = new GameDayStreamService(60, sends::add);
+        deferred.subscribe(TournamentType.APL, 3L);
+
+        for (int i = 0; i <= GameDayStreamService.MAX_PENDING; i++) {
+            deferred.onMatchScoreSubmitted(new MatchScoreSubmittedEvent(TournamentType.APL, 3L, 7L, (long) i, 21, 19));
+        }
+
+        assertEquals(0, deferred.subscriberCount(TournamentType.APL, 3L));
+    }
+}
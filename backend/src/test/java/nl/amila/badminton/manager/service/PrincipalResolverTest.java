@@ -0,0 +1,117 @@
+package nl.amila.badminton.manager.service;
+
+import nl.amila.badminton.manager.entity.PlayerStatus;
+import nl.amila.badminton.manager.entity.Role;
+import nl.amila.badminton.manager.entity.User;
+import nl.amila.badminton.manager.repository.TournamentPlayerRepository;
+import nl.amila.badminton.manager.repository.TournamentRepository;
+import nl.amila.badminton.manager.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PrincipalResolverTest {
+
+    @Mock private UserRepository userRepository;
+    @Mock private TournamentRepository tournamentRepository;
+    @Mock private TournamentPlayerRepository tournamentPlayerRepository;
+
+    private PrincipalResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        resolver = new PrincipalResolver(userRepository, tournamentRepository, tournamentPlayerRepository);
+    }
+
+    @Test
+    void resolve_tournyAdmin_loadsOnceAndChecksAdministeredTournaments() {
+        stubUser("tourny", 2L, Role.TOURNY_ADMIN);
+        when(tournamentRepository.findAdministeredTournamentIds(2L)).thenReturn(List.of(10L, 11L));
+
+        ResolvedPrincipal first = resolver.resolve("tourny");
+        ResolvedPrincipal second = resolver.resolve("tourny");
+
+        assertSame(first, second);
+        assertTrue(first.canAdminister(10L));
+        assertFalse(first.canAdminister(12L));
+        verify(userRepository, times(1)).findByUsername("tourny");
+        verifyNoInteractions(tournamentPlayerRepository);
+    }
+
+    @Test
+    void resolve_admin_administersEveryTournamentWithoutLoadingIds() {
+        stubUser("admin", 1L, Role.ADMIN);
+
+        ResolvedPrincipal admin = resolver.resolve("admin");
+
+        assertTrue(admin.canAdminister(99L));
+        verifyNoInteractions(tournamentRepository, tournamentPlayerRepository);
+    }
+
+    @Test
+    void resolve_player_carriesMembershipsByTournament() {
+        stubUser("player", 3L, Role.PLAYER);
+        when(tournamentPlayerRepository.findMembershipRows(3L)).thenReturn(List.of(
+            membershipRow(10L, 100L, PlayerStatus.ACTIVE),
+            membershipRow(11L, 101L, PlayerStatus.DISABLED)));
+
+        ResolvedPrincipal player = resolver.resolve("player");
+
+        assertFalse(player.canAdminister(10L));
+        assertEquals(100L, player.membership(10L).orElseThrow().tournamentPlayerId());
+        assertEquals(PlayerStatus.DISABLED, player.membership(11L).orElseThrow().status());
+        assertTrue(player.membership(12L).isEmpty());
+    }
+
+    @Test
+    void onPrincipalChanged_dropsOnlyThatUser() {
+        stubUser("tourny", 2L, Role.TOURNY_ADMIN);
+        stubUser("admin", 1L, Role.ADMIN);
+        when(tournamentRepository.findAdministeredTournamentIds(2L)).thenReturn(List.of(10L), List.of(10L, 12L));
+        resolver.resolve("tourny");
+        resolver.resolve("admin");
+
+        resolver.onPrincipalChanged(new PrincipalChangedEvent(2L));
+
+        assertTrue(resolver.resolve("tourny").canAdminister(12L));
+        resolver.resolve("admin");
+        verify(userRepository, times(2)).findByUsername("tourny");
+        verify(userRepository, times(1)).findByUsername("admin");
+    }
+
+    @Test
+    void resolve_unknownUser_throwsAndCachesNothing() {
+        when(userRepository.findByUsername("ghost")).thenReturn(Optional.empty());
+
+        assertThrows(RuntimeException.class, () -> resolver.resolve("ghost"));
+        assertThrows(RuntimeException.class, () -> resolver.resolve("ghost"));
+        verify(userRepository, times(2)).findByUsername("ghost");
+    }
+
+    // ── helpers ───────────────────────────────────────────────────────────────
+
+    private void stubUser(String username, Long id, Role role) {
+        User user = new User(username, username + "@test.com", "p", "First", "Last");
+        user.setId(id);
+        user.setRole(role);
+        when(userRepository.findByUsername(username)).thenReturn(Optional.of(user));
+    }
+
+    private static TournamentPlayerRepository.MembershipRow membershipRow(Long tournamentId, Long tournamentPlayerId,
+                                                                          PlayerStatus status) {
+        return new TournamentPlayerRepository.MembershipRow() {
+            @Override public Long getTournamentId() { return tournamentId; }
+            @Override public Long getTournamentPlayerId() { return tournamentPlayerId; }
+            @Override public PlayerStatus getStatus() { return status; }
+        };
+    }
+}
@@ -0,0 +1,128 @@
+package nl.amila.badminton.manager.service;
+
+import nl.amila.badminton.manager.entity.PlayerStatus;
+import nl.amila.badminton.manager.entity.TournamentType;
+import nl.amila.badminton.manager.repository.TournamentPlayerRepository;
+import nl.amila.badminton.manager.repository.TournamentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PublicRankingsServiceTest {
+
+    @Mock private TournamentRepository tournamentRepository;
+    @Mock private TournamentPlayerRepository tournamentPlayerRepository;
+
+    private PublicRankingsService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new PublicRankingsService(tournamentRepository, tournamentPlayerRepository);
+    }
+
+    @Test
+    void getRankings_tournamentNotFound_returnsEmpty() {
+        when(tournamentRepository.findHeaderById(9L)).thenReturn(Optional.empty());
+
+        assertTrue(service.getRankings(9L).isEmpty());
+    }
+
+    @Test
+    void getRankings_secondCallServedFromCache() {
+        when(tournamentRepository.findHeaderById(1L)).thenReturn(Optional.of(header()));
+        when(tournamentPlayerRepository.findRankingRows(1L))
+            .thenReturn(List.of(row(10L, 3L, "Alice", new BigDecimal("120.00"))));
+
+        PublicRankingsService.RankingsSnapshot first = service.getRankings(1L).orElseThrow();
+        PublicRankingsService.RankingsSnapshot second = service.getRankings(1L).orElseThrow();
+
+        assertSame(first, second);
+        assertEquals("Alice", first.response().getTournament().getPlayers().get(0).getFirstName());
+        assertNull(first.response().getTournament().getPlayers().get(0).getEmail());
+        verify(tournamentPlayerRepository, times(1)).findRankingRows(1L);
+    }
+
+    @Test
+    void getRankings_afterRankingsChanged_rebuildsWithNewEtag() {
+        when(tournamentRepository.findHeaderById(1L)).thenReturn(Optional.of(header()));
+        when(tournamentPlayerRepository.findRankingRows(1L))
+            .thenReturn(List.of(row(10L, 3L, "Alice", new BigDecimal("120.00"))))
+            .thenReturn(List.of(row(10L, 3L, "Alice", new BigDecimal("135.50"))));
+
+        String etagBefore = service.getRankings(1L).orElseThrow().etag();
+        service.onRankingsChanged(new RankingsChangedEvent(1L));
+        PublicRankingsService.RankingsSnapshot after = service.getRankings(1L).orElseThrow();
+
+        assertNotEquals(etagBefore, after.etag());
+        assertEquals(new BigDecimal("135.50"), after.response().getTournament().getPlayers().get(0).getRankScore());
+        verify(tournamentPlayerRepository, times(2)).findRankingRows(1L);
+    }
+
+    @Test
+    void getRankings_invalidatedWhileBuilding_isNotServedFromCache() {
+        when(tournamentRepository.findHeaderById(1L)).thenReturn(Optional.of(header()));
+        when(tournamentPlayerRepository.findRankingRows(1L))
+            .thenAnswer(invocation -> {
+                // A finished game day commits between the two queries of the first build
+                service.onRankingsChanged(new RankingsChangedEvent(1L));
+                return List.of(row(10L, 3L, "Alice", new BigDecimal("120.00")));
+            })
+            .thenReturn(List.of(row(10L, 3L, "Alice", new BigDecimal("135.50"))));
+
+        service.getRankings(1L);
+        PublicRankingsService.RankingsSnapshot after = service.getRankings(1L).orElseThrow();
+
+        assertEquals(new BigDecimal("135.50"), after.response().getTournament().getPlayers().get(0).getRankScore());
+        verify(tournamentPlayerRepository, times(2)).findRankingRows(1L);
+    }
+
+    @Test
+    void getRankings_sameData_sameEtag() {
+        when(tournamentRepository.findHeaderById(1L)).thenReturn(Optional.of(header()));
+        when(tournamentPlayerRepository.findRankingRows(1L))
+            .thenReturn(List.of(row(10L, 3L, "Alice", new BigDecimal("120.00"))));
+
+        String etagBefore = service.getRankings(1L).orElseThrow().etag();
+        service.onRankingsChanged(new RankingsChangedEvent(1L));
+
+        assertEquals(etagBefore, service.getRankings(1L).orElseThrow().etag());
+    }
+
+    // ── helpers ───────────────────────────────────────────────────────────────
+
+    private static TournamentRepository.TournamentHeader header() {
+        return new TournamentRepository.TournamentHeader() {
+            @Override public Long getId() { return 1L; }
+            @Override public String getName() { return "Premier League"; }
+            @Override public Long getOwnerId() { return 2L; }
+            @Override public Boolean getEnabled() { return true; }
+            @Override public long getCreatedAt() { return 0L; }
+            @Override public long getUpdatedAt() { return 0L; }
+            @Override public TournamentType getType() { return TournamentType.LEAGUE; }
+        };
+    }
+
+    private static TournamentPlayerRepository.RankingRow row(Long tournamentPlayerId, Long userId,
+                                                             String firstName, BigDecimal rankScore) {
+        return new TournamentPlayerRepository.RankingRow() {
+            @Override public Long getTournamentPlayerId() { return tournamentPlayerId; }
+            @Override public Long getUserId() { return userId; }
+            @Override public String getFirstName() { return firstName; }
+            @Override public String getLastName() { return "A"; }
+            @Override public PlayerStatus getStatus() { return PlayerStatus.ENABLED; }
+            @Override public long getStatusChangedAt() { return 0L; }
+            @Override public Integer getRank() { return null; }
+            @Override public BigDecimal getRankScore() { return rankScore; }
+        };
+    }
+}
@@ -7,7 +7,9 @@ import nl.amila.badminton.manager.dto.oneoff.OneOffSettingsRequest;
 import nl.amila.badminton.manager.entity.apl.AplTournamentSettings;
 import nl.amila.badminton.manager.entity.league.LeagueTournamentSettings;
 import nl.amila.badminton.manager.entity.ModifiedEloConfig;
+import nl.amila.badminton.manager.entity.oneoff.OneOffFormat;
 import nl.amila.badminton.manager.entity.oneoff.OneOffTournamentSettings;
+import nl.amila.badminton.manager.entity.PlayerStatus;
 import nl.amila.badminton.manager.entity.RankingLogic;
 import nl.amila.badminton.manager.entity.Role;
 import nl.amila.badminton.manager.entity.Tournament;
@@ -19,6 +21,7 @@ import nl.amila.badminton.manager.repository.apl.AplGameDayRepository;
 import nl.amila.badminton.manager.repository.apl.AplTournamentSettingsRepository;
 import nl.amila.badminton.manager.repository.league.LeagueTournamentSettingsRepository;
 import nl.amila.badminton.manager.repository.league.LeagueGameDayRepository;
+import nl.amila.badminton.manager.repository.oneoff.OneOffRoundRepository;
 import nl.amila.badminton.manager.repository.oneoff.OneOffTournamentSettingsRepository;
 import nl.amila.badminton.manager.repository.TournamentPlayerRepository;
 import nl.amila.badminton.manager.repository.TournamentRepository;
@@ -26,15 +29,16 @@ import nl.amila.badminton.manager.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -61,13 +65,18 @@ class TournamentServiceTest {
     @Mock
     private OneOffTournamentSettingsRepository oneOffSettingsRepository;
 
+    @Mock
+    private OneOffRoundRepository oneOffRoundRepository;
+
     @Mock
     private AplTournamentSettingsRepository aplSettingsRepository;
 
     @Mock
     private AplGameDayRepository aplGameDayRepository;
 
-    @InjectMocks
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private TournamentService tournamentService;
 
     private User adminUser;
@@ -79,6 +88,11 @@ class TournamentServiceTest {
 
     @BeforeEach
     void setUp() {
+        tournamentService = new TournamentService(tournamentRepository, userRepository, tournamentPlayerRepository,
+            leagueSettingsRepository, oneOffSettingsRepository, oneOffRoundRepository, aplSettingsRepository,
+            leagueGameDayRepository, aplGameDayRepository,
+            new PrincipalResolver(userRepository, tournamentRepository, tournamentPlayerRepository), eventPublisher);
+
         adminUser = new User("admin", "admin@example.com", "password", "Admin", "User");
         adminUser.setId(1L);
         adminUser.setRole(Role.ADMIN);
@@ -152,6 +166,28 @@ class TournamentServiceTest {
         verify(oneOffSettingsRepository, times(1)).save(any(OneOffTournamentSettings.class));
     }
 
+    @Test
+    void createTournament_ownerPrincipalCachedBefore_administersNewTournamentAfter() {
+        PrincipalResolver resolver = new PrincipalResolver(userRepository, tournamentRepository, tournamentPlayerRepository);
+        // Deliver PrincipalChangedEvent to the resolver as the after-commit listener would
+        doAnswer(invocation -> {
+            resolver.onPrincipalChanged(invocation.getArgument(0));
+            return null;
+        }).when(eventPublisher).publishEvent(any(PrincipalChangedEvent.class));
+        when(userRepository.findByUsername("tourny_admin")).thenReturn(Optional.of(tournamentAdminUser));
+        when(tournamentRepository.findAdministeredTournamentIds(2L)).thenReturn(List.of(), List.of(1L));
+        assertFalse(resolver.resolve("tourny_admin").canAdminister(1L));
+
+        CreateTournamentRequest request = oneOffRequest("Spring Championship");
+        when(tournamentRepository.existsByName("Spring Championship")).thenReturn(false);
+        when(userRepository.findById(2L)).thenReturn(Optional.of(tournamentAdminUser));
+        when(tournamentRepository.save(any(Tournament.class))).thenReturn(tournament);
+        assertTrue(tournamentService.createTournament(request).isSuccess());
+
+        assertTrue(resolver.resolve("tourny_admin").canAdminister(1L));
+        verify(eventPublisher).publishEvent(new PrincipalChangedEvent(2L));
+    }
+
     @Test
     void testCreateTournament_NameAlreadyExists() {
         CreateTournamentRequest request = new CreateTournamentRequest();
@@ -633,21 +669,21 @@ class TournamentServiceTest {
         assertNotNull(response.getTournaments());
         assertEquals(1, response.getTournaments().size());
         verify(tournamentRepository, times(1)).findAll();
-        verify(tournamentRepository, never()).findByAdminsUserId(anyLong());
+        verify(tournamentRepository, never()).findAllById(any());
     }
 
     @Test
     void testGetTournaments_AsTournyAdmin_ReturnsOnlyOwn() {
-        tournament.getAdmins().add(new TournamentAdmin(tournament, tournamentAdminUser));
         when(userRepository.findByUsername("tourny_admin")).thenReturn(Optional.of(tournamentAdminUser));
-        when(tournamentRepository.findByAdminsUserId(2L)).thenReturn(List.of(tournament));
+        when(tournamentRepository.findAdministeredTournamentIds(2L)).thenReturn(List.of(1L));
+        when(tournamentRepository.findAllById(Set.of(1L))).thenReturn(List.of(tournament));
 
         TournamentResponse response = tournamentService.getTournaments("tourny_admin");
 
         assertTrue(response.isSuccess());
         assertEquals(1, response.getTournaments().size());
         assertEquals("Spring Championship", response.getTournaments().get(0).getName());
-        verify(tournamentRepository, times(1)).findByAdminsUserId(2L);
+        verify(tournamentRepository, times(1)).findAllById(Set.of(1L));
         verify(tournamentRepository, never()).findAll();
     }
 
@@ -670,9 +706,9 @@ class TournamentServiceTest {
 
     @Test
     void testGetTournamentById_AsTournyAdmin_IsAdmin_Success() {
-        tournament.getAdmins().add(new TournamentAdmin(tournament, tournamentAdminUser));
         when(tournamentRepository.findById(1L)).thenReturn(Optional.of(tournament));
         when(userRepository.findByUsername("tourny_admin")).thenReturn(Optional.of(tournamentAdminUser));
+        when(tournamentRepository.findAdministeredTournamentIds(2L)).thenReturn(List.of(1L));
 
         TournamentResponse response = tournamentService.getTournamentById(1L, "tourny_admin");
 
@@ -841,8 +877,8 @@ class TournamentServiceTest {
 
         when(userRepository.findByUsername("player")).thenReturn(Optional.of(playerUser));
         when(tournamentRepository.findById(1L)).thenReturn(Optional.of(tournament));
-        when(tournamentPlayerRepository.findByTournamentIdAndUserId(1L, 3L))
-            .thenReturn(Optional.of(tp));
+        when(tournamentPlayerRepository.findMembershipRows(3L))
+            .thenReturn(List.of(membershipRow(1L, tp.getId(), PlayerStatus.ENABLED)));
         when(leagueGameDayRepository.findByTournamentIdOrderByGameDateDesc(1L))
             .thenReturn(List.of());
 
@@ -867,8 +903,6 @@ class TournamentServiceTest {
     void testGetTournamentForPlayer_playerNotRegistered_returnsError() {
         when(userRepository.findByUsername("player")).thenReturn(Optional.of(playerUser));
         when(tournamentRepository.findById(1L)).thenReturn(Optional.of(tournament));
-        when(tournamentPlayerRepository.findByTournamentIdAndUserId(1L, 3L))
-            .thenReturn(Optional.empty());
 
         PlayerTournamentResponse response = tournamentService.getTournamentForPlayer(1L, "player");
 
@@ -876,6 +910,33 @@ class TournamentServiceTest {
         assertTrue(response.getMessage().contains("not registered"));
     }
 
+    @Test
+    void testGetTournamentForPlayer_disabledMembership_returnsError() {
+        when(userRepository.findByUsername("player")).thenReturn(Optional.of(playerUser));
+        when(tournamentRepository.findById(1L)).thenReturn(Optional.of(tournament));
+        when(tournamentPlayerRepository.findMembershipRows(3L))
+            .thenReturn(List.of(membershipRow(1L, 42L, PlayerStatus.DISABLED)));
+
+        PlayerTournamentResponse response = tournamentService.getTournamentForPlayer(1L, "player");
+
+        assertFalse(response.isSuccess());
+        assertTrue(response.getMessage().contains("not registered"));
+    }
+
+    @Test
+    void testGetTournamentsForPlayer_skipsDisabledMemberships() {
+        when(userRepository.findByUsername("player")).thenReturn(Optional.of(playerUser));
+        when(tournamentPlayerRepository.findMembershipRows(3L)).thenReturn(List.of(
+            membershipRow(1L, 42L, PlayerStatus.ENABLED),
+            membershipRow(2L, 43L, PlayerStatus.DISABLED)));
+        when(tournamentRepository.findAllById(List.of(1L))).thenReturn(List.of(tournament));
+
+        PlayerTournamentResponse response = tournamentService.getTournamentsForPlayer("player");
+
+        assertTrue(response.isSuccess());
+        assertEquals(1, response.getTournaments().size());
+    }
+
     @Test
     void testGetTournamentForPlayer_nonPlayerRole_throwsAccessDenied() {
         when(userRepository.findByUsername("admin")).thenReturn(Optional.of(adminUser));
@@ -969,12 +1030,12 @@ class TournamentServiceTest {
     void testUpdateAplTournamentSettings_Success() {
         Tournament aplTournament = new Tournament("APL Premier", 2L, true, TournamentType.APL);
         aplTournament.setId(10L);
-        aplTournament.getAdmins().add(new TournamentAdmin(aplTournament, tournamentAdminUser));
         AplTournamentSettings settings = new AplTournamentSettings(aplTournament, RankingLogic.MODIFIED_ELO,
             new ModifiedEloConfig(32), "10,8,5,3", 3);
 
         when(tournamentRepository.findById(10L)).thenReturn(Optional.of(aplTournament));
         when(userRepository.findByUsername("tourny_admin")).thenReturn(Optional.of(tournamentAdminUser));
+        when(tournamentRepository.findAdministeredTournamentIds(2L)).thenReturn(List.of(10L));
         when(aplSettingsRepository.findByTournamentId(10L)).thenReturn(Optional.of(settings));
         when(aplSettingsRepository.save(any(AplTournamentSettings.class))).thenReturn(settings);
         when(tournamentRepository.findById(10L)).thenReturn(Optional.of(aplTournament));
@@ -994,12 +1055,12 @@ class TournamentServiceTest {
     void testUpdateAplTournamentSettings_InvalidDeactivationCount() {
         Tournament aplTournament = new Tournament("APL Premier", 2L, true, TournamentType.APL);
         aplTournament.setId(10L);
-        aplTournament.getAdmins().add(new TournamentAdmin(aplTournament, tournamentAdminUser));
         AplTournamentSettings settings = new AplTournamentSettings(aplTournament, RankingLogic.MODIFIED_ELO,
             new ModifiedEloConfig(32), "10,8,5,3", 3);
 
         when(tournamentRepository.findById(10L)).thenReturn(Optional.of(aplTournament));
         when(userRepository.findByUsername("tourny_admin")).thenReturn(Optional.of(tournamentAdminUser));
+        when(tournamentRepository.findAdministeredTournamentIds(2L)).thenReturn(List.of(10L));
         when(aplSettingsRepository.findByTournamentId(10L)).thenReturn(Optional.of(settings));
 
         UpdateTournamentSettingsRequest req = new UpdateTournamentSettingsRequest();
@@ -1011,4 +1072,79 @@ class TournamentServiceTest {
         assertFalse(response.isSuccess());
         assertEquals("Deactivation count must be between 1 and 20", response.getMessage());
     }
+
+    // -------------------------------------------------------------------------
+    // enablePlayer / disablePlayer — rankings invalidation
+    // -------------------------------------------------------------------------
+
+    @Test
+    void testDisablePlayer_PublishesRankingsChanged() {
+        TournamentPlayer tp = new TournamentPlayer(leagueTournament, playerUser);
+        when(tournamentPlayerRepository.findByTournamentIdAndUserId(2L, 3L)).thenReturn(Optional.of(tp));
+
+        TournamentResponse response = tournamentService.disablePlayer(2L, 3L);
+
+        assertTrue(response.isSuccess());
+        assertEquals(PlayerStatus.DISABLED, tp.getStatus());
+        verify(eventPublisher).publishEvent(new RankingsChangedEvent(2L));
+    }
+
+    @Test
+    void testRemoveTournamentAdmin_PublishesPrincipalChanged() {
+        tournament.getAdmins().add(new TournamentAdmin(tournament, tournamentAdminUser));
+        when(tournamentRepository.findById(1L)).thenReturn(Optional.of(tournament));
+
+        TournamentResponse response = tournamentService.removeTournamentAdmin(1L, 2L);
+
+        assertTrue(response.isSuccess());
+        verify(eventPublisher).publishEvent(new PrincipalChangedEvent(2L));
+    }
+
+    @Test
+    void testEnablePlayer_NotDisabled_DoesNotPublish() {
+        TournamentPlayer tp = new TournamentPlayer(leagueTournament, playerUser);
+        when(tournamentPlayerRepository.findByTournamentIdAndUserId(2L, 3L)).thenReturn(Optional.of(tp));
+
+        TournamentResponse response = tournamentService.enablePlayer(2L, 3L);
+
+        assertFalse(response.isSuccess());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void testDisablePlayer_RoundRobinUnderway_Rejected() {
+        TournamentPlayer tp = new TournamentPlayer(tournament, playerUser);
+        when(tournamentPlayerRepository.findByTournamentIdAndUserId(1L, 3L)).thenReturn(Optional.of(tp));
+        when(oneOffSettingsRepository.findByTournamentId(1L))
+            .thenReturn(Optional.of(new OneOffTournamentSettings(tournament, 3, 21, OneOffFormat.ROUND_ROBIN)));
+        when(oneOffRoundRepository.existsByTournamentId(1L)).thenReturn(true);
+
+        TournamentResponse response = tournamentService.disablePlayer(1L, 3L);
+
+        assertFalse(response.isSuccess());
+        assertEquals(PlayerStatus.ENABLED, tp.getStatus());
+        verify(tournamentPlayerRepository, never()).save(any());
+    }
+
+    @Test
+    void testDisablePlayer_SwissUnderway_Allowed() {
+        TournamentPlayer tp = new TournamentPlayer(tournament, playerUser);
+        when(tournamentPlayerRepository.findByTournamentIdAndUserId(1L, 3L)).thenReturn(Optional.of(tp));
+        when(oneOffSettingsRepository.findByTournamentId(1L))
+            .thenReturn(Optional.of(new OneOffTournamentSettings(tournament, 3, 21, OneOffFormat.SWISS)));
+
+        TournamentResponse response = tournamentService.disablePlayer(1L, 3L);
+
+        assertTrue(response.isSuccess());
+        assertEquals(PlayerStatus.DISABLED, tp.getStatus());
+    }
+
+    private static TournamentPlayerRepository.MembershipRow membershipRow(Long tournamentId, Long tournamentPlayerId,
+                                                                         PlayerStatus status) {
+        return new TournamentPlayerRepository.MembershipRow() {
+            @Override public Long getTournamentId() { return tournamentId; }
+            @Override public Long getTournamentPlayerId() { return tournamentPlayerId; }
+            @Override public PlayerStatus getStatus() { return status; }
+        };
+    }
 }
@@ -1,5 +1,7 @@
 package nl.amila.badminton.manager.service.apl;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nl.amila.badminton.manager.dto.apl.AplCreateGameDayRequest;
 import nl.amila.badminton.manager.dto.apl.AplGameDayResponse;
 import nl.amila.badminton.manager.entity.*;
 import nl.amila.badminton.manager.entity.apl.*;
@@ -7,18 +9,27 @@ import nl.amila.badminton.manager.repository.TournamentPlayerRepository;
 import nl.amila.badminton.manager.repository.TournamentRepository;
 import nl.amila.badminton.manager.repository.UserRepository;
 import nl.amila.badminton.manager.repository.apl.*;
+import nl.amila.badminton.manager.service.GameDayMetrics;
+import nl.amila.badminton.manager.service.PrincipalChangedEvent;
+import nl.amila.badminton.manager.service.PrincipalResolver;
+import nl.amila.badminton.manager.service.ranking.ModifiedEloRankingEngine;
+import nl.amila.badminton.manager.service.ranking.RankingEngines;
+import nl.amila.badminton.manager.service.scheduling.PairingFrequencyIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.*;
 
+import static nl.amila.badminton.manager.QueryCountAssertions.assertMaxRepositoryCalls;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,8 +42,11 @@ class AplGameDayServiceTest {
     @Mock private UserRepository userRepository;
     @Mock private AplTournamentSettingsRepository aplSettingsRepository;
     @Mock private AplRankScoreHistoryRepository aplRankScoreHistoryRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private PairingFrequencyIndex pairingFrequencyIndex;
 
     private AplGameDayService service;
+    private PrincipalResolver principalResolver;
 
     private Tournament tournament;
     private User adminUser;
@@ -44,10 +58,16 @@ class AplGameDayServiceTest {
 
     @BeforeEach
     void setUp() {
+        principalResolver = new PrincipalResolver(userRepository, tournamentRepository, tournamentPlayerRepository);
         service = new AplGameDayService(
             tournamentRepository, tournamentPlayerRepository,
             aplGameDayRepository, matchRepository,
-            userRepository, aplSettingsRepository, aplRankScoreHistoryRepository
+            principalResolver,
+            aplSettingsRepository, aplRankScoreHistoryRepository,
+            eventPublisher,
+            new RankingEngines(List.of(new ModifiedEloRankingEngine())),
+            pairingFrequencyIndex,
+            new GameDayMetrics(new SimpleMeterRegistry())
         );
 
         adminUser = new User("admin", "admin@test.com", "pass", "Admin", "User");
@@ -92,6 +112,35 @@ class AplGameDayServiceTest {
         gameDay.getGroups().add(group);
     }
 
+    // ── createGameDay ─────────────────────────────────────────────────────────
+
+    @Test
+    void createGameDay_twentyPlayers_staysWithinRepositoryBudget() {
+        List<TournamentPlayer> players = new ArrayList<>();
+        for (long i = 1; i <= 20; i++) {
+            User u = new User("p" + i, "p" + i + "@test.com", "p", "Player", String.valueOf(i));
+            setId(u, i);
+            TournamentPlayer tp = new TournamentPlayer(tournament, u, BigDecimal.valueOf(200 - i));
+            setId(tp, i);
+            players.add(tp);
+        }
+        AplCreateGameDayRequest request = new AplCreateGameDayRequest();
+        request.setGameDate("2025-02-01");
+        request.setPlayerIds(players.stream().map(TournamentPlayer::getId).toList());
+        when(tournamentRepository.findById(1L)).thenReturn(Optional.of(tournament));
+        when(userRepository.findByUsername("admin")).thenReturn(Optional.of(adminUser));
+        when(tournamentPlayerRepository.findAllById(request.getPlayerIds())).thenReturn(players);
+        when(aplGameDayRepository.save(any(AplGameDay.class))).thenAnswer(i -> i.getArgument(0));
+
+        // Tournament, caller, one player batch, the date check and the two day saves, whatever the player count
+        AplGameDayResponse res = assertMaxRepositoryCalls(6, () -> service.createGameDay(1L, request, "admin"),
+            tournamentRepository, userRepository, tournamentPlayerRepository, aplGameDayRepository,
+            matchRepository, aplSettingsRepository, aplRankScoreHistoryRepository);
+
+        assertTrue(res.isSuccess());
+        assertEquals(5, res.getGameDay().getGroups().size());
+    }
+
     // ── finishGameDay: happy path ──────────────────────────────────────────────
 
     @Test
@@ -111,8 +160,10 @@ class AplGameDayServiceTest {
 
         service.finishGameDay(1L, 1L, "admin");
 
-        // At minimum the 4 participating players get their ELO scores saved
-        verify(tournamentPlayerRepository, atLeast(4)).save(any(TournamentPlayer.class));
+        // At minimum the 4 participating players get their ELO scores saved, in one saveAll
+        verify(tournamentPlayerRepository).saveAll(argThat(players -> ((Collection<?>) players).size() >= 4));
+        verify(tournamentPlayerRepository, never()).findById(any());
+        verify(aplRankScoreHistoryRepository).insertBatch(argThat(rows -> rows.size() == 4));
     }
 
     // ── absence demerit ───────────────────────────────────────────────────────
@@ -130,8 +181,8 @@ class AplGameDayServiceTest {
         when(tournamentPlayerRepository.findByTournamentId(1L))
             .thenReturn(List.of(tp1, tp2, tp3, tp4, tp5));
         // No previous completed game days → consecutive absences = 0 → after this day = 1 → index 0 = 10pts
-        when(aplGameDayRepository.findByTournamentIdOrderByGameDateDesc(1L))
-            .thenReturn(List.of(gameDay));
+        when(aplGameDayRepository.findAbsenceStreaks(1L, 1L, AplGameDayStatus.COMPLETED))
+            .thenReturn(List.of());
 
         service.finishGameDay(1L, 1L, "admin");
 
@@ -145,18 +196,12 @@ class AplGameDayServiceTest {
         TournamentPlayer tp5 = new TournamentPlayer(tournament, u5, new BigDecimal("50.00"));
         setId(tp5, 5L);
 
-        // A previous completed game day where tp5 was also absent
-        AplGameDay prevDay = new AplGameDay(tournament, LocalDate.of(2025, 1, 3));
-        setId(prevDay, 2L);
-        prevDay.setStatus(AplGameDayStatus.COMPLETED);
-
         stubHappyPath("10,8,5", null);
         when(tournamentPlayerRepository.findByTournamentId(1L))
             .thenReturn(List.of(tp1, tp2, tp3, tp4, tp5));
-        // History: current day first (skipped), then prevDay (completed, absent → count=1 before adding current)
-        when(aplGameDayRepository.findByTournamentIdOrderByGameDateDesc(1L))
-            .thenReturn(List.of(gameDay, prevDay));
-        when(aplGameDayRepository.isPlayerPresentInGameDay(2L, 5L)).thenReturn(false);
+        // tp5 was also absent from one previous completed game day (count=1 before adding current)
+        when(aplGameDayRepository.findAbsenceStreaks(1L, 1L, AplGameDayStatus.COMPLETED))
+            .thenReturn(List.of(absenceStreak(5L, 1L)));
 
         service.finishGameDay(1L, 1L, "admin");
 
@@ -164,6 +209,53 @@ class AplGameDayServiceTest {
         assertEquals(new BigDecimal("42.00"), tp5.getRankScore()); // 50 - 8
     }
 
+    @Test
+    void finishGameDay_absenceStreaks_loadedOnceForAllAbsentPlayers() {
+        User u5 = new User("p5", "p5@test.com", "p", "Eve", "E");
+        User u6 = new User("p6", "p6@test.com", "p", "Frank", "F");
+        setId(u5, 5L); setId(u6, 6L);
+        TournamentPlayer tp5 = new TournamentPlayer(tournament, u5, new BigDecimal("50.00"));
+        TournamentPlayer tp6 = new TournamentPlayer(tournament, u6, new BigDecimal("30.00"));
+        setId(tp5, 5L); setId(tp6, 6L);
+
+        stubHappyPath("10,8,5", null);
+        when(tournamentPlayerRepository.findByTournamentId(1L))
+            .thenReturn(List.of(tp1, tp2, tp3, tp4, tp5, tp6));
+        // tp5: 3 prior absences (capped at last demerit), tp6: none
+        when(aplGameDayRepository.findAbsenceStreaks(1L, 1L, AplGameDayStatus.COMPLETED))
+            .thenReturn(List.of(absenceStreak(5L, 3L)));
+
+        service.finishGameDay(1L, 1L, "admin");
+
+        assertEquals(new BigDecimal("45.00"), tp5.getRankScore()); // 50 - 5
+        assertEquals(new BigDecimal("20.00"), tp6.getRankScore()); // 30 - 10
+        verify(aplGameDayRepository, times(1)).findAbsenceStreaks(any(), any(), any());
+    }
+
+    @Test
+    void finishGameDay_absentPlayers_staysWithinQueryBudget() {
+        User u5 = new User("p5", "p5@test.com", "p", "Eve", "E");
+        User u6 = new User("p6", "p6@test.com", "p", "Frank", "F");
+        setId(u5, 5L); setId(u6, 6L);
+        TournamentPlayer tp5 = new TournamentPlayer(tournament, u5, new BigDecimal("50.00"));
+        TournamentPlayer tp6 = new TournamentPlayer(tournament, u6, new BigDecimal("30.00"));
+        setId(tp5, 5L); setId(tp6, 6L);
+
+        stubHappyPath("10,8,5", 2);
+        when(tournamentPlayerRepository.findByTournamentId(1L))
+            .thenReturn(List.of(tp1, tp2, tp3, tp4, tp5, tp6));
+        when(aplGameDayRepository.findAbsenceStreaks(1L, 1L, AplGameDayStatus.COMPLETED))
+            .thenReturn(List.of(absenceStreak(5L, 3L)));
+
+        // Tournament lock, day, caller, settings, history batch, absence streaks, all players, player batch,
+        // day save and the three read-model queries — the same however many players are absent
+        AplGameDayResponse res = assertMaxRepositoryCalls(12, () -> service.finishGameDay(1L, 1L, "admin"),
+            aplGameDayRepository, matchRepository, userRepository, tournamentRepository,
+            tournamentPlayerRepository, aplSettingsRepository, aplRankScoreHistoryRepository);
+
+        assertTrue(res.isSuccess());
+    }
+
     @Test
     void finishGameDay_consecutiveAbsencesMeetDeactivationCount_playerDisabled() {
         User u5 = new User("p5", "p5@test.com", "p", "Eve", "E");
@@ -175,14 +267,45 @@ class AplGameDayServiceTest {
         stubHappyPath("10,8,5", 1);
         when(tournamentPlayerRepository.findByTournamentId(1L))
             .thenReturn(List.of(tp1, tp2, tp3, tp4, tp5));
-        when(aplGameDayRepository.findByTournamentIdOrderByGameDateDesc(1L))
-            .thenReturn(List.of(gameDay));
+        when(aplGameDayRepository.findAbsenceStreaks(1L, 1L, AplGameDayStatus.COMPLETED))
+            .thenReturn(List.of());
 
         service.finishGameDay(1L, 1L, "admin");
 
         assertEquals(PlayerStatus.DISABLED, tp5.getStatus());
     }
 
+    @Test
+    void finishGameDay_playerDeactivated_losesCachedPlayerAccess() {
+        User u5 = new User("p5", "p5@test.com", "p", "Eve", "E");
+        u5.setRole(Role.PLAYER);
+        setId(u5, 5L);
+        TournamentPlayer tp5 = new TournamentPlayer(tournament, u5, new BigDecimal("50.00"));
+        setId(tp5, 5L);
+        setId(adminUser, 100L);
+        // Deliver PrincipalChangedEvent to the resolver as the after-commit listener would
+        doAnswer(invocation -> {
+            if (invocation.getArgument(0) instanceof PrincipalChangedEvent event) {
+                principalResolver.onPrincipalChanged(event);
+            }
+            return null;
+        }).when(eventPublisher).publishEvent(any(Object.class));
+        when(userRepository.findByUsername("p5")).thenReturn(Optional.of(u5));
+        when(tournamentPlayerRepository.findMembershipRows(5L))
+            .thenReturn(List.of(membershipRow(5L, PlayerStatus.ENABLED)), List.of(membershipRow(5L, PlayerStatus.DISABLED)));
+        assertEquals(PlayerStatus.ENABLED, principalResolver.resolve("p5").membership(1L).orElseThrow().status());
+
+        stubHappyPath("10,8,5", 1);
+        when(tournamentPlayerRepository.findByTournamentId(1L))
+            .thenReturn(List.of(tp1, tp2, tp3, tp4, tp5));
+        when(aplGameDayRepository.findAbsenceStreaks(1L, 1L, AplGameDayStatus.COMPLETED))
+            .thenReturn(List.of());
+        service.finishGameDay(1L, 1L, "admin");
+
+        verify(eventPublisher).publishEvent(new PrincipalChangedEvent(5L));
+        assertEquals(PlayerStatus.DISABLED, principalResolver.resolve("p5").membership(1L).orElseThrow().status());
+    }
+
     @Test
     void finishGameDay_noAbsenteeDemeritConfig_skipsAbsenceProcessing() {
         User u5 = new User("p5", "p5@test.com", "p", "Eve", "E");
@@ -272,12 +395,6 @@ class AplGameDayServiceTest {
             absenteeDemeritPoints, deactivationCount);
         when(aplSettingsRepository.findByTournamentId(1L)).thenReturn(Optional.of(settings));
 
-        // After ELO updates, each player is fetched by ID for delta application
-        when(tournamentPlayerRepository.findById(1L)).thenReturn(Optional.of(tp1));
-        when(tournamentPlayerRepository.findById(2L)).thenReturn(Optional.of(tp2));
-        when(tournamentPlayerRepository.findById(3L)).thenReturn(Optional.of(tp3));
-        when(tournamentPlayerRepository.findById(4L)).thenReturn(Optional.of(tp4));
-
         when(aplGameDayRepository.findByIdWithAll(1L)).thenReturn(Optional.of(gameDay));
 
         // Default: findByTournamentId returns only the 4 participants (no absent players).
@@ -288,6 +405,28 @@ class AplGameDayServiceTest {
         }
     }
 
+    private static TournamentPlayerRepository.MembershipRow membershipRow(Long tournamentPlayerId, PlayerStatus status) {
+        return new TournamentPlayerRepository.MembershipRow() {
+            @Override public Long getTournamentId() { return 1L; }
+            @Override public Long getTournamentPlayerId() { return tournamentPlayerId; }
+            @Override public PlayerStatus getStatus() { return status; }
+        };
+    }
+
+    private static AplGameDayRepository.AbsenceStreak absenceStreak(Long tournamentPlayerId, Long absences) {
+        return new AplGameDayRepository.AbsenceStreak() {
+            @Override
+            public Long getTournamentPlayerId() {
+                return tournamentPlayerId;
+            }
+
+            @Override
+            public Long getAbsences() {
+                return absences;
+            }
+        };
+    }
+
     private static void setId(Object entity, Long id) {
         try {
             var field = entity.getClass().getDeclaredField("id");
@@ -1,7 +1,11 @@
 package nl.amila.badminton.manager.service.league;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nl.amila.badminton.manager.dto.league.CreateGameDayRequest;
 import nl.amila.badminton.manager.dto.league.GameDayResponse;
 import nl.amila.badminton.manager.dto.league.PlayerHistoryResponse;
+import nl.amila.badminton.manager.dto.league.SubmitMatchScoreRequest;
+import nl.amila.badminton.manager.dto.league.SubmitMatchScoresRequest;
 import nl.amila.badminton.manager.entity.*;
 import nl.amila.badminton.manager.entity.league.GameDayStatus;
 import nl.amila.badminton.manager.entity.league.LeagueGameDay;
@@ -15,18 +19,34 @@ import nl.amila.badminton.manager.repository.league.LeagueGameDayGroupMatchRepos
 import nl.amila.badminton.manager.repository.league.LeagueGameDayRepository;
 import nl.amila.badminton.manager.repository.league.LeagueTournamentSettingsRepository;
 import nl.amila.badminton.manager.repository.league.RankScoreHistoryRepository;
+import nl.amila.badminton.manager.service.GameDayCompletedEvent;
+import nl.amila.badminton.manager.service.GameDayMetrics;
+import nl.amila.badminton.manager.service.MatchScoreSubmittedEvent;
+import nl.amila.badminton.manager.service.PrincipalResolver;
+import nl.amila.badminton.manager.service.RankingsChangedEvent;
+import nl.amila.badminton.manager.service.ScoreResponseView;
+import nl.amila.badminton.manager.service.ranking.Glicko2RankingEngine;
+import nl.amila.badminton.manager.service.ranking.ModifiedEloRankingEngine;
+import nl.amila.badminton.manager.service.ranking.RankingEngines;
+import nl.amila.badminton.manager.service.scheduling.PairingFrequencyIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.*;
 
+import static nl.amila.badminton.manager.QueryCountAssertions.assertMaxRepositoryCalls;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,6 +59,8 @@ class LeagueGameDayServiceTest {
     @Mock private UserRepository userRepository;
     @Mock private LeagueTournamentSettingsRepository leagueSettingsRepository;
     @Mock private RankScoreHistoryRepository rankScoreHistoryRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private PairingFrequencyIndex pairingFrequencyIndex;
 
     private LeagueGameDayService service;
 
@@ -56,7 +78,12 @@ class LeagueGameDayServiceTest {
         service = new LeagueGameDayService(
             tournamentRepository, tournamentPlayerRepository,
             leagueGameDayRepository, matchRepository,
-            userRepository, leagueSettingsRepository, rankScoreHistoryRepository
+            new PrincipalResolver(userRepository, tournamentRepository, tournamentPlayerRepository),
+            leagueSettingsRepository, rankScoreHistoryRepository,
+            eventPublisher,
+            new RankingEngines(List.of(new ModifiedEloRankingEngine(), new Glicko2RankingEngine())),
+            pairingFrequencyIndex,
+            new GameDayMetrics(new SimpleMeterRegistry())
         );
 
         adminUser = new User("admin", "admin@test.com", "pass", "Admin", "User");
@@ -99,6 +126,35 @@ class LeagueGameDayServiceTest {
         gameDay.getGroups().add(group);
     }
 
+    // ── createGameDay ─────────────────────────────────────────────────────────
+
+    @Test
+    void createGameDay_twentyPlayers_staysWithinRepositoryBudget() {
+        List<TournamentPlayer> players = new ArrayList<>();
+        for (long i = 1; i <= 20; i++) {
+            User u = new User("p" + i, "p" + i + "@test.com", "p", "Player", String.valueOf(i));
+            setId(u, i);
+            TournamentPlayer tp = new TournamentPlayer(tournament, u, BigDecimal.valueOf(200 - i));
+            setId(tp, i);
+            players.add(tp);
+        }
+        CreateGameDayRequest request = new CreateGameDayRequest();
+        request.setGameDate("2025-02-01");
+        request.setPlayerIds(players.stream().map(TournamentPlayer::getId).toList());
+        when(tournamentRepository.findById(1L)).thenReturn(Optional.of(tournament));
+        when(userRepository.findByUsername("admin")).thenReturn(Optional.of(adminUser));
+        when(tournamentPlayerRepository.findAllById(request.getPlayerIds())).thenReturn(players);
+        when(leagueGameDayRepository.save(any(LeagueGameDay.class))).thenAnswer(i -> i.getArgument(0));
+
+        // Tournament, caller, one player batch, the date check and the two day saves, whatever the player count
+        GameDayResponse res = assertMaxRepositoryCalls(6, () -> service.createGameDay(1L, request, "admin"),
+            tournamentRepository, userRepository, tournamentPlayerRepository, leagueGameDayRepository,
+            matchRepository, leagueSettingsRepository, rankScoreHistoryRepository);
+
+        assertTrue(res.isSuccess());
+        assertEquals(5, res.getGameDay().getGroups().size());
+    }
+
     // ── finishGameDay: happy path ──────────────────────────────────────────────
 
     @Test
@@ -112,14 +168,37 @@ class LeagueGameDayServiceTest {
         verify(leagueGameDayRepository).save(gameDay);
     }
 
+    @Test
+    void finishGameDay_success_publishesRankingsChanged() {
+        stubHappyPath();
+
+        service.finishGameDay(1L, 1L, "admin");
+
+        verify(eventPublisher).publishEvent(new RankingsChangedEvent(1L));
+    }
+
+    @Test
+    void finishGameDay_success_publishesGameDayCompletedWithMatchPlayersAndScores() {
+        stubHappyPath();
+
+        service.finishGameDay(1L, 1L, "admin");
+
+        verify(eventPublisher).publishEvent(ArgumentMatchers.<Object>argThat(event ->
+            event instanceof GameDayCompletedEvent completed
+                && completed.dayId().equals(1L)
+                && Arrays.equals(completed.matchPlayers(), new long[]{1L, 2L, 3L, 4L})
+                && Arrays.equals(completed.matchScores(), new int[]{21, 15})));
+    }
+
     @Test
     void finishGameDay_success_savesHistoryForAllFourPlayers() {
         stubHappyPath();
 
         service.finishGameDay(1L, 1L, "admin");
 
-        // One history row per player per match = 4 rows
-        verify(rankScoreHistoryRepository, times(4)).save(any(RankScoreHistory.class));
+        // One history row per player per match = 4 rows, written as a single batch
+        verify(rankScoreHistoryRepository).insertBatch(argThat(rows -> rows.size() == 4));
+        verify(rankScoreHistoryRepository, never()).save(any(RankScoreHistory.class));
     }
 
     @Test
@@ -128,8 +207,23 @@ class LeagueGameDayServiceTest {
 
         service.finishGameDay(1L, 1L, "admin");
 
-        // All four players should have their rank scores updated and saved
-        verify(tournamentPlayerRepository, times(4)).save(any(TournamentPlayer.class));
+        // All four players are updated in one saveAll, without re-loading them by id
+        verify(tournamentPlayerRepository).saveAll(argThat(players -> ((Collection<?>) players).size() == 4));
+        verify(tournamentPlayerRepository, never()).findById(any());
+        verify(tournamentPlayerRepository, never()).save(any(TournamentPlayer.class));
+    }
+
+    @Test
+    void finishGameDay_success_staysWithinQueryBudget() {
+        stubHappyPath();
+
+        // Tournament lock, day, caller, settings, history batch, player batch, day save and the three
+        // read-model queries
+        GameDayResponse res = assertMaxRepositoryCalls(10, () -> service.finishGameDay(1L, 1L, "admin"),
+            leagueGameDayRepository, matchRepository, userRepository, tournamentRepository,
+            tournamentPlayerRepository, leagueSettingsRepository, rankScoreHistoryRepository);
+
+        assertTrue(res.isSuccess());
     }
 
     @Test
@@ -165,6 +259,28 @@ class LeagueGameDayServiceTest {
             "Winner gain should equal loser loss in absolute value");
     }
 
+    @Test
+    void finishGameDay_glicko2_inflatesDeviationOfEnabledPlayersWhoSatOut() {
+        stubDayLookup();
+        stubAdminUser();
+        when(leagueSettingsRepository.findByTournamentId(1L)).thenReturn(Optional.of(
+            new LeagueTournamentSettings(tournament, RankingLogic.GLICKO2, new Glicko2Config(0.5))));
+        when(leagueGameDayRepository.save(any())).thenAnswer(i -> i.getArgument(0));
+        TournamentPlayer benched = ratedPlayer(5L);
+        TournamentPlayer disabled = ratedPlayer(6L);
+        disabled.setStatus(PlayerStatus.DISABLED);
+        when(tournamentPlayerRepository.findByTournamentId(1L))
+            .thenReturn(List.of(tp1, tp2, tp3, tp4, benched, disabled));
+
+        service.finishGameDay(1L, 1L, "admin");
+
+        // φ' = √(φ² + σ²), on the rating scale √(200² + (0.06 · 173.7178)²)
+        assertEquals(new BigDecimal("200.2714"), benched.getRatingDeviation());
+        assertEquals(new BigDecimal("0.060000"), benched.getVolatility());
+        assertEquals(new BigDecimal("200.0000"), disabled.getRatingDeviation());
+        verify(tournamentPlayerRepository).saveAll(argThat(players -> ((Collection<?>) players).size() == 5));
+    }
+
     // ── finishGameDay: error cases ─────────────────────────────────────────────
 
     @Test
@@ -198,8 +314,8 @@ class LeagueGameDayServiceTest {
         GameDayResponse res = service.finishGameDay(1L, 1L, "admin");
 
         assertFalse(res.isSuccess());
-        verify(rankScoreHistoryRepository, never()).save(any());
-        verify(tournamentPlayerRepository, never()).save(any());
+        verify(rankScoreHistoryRepository, never()).insertBatch(any());
+        verify(tournamentPlayerRepository, never()).saveAll(any());
     }
 
     @Test
@@ -212,7 +328,7 @@ class LeagueGameDayServiceTest {
 
         assertFalse(res.isSuccess());
         assertTrue(res.getMessage().contains("missing a score"));
-        verify(rankScoreHistoryRepository, never()).save(any());
+        verify(rankScoreHistoryRepository, never()).insertBatch(any());
     }
 
     @Test
@@ -254,21 +370,227 @@ class LeagueGameDayServiceTest {
         assertEquals("Access denied", res.getMessage());
     }
 
+    // ── getGameDay (flat loader) ──────────────────────────────────────────────
+
+    @Test
+    void getGameDay_assemblesDtoFromFlatRows() {
+        when(leagueGameDayRepository.findById(1L)).thenReturn(Optional.of(gameDay));
+        stubAdminUser();
+        when(leagueGameDayRepository.findGroupRows(List.of(1L)))
+            .thenReturn(List.of(groupRow(5L, 1L, 1)));
+        when(leagueGameDayRepository.findGroupPlayerRows(List.of(1L))).thenReturn(List.of(
+            groupPlayerRow(103L, 5L, tp3, "60.00"),
+            groupPlayerRow(101L, 5L, tp1, "100.00"),
+            groupPlayerRow(104L, 5L, tp4, "40.00"),
+            groupPlayerRow(102L, 5L, tp2, "80.00")));
+        when(leagueGameDayRepository.findMatchRows(List.of(1L)))
+            .thenReturn(List.of(matchRow(10L, 5L, 1, 101L, 102L, 103L, 104L, 21, 15)));
+
+        GameDayResponse res = service.getGameDay(1L, 1L, "admin");
+
+        assertTrue(res.isSuccess());
+        GameDayResponse.GroupDto groupDto = res.getGameDay().getGroups().get(0);
+        assertEquals(Long.valueOf(5L), groupDto.getId());
+        // Players ordered by rank score descending
+        assertEquals(List.of(1L, 2L, 3L, 4L), groupDto.getPlayers().stream()
+            .map(GameDayResponse.GroupPlayerDto::getTournamentPlayerId).toList());
+        // Match slots resolved from group player ids to tournament players
+        GameDayResponse.MatchDto matchDto = groupDto.getMatches().get(0);
+        assertEquals(Long.valueOf(1L), matchDto.getTeam1Player1Id());
+        assertEquals("Alice A", matchDto.getTeam1Player1Name());
+        assertEquals(Long.valueOf(4L), matchDto.getTeam2Player2Id());
+        assertEquals("Dave D", matchDto.getTeam2Player2Name());
+        assertEquals(Integer.valueOf(21), matchDto.getTeam1Score());
+        verify(leagueGameDayRepository, never()).findByIdWithAll(any());
+    }
+
+    // ── submitMatchScore ──────────────────────────────────────────────────────
+
+    @Test
+    void submitMatchScore_success_publishesScoreWithoutLoadingEntityGraph() {
+        setId(group, 5L);
+        match.setTeam1Score(null);
+        match.setTeam2Score(null);
+        when(leagueGameDayRepository.findById(1L)).thenReturn(Optional.of(gameDay));
+        stubAdminUser();
+        when(matchRepository.findById(10L)).thenReturn(Optional.of(match));
+
+        SubmitMatchScoreRequest request = new SubmitMatchScoreRequest();
+        request.setTeam1Score(21);
+        request.setTeam2Score(18);
+        GameDayResponse res = service.submitMatchScore(1L, 1L, 5L, 10L, request, "admin", ScoreResponseView.DAY);
+
+        assertTrue(res.isSuccess());
+        assertEquals(Integer.valueOf(21), match.getTeam1Score());
+        verify(eventPublisher).publishEvent(
+            new MatchScoreSubmittedEvent(TournamentType.LEAGUE, 1L, 5L, 10L, 21, 18));
+        verify(leagueGameDayRepository, never()).findByIdWithAll(any());
+    }
+
+    @Test
+    void submitMatchScore_notOngoing_doesNotPublish() {
+        gameDay.setStatus(GameDayStatus.PENDING);
+        when(leagueGameDayRepository.findById(1L)).thenReturn(Optional.of(gameDay));
+        stubAdminUser();
+
+        SubmitMatchScoreRequest request = new SubmitMatchScoreRequest();
+        request.setTeam1Score(21);
+        request.setTeam2Score(18);
+        GameDayResponse res = service.submitMatchScore(1L, 1L, 5L, 10L, request, "admin", ScoreResponseView.DAY);
+
+        assertFalse(res.isSuccess());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void submitMatchScore_matchView_returnsScoredMatchWithoutReloadingDay() {
+        setId(group, 5L);
+        match.setTeam1Score(null);
+        match.setTeam2Score(null);
+        match.setVersion(4L);
+        when(leagueGameDayRepository.findById(1L)).thenReturn(Optional.of(gameDay));
+        stubAdminUser();
+        when(matchRepository.findById(10L)).thenReturn(Optional.of(match));
+
+        SubmitMatchScoreRequest request = new SubmitMatchScoreRequest();
+        request.setTeam1Score(21);
+        request.setTeam2Score(18);
+        GameDayResponse res = service.submitMatchScore(1L, 1L, 5L, 10L, request, "admin", ScoreResponseView.MATCH);
+
+        assertTrue(res.isSuccess());
+        assertNull(res.getGameDay());
+        assertNull(res.getGroupSummary());
+        assertEquals(10L, res.getMatch().getId());
+        assertEquals(5L, res.getMatch().getGroupId());
+        assertEquals(Integer.valueOf(18), res.getMatch().getTeam2Score());
+        assertEquals(4L, res.getMatch().getVersion());
+        verify(matchRepository).flush();
+        verify(leagueGameDayRepository, never()).findMatchRows(any());
+        verify(matchRepository, never()).countScoresByGroup(any());
+    }
+
+    @Test
+    void submitMatchScore_groupView_addsGroupScoringProgress() {
+        setId(group, 5L);
+        when(leagueGameDayRepository.findById(1L)).thenReturn(Optional.of(gameDay));
+        stubAdminUser();
+        when(matchRepository.findById(10L)).thenReturn(Optional.of(match));
+        when(matchRepository.countScoresByGroup(5L)).thenReturn(new LeagueGameDayGroupMatchRepository.GroupScoreCount() {
+            @Override public long getMatchCount() { return 5; }
+            @Override public long getScoredCount() { return 3; }
+        });
+
+        SubmitMatchScoreRequest request = new SubmitMatchScoreRequest();
+        request.setTeam1Score(21);
+        request.setTeam2Score(18);
+        GameDayResponse res = service.submitMatchScore(1L, 1L, 5L, 10L, request, "admin", ScoreResponseView.GROUP);
+
+        assertTrue(res.isSuccess());
+        assertNull(res.getGameDay());
+        assertEquals(5L, res.getGroupSummary().getGroupId());
+        assertEquals(5, res.getGroupSummary().getMatchCount());
+        assertEquals(3, res.getGroupSummary().getScoredCount());
+    }
+
+    // ── submitMatchScores (bulk) ──────────────────────────────────────────────
+
+    @Test
+    void submitMatchScores_success_appliesAllScoresWithOneLoadAndOneSave() {
+        setId(group, 5L);
+        LeagueGameDayGroupMatch second = new LeagueGameDayGroupMatch(group, 2, gp1, gp3, gp2, gp4);
+        setId(second, 11L);
+        when(leagueGameDayRepository.findById(1L)).thenReturn(Optional.of(gameDay));
+        stubAdminUser();
+        when(matchRepository.findAllByIdInGameDay(eq(1L), any())).thenReturn(List.of(match, second));
+
+        GameDayResponse res = service.submitMatchScores(1L, 1L, 5L,
+            scores(score(10L, 21, 18, 0L), score(11L, 15, 21, null)), "admin");
+
+        assertTrue(res.isSuccess());
+        assertEquals(Integer.valueOf(18), match.getTeam2Score());
+        assertEquals(Integer.valueOf(15), second.getTeam1Score());
+        verify(matchRepository).saveAll(any());
+        verify(matchRepository, never()).findById(any());
+        verify(userRepository, times(1)).findByUsername("admin");
+        verify(eventPublisher).publishEvent(
+            new MatchScoreSubmittedEvent(TournamentType.LEAGUE, 1L, 5L, 11L, 15, 21));
+    }
+
+    @Test
+    void submitMatchScores_oneInvalidScore_appliesNone() {
+        when(leagueGameDayRepository.findById(1L)).thenReturn(Optional.of(gameDay));
+        stubAdminUser();
+
+        GameDayResponse res = service.submitMatchScores(1L, 1L, null,
+            scores(score(10L, 21, 18, null), score(11L, -1, 21, null)), "admin");
+
+        assertFalse(res.isSuccess());
+        assertEquals(Integer.valueOf(15), match.getTeam2Score());
+        verifyNoInteractions(matchRepository);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void submitMatchScores_duplicateMatch_returnsError() {
+        when(leagueGameDayRepository.findById(1L)).thenReturn(Optional.of(gameDay));
+        stubAdminUser();
+
+        GameDayResponse res = service.submitMatchScores(1L, 1L, null,
+            scores(score(10L, 21, 18, null), score(10L, 21, 19, null)), "admin");
+
+        assertFalse(res.isSuccess());
+        verifyNoInteractions(matchRepository);
+    }
+
+    @Test
+    void submitMatchScores_matchOfAnotherGroup_returnsError() {
+        setId(group, 5L);
+        when(leagueGameDayRepository.findById(1L)).thenReturn(Optional.of(gameDay));
+        stubAdminUser();
+        when(matchRepository.findAllByIdInGameDay(eq(1L), any())).thenReturn(List.of(match));
+
+        GameDayResponse res = service.submitMatchScores(1L, 1L, 6L, scores(score(10L, 21, 18, null)), "admin");
+
+        assertFalse(res.isSuccess());
+        assertEquals(Integer.valueOf(15), match.getTeam2Score());
+        verify(matchRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void submitMatchScores_staleVersion_throwsOptimisticLockFailureAndAppliesNone() {
+        setId(group, 5L);
+        when(leagueGameDayRepository.findById(1L)).thenReturn(Optional.of(gameDay));
+        stubAdminUser();
+        when(matchRepository.findAllByIdInGameDay(eq(1L), any())).thenReturn(List.of(match));
+        match.setVersion(3L);
+
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> service.submitMatchScores(
+            1L, 1L, null, scores(score(10L, 21, 18, 2L)), "admin"));
+
+        assertEquals(Integer.valueOf(15), match.getTeam2Score());
+        verify(matchRepository, never()).saveAll(any());
+    }
+
     // ── helpers ───────────────────────────────────────────────────────────────
 
     private void stubHappyPath() {
         stubDayLookup();
         stubAdminUser();
         stubEloSettings(32);
-        when(tournamentPlayerRepository.findById(1L)).thenReturn(Optional.of(tp1));
-        when(tournamentPlayerRepository.findById(2L)).thenReturn(Optional.of(tp2));
-        when(tournamentPlayerRepository.findById(3L)).thenReturn(Optional.of(tp3));
-        when(tournamentPlayerRepository.findById(4L)).thenReturn(Optional.of(tp4));
-        when(rankScoreHistoryRepository.save(any())).thenAnswer(i -> i.getArgument(0));
-        when(tournamentPlayerRepository.save(any())).thenAnswer(i -> i.getArgument(0));
         when(leagueGameDayRepository.save(any())).thenAnswer(i -> i.getArgument(0));
     }
 
+    /** An enabled player outside the fixture match with deviation 200 and volatility 0.06. */
+    private TournamentPlayer ratedPlayer(Long id) {
+        User user = new User("p" + id, "p" + id + "@test.com", "p", "Player", "" + id);
+        setId(user, id);
+        TournamentPlayer tp = new TournamentPlayer(tournament, user, new BigDecimal("50.00"));
+        tp.setRatingDeviation(new BigDecimal("200.0000"));
+        tp.setVolatility(new BigDecimal("0.060000"));
+        setId(tp, id);
+        return tp;
+    }
+
     private void stubDayLookup() {
         when(leagueGameDayRepository.findByIdWithAll(1L)).thenReturn(Optional.of(gameDay));
     }
@@ -283,6 +605,84 @@ class LeagueGameDayServiceTest {
         when(leagueSettingsRepository.findByTournamentId(1L)).thenReturn(Optional.of(settings));
     }
 
+    private static SubmitMatchScoresRequest scores(SubmitMatchScoresRequest.MatchScore... scores) {
+        SubmitMatchScoresRequest request = new SubmitMatchScoresRequest();
+        request.setScores(List.of(scores));
+        return request;
+    }
+
+    private static SubmitMatchScoresRequest.MatchScore score(Long matchId, int team1, int team2, Long version) {
+        SubmitMatchScoresRequest.MatchScore score = new SubmitMatchScoresRequest.MatchScore();
+        score.setMatchId(matchId);
+        score.setTeam1Score(team1);
+        score.setTeam2Score(team2);
+        score.setVersion(version);
+        return score;
+    }
+
+    private static LeagueGameDayRepository.GroupRow groupRow(Long id, Long gameDayId, int groupNumber) {
+        return new LeagueGameDayRepository.GroupRow() {
+            @Override public Long getId() { return id; }
+            @Override public Long getGameDayId() { return gameDayId; }
+            @Override public int getGroupNumber() { return groupNumber; }
+        };
+    }
+
+    private static LeagueGameDayRepository.GroupPlayerRow groupPlayerRow(Long id, Long groupId,
+                                                                         TournamentPlayer tp, String rankScore) {
+        return new LeagueGameDayRepository.GroupPlayerRow() {
+            @Override public Long getId() { return id; }
+            @Override public Long getGroupId() { return groupId; }
+            @Override public Long getTournamentPlayerId() { return tp.getId(); }
+            @Override public Long getUserId() { return tp.getUser().getId(); }
+            @Override public String getFirstName() { return tp.getUser().getFirstName(); }
+            @Override public String getLastName() { return tp.getUser().getLastName(); }
+            @Override public BigDecimal getRankScore() { return new BigDecimal(rankScore); }
+        };
+    }
+
+    private static LeagueGameDayRepository.MatchRow matchRow(Long id, Long groupId, int matchOrder,
+                                                             Long t1p1, Long t1p2, Long t2p1, Long t2p2,
+                                                             Integer team1Score, Integer team2Score) {
+        return new LeagueGameDayRepository.MatchRow() {
+            @Override public Long getId() { return id; }
+            @Override public Long getGroupId() { return groupId; }
+            @Override public int getMatchOrder() { return matchOrder; }
+            @Override public Long getTeam1Player1Id() { return t1p1; }
+            @Override public Long getTeam1Player2Id() { return t1p2; }
+            @Override public Long getTeam2Player1Id() { return t2p1; }
+            @Override public Long getTeam2Player2Id() { return t2p2; }
+            @Override public Integer getTeam1Score() { return team1Score; }
+            @Override public Integer getTeam2Score() { return team2Score; }
+            @Override public Integer getCourtNumber() { return null; }
+            @Override public Integer getRoundNumber() { return null; }
+            @Override public Long getVersion() { return 0L; }
+        };
+    }
+
+    /** History row of a match on the fixture game day, tp1+tp2 vs tp3+tp4. */
+    private static RankScoreHistoryRepository.HistoryRow historyRow(Long matchId, String previous, String next) {
+        return new RankScoreHistoryRepository.HistoryRow() {
+            @Override public Long getGameDayId() { return 1L; }
+            @Override public LocalDate getGameDate() { return LocalDate.of(2025, 1, 10); }
+            @Override public Long getMatchId() { return matchId; }
+            @Override public int getMatchOrder() { return 1; }
+            @Override public Integer getTeam1Score() { return 21; }
+            @Override public Integer getTeam2Score() { return 15; }
+            @Override public Long getTeam1Player1Id() { return 1L; }
+            @Override public Long getTeam1Player2Id() { return 2L; }
+            @Override public String getTeam1Player1Name() { return "Alice A"; }
+            @Override public String getTeam1Player2Name() { return "Bob B"; }
+            @Override public String getTeam2Player1Name() { return "Carol C"; }
+            @Override public String getTeam2Player2Name() { return "Dave D"; }
+            // One history row per match, written when the day was finished
+            @Override public Long getHistoryId() { return matchId + 100; }
+            @Override public long getChangedAt() { return 1000L; }
+            @Override public BigDecimal getPreviousScore() { return new BigDecimal(previous); }
+            @Override public BigDecimal getNewScore() { return new BigDecimal(next); }
+        };
+    }
+
     /** Reflectively set ID on entities since there's no public setter for id. */
     private static void setId(Object entity, Long id) {
         try {
@@ -300,13 +700,11 @@ class LeagueGameDayServiceTest {
     void getPlayerHistory_success_returnsGroupedByGameDay() {
         gameDay.setStatus(GameDayStatus.COMPLETED);
 
-        RankScoreHistory h1 = new RankScoreHistory(tp1, match,
-            new BigDecimal("100.00"), new BigDecimal("115.00"));
         when(tournamentPlayerRepository.findById(1L)).thenReturn(Optional.of(tp1));
-        when(rankScoreHistoryRepository.findByTournamentPlayerIdOrderByChangedAtDesc(1L))
-            .thenReturn(List.of(h1));
+        when(rankScoreHistoryRepository.findHistoryPage(eq(1L), any()))
+            .thenReturn(List.of(historyRow(10L, "100.00", "115.00")));
 
-        PlayerHistoryResponse res = service.getPlayerHistory(1L, 1L);
+        PlayerHistoryResponse res = service.getPlayerHistory(1L, 1L, null, null);
 
         assertTrue(res.isSuccess());
         assertEquals("Alice A", res.getPlayerName());
@@ -326,13 +724,11 @@ class LeagueGameDayServiceTest {
         gameDay.setStatus(GameDayStatus.COMPLETED);
 
         // tp3 is on team2 in the match fixture
-        RankScoreHistory h = new RankScoreHistory(tp3, match,
-            new BigDecimal("60.00"), new BigDecimal("45.00"));
         when(tournamentPlayerRepository.findById(3L)).thenReturn(Optional.of(tp3));
-        when(rankScoreHistoryRepository.findByTournamentPlayerIdOrderByChangedAtDesc(3L))
-            .thenReturn(List.of(h));
+        when(rankScoreHistoryRepository.findHistoryPage(eq(3L), any()))
+            .thenReturn(List.of(historyRow(10L, "60.00", "45.00")));
 
-        PlayerHistoryResponse res = service.getPlayerHistory(1L, 3L);
+        PlayerHistoryResponse res = service.getPlayerHistory(1L, 3L, null, null);
 
         assertTrue(res.isSuccess());
         assertFalse(res.getGameDays().get(0).getMatches().get(0).isPlayerOnTeam1());
@@ -341,20 +737,75 @@ class LeagueGameDayServiceTest {
     @Test
     void getPlayerHistory_emptyHistory_returnsEmptyList() {
         when(tournamentPlayerRepository.findById(1L)).thenReturn(Optional.of(tp1));
-        when(rankScoreHistoryRepository.findByTournamentPlayerIdOrderByChangedAtDesc(1L))
+        when(rankScoreHistoryRepository.findHistoryPage(eq(1L), any()))
             .thenReturn(Collections.emptyList());
 
-        PlayerHistoryResponse res = service.getPlayerHistory(1L, 1L);
+        PlayerHistoryResponse res = service.getPlayerHistory(1L, 1L, null, null);
 
         assertTrue(res.isSuccess());
         assertTrue(res.getGameDays().isEmpty());
+        assertNull(res.getNextCursor());
+    }
+
+    @Test
+    void getPlayerHistory_moreRowsThanLimit_returnsPageAndCursor() {
+        when(tournamentPlayerRepository.findById(1L)).thenReturn(Optional.of(tp1));
+        when(rankScoreHistoryRepository.findHistoryPage(eq(1L), argThat(page -> page.getPageSize() == 3)))
+            .thenReturn(List.of(historyRow(12L, "110.00", "115.00"),
+                historyRow(11L, "105.00", "110.00"),
+                historyRow(10L, "100.00", "105.00")));
+
+        PlayerHistoryResponse res = service.getPlayerHistory(1L, 1L, null, 2);
+
+        assertTrue(res.isSuccess());
+        assertEquals("1000_111", res.getNextCursor());
+        List<PlayerHistoryResponse.MatchHistoryDto> matches = res.getGameDays().get(0).getMatches();
+        // Chronological within the day
+        assertEquals(List.of(11L, 12L), matches.stream().map(PlayerHistoryResponse.MatchHistoryDto::getMatchId).toList());
+    }
+
+    @Test
+    void getPlayerHistory_manyMatches_staysWithinQueryBudget() {
+        when(tournamentPlayerRepository.findById(1L)).thenReturn(Optional.of(tp1));
+        when(rankScoreHistoryRepository.findHistoryPage(eq(1L), any()))
+            .thenReturn(List.of(historyRow(12L, "110.00", "115.00"),
+                historyRow(11L, "105.00", "110.00"),
+                historyRow(10L, "100.00", "105.00")));
+
+        // The player, then one page query whatever the number of matches and game days
+        PlayerHistoryResponse res = assertMaxRepositoryCalls(2, () -> service.getPlayerHistory(1L, 1L, null, null),
+            tournamentPlayerRepository, rankScoreHistoryRepository, leagueGameDayRepository, matchRepository);
+
+        assertEquals(3, res.getGameDays().get(0).getMatches().size());
+    }
+
+    @Test
+    void getPlayerHistory_withCursor_readsEntriesBeforeIt() {
+        when(tournamentPlayerRepository.findById(1L)).thenReturn(Optional.of(tp1));
+        when(rankScoreHistoryRepository.findHistoryPageBefore(eq(1L), eq(1000L), eq(111L), any()))
+            .thenReturn(List.of(historyRow(10L, "100.00", "105.00")));
+
+        PlayerHistoryResponse res = service.getPlayerHistory(1L, 1L, "1000_111", null);
+
+        assertTrue(res.isSuccess());
+        assertEquals(1, res.getGameDays().get(0).getMatches().size());
+        assertNull(res.getNextCursor());
+        verify(rankScoreHistoryRepository, never()).findHistoryPage(any(), any());
+    }
+
+    @Test
+    void getPlayerHistory_malformedCursor_throws() {
+        when(tournamentPlayerRepository.findById(1L)).thenReturn(Optional.of(tp1));
+
+        assertThrows(IllegalArgumentException.class,
+            () -> service.getPlayerHistory(1L, 1L, "yesterday", null));
     }
 
     @Test
     void getPlayerHistory_playerNotFound_returnsError() {
         when(tournamentPlayerRepository.findById(99L)).thenReturn(Optional.empty());
 
-        PlayerHistoryResponse res = service.getPlayerHistory(1L, 99L);
+        PlayerHistoryResponse res = service.getPlayerHistory(1L, 99L, null, null);
 
         assertFalse(res.isSuccess());
         assertEquals("Player not found in this tournament", res.getMessage());
@@ -370,7 +821,7 @@ class LeagueGameDayServiceTest {
         when(tournamentPlayerRepository.findById(5L)).thenReturn(Optional.of(otherTp));
 
         // Request history for tournament 1 but player belongs to tournament 99
-        PlayerHistoryResponse res = service.getPlayerHistory(1L, 5L);
+        PlayerHistoryResponse res = service.getPlayerHistory(1L, 5L, null, null);
 
         assertFalse(res.isSuccess());
         assertEquals("Player not found in this tournament", res.getMessage());
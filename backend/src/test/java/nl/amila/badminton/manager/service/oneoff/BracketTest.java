@@ -0,0 +1,169 @@
+package nl.amila.badminton.manager.service.oneoff;
+
+import nl.amila.badminton.manager.entity.oneoff.BracketFormat;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BracketTest {
+
+    @Test
+    void seedOrder_topSeedsMeetAsLateAsPossible() {
+        assertArrayEquals(new int[]{1, 8, 4, 5, 2, 7, 3, 6}, Bracket.seedOrder(8));
+    }
+
+    @Test
+    void create_fiveEntrants_topSeedsAdvancePastByes() {
+        Bracket bracket = Bracket.create(BracketFormat.SINGLE_ELIMINATION, 5);
+
+        assertEquals(8, bracket.size());
+        assertEquals(7, bracket.matchCount());
+        assertEquals(1, bracket.winner(0));
+        assertEquals(Bracket.BYE, bracket.bottom(0));
+        assertEquals(Bracket.TBD, bracket.winner(1));
+        // Seeds 2 and 3 both had a bye and already meet in round 2
+        assertEquals(2, bracket.top(5));
+        assertEquals(3, bracket.bottom(5));
+        assertEquals(1, bracket.top(4));
+        assertEquals(Bracket.TBD, bracket.bottom(4));
+    }
+
+    @Test
+    void record_singleElimination_winnerAdvancesToTheNextRound() {
+        Bracket bracket = Bracket.create(BracketFormat.SINGLE_ELIMINATION, 4);
+
+        bracket.record(0, 21, 15);
+        bracket.record(1, 18, 21);
+
+        assertEquals(1, bracket.top(2));
+        assertEquals(3, bracket.bottom(2));
+        assertEquals(Bracket.TBD, bracket.champion());
+
+        bracket.record(2, 19, 21);
+
+        assertEquals(3, bracket.champion());
+    }
+
+    @Test
+    void record_grandFinalWonFromLosersBracket_playsTheReset() {
+        Bracket bracket = Bracket.create(BracketFormat.DOUBLE_ELIMINATION, 4);
+        assertEquals(7, bracket.matchCount());
+
+        bracket.record(0, 21, 10);  // 1 beats 4
+        bracket.record(1, 21, 10);  // 2 beats 3
+        bracket.record(2, 21, 10);  // 1 wins the winners bracket
+        assertEquals(4, bracket.top(3));
+        assertEquals(3, bracket.bottom(3));
+        bracket.record(3, 10, 21);  // 3 knocks out 4
+        assertEquals(3, bracket.top(4));
+        assertEquals(2, bracket.bottom(4));
+        bracket.record(4, 10, 21);  // 2 wins the losers bracket
+
+        assertEquals(Bracket.GRAND_FINAL, bracket.section(5));
+        bracket.record(5, 19, 21);  // 2 takes the grand final: reset
+        assertEquals(Bracket.TBD, bracket.champion());
+        assertEquals(1, bracket.top(6));
+        assertEquals(2, bracket.bottom(6));
+
+        bracket.record(6, 21, 17);
+        assertEquals(1, bracket.champion());
+    }
+
+    @Test
+    void record_grandFinalWonFromWinnersBracket_endsTheBracket() {
+        Bracket bracket = Bracket.create(BracketFormat.DOUBLE_ELIMINATION, 3);
+
+        bracket.record(1, 21, 10);  // 2 beats 3; seed 1 had a bye
+        bracket.record(2, 21, 10);  // 1 wins the winners bracket
+        bracket.record(4, 21, 10);  // 3, through a walkover, knocks out 2
+        bracket.record(5, 21, 10);  // 1 beats 2 in the grand final
+
+        assertEquals(1, bracket.champion());
+    }
+
+    @Test
+    void record_randomResults_everyoneButTheChampionLosesOnceOrTwice() {
+        Random random = new Random(11);
+        for (BracketFormat format : BracketFormat.values()) {
+            int losses = format == BracketFormat.SINGLE_ELIMINATION ? 1 : 2;
+            for (int n = 3; n <= 70; n++) {
+                Bracket bracket = Bracket.create(format, n);
+                int[] lost = new int[n + 1];
+                boolean progress = true;
+                while (progress) {
+                    progress = false;
+                    for (int m = 0; m < bracket.matchCount(); m++) {
+                        if (bracket.winner(m) == Bracket.TBD && bracket.top(m) > 0 && bracket.bottom(m) > 0) {
+                            boolean topWins = random.nextBoolean();
+                            lost[topWins ? bracket.bottom(m) : bracket.top(m)]++;
+                            bracket.record(m, topWins ? 21 : 12, topWins ? 12 : 21);
+                            progress = true;
+                        }
+                    }
+                }
+                int champion = bracket.champion();
+                assertTrue(champion > 0, format + " with " + n + " entrants has no champion");
+                for (int seed = 1; seed <= n; seed++) {
+                    if (seed != champion) {
+                        assertEquals(losses, lost[seed], format + " with " + n + " entrants, seed " + seed);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void record_changedWinner_movesWinnerAndLoserWhileLaterMatchesAreUnplayed() {
+        Bracket bracket = Bracket.create(BracketFormat.DOUBLE_ELIMINATION, 4);
+        bracket.record(0, 21, 10);
+
+        bracket.record(0, 10, 21);
+
+        assertEquals(4, bracket.top(2));
+        assertEquals(1, bracket.top(3));
+    }
+
+    @Test
+    void record_laterMatchPlayed_rejectsWinnerChangeButAcceptsScoreFix() {
+        Bracket bracket = Bracket.create(BracketFormat.SINGLE_ELIMINATION, 4);
+        bracket.record(0, 21, 10);
+        bracket.record(1, 21, 10);
+        bracket.record(2, 21, 10);
+
+        assertThrows(IllegalStateException.class, () -> bracket.record(0, 10, 21));
+
+        bracket.record(0, 21, 19);
+        assertEquals(19, bracket.bottomScore(0));
+        assertEquals(1, bracket.champion());
+    }
+
+    @Test
+    void record_entrantsNotKnownYet_throws() {
+        Bracket bracket = Bracket.create(BracketFormat.SINGLE_ELIMINATION, 4);
+
+        assertThrows(IllegalStateException.class, () -> bracket.record(2, 21, 10));
+        assertThrows(IllegalArgumentException.class, () -> bracket.record(0, 21, 21));
+        assertThrows(IllegalArgumentException.class, () -> bracket.record(3, 21, 10));
+    }
+
+    @Test
+    void of_storedState_continuesWhereItLeftOff() {
+        Bracket bracket = Bracket.create(BracketFormat.DOUBLE_ELIMINATION, 512);
+        bracket.record(0, 21, 10);
+
+        Bracket loaded = Bracket.of(BracketFormat.DOUBLE_ELIMINATION, 512, bracket.state().clone());
+
+        assertEquals(2 * 512 - 1, loaded.matchCount());
+        assertEquals(1, loaded.winner(0));
+        assertEquals(512, loaded.bottom(0));
+    }
+
+    @Test
+    void create_entrantCountOutOfRange_throws() {
+        assertThrows(IllegalArgumentException.class, () -> Bracket.create(BracketFormat.SINGLE_ELIMINATION, 1));
+        assertThrows(IllegalArgumentException.class, () -> Bracket.create(BracketFormat.DOUBLE_ELIMINATION, 2));
+        assertThrows(IllegalArgumentException.class, () -> Bracket.create(BracketFormat.SINGLE_ELIMINATION, 513));
+    }
+}
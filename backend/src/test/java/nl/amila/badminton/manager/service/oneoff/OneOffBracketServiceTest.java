@@ -0,0 +1,187 @@
+package nl.amila.badminton.manager.service.oneoff;
+
+import nl.amila.badminton.manager.dto.oneoff.BracketResponse;
+import nl.amila.badminton.manager.dto.oneoff.CreateBracketRequest;
+import nl.amila.badminton.manager.dto.oneoff.OneOffSubmitScoreRequest;
+import nl.amila.badminton.manager.entity.*;
+import nl.amila.badminton.manager.entity.oneoff.BracketFormat;
+import nl.amila.badminton.manager.entity.oneoff.OneOffBracket;
+import nl.amila.badminton.manager.repository.TournamentPlayerRepository;
+import nl.amila.badminton.manager.repository.TournamentRepository;
+import nl.amila.badminton.manager.repository.UserRepository;
+import nl.amila.badminton.manager.repository.oneoff.OneOffBracketRepository;
+import nl.amila.badminton.manager.repository.oneoff.OneOffTournamentSettingsRepository;
+import nl.amila.badminton.manager.service.PrincipalResolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OneOffBracketServiceTest {
+
+    @Mock private TournamentRepository tournamentRepository;
+    @Mock private TournamentPlayerRepository tournamentPlayerRepository;
+    @Mock private OneOffTournamentSettingsRepository settingsRepository;
+    @Mock private OneOffBracketRepository bracketRepository;
+    @Mock private UserRepository userRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    private OneOffBracketService service;
+
+    private Tournament tournament;
+    private User adminUser;
+
+    @BeforeEach
+    void setUp() {
+        service = new OneOffBracketService(
+            tournamentRepository, tournamentPlayerRepository, settingsRepository, bracketRepository,
+            new PrincipalResolver(userRepository, tournamentRepository, tournamentPlayerRepository),
+            eventPublisher
+        );
+
+        adminUser = new User("admin", "admin@test.com", "pass", "Admin", "User");
+        adminUser.setRole(Role.ADMIN);
+
+        tournament = new Tournament("Test One-Off", 1L, true, TournamentType.ONE_OFF);
+        setId(tournament, 1L);
+    }
+
+    @Test
+    void createBracket_seedFromOtherTournament_ordersByItsRankingsThenOwnRankScore() {
+        when(tournamentRepository.findById(1L)).thenReturn(Optional.of(tournament));
+        when(userRepository.findByUsername("admin")).thenReturn(Optional.of(adminUser));
+        when(tournamentPlayerRepository.findRankingRows(1L)).thenReturn(List.of(
+            rankingRow(10L, 1L, "Alice"), rankingRow(11L, 2L, "Bob"), rankingRow(12L, 3L, "Carol")));
+        when(tournamentRepository.existsById(2L)).thenReturn(true);
+        // Carol ranks above Alice there; Bob is not in that tournament
+        when(tournamentPlayerRepository.findRankingRows(2L)).thenReturn(List.of(
+            rankingRow(20L, 3L, "Carol"), rankingRow(21L, 1L, "Alice")));
+        when(bracketRepository.save(any())).thenAnswer(i -> i.getArgument(0));
+
+        CreateBracketRequest request = new CreateBracketRequest();
+        request.setFormat(BracketFormat.DOUBLE_ELIMINATION);
+        request.setSeedFromTournamentId(2L);
+        BracketResponse res = service.createBracket(1L, request, "admin");
+
+        assertTrue(res.isSuccess());
+        assertEquals(List.of(12L, 10L, 11L), res.getBracket().getEntrants().stream()
+            .map(BracketResponse.EntrantDto::getTournamentPlayerId).toList());
+        assertEquals("Carol C", res.getBracket().getEntrants().get(0).getPlayerName());
+        assertEquals(4, res.getBracket().getSize());
+        verify(eventPublisher).publishEvent(new BracketChangedEvent(1L));
+    }
+
+    @Test
+    void getBracket_servesTheSnapshotUntilTheBracketChanges() {
+        OneOffBracket entity = storedBracket();
+        when(bracketRepository.findByTournamentId(1L)).thenReturn(Optional.of(entity));
+
+        OneOffBracketService.BracketSnapshot first = service.getBracket(1L).orElseThrow();
+        OneOffBracketService.BracketSnapshot second = service.getBracket(1L).orElseThrow();
+        assertSame(first, second);
+        assertEquals("\"5-0\"", first.etag());
+
+        service.onBracketChanged(new BracketChangedEvent(1L));
+        service.getBracket(1L);
+
+        verify(bracketRepository, times(2)).findByTournamentId(1L);
+    }
+
+    @Test
+    void submitResult_validScore_advancesWinnerAndSaves() {
+        OneOffBracket entity = storedBracket();
+        when(bracketRepository.findByTournamentId(1L)).thenReturn(Optional.of(entity));
+        when(userRepository.findByUsername("admin")).thenReturn(Optional.of(adminUser));
+
+        BracketResponse res = service.submitResult(1L, 1, scoreRequest(15, 21), "admin");
+
+        assertTrue(res.isSuccess());
+        assertEquals(4, res.getBracket().getWinner()[0]);
+        assertEquals(4, res.getBracket().getTop()[2]);
+        verify(bracketRepository).saveAndFlush(entity);
+        verify(eventPublisher).publishEvent(new BracketChangedEvent(1L));
+    }
+
+    @Test
+    void submitResult_matchNotReady_isRejected() {
+        OneOffBracket entity = storedBracket();
+        int[] before = entity.getState().clone();
+        when(bracketRepository.findByTournamentId(1L)).thenReturn(Optional.of(entity));
+        when(userRepository.findByUsername("admin")).thenReturn(Optional.of(adminUser));
+
+        BracketResponse res = service.submitResult(1L, 3, scoreRequest(21, 10), "admin");
+
+        assertFalse(res.isSuccess());
+        assertArrayEquals(before, entity.getState());
+        verify(bracketRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void submitResult_disabledTournament_isRejected() {
+        tournament.setEnabled(false);
+        OneOffBracket entity = storedBracket();
+        int[] before = entity.getState().clone();
+        when(bracketRepository.findByTournamentId(1L)).thenReturn(Optional.of(entity));
+
+        BracketResponse res = service.submitResult(1L, 1, scoreRequest(15, 21), "admin");
+
+        assertFalse(res.isSuccess());
+        assertEquals("Tournament is disabled", res.getMessage());
+        assertArrayEquals(before, entity.getState());
+        verify(bracketRepository, never()).saveAndFlush(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    // ── helpers ───────────────────────────────────────────────────────────────
+
+    /** A fresh four-entrant single-elimination bracket with id 5. */
+    private OneOffBracket storedBracket() {
+        Bracket bracket = Bracket.create(BracketFormat.SINGLE_ELIMINATION, 4);
+        OneOffBracket entity = new OneOffBracket(tournament, BracketFormat.SINGLE_ELIMINATION, bracket.size(),
+            new long[]{10L, 11L, 12L, 13L}, bracket.state());
+        setId(entity, 5L);
+        return entity;
+    }
+
+    private static OneOffSubmitScoreRequest scoreRequest(int team1, int team2) {
+        OneOffSubmitScoreRequest request = new OneOffSubmitScoreRequest();
+        request.setTeam1Score(team1);
+        request.setTeam2Score(team2);
+        return request;
+    }
+
+    private static TournamentPlayerRepository.RankingRow rankingRow(Long tournamentPlayerId, Long userId, String firstName) {
+        return new TournamentPlayerRepository.RankingRow() {
+            public Long getTournamentPlayerId() { return tournamentPlayerId; }
+            public Long getUserId() { return userId; }
+            public String getFirstName() { return firstName; }
+            public String getLastName() { return firstName.substring(0, 1); }
+            public PlayerStatus getStatus() { return PlayerStatus.ENABLED; }
+            public long getStatusChangedAt() { return 0L; }
+            public Integer getRank() { return null; }
+            public BigDecimal getRankScore() { return BigDecimal.ZERO; }
+        };
+    }
+
+    /** Reflectively set ID on entities since there's no public setter for id. */
+    private static void setId(Object entity, Long id) {
+        try {
+            var field = entity.getClass().getDeclaredField("id");
+            field.setAccessible(true);
+            field.set(entity, id);
+        } catch (Exception e) {
+            throw new RuntimeException("Could not set id on " + entity.getClass().getSimpleName(), e);
+        }
+    }
+}
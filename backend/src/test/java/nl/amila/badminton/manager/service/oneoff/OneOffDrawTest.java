@@ -0,0 +1,95 @@
+package nl.amila.badminton.manager.service.oneoff;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OneOffDrawTest {
+
+    @Test
+    void roundRobin_fullCycle_everyPairPartnersOnce() {
+        int n = 12;
+        Set<Long> partnered = new HashSet<>();
+        for (int round = 0; round < n - 1; round++) {
+            int[][] matches = OneOffDraw.roundRobin(n, round);
+            assertDistinctPlayers(matches, n);
+            for (int[] m : matches) {
+                assertTrue(partnered.add(pairKey(m[0], m[1])), "repeated partnership in round " + round);
+                assertTrue(partnered.add(pairKey(m[2], m[3])), "repeated partnership in round " + round);
+            }
+        }
+        assertEquals(n * (n - 1) / 2, partnered.size());
+    }
+
+    @Test
+    void roundRobin_oddPlayerCount_drawsValidRounds() {
+        for (int round = 0; round < 10; round++) {
+            int[][] matches = OneOffDraw.roundRobin(9, round);
+
+            assertEquals(2, matches.length);
+            assertDistinctPlayers(matches, 9);
+        }
+    }
+
+    @Test
+    void swiss_noHistory_pairsStrongestWithWeakestInEachFour() {
+        int[][] matches = OneOffDraw.swiss(8, new int[8], (a, b) -> 0);
+
+        assertArrayEquals(new int[]{0, 3, 1, 2}, matches[0]);
+        assertArrayEquals(new int[]{4, 7, 5, 6}, matches[1]);
+    }
+
+    @Test
+    void swiss_repeatedPartners_picksAnotherSplit() {
+        int[][] matches = OneOffDraw.swiss(4, new int[4], (a, b) -> a + b == 3 ? 1 : 0);
+
+        assertArrayEquals(new int[]{0, 2, 1, 3}, matches[0]);
+    }
+
+    @Test
+    void swiss_playersLeftOver_mostPlayedSitOutLowestStandingFirst() {
+        int[] appearances = {2, 2, 1, 2, 2, 2, 1};
+
+        int[][] matches = OneOffDraw.swiss(7, appearances, (a, b) -> 0);
+
+        assertEquals(1, matches.length);
+        Set<Integer> playing = new HashSet<>();
+        for (int p : matches[0]) {
+            playing.add(p);
+        }
+        assertEquals(Set.of(0, 1, 2, 6), playing);
+    }
+
+    @Test
+    void swiss_severalHundredPlayers_everyoneDrawnOnce() {
+        int[][] matches = OneOffDraw.swiss(402, new int[402], (a, b) -> 0);
+
+        assertEquals(100, matches.length);
+        assertDistinctPlayers(matches, 402);
+    }
+
+    @Test
+    void draw_tooFewPlayers_throws() {
+        assertThrows(IllegalArgumentException.class, () -> OneOffDraw.roundRobin(3, 0));
+        assertThrows(IllegalArgumentException.class, () -> OneOffDraw.swiss(3, new int[3], (a, b) -> 0));
+    }
+
+    // ── helpers ───────────────────────────────────────────────────────────────
+
+    private static void assertDistinctPlayers(int[][] matches, int n) {
+        Set<Integer> seen = new HashSet<>();
+        for (int[] m : matches) {
+            for (int p : m) {
+                assertTrue(p >= 0 && p < n, "position " + p);
+                assertTrue(seen.add(p), "player " + p + " drawn twice");
+            }
+        }
+    }
+
+    private static long pairKey(int a, int b) {
+        return (long) Math.min(a, b) * 1000 + Math.max(a, b);
+    }
+}
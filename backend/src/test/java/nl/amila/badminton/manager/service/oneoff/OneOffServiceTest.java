@@ -0,0 +1,231 @@
+package nl.amila.badminton.manager.service.oneoff;
+
+import nl.amila.badminton.manager.dto.oneoff.OneOffRoundResponse;
+import nl.amila.badminton.manager.dto.oneoff.OneOffSubmitScoreRequest;
+import nl.amila.badminton.manager.entity.*;
+import nl.amila.badminton.manager.entity.oneoff.OneOffFormat;
+import nl.amila.badminton.manager.entity.oneoff.OneOffMatch;
+import nl.amila.badminton.manager.entity.oneoff.OneOffRound;
+import nl.amila.badminton.manager.entity.oneoff.OneOffRoundStatus;
+import nl.amila.badminton.manager.entity.oneoff.OneOffTournamentSettings;
+import nl.amila.badminton.manager.repository.TournamentPlayerRepository;
+import nl.amila.badminton.manager.repository.TournamentRepository;
+import nl.amila.badminton.manager.repository.UserRepository;
+import nl.amila.badminton.manager.repository.oneoff.OneOffMatchRepository;
+import nl.amila.badminton.manager.repository.oneoff.OneOffRoundRepository;
+import nl.amila.badminton.manager.repository.oneoff.OneOffTournamentSettingsRepository;
+import nl.amila.badminton.manager.service.PrincipalResolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OneOffServiceTest {
+
+    @Mock private TournamentRepository tournamentRepository;
+    @Mock private TournamentPlayerRepository tournamentPlayerRepository;
+    @Mock private OneOffTournamentSettingsRepository settingsRepository;
+    @Mock private OneOffRoundRepository roundRepository;
+    @Mock private OneOffMatchRepository matchRepository;
+    @Mock private UserRepository userRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    private OneOffService service;
+
+    private Tournament tournament;
+    private User adminUser;
+    private List<TournamentPlayer> players;
+
+    @BeforeEach
+    void setUp() {
+        service = new OneOffService(
+            tournamentRepository, tournamentPlayerRepository, settingsRepository,
+            roundRepository, matchRepository,
+            new PrincipalResolver(userRepository, tournamentRepository, tournamentPlayerRepository),
+            new OneOffStandings(matchRepository),
+            eventPublisher
+        );
+
+        adminUser = new User("admin", "admin@test.com", "pass", "Admin", "User");
+        adminUser.setRole(Role.ADMIN);
+
+        tournament = new Tournament("Test One-Off", 1L, true, TournamentType.ONE_OFF);
+        setId(tournament, 1L);
+
+        players = new ArrayList<>();
+        for (long i = 1; i <= 5; i++) {
+            User u = new User("p" + i, "p" + i + "@test.com", "p", "Player", String.valueOf(i));
+            setId(u, i);
+            TournamentPlayer tp = new TournamentPlayer(tournament, u);
+            setId(tp, i);
+            players.add(tp);
+        }
+    }
+
+    // ── generateRound ─────────────────────────────────────────────────────────
+
+    @Test
+    void generateRound_firstSwissRound_drawsOneMatchAndSitsOneOut() {
+        stubTournament(OneOffFormat.SWISS);
+        when(roundRepository.findTopByTournamentIdOrderByRoundNumberDesc(1L)).thenReturn(Optional.empty());
+        when(tournamentPlayerRepository.findByTournamentId(1L)).thenReturn(players);
+        when(roundRepository.save(any())).thenAnswer(i -> i.getArgument(0));
+
+        OneOffRoundResponse res = service.generateRound(1L, "admin");
+
+        assertTrue(res.isSuccess());
+        assertEquals(1, res.getRound().getRoundNumber());
+        assertEquals(1, res.getRound().getMatches().size());
+        assertEquals(List.of(5L), res.getRound().getSittingOut());
+    }
+
+    @Test
+    void generateRound_previousRoundNotFullyScored_fails() {
+        stubTournament(OneOffFormat.SWISS);
+        OneOffRound previous = new OneOffRound(tournament, 1);
+        setId(previous, 7L);
+        when(roundRepository.findTopByTournamentIdOrderByRoundNumberDesc(1L)).thenReturn(Optional.of(previous));
+        when(matchRepository.countUnscoredByRoundId(7L)).thenReturn(2L);
+
+        OneOffRoundResponse res = service.generateRound(1L, "admin");
+
+        assertFalse(res.isSuccess());
+        assertEquals(OneOffRoundStatus.ONGOING, previous.getStatus());
+        verify(roundRepository, never()).save(any());
+    }
+
+    @Test
+    void generateRound_allRoundsDrawn_fails() {
+        stubTournament(OneOffFormat.ROUND_ROBIN);
+        when(roundRepository.findTopByTournamentIdOrderByRoundNumberDesc(1L))
+            .thenReturn(Optional.of(new OneOffRound(tournament, 3)));
+
+        OneOffRoundResponse res = service.generateRound(1L, "admin");
+
+        assertFalse(res.isSuccess());
+        assertTrue(res.getMessage().contains("3 rounds"));
+    }
+
+    // ── submitScore ───────────────────────────────────────────────────────────
+
+    @Test
+    void submitScore_validScore_savesAndPublishesNewVersion() {
+        OneOffMatch match = stubMatch();
+        when(matchRepository.saveAndFlush(match)).thenAnswer(i -> {
+            match.setVersion(match.getVersion() + 1);
+            return match;
+        });
+
+        OneOffRoundResponse res = service.submitScore(1L, 7L, 10L, scoreRequest(21, 17, 0L), "admin");
+
+        assertTrue(res.isSuccess());
+        verify(eventPublisher).publishEvent(ArgumentMatchers.<Object>argThat(event ->
+            event instanceof OneOffScoreRecordedEvent recorded
+                && recorded.matchId() == 10L && recorded.version() == 1L
+                && recorded.team1Score() == 21 && recorded.team2Score() == 17));
+    }
+
+    @Test
+    void submitScore_invalidForMaxPoints_isRejected() {
+        OneOffMatch match = stubMatch();
+
+        OneOffRoundResponse res = service.submitScore(1L, 7L, 10L, scoreRequest(15, 10, 0L), "admin");
+
+        assertFalse(res.isSuccess());
+        assertNull(match.getTeam1Score());
+        verify(matchRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void submitScore_staleVersion_throwsOptimisticLockFailure() {
+        stubMatch();
+
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+            () -> service.submitScore(1L, 7L, 10L, scoreRequest(21, 17, 3L), "admin"));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void submitScore_disabledTournament_isRejected() {
+        tournament.setEnabled(false);
+        OneOffRound round = new OneOffRound(tournament, 1);
+        setId(round, 7L);
+        OneOffMatch match = new OneOffMatch(round, 1, players.get(0), players.get(1), players.get(2), players.get(3));
+        when(matchRepository.findById(10L)).thenReturn(Optional.of(match));
+
+        OneOffRoundResponse res = service.submitScore(1L, 7L, 10L, scoreRequest(21, 17, 0L), "admin");
+
+        assertFalse(res.isSuccess());
+        assertEquals("Tournament is disabled", res.getMessage());
+        verify(matchRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void validateScore_followsMaxPointsAndCap() {
+        assertNull(OneOffService.validateScore(21, 19, 21));
+        assertNull(OneOffService.validateScore(24, 26, 21));
+        assertNull(OneOffService.validateScore(30, 29, 21));
+        assertNull(OneOffService.validateScore(15, 0, 15));
+        assertNull(OneOffService.validateScore(21, 20, 15));
+
+        assertNotNull(OneOffService.validateScore(21, 20, 21));
+        assertNotNull(OneOffService.validateScore(25, 21, 21));
+        assertNotNull(OneOffService.validateScore(31, 29, 21));
+        assertNotNull(OneOffService.validateScore(18, 12, 21));
+        assertNotNull(OneOffService.validateScore(-1, 21, 21));
+    }
+
+    // ── helpers ───────────────────────────────────────────────────────────────
+
+    private void stubTournament(OneOffFormat format) {
+        when(tournamentRepository.findById(1L)).thenReturn(Optional.of(tournament));
+        when(userRepository.findByUsername("admin")).thenReturn(Optional.of(adminUser));
+        when(settingsRepository.findByTournamentId(1L))
+            .thenReturn(Optional.of(new OneOffTournamentSettings(tournament, 3, 21, format)));
+    }
+
+    private OneOffMatch stubMatch() {
+        OneOffRound round = new OneOffRound(tournament, 1);
+        setId(round, 7L);
+        OneOffMatch match = new OneOffMatch(round, 1, players.get(0), players.get(1), players.get(2), players.get(3));
+        setId(match, 10L);
+        round.getMatches().add(match);
+        when(matchRepository.findById(10L)).thenReturn(Optional.of(match));
+        when(userRepository.findByUsername("admin")).thenReturn(Optional.of(adminUser));
+        when(settingsRepository.findByTournamentId(1L))
+            .thenReturn(Optional.of(new OneOffTournamentSettings(tournament, 3, 21)));
+        return match;
+    }
+
+    private static OneOffSubmitScoreRequest scoreRequest(int team1, int team2, Long version) {
+        OneOffSubmitScoreRequest request = new OneOffSubmitScoreRequest();
+        request.setTeam1Score(team1);
+        request.setTeam2Score(team2);
+        request.setVersion(version);
+        return request;
+    }
+
+    /** Reflectively set ID on entities since there's no public setter for id. */
+    private static void setId(Object entity, Long id) {
+        try {
+            var field = entity.getClass().getDeclaredField("id");
+            field.setAccessible(true);
+            field.set(entity, id);
+        } catch (Exception e) {
+            throw new RuntimeException("Could not set id on " + entity.getClass().getSimpleName(), e);
+        }
+    }
+}
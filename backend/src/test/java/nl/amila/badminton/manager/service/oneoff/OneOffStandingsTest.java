@@ -0,0 +1,99 @@
+package nl.amila.badminton.manager.service.oneoff;
+
+import nl.amila.badminton.manager.repository.oneoff.OneOffMatchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OneOffStandingsTest {
+
+    private static final long[] PLAYERS = {1, 2, 3, 4};
+
+    @Mock private OneOffMatchRepository matchRepository;
+
+    private OneOffStandings standings;
+
+    @BeforeEach
+    void setUp() {
+        standings = new OneOffStandings(matchRepository);
+    }
+
+    @Test
+    void forTournament_loadsScoredMatchesOnce() {
+        when(matchRepository.findMatchRows(1L)).thenReturn(List.of(
+            matchRow(10L, 1L, 21, 15),
+            matchRow(11L, 0L, null, null)));
+
+        OneOffStandings.Table first = standings.forTournament(1L);
+        OneOffStandings.Table second = standings.forTournament(1L);
+
+        assertSame(first, second);
+        assertEquals(new OneOffStandings.Standing(1L, 1, 1, 0, 21, 15), first.standing(1L));
+        assertEquals(new OneOffStandings.Standing(4L, 1, 0, 1, 15, 21), first.standing(4L));
+        verify(matchRepository, times(1)).findMatchRows(1L);
+    }
+
+    @Test
+    void onScoreRecorded_loadedTournament_appliesOnceAndReplacesCorrections() {
+        when(matchRepository.findMatchRows(1L)).thenReturn(List.of(matchRow(10L, 1L, 21, 15)));
+        OneOffStandings.Table table = standings.forTournament(1L);
+
+        // Already seen by the load
+        standings.onScoreRecorded(new OneOffScoreRecordedEvent(1L, 10L, 1L, PLAYERS, 21, 15));
+        assertEquals(1, table.standing(1L).played());
+
+        // Corrected score: team 2 won after all
+        standings.onScoreRecorded(new OneOffScoreRecordedEvent(1L, 10L, 2L, PLAYERS, 19, 21));
+        assertEquals(new OneOffStandings.Standing(1L, 1, 0, 1, 19, 21), table.standing(1L));
+        assertEquals(new OneOffStandings.Standing(3L, 1, 1, 0, 21, 19), table.standing(3L));
+
+        // A late, older version is ignored
+        standings.onScoreRecorded(new OneOffScoreRecordedEvent(1L, 10L, 1L, PLAYERS, 21, 15));
+        assertEquals(0, table.standing(1L).wins());
+    }
+
+    @Test
+    void onScoreRecorded_tournamentNotLoaded_isIgnored() {
+        standings.onScoreRecorded(new OneOffScoreRecordedEvent(2L, 10L, 1L, PLAYERS, 21, 15));
+
+        verifyNoInteractions(matchRepository);
+    }
+
+    @Test
+    void standings_ordersByWinsThenPointDifferential() {
+        OneOffStandings.Table table = OneOffStandings.Table.empty();
+        table.apply(1L, 1L, new long[]{1, 2, 3, 4}, 21, 19);
+        table.apply(2L, 1L, new long[]{1, 3, 2, 4}, 21, 10);
+
+        List<OneOffStandings.Standing> sorted = table.standings();
+
+        assertEquals(List.of(1L, 3L, 2L, 4L),
+            sorted.stream().map(OneOffStandings.Standing::tournamentPlayerId).toList());
+        assertEquals(2, sorted.get(0).wins());
+        assertEquals(9, sorted.get(1).pointDifferential());
+    }
+
+    // ── helpers ───────────────────────────────────────────────────────────────
+
+    private static OneOffMatchRepository.MatchRow matchRow(Long matchId, Long version, Integer team1, Integer team2) {
+        return new OneOffMatchRepository.MatchRow() {
+            public Long getMatchId() { return matchId; }
+            public Long getVersion() { return version; }
+            public int getRoundNumber() { return 1; }
+            public Long getTeam1Player1Id() { return PLAYERS[0]; }
+            public Long getTeam1Player2Id() { return PLAYERS[1]; }
+            public Long getTeam2Player1Id() { return PLAYERS[2]; }
+            public Long getTeam2Player2Id() { return PLAYERS[3]; }
+            public Integer getTeam1Score() { return team1; }
+            public Integer getTeam2Score() { return team2; }
+        };
+    }
+}
@@ -0,0 +1,108 @@
+package nl.amila.badminton.manager.service.ranking;
+
+import nl.amila.badminton.manager.entity.Glicko2Config;
+import nl.amila.badminton.manager.entity.ModifiedEloConfig;
+import nl.amila.badminton.manager.entity.Tournament;
+import nl.amila.badminton.manager.entity.TournamentPlayer;
+import nl.amila.badminton.manager.entity.TournamentType;
+import nl.amila.badminton.manager.entity.User;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Glicko2RankingEngineTest {
+
+    private final Glicko2RankingEngine engine = new Glicko2RankingEngine();
+    private final Tournament tournament = new Tournament("Test League", 1L, true, TournamentType.LEAGUE);
+
+    @Test
+    void compute_matchesGlickmanWorkedExample() {
+        // The paper's example as doubles: identical partners and identical opponents per match
+        TournamentPlayer p = player(1L, "1500", "200", "0.06");
+        TournamentPlayer partner = player(2L, "1500", "200", "0.06");
+        MatchBatch batch = new MatchBatch(3);
+        batch.addMatch(p, partner, player(3L, "1400", "30", "0.06"), player(4L, "1400", "30", "0.06"), 21, 15);
+        batch.addMatch(p, partner, player(5L, "1550", "100", "0.06"), player(6L, "1550", "100", "0.06"), 15, 21);
+        batch.addMatch(p, partner, player(7L, "1700", "300", "0.06"), player(8L, "1700", "300", "0.06"), 15, 21);
+
+        RankingResult result = engine.compute(new Glicko2Config(0.5), batch);
+
+        double total = result.slotDeltas()[0] + result.slotDeltas()[4] + result.slotDeltas()[8];
+        assertEquals(-35.94, total, 0.01);
+        assertEquals(151.52, result.deviations()[0], 0.01);
+        assertEquals(0.05999, result.volatilities()[0], 0.00001);
+    }
+
+    @Test
+    void compute_unratedPlayersUseInitialDeviationAndWinnerGains() {
+        MatchBatch batch = new MatchBatch(1);
+        batch.addMatch(player(1L, "100", null, null), player(2L, "100", null, null),
+            player(3L, "100", null, null), player(4L, "100", null, null), 21, 10);
+
+        RankingResult result = engine.compute(new Glicko2Config(0.5), batch);
+
+        assertTrue(result.slotDeltas()[0] > 0);
+        assertEquals(result.slotDeltas()[0], -result.slotDeltas()[2], 1e-9);
+        assertTrue(result.deviations()[0] < Glicko2RankingEngine.INITIAL_DEVIATION);
+    }
+
+    @Test
+    void applyRatingState_copiesDeviationAndVolatilityToPlayers() {
+        TournamentPlayer a = player(1L, "100", null, null);
+        MatchBatch batch = new MatchBatch(1);
+        batch.addMatch(a, player(2L, "100", null, null), player(3L, "100", null, null), player(4L, "100", null, null), 21, 10);
+
+        engine.compute(new Glicko2Config(0.5), batch).applyRatingState(batch);
+
+        assertNotNull(a.getRatingDeviation());
+        assertEquals(4, a.getRatingDeviation().scale());
+        assertNotNull(a.getVolatility());
+    }
+
+    @Test
+    void idleDeviation_growsByVolatilityAndKeepsUnratedPlayersUnrated() {
+        // φ' = √(φ² + σ²) on the Glicko-2 scale, i.e. √(200² + (0.06 · 173.7178)²) on the rating scale
+        assertEquals(200.2714, engine.idleDeviation(200.0, 0.06), 0.0001);
+        assertEquals(Glicko2RankingEngine.INITIAL_DEVIATION, engine.idleDeviation(349.99, 0.06));
+        assertTrue(Double.isNaN(engine.idleDeviation(Double.NaN, Double.NaN)));
+        assertTrue(engine.tracksDeviation());
+    }
+
+    @Test
+    void applyIdleDeviation_updatesDeviationOnlyOfRatedPlayers() {
+        TournamentPlayer rated = player(1L, "100", "200", "0.06");
+        TournamentPlayer unrated = player(2L, "100", null, null);
+
+        RankingResult.applyIdleDeviation(engine, rated);
+        RankingResult.applyIdleDeviation(engine, unrated);
+
+        assertEquals(new BigDecimal("200.2714"), rated.getRatingDeviation());
+        assertEquals(new BigDecimal("0.06"), rated.getVolatility());
+        assertNull(unrated.getRatingDeviation());
+    }
+
+    @Test
+    void supports_onlyGlicko2Config() {
+        assertTrue(engine.supports(new Glicko2Config(0.5)));
+        assertFalse(engine.supports(new ModifiedEloConfig(32)));
+    }
+
+    // ── helpers ───────────────────────────────────────────────────────────────
+
+    private TournamentPlayer player(Long id, String rating, String deviation, String volatility) {
+        TournamentPlayer tp = new TournamentPlayer(tournament, new User("u" + id, "u" + id + "@test.com", "pass", "U", "" + id),
+            new BigDecimal(rating));
+        tp.setRatingDeviation(deviation != null ? new BigDecimal(deviation) : null);
+        tp.setVolatility(volatility != null ? new BigDecimal(volatility) : null);
+        try {
+            var field = TournamentPlayer.class.getDeclaredField("id");
+            field.setAccessible(true);
+            field.set(tp, id);
+        } catch (Exception e) {
+            throw new RuntimeException("Could not set id on TournamentPlayer", e);
+        }
+        return tp;
+    }
+}
@@ -0,0 +1,62 @@
+package nl.amila.badminton.manager.service.ranking;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LargestTriangleThreeBucketsTest {
+
+    @Test
+    void select_fewerPointsThanThreshold_keepsAll() {
+        double[] x = {0, 1, 2, 3};
+        double[] y = {100, 110, 105, 120};
+
+        assertArrayEquals(new int[]{0, 1, 2, 3}, LargestTriangleThreeBuckets.select(x, y, 4, 10));
+    }
+
+    @Test
+    void select_longSeries_keepsThresholdPointsInOrderWithEnds() {
+        int n = 5000;
+        double[] x = new double[n];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = i;
+            y[i] = 1000 + 50 * Math.sin(i / 100.0);
+        }
+
+        int[] kept = LargestTriangleThreeBuckets.select(x, y, n, 200);
+
+        assertEquals(200, kept.length);
+        assertEquals(0, kept[0]);
+        assertEquals(n - 1, kept[199]);
+        for (int i = 1; i < kept.length; i++) {
+            assertTrue(kept[i - 1] < kept[i]);
+        }
+    }
+
+    @Test
+    void select_keepsASpike() {
+        int n = 1000;
+        double[] x = new double[n];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = i;
+            y[i] = 100;
+        }
+        y[437] = 400;
+
+        int[] kept = LargestTriangleThreeBuckets.select(x, y, n, 20);
+
+        boolean spikeKept = false;
+        for (int i : kept) {
+            spikeKept |= i == 437;
+        }
+        assertTrue(spikeKept);
+    }
+
+    @Test
+    void select_thresholdBelowThree_throws() {
+        assertThrows(IllegalArgumentException.class,
+            () -> LargestTriangleThreeBuckets.select(new double[5], new double[5], 5, 2));
+    }
+}
@@ -0,0 +1,88 @@
+package nl.amila.badminton.manager.service.ranking;
+
+import nl.amila.badminton.manager.entity.ModifiedEloConfig;
+import nl.amila.badminton.manager.entity.RankingLogic;
+import nl.amila.badminton.manager.entity.Tournament;
+import nl.amila.badminton.manager.entity.TournamentPlayer;
+import nl.amila.badminton.manager.entity.TournamentType;
+import nl.amila.badminton.manager.entity.User;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ModifiedEloRankingEngineTest {
+
+    private final ModifiedEloRankingEngine engine = new ModifiedEloRankingEngine();
+    private final Tournament tournament = new Tournament("Test League", 1L, true, TournamentType.LEAGUE);
+
+    @Test
+    void compute_equalTeams_winnerGainsHalfK() {
+        MatchBatch batch = new MatchBatch(1);
+        batch.addMatch(player(1L, "100"), player(2L, "100"), player(3L, "100"), player(4L, "100"), 21, 15);
+
+        RankingResult result = engine.compute(new ModifiedEloConfig(32), batch);
+
+        assertEquals(new BigDecimal("16.00"), result.delta(0, 0));
+        assertEquals(new BigDecimal("16.00"), result.delta(0, 1));
+        assertEquals(new BigDecimal("-16.00"), result.delta(0, 2));
+        assertEquals(new BigDecimal("-16.00"), result.delta(0, 3));
+    }
+
+    @Test
+    void compute_unevenTeams_reproducesBaselineFormula() {
+        MatchBatch batch = new MatchBatch(1);
+        batch.addMatch(player(1L, "100"), player(2L, "100"), player(3L, "200"), player(4L, "200"), 21, 19);
+
+        RankingResult result = engine.compute(new ModifiedEloConfig(32), batch);
+
+        double expected = 32 / (1.0 + Math.pow(10.0, 100.0 / 480.0));
+        assertEquals(expected, result.slotDeltas()[0], 1e-9);
+        assertEquals(-expected, result.slotDeltas()[2], 1e-9);
+    }
+
+    @Test
+    void compute_allMatchesRatedAgainstStartOfDayScores() {
+        TournamentPlayer a = player(1L, "100");
+        TournamentPlayer b = player(2L, "100");
+        TournamentPlayer c = player(3L, "100");
+        TournamentPlayer d = player(4L, "100");
+        MatchBatch batch = new MatchBatch(2);
+        batch.addMatch(a, b, c, d, 21, 10);
+        batch.addMatch(a, c, b, d, 21, 10);
+
+        RankingResult result = engine.compute(new ModifiedEloConfig(32), batch);
+
+        assertEquals(4, batch.playerCount());
+        assertEquals(result.delta(0, 0), result.delta(1, 0));
+        assertSame(a, batch.player(1, 0));
+        assertEquals(List.of(1L, 2L, 3L, 4L), batch.playersById().keySet().stream().sorted().toList());
+    }
+
+    @Test
+    void registry_resolvesByLogic() {
+        RankingEngines engines = new RankingEngines(List.of(engine));
+
+        assertSame(engine, engines.forLogic(RankingLogic.MODIFIED_ELO).orElseThrow());
+        assertTrue(engines.forLogic(null).isEmpty());
+        assertTrue(engine.supports(new ModifiedEloConfig(32)));
+        assertFalse(engine.supports(null));
+    }
+
+    // ── helpers ───────────────────────────────────────────────────────────────
+
+    private TournamentPlayer player(Long id, String rankScore) {
+        TournamentPlayer tp = new TournamentPlayer(tournament, new User("u" + id, "u" + id + "@test.com", "pass", "U", "" + id),
+            new BigDecimal(rankScore));
+        try {
+            var field = TournamentPlayer.class.getDeclaredField("id");
+            field.setAccessible(true);
+            field.set(tp, id);
+        } catch (Exception e) {
+            throw new RuntimeException("Could not set id on TournamentPlayer", e);
+        }
+        return tp;
+    }
+}
@@ -0,0 +1,146 @@
+package nl.amila.badminton.manager.service.ranking;
+
+import nl.amila.badminton.manager.dto.RankProgressionResponse;
+import nl.amila.badminton.manager.entity.PlayerStatus;
+import nl.amila.badminton.manager.entity.TournamentType;
+import nl.amila.badminton.manager.repository.RankReplayRepository;
+import nl.amila.badminton.manager.repository.TournamentPlayerRepository;
+import nl.amila.badminton.manager.repository.TournamentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RankProgressionServiceTest {
+
+    private static final LocalDate DAY_ONE = LocalDate.of(2025, 1, 10);
+    private static final LocalDate DAY_TWO = LocalDate.of(2025, 1, 17);
+
+    @Mock private TournamentRepository tournamentRepository;
+    @Mock private TournamentPlayerRepository tournamentPlayerRepository;
+    @Mock private RankReplayRepository rankReplayRepository;
+
+    private RankProgressionService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new RankProgressionService(tournamentRepository, tournamentPlayerRepository, rankReplayRepository);
+    }
+
+    @Test
+    void getProgression_day_keepsStartAndEachDaysClose() {
+        stubTournament(TournamentType.LEAGUE);
+        stubChanges();
+
+        RankProgressionResponse res = service.getProgression(1L, null, Downsampling.DAY, null);
+
+        assertTrue(res.isSuccess());
+        assertEquals(List.of("2025-01-10", "2025-01-17"), res.getGameDates());
+        assertEquals(2, res.getSeries().size());
+        RankProgressionResponse.SeriesDto alice = res.getSeries().get(0);
+        assertEquals("Alice A", alice.getPlayerName());
+        assertArrayEquals(new int[]{0, 2, 3}, alice.getMatch());
+        assertArrayEquals(new int[]{0, 0, 1}, alice.getDay());
+        assertArrayEquals(new double[]{100.0, 112.5, 108.0}, alice.getScore());
+    }
+
+    @Test
+    void getProgression_none_keepsEveryChange() {
+        stubTournament(TournamentType.LEAGUE);
+        stubChanges();
+
+        RankProgressionResponse res = service.getProgression(1L, null, Downsampling.NONE, null);
+
+        assertArrayEquals(new int[]{0, 1, 2, 3}, res.getSeries().get(0).getMatch());
+        assertArrayEquals(new double[]{80.0, 75.0}, res.getSeries().get(1).getScore());
+    }
+
+    @Test
+    void getProgression_requestedPlayers_passedToQuery() {
+        stubTournament(TournamentType.APL);
+
+        RankProgressionResponse res = service.getProgression(1L, List.of(11L, 11L), Downsampling.LTTB, 50);
+
+        assertTrue(res.isSuccess());
+        assertTrue(res.getSeries().isEmpty());
+        verify(rankReplayRepository).streamProgression(eq(TournamentType.APL), eq(1L), eq(new long[]{11L}), any());
+    }
+
+    @Test
+    void getProgression_unknownPlayer_returnsError() {
+        stubTournament(TournamentType.LEAGUE);
+
+        RankProgressionResponse res = service.getProgression(1L, List.of(99L), Downsampling.DAY, null);
+
+        assertFalse(res.isSuccess());
+        assertEquals("Player 99 not found in this tournament", res.getMessage());
+        verifyNoInteractions(rankReplayRepository);
+    }
+
+    @Test
+    void getProgression_oneOffTournament_returnsError() {
+        when(tournamentRepository.findHeaderById(1L)).thenReturn(Optional.of(header(TournamentType.ONE_OFF)));
+
+        RankProgressionResponse res = service.getProgression(1L, null, Downsampling.DAY, null);
+
+        assertFalse(res.isSuccess());
+        verifyNoInteractions(rankReplayRepository);
+    }
+
+    // ── helpers ───────────────────────────────────────────────────────────────
+
+    private void stubTournament(TournamentType type) {
+        when(tournamentRepository.findHeaderById(1L)).thenReturn(Optional.of(header(type)));
+        when(tournamentPlayerRepository.findRankingRows(1L))
+            .thenReturn(List.of(row(10L, "Alice"), row(11L, "Bob")));
+    }
+
+    /** Alice plays twice on day one and once on day two; Bob once on day two. */
+    private void stubChanges() {
+        doAnswer(invocation -> {
+            RankReplayRepository.ProgressionRowHandler handler = invocation.getArgument(3);
+            handler.onChange(10L, 7L, DAY_ONE, 10000, 10500);
+            handler.onChange(10L, 7L, DAY_ONE, 10500, 11250);
+            handler.onChange(10L, 8L, DAY_TWO, 11250, 10800);
+            handler.onChange(11L, 8L, DAY_TWO, 8000, 7500);
+            return null;
+        }).when(rankReplayRepository).streamProgression(eq(TournamentType.LEAGUE), eq(1L), eq(new long[0]), any());
+    }
+
+    private static TournamentRepository.TournamentHeader header(TournamentType type) {
+        return new TournamentRepository.TournamentHeader() {
+            @Override public Long getId() { return 1L; }
+            @Override public String getName() { return "Premier League"; }
+            @Override public Long getOwnerId() { return 2L; }
+            @Override public Boolean getEnabled() { return true; }
+            @Override public long getCreatedAt() { return 0L; }
+            @Override public long getUpdatedAt() { return 0L; }
+            @Override public TournamentType getType() { return type; }
+        };
+    }
+
+    private static TournamentPlayerRepository.RankingRow row(Long tournamentPlayerId, String firstName) {
+        return new TournamentPlayerRepository.RankingRow() {
+            @Override public Long getTournamentPlayerId() { return tournamentPlayerId; }
+            @Override public Long getUserId() { return tournamentPlayerId; }
+            @Override public String getFirstName() { return firstName; }
+            @Override public String getLastName() { return "A"; }
+            @Override public PlayerStatus getStatus() { return PlayerStatus.ENABLED; }
+            @Override public long getStatusChangedAt() { return 0L; }
+            @Override public Integer getRank() { return null; }
+            @Override public BigDecimal getRankScore() { return BigDecimal.ZERO; }
+        };
+    }
+}
@@ -0,0 +1,171 @@
+package nl.amila.badminton.manager.service.ranking;
+
+import nl.amila.badminton.manager.dto.RecomputeRankingsResponse;
+import nl.amila.badminton.manager.entity.ModifiedEloConfig;
+import nl.amila.badminton.manager.entity.PlayerStatus;
+import nl.amila.badminton.manager.entity.RankingLogic;
+import nl.amila.badminton.manager.entity.Role;
+import nl.amila.badminton.manager.entity.Tournament;
+import nl.amila.badminton.manager.entity.TournamentType;
+import nl.amila.badminton.manager.entity.User;
+import nl.amila.badminton.manager.entity.apl.AplTournamentSettings;
+import nl.amila.badminton.manager.entity.league.LeagueTournamentSettings;
+import nl.amila.badminton.manager.repository.RankReplayRepository;
+import nl.amila.badminton.manager.repository.TournamentPlayerRepository;
+import nl.amila.badminton.manager.repository.TournamentRepository;
+import nl.amila.badminton.manager.repository.UserRepository;
+import nl.amila.badminton.manager.repository.apl.AplTournamentSettingsRepository;
+import nl.amila.badminton.manager.repository.league.LeagueTournamentSettingsRepository;
+import nl.amila.badminton.manager.service.PrincipalResolver;
+import nl.amila.badminton.manager.service.RankingsChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RankReplayServiceTest {
+
+    private static final ModifiedEloConfig ELO = new ModifiedEloConfig(32);
+
+    @Mock private TournamentRepository tournamentRepository;
+    @Mock private TournamentPlayerRepository tournamentPlayerRepository;
+    @Mock private UserRepository userRepository;
+    @Mock private LeagueTournamentSettingsRepository leagueSettingsRepository;
+    @Mock private AplTournamentSettingsRepository aplSettingsRepository;
+    @Mock private RankReplayRepository rankReplayRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    private RankReplayService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new RankReplayService(tournamentRepository, tournamentPlayerRepository,
+            new PrincipalResolver(userRepository, tournamentRepository, tournamentPlayerRepository),
+            leagueSettingsRepository, aplSettingsRepository, rankReplayRepository,
+            new RankingEngines(List.of(new ModifiedEloRankingEngine(), new Glicko2RankingEngine())),
+            eventPublisher);
+    }
+
+    @Test
+    void recompute_league_locksTournamentThenReplacesHistoryBeforeScores() {
+        Tournament tournament = stubTournament(TournamentType.LEAGUE);
+        when(leagueSettingsRepository.findByTournamentId(1L))
+            .thenReturn(Optional.of(new LeagueTournamentSettings(tournament, RankingLogic.MODIFIED_ELO, ELO)));
+        stubSeason(TournamentType.LEAGUE);
+
+        RecomputeRankingsResponse res = service.recompute(1L, "admin");
+
+        assertTrue(res.isSuccess());
+        InOrder order = inOrder(tournamentRepository, rankReplayRepository, eventPublisher);
+        order.verify(tournamentRepository).findByIdForUpdate(1L);
+        order.verify(rankReplayRepository).deleteHistory(TournamentType.LEAGUE, 1L);
+        order.verify(rankReplayRepository).insertHistory(eq(TournamentType.LEAGUE), any(), any(), any(), any(), any(), eq(4));
+        ArgumentCaptor<long[]> playerIds = ArgumentCaptor.forClass(long[].class);
+        ArgumentCaptor<long[]> scores = ArgumentCaptor.forClass(long[].class);
+        order.verify(rankReplayRepository).updatePlayers(playerIds.capture(), scores.capture(), any(), any(), eq(4));
+        order.verify(eventPublisher).publishEvent(new RankingsChangedEvent(1L));
+        assertArrayEquals(new long[]{1, 2, 3, 4}, Arrays.copyOf(playerIds.getValue(), 4));
+        assertArrayEquals(new long[]{11600, 11600, 8400, 8400}, Arrays.copyOf(scores.getValue(), 4));
+        verify(tournamentRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void recompute_apl_readsAplSettingsAndTables() {
+        Tournament tournament = stubTournament(TournamentType.APL);
+        when(aplSettingsRepository.findByTournamentId(1L))
+            .thenReturn(Optional.of(new AplTournamentSettings(tournament, RankingLogic.MODIFIED_ELO, ELO, "10", 3)));
+        stubSeason(TournamentType.APL);
+
+        RecomputeRankingsResponse res = service.recompute(1L, "admin");
+
+        assertTrue(res.isSuccess());
+        verify(rankReplayRepository).deleteHistory(TournamentType.APL, 1L);
+        verify(rankReplayRepository).insertHistory(eq(TournamentType.APL), any(), any(), any(), any(), any(), eq(4));
+        verifyNoInteractions(leagueSettingsRepository);
+    }
+
+    @Test
+    void recompute_oneOffTournament_isRejectedWithoutTouchingHistory() {
+        stubTournament(TournamentType.ONE_OFF);
+
+        RecomputeRankingsResponse res = service.recompute(1L, "admin");
+
+        assertFalse(res.isSuccess());
+        assertEquals("Only league and APL tournaments have rankings to recompute", res.getMessage());
+        verifyNoInteractions(rankReplayRepository, eventPublisher);
+    }
+
+    @Test
+    void recompute_missingSettings_isRejectedWithoutTouchingHistory() {
+        stubTournament(TournamentType.LEAGUE);
+        when(leagueSettingsRepository.findByTournamentId(1L)).thenReturn(Optional.empty());
+
+        RecomputeRankingsResponse res = service.recompute(1L, "admin");
+
+        assertFalse(res.isSuccess());
+        verifyNoInteractions(rankReplayRepository, eventPublisher);
+    }
+
+    // ── helpers ───────────────────────────────────────────────────────────────
+
+    private Tournament stubTournament(TournamentType type) {
+        Tournament tournament = new Tournament("Premier League", 2L, true, type);
+        setId(tournament, 1L);
+        User admin = new User("admin", "admin@test.com", "pass", "Admin", "User");
+        admin.setRole(Role.ADMIN);
+        when(tournamentRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(tournament));
+        when(userRepository.findByUsername("admin")).thenReturn(Optional.of(admin));
+        return tournament;
+    }
+
+    /** One completed match, players 1 and 2 beating 3 and 4; no stored history, everyone at 100. */
+    private void stubSeason(TournamentType type) {
+        doAnswer(invocation -> {
+            RankReplayRepository.MatchRowHandler handler = invocation.getArgument(2);
+            handler.onMatch(7L, 70L, 1L, 2L, 3L, 4L, 21, 15);
+            return null;
+        }).when(rankReplayRepository).streamCompletedMatches(eq(type), eq(1L), any());
+        when(tournamentPlayerRepository.findRankingRows(1L))
+            .thenReturn(List.of(row(1L), row(2L), row(3L), row(4L)));
+    }
+
+    private static TournamentPlayerRepository.RankingRow row(Long tournamentPlayerId) {
+        return new TournamentPlayerRepository.RankingRow() {
+            @Override public Long getTournamentPlayerId() { return tournamentPlayerId; }
+            @Override public Long getUserId() { return tournamentPlayerId; }
+            @Override public String getFirstName() { return "Player"; }
+            @Override public String getLastName() { return String.valueOf(tournamentPlayerId); }
+            @Override public PlayerStatus getStatus() { return PlayerStatus.ENABLED; }
+            @Override public long getStatusChangedAt() { return 0L; }
+            @Override public Integer getRank() { return null; }
+            @Override public BigDecimal getRankScore() { return new BigDecimal("100.00"); }
+        };
+    }
+
+    /** Reflectively set ID on entities since there's no public setter for id. */
+    private static void setId(Object entity, Long id) {
+        try {
+            var field = entity.getClass().getDeclaredField("id");
+            field.setAccessible(true);
+            field.set(entity, id);
+        } catch (Exception e) {
+            throw new RuntimeException("Could not set id on " + entity.getClass().getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package nl.amila.badminton.manager.service.ranking;
+
+import nl.amila.badminton.manager.entity.Glicko2Config;
+import nl.amila.badminton.manager.entity.ModifiedEloConfig;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeasonReplayTest {
+
+    private static final ModifiedEloConfig ELO = new ModifiedEloConfig(32);
+    private final ModifiedEloRankingEngine engine = new ModifiedEloRankingEngine();
+
+    @Test
+    void run_unchangedScores_reproducesStoredHistoryAndScores() {
+        SeasonReplay replay = season(21, 15);
+        storeHistory(replay);
+        setCurrent(replay, 13200, 10000, 10000, 6800);
+
+        replay.run(engine, ELO, 0L);
+
+        assertArrayEquals(new long[]{10000, 10000, 10000, 10000, 11600, 8400, 11600, 8400},
+            replay.historyPrevious());
+        assertArrayEquals(new long[]{11600, 11600, 8400, 8400, 13200, 10000, 10000, 6800},
+            replay.historyNew());
+        assertArrayEquals(new long[]{13200, 10000, 10000, 6800}, finalScores(replay));
+        assertEquals(1000L, replay.historyChangedAt()[0]);
+    }
+
+    @Test
+    void run_correctedFirstDayScore_propagatesToLaterDays() {
+        // Day one's result was flipped after both days were finished
+        SeasonReplay replay = season(15, 21);
+        storeHistory(replay);
+        setCurrent(replay, 13200, 10000, 10000, 6800);
+
+        replay.run(engine, ELO, 0L);
+
+        assertArrayEquals(new long[]{10000, 6800, 13200, 10000}, finalScores(replay));
+        assertEquals(8400L, replay.historyPrevious()[4]);
+    }
+
+    @Test
+    void run_keepsAdjustmentsMadeOutsideTheEngine() {
+        SeasonReplay replay = season(15, 21);
+        storeHistory(replay);
+        // Player 4 lost 10 demerit points after the last game day
+        setCurrent(replay, 13200, 10000, 10000, 5800);
+
+        replay.run(engine, ELO, 0L);
+
+        assertEquals(9000L, finalScores(replay)[3]);
+    }
+
+    @Test
+    void run_glicko2_inflatesDeviationOfPlayersWhoSitADayOut() {
+        Glicko2RankingEngine glicko = new Glicko2RankingEngine();
+        Glicko2Config config = new Glicko2Config(0.5);
+        SeasonReplay dayOne = new SeasonReplay();
+        dayOne.addMatch(1L, 10L, 1L, 2L, 3L, 4L, 21, 15);
+        dayOne.run(glicko, config, 0L);
+        // Day 2: player 4 sits out, player 5 plays for the first time
+        SeasonReplay replay = new SeasonReplay();
+        replay.addMatch(1L, 10L, 1L, 2L, 3L, 4L, 21, 15);
+        replay.addMatch(2L, 20L, 1L, 2L, 3L, 5L, 21, 18);
+
+        replay.run(glicko, config, 0L);
+
+        double afterDayOne = dayOne.finalDeviations()[3].doubleValue();
+        double expected = glicko.idleDeviation(afterDayOne, dayOne.finalVolatilities()[3].doubleValue());
+        assertEquals(expected, replay.finalDeviations()[3].doubleValue(), 0.001);
+        assertTrue(expected > afterDayOne);
+    }
+
+    // ── helpers ───────────────────────────────────────────────────────────────
+
+    /**
+     * Day 1: (1,2) vs (3,4), day 2: (1,3) vs (2,4) won by team 1; all players start at 100.
+     */
+    private static SeasonReplay season(int day1Team1Score, int day1Team2Score) {
+        SeasonReplay replay = new SeasonReplay();
+        replay.addMatch(1L, 10L, 1L, 2L, 3L, 4L, day1Team1Score, day1Team2Score);
+        replay.addMatch(2L, 20L, 1L, 3L, 2L, 4L, 21, 18);
+        return replay;
+    }
+
+    /**
+     * History as finishGameDay stored it when day 1 was won by team 1.
+     */
+    private static void storeHistory(SeasonReplay replay) {
+        replay.addStoredHistory(10L, 1L, 10000, 11600, 1000L);
+        replay.addStoredHistory(10L, 2L, 10000, 11600, 1000L);
+        replay.addStoredHistory(10L, 3L, 10000, 8400, 1000L);
+        replay.addStoredHistory(10L, 4L, 10000, 8400, 1000L);
+        replay.addStoredHistory(20L, 1L, 11600, 13200, 2000L);
+        replay.addStoredHistory(20L, 3L, 8400, 10000, 2000L);
+        replay.addStoredHistory(20L, 2L, 11600, 10000, 2000L);
+        replay.addStoredHistory(20L, 4L, 8400, 6800, 2000L);
+    }
+
+    private static void setCurrent(SeasonReplay replay, long p1, long p2, long p3, long p4) {
+        replay.setCurrentScore(1L, p1);
+        replay.setCurrentScore(2L, p2);
+        replay.setCurrentScore(3L, p3);
+        replay.setCurrentScore(4L, p4);
+    }
+
+    private static long[] finalScores(SeasonReplay replay) {
+        long[] byPlayerId = new long[replay.playerCount()];
+        for (int i = 0; i < replay.playerCount(); i++) {
+            byPlayerId[(int) replay.playerIds()[i] - 1] = replay.finalScores()[i];
+        }
+        return byPlayerId;
+    }
+}
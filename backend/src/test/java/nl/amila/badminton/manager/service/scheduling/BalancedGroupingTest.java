@@ -0,0 +1,132 @@
+package nl.amila.badminton.manager.service.scheduling;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BalancedGroupingTest {
+
+    private static final int[] NO_PAIRS = new int[0];
+
+    @Test
+    void arrange_noHistory_keepsRankSlices() {
+        double[] ratings = descendingRatings(32, new Random(1));
+        List<Integer> sizes = List.of(4, 4, 4, 4, 4, 4, 4, 4);
+
+        int[] order = BalancedGrouping.arrange(ratings, sizes, NO_PAIRS, NO_PAIRS, NO_PAIRS, new Random(2));
+
+        assertArrayEquals(identity(32), order);
+    }
+
+    @Test
+    void arrange_returnsEveryPlayerOnceAndStrongestFirstWithinGroups() {
+        double[] ratings = descendingRatings(200, new Random(3));
+        List<Integer> sizes = GroupAllocator.groupSizes(200, null);
+        History history = sliceHistory(sizes, 2);
+
+        int[] order = BalancedGrouping.arrange(ratings, sizes, history.a, history.b, history.times, new Random(4));
+
+        int[] sorted = order.clone();
+        Arrays.sort(sorted);
+        assertArrayEquals(identity(200), sorted);
+        int start = 0;
+        for (int size : sizes) {
+            for (int i = start + 1; i < start + size; i++) {
+                assertTrue(order[i - 1] < order[i], "group starting at " + start + " not in rating order");
+            }
+            start += size;
+        }
+    }
+
+    @Test
+    void arrange_repeatedSlices_breaksUpRecentGroupsAtLowerCost() {
+        double[] ratings = descendingRatings(40, new Random(5));
+        List<Integer> sizes = GroupAllocator.groupSizes(40, null);
+        History history = sliceHistory(sizes, 3);
+
+        int[] order = BalancedGrouping.arrange(ratings, sizes, history.a, history.b, history.times, new Random(6));
+
+        double sliced = cost(ratings, sizes, identity(40), history);
+        double balanced = cost(ratings, sizes, order, history);
+        assertTrue(balanced < sliced / 2, "balanced " + balanced + " vs sliced " + sliced);
+    }
+
+    @Test
+    void arrange_groupSizesDoNotMatchPlayers_throws() {
+        double[] ratings = descendingRatings(9, new Random(7));
+
+        assertThrows(IllegalArgumentException.class,
+            () -> BalancedGrouping.arrange(ratings, List.of(4, 4), NO_PAIRS, NO_PAIRS, NO_PAIRS, new Random(8)));
+    }
+
+    // ── helpers ───────────────────────────────────────────────────────────────
+
+    private record History(int[] a, int[] b, int[] times) {}
+
+    /** Every pair inside each rank slice already met the given (weighted) number of times. */
+    private static History sliceHistory(List<Integer> sizes, int times) {
+        List<int[]> pairs = new ArrayList<>();
+        int start = 0;
+        for (int size : sizes) {
+            for (int i = start; i < start + size; i++) {
+                for (int j = i + 1; j < start + size; j++) {
+                    pairs.add(new int[]{i, j});
+                }
+            }
+            start += size;
+        }
+        int[] a = pairs.stream().mapToInt(p -> p[0]).toArray();
+        int[] b = pairs.stream().mapToInt(p -> p[1]).toArray();
+        int[] t = new int[pairs.size()];
+        Arrays.fill(t, times);
+        return new History(a, b, t);
+    }
+
+    private static double cost(double[] ratings, List<Integer> sizes, int[] order, History history) {
+        int n = ratings.length;
+        int[][] together = new int[n][n];
+        for (int i = 0; i < history.a.length; i++) {
+            together[history.a[i]][history.b[i]] = history.times[i];
+            together[history.b[i]][history.a[i]] = history.times[i];
+        }
+        double cost = 0;
+        int start = 0;
+        for (int size : sizes) {
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (int i = start; i < start + size; i++) {
+                min = Math.min(min, ratings[order[i]]);
+                max = Math.max(max, ratings[order[i]]);
+                for (int j = i + 1; j < start + size; j++) {
+                    cost += BalancedGrouping.REPEAT_PENALTY * together[order[i]][order[j]];
+                }
+            }
+            cost += max - min;
+            start += size;
+        }
+        return cost;
+    }
+
+    private static double[] descendingRatings(int n, Random random) {
+        double[] ratings = new double[n];
+        double rating = 900;
+        for (int i = 0; i < n; i++) {
+            rating -= 1 + random.nextDouble() * 10;
+            ratings[i] = rating;
+        }
+        return ratings;
+    }
+
+    private static int[] identity(int n) {
+        int[] ids = new int[n];
+        for (int i = 0; i < n; i++) {
+            ids[i] = i;
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,116 @@
+package nl.amila.badminton.manager.service.scheduling;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CourtSchedulerTest {
+
+    @Test
+    void schedule_randomDays_noPlayerTwiceInARoundAndNoCourtShared() {
+        Random random = new Random(7);
+        for (int trial = 0; trial < 200; trial++) {
+            Day day = day(GroupAllocator.groupSizes(4 + random.nextInt(200), null));
+            int courts = 1 + random.nextInt(day.groupCount + 2);
+
+            CourtScheduler.Schedule schedule = CourtScheduler.schedule(day.matchPlayers, day.matchGroup, courts);
+
+            assertValid(day, schedule, courts);
+        }
+    }
+
+    @Test
+    void schedule_singleCourt_oneMatchPerRound() {
+        Day day = day(List.of(4, 5));
+
+        CourtScheduler.Schedule schedule = CourtScheduler.schedule(day.matchPlayers, day.matchGroup, 1);
+
+        assertEquals(8, schedule.roundCount());
+        for (int court : schedule.courts()) {
+            assertEquals(1, court);
+        }
+    }
+
+    @Test
+    void schedule_courtPerGroup_finishesInLongestGroupAndKeepsGroupsOnTheirCourt() {
+        Day day = day(List.of(4, 5, 4, 5, 4));
+
+        CourtScheduler.Schedule schedule = CourtScheduler.schedule(day.matchPlayers, day.matchGroup, 5);
+
+        // A group of 5 plays five matches, one at a time
+        assertEquals(5, schedule.roundCount());
+        for (int i = 1; i < day.matchGroup.length; i++) {
+            if (day.matchGroup[i] == day.matchGroup[i - 1]) {
+                assertEquals(schedule.courts()[i - 1], schedule.courts()[i]);
+            }
+        }
+    }
+
+    @Test
+    void schedule_fortyCourts_reachesLowerBound() {
+        Day day = day(GroupAllocator.groupSizes(1000, 40));
+
+        CourtScheduler.Schedule schedule = CourtScheduler.schedule(day.matchPlayers, day.matchGroup, 40);
+
+        assertValid(day, schedule, 40);
+        assertEquals(CourtScheduler.lowerBound(day.matchPlayers, 40), schedule.roundCount());
+    }
+
+    @Test
+    void schedule_fewerCourtsThanGroups_keepsEveryCourtBusyUntilTheLastRound() {
+        // 40 players in ten groups of 4: 30 matches on 3 courts fill exactly 10 rounds
+        Day day = day(GroupAllocator.groupSizes(40, null));
+
+        CourtScheduler.Schedule schedule = CourtScheduler.schedule(day.matchPlayers, day.matchGroup, 3);
+
+        assertValid(day, schedule, 3);
+        assertEquals(10, schedule.roundCount());
+    }
+
+    @Test
+    void schedule_noCourts_throws() {
+        Day day = day(List.of(4));
+
+        assertThrows(IllegalArgumentException.class, () -> CourtScheduler.schedule(day.matchPlayers, day.matchGroup, 0));
+    }
+
+    // ── helpers ───────────────────────────────────────────────────────────────
+
+    private record Day(int[][] matchPlayers, int[] matchGroup, int groupCount) {}
+
+    private static Day day(List<Integer> groupSizes) {
+        List<int[]> players = new ArrayList<>();
+        List<Integer> groups = new ArrayList<>();
+        int base = 0;
+        for (int g = 0; g < groupSizes.size(); g++) {
+            for (int[] match : GroupAllocator.schedule(groupSizes.get(g))) {
+                players.add(new int[]{base + match[0], base + match[1], base + match[2], base + match[3]});
+                groups.add(g);
+            }
+            base += groupSizes.get(g);
+        }
+        return new Day(players.toArray(new int[0][]), groups.stream().mapToInt(Integer::intValue).toArray(),
+                groupSizes.size());
+    }
+
+    private static void assertValid(Day day, CourtScheduler.Schedule schedule, int courts) {
+        Set<Long> courtSlots = new HashSet<>();
+        Set<Long> playerSlots = new HashSet<>();
+        for (int i = 0; i < day.matchPlayers.length; i++) {
+            int round = schedule.rounds()[i];
+            int court = schedule.courts()[i];
+            assertTrue(round >= 1 && round <= schedule.roundCount(), "round " + round);
+            assertTrue(court >= 1 && court <= courts, "court " + court);
+            assertTrue(courtSlots.add((long) round << 32 | court), "court " + court + " used twice in round " + round);
+            for (int p : day.matchPlayers[i]) {
+                assertTrue(playerSlots.add((long) round << 32 | p), "player " + p + " plays twice in round " + round);
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package nl.amila.badminton.manager.service.scheduling;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GroupAllocatorTest {
+
+    @Test
+    void groupSizes_everyValidCount_allocatesEveryPlayer() {
+        for (int n = GroupAllocator.MIN_PLAYERS; n <= 1000; n++) {
+            List<Integer> sizes = GroupAllocator.groupSizes(n, null);
+
+            assertEquals(n, sizes.stream().mapToInt(Integer::intValue).sum(), "player count " + n);
+            for (int size : sizes) {
+                assertTrue(size >= 4 && size <= 7, "group of " + size + " for " + n + " players");
+            }
+        }
+    }
+
+    @Test
+    void groupSizes_countsWithoutFourFiveSplit_useByeGroups() {
+        assertEquals(List.of(6), GroupAllocator.groupSizes(6, null));
+        assertEquals(List.of(7), GroupAllocator.groupSizes(7, null));
+        List<Integer> eleven = GroupAllocator.groupSizes(11, null);
+        assertTrue(eleven.containsAll(List.of(5, 6)));
+        assertEquals(2, eleven.size());
+    }
+
+    @Test
+    void groupSizes_previouslyUnderAllocatedCount_allocatesEveryPlayer() {
+        // 15 used to be sized as three 4s and one 5, i.e. 17 seats for 15 players
+        List<Integer> sizes = GroupAllocator.groupSizes(15, null);
+
+        assertEquals(15, sizes.stream().mapToInt(Integer::intValue).sum());
+        assertEquals(3, sizes.size());
+    }
+
+    @Test
+    void groupSizes_courtCount_mergesGroupsToFitCourts() {
+        // 40 players: ten groups of 4 unconstrained, eight groups of 5 on eight courts
+        assertEquals(10, GroupAllocator.groupSizes(40, null).size());
+        List<Integer> sizes = GroupAllocator.groupSizes(40, 8);
+
+        assertEquals(8, sizes.size());
+        assertTrue(sizes.stream().allMatch(size -> size == 5));
+    }
+
+    @Test
+    void groupSizes_tooFewCourts_mergesAsFarAsPossible() {
+        List<Integer> sizes = GroupAllocator.groupSizes(1000, 1);
+
+        assertEquals(1000, sizes.stream().mapToInt(Integer::intValue).sum());
+        assertEquals(200, sizes.size());
+    }
+
+    @Test
+    void groupSizes_outOfRange_throws() {
+        assertThrows(IllegalArgumentException.class, () -> GroupAllocator.groupSizes(3, null));
+        assertThrows(IllegalArgumentException.class, () -> GroupAllocator.groupSizes(GroupAllocator.MAX_PLAYERS + 1, null));
+    }
+
+    @Test
+    void schedule_everySize_uniquePartnersAndBalancedMatches() {
+        for (int size = 4; size <= 7; size++) {
+            int[][] schedule = GroupAllocator.schedule(size);
+            int[] appearances = new int[size];
+            Set<Integer> partnerships = new HashSet<>();
+
+            for (int[] match : schedule) {
+                assertEquals(4, new HashSet<>(List.of(match[0], match[1], match[2], match[3])).size(),
+                    "distinct players in a match of group " + size);
+                for (int player : match) {
+                    appearances[player]++;
+                }
+                assertTrue(partnerships.add(pair(match[0], match[1])), "repeated partnership in group " + size);
+                assertTrue(partnerships.add(pair(match[2], match[3])), "repeated partnership in group " + size);
+            }
+
+            int expected = size == 4 ? 3 : 4;
+            for (int count : appearances) {
+                assertEquals(expected, count, "matches per player in group " + size);
+            }
+        }
+    }
+
+    @Test
+    void schedule_unsupportedSize_throws() {
+        assertThrows(IllegalArgumentException.class, () -> GroupAllocator.schedule(8));
+    }
+
+    private static int pair(int a, int b) {
+        return Math.min(a, b) * 16 + Math.max(a, b);
+    }
+}
@@ -0,0 +1,153 @@
+package nl.amila.badminton.manager.service.scheduling;
+
+import nl.amila.badminton.manager.entity.TournamentType;
+import nl.amila.badminton.manager.repository.RankReplayRepository;
+import nl.amila.badminton.manager.service.GameDayCompletedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PairingFrequencyIndexTest {
+
+    @Mock private RankReplayRepository rankReplayRepository;
+
+    private PairingFrequencyIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PairingFrequencyIndex(rankReplayRepository);
+    }
+
+    @Test
+    void forTournament_loadsCompletedMatchesOnce() {
+        stubHistory(7L, new long[]{1, 2, 3, 4});
+
+        PairingFrequencyIndex.Pairings first = index.forTournament(TournamentType.LEAGUE, 1L);
+        PairingFrequencyIndex.Pairings second = index.forTournament(TournamentType.LEAGUE, 1L);
+
+        assertSame(first, second);
+        assertEquals(1, first.partnerCount(1, 2));
+        assertEquals(1, first.partnerCount(4, 3));
+        assertEquals(0, first.partnerCount(1, 3));
+        assertEquals(1, first.opponentCount(1, 3));
+        assertEquals(1, first.opponentCount(4, 2));
+        verify(rankReplayRepository, times(1)).streamCompletedMatches(eq(TournamentType.LEAGUE), eq(1L), any());
+    }
+
+    @Test
+    void onGameDayCompleted_loadedTournament_addsDayOnce() {
+        stubHistory(7L, new long[]{1, 2, 3, 4});
+        PairingFrequencyIndex.Pairings pairings = index.forTournament(TournamentType.LEAGUE, 1L);
+
+        index.onGameDayCompleted(new GameDayCompletedEvent(TournamentType.LEAGUE, 1L, 8L, new long[]{1, 2, 5, 6}, new int[]{21, 15}));
+        // The already loaded day is not counted twice
+        index.onGameDayCompleted(new GameDayCompletedEvent(TournamentType.LEAGUE, 1L, 7L, new long[]{1, 2, 3, 4}, new int[]{21, 15}));
+
+        assertEquals(2, pairings.partnerCount(1, 2));
+        assertEquals(1, pairings.opponentCount(2, 6));
+        assertEquals(1, pairings.opponentCount(1, 3));
+    }
+
+    @Test
+    void onGameDayCompleted_tournamentNotLoaded_isIgnored() {
+        index.onGameDayCompleted(new GameDayCompletedEvent(TournamentType.APL, 2L, 8L, new long[]{1, 2, 3, 4}, new int[]{21, 15}));
+
+        verifyNoInteractions(rankReplayRepository);
+    }
+
+    @Test
+    void pairings_manyPlayers_growWithoutLosingCounts() {
+        PairingFrequencyIndex.Pairings pairings = PairingFrequencyIndex.Pairings.empty();
+        long[] day = new long[400];
+        for (int i = 0; i < day.length; i++) {
+            day[i] = 1000 + i;
+        }
+
+        pairings.addDay(1L, day);
+
+        for (int m = 0; m < day.length; m += 4) {
+            assertEquals(1, pairings.partnerCount(day[m], day[m + 1]));
+            assertEquals(1, pairings.opponentCount(day[m + 1], day[m + 3]));
+        }
+        assertEquals(0, pairings.partnerCount(day[0], day[399]));
+    }
+
+    @Test
+    void repeatedPairs_weightsPartnershipsAndSkipsPairsThatNeverMet() {
+        PairingFrequencyIndex.Pairings pairings = PairingFrequencyIndex.Pairings.empty();
+        pairings.addDay(1L, new long[]{1, 2, 3, 4});
+
+        int[][] repeated = pairings.repeatedPairs(new long[]{1, 2, 3, 4, 9});
+
+        // 1+2 and 3+4 partnered, the four cross pairs opposed; 9 never played
+        assertArrayEquals(new int[]{0, 0, 0, 1, 1, 2}, repeated[0]);
+        assertArrayEquals(new int[]{1, 2, 3, 2, 3, 3}, repeated[1]);
+        assertArrayEquals(new int[]{PairingFrequencyIndex.PARTNER_WEIGHT, 1, 1, 1, 1, PairingFrequencyIndex.PARTNER_WEIGHT},
+            repeated[2]);
+    }
+
+    @Test
+    void leastRepeatedOrder_noHistory_keepsRankOrder() {
+        int[] order = PairingFrequencyIndex.leastRepeatedOrder(GroupAllocator.schedule(7),
+            new long[]{1, 2, 3, 4, 5, 6, 7}, PairingFrequencyIndex.Pairings.empty());
+
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4, 5, 6}, order);
+    }
+
+    @Test
+    void leastRepeatedOrder_groupOfFive_keepsOrderDespiteHistory() {
+        PairingFrequencyIndex.Pairings pairings = PairingFrequencyIndex.Pairings.empty();
+        pairings.addDay(1L, new long[]{1, 2, 3, 4, 1, 2, 4, 5});
+
+        int[] order = PairingFrequencyIndex.leastRepeatedOrder(GroupAllocator.schedule(5),
+            new long[]{1, 2, 3, 4, 5}, pairings);
+
+        // Every order of the five-player schedule repeats the same pairs, so there is nothing to search
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4}, order);
+    }
+
+    @Test
+    void leastRepeatedOrder_groupOfSix_leavesOutThePairsThatPartneredBefore() {
+        long[] players = {1, 2, 3, 4, 5, 6};
+        int[][] schedule = GroupAllocator.schedule(6);
+        PairingFrequencyIndex.Pairings pairings = PairingFrequencyIndex.Pairings.empty();
+        // Last time 1+2, 3+4 and 5+6 partnered; the six-player schedule has three pairs that never partner
+        pairings.addDay(1L, new long[]{1, 2, 3, 4, 5, 6, 1, 2});
+
+        int[] seat = PairingFrequencyIndex.leastRepeatedOrder(schedule, players, pairings);
+
+        Set<Long> partnered = new HashSet<>();
+        for (int[] s : schedule) {
+            partnered.add(pairKey(players[seat[s[0]]], players[seat[s[1]]]));
+            partnered.add(pairKey(players[seat[s[2]]], players[seat[s[3]]]));
+        }
+        assertFalse(partnered.contains(pairKey(1, 2)));
+        assertFalse(partnered.contains(pairKey(3, 4)));
+        assertFalse(partnered.contains(pairKey(5, 6)));
+    }
+
+    // ── helpers ───────────────────────────────────────────────────────────────
+
+    private void stubHistory(long dayId, long[] match) {
+        doAnswer(invocation -> {
+            RankReplayRepository.MatchRowHandler handler = invocation.getArgument(2);
+            handler.onMatch(dayId, 100L, match[0], match[1], match[2], match[3], 21, 15);
+            return null;
+        }).when(rankReplayRepository).streamCompletedMatches(eq(TournamentType.LEAGUE), eq(1L), any());
+    }
+
+    private static long pairKey(long a, long b) {
+        return Math.min(a, b) * 1000 + Math.max(a, b);
+    }
+}
@@ -0,0 +1,130 @@
+package nl.amila.badminton.manager.service.stats;
+
+import nl.amila.badminton.manager.entity.TournamentType;
+import nl.amila.badminton.manager.repository.RankReplayRepository;
+import nl.amila.badminton.manager.service.CompletedMatchIndex;
+import nl.amila.badminton.manager.service.GameDayCompletedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HeadToHeadStatsTest {
+
+    @Mock private RankReplayRepository rankReplayRepository;
+
+    private HeadToHeadStats stats;
+
+    @BeforeEach
+    void setUp() {
+        stats = new HeadToHeadStats(rankReplayRepository);
+    }
+
+    @Test
+    void forTournament_loadsCompletedMatchesOnce() {
+        stubHistory();
+
+        HeadToHeadStats.Aggregates first = stats.forTournament(TournamentType.LEAGUE, 1L);
+        HeadToHeadStats.Aggregates second = stats.forTournament(TournamentType.LEAGUE, 1L);
+
+        assertSame(first, second);
+        verify(rankReplayRepository, times(1)).streamCompletedMatches(eq(TournamentType.LEAGUE), eq(1L), any());
+    }
+
+    @Test
+    void aggregates_playerPartnershipAndHeadToHead() {
+        stubHistory();
+        HeadToHeadStats.Aggregates aggregates = stats.forTournament(TournamentType.LEAGUE, 1L);
+
+        assertEquals(new HeadToHeadStats.Record(2, 1, 1, 39, 36), aggregates.player(1));
+        assertEquals(new HeadToHeadStats.Record(1, 1, 0, 21, 15), aggregates.partnership(1, 2));
+        assertEquals(aggregates.partnership(1, 2), aggregates.partnership(2, 1));
+        // 1 and 3 opposed in both matches
+        assertEquals(new HeadToHeadStats.Record(2, 1, 1, 39, 36), aggregates.headToHead(1, 3));
+        assertEquals(new HeadToHeadStats.Record(2, 1, 1, 36, 39), aggregates.headToHead(3, 1));
+        assertEquals(3, aggregates.headToHead(1, 3).pointDifferential());
+        assertEquals(HeadToHeadStats.Record.NONE, aggregates.partnership(1, 3));
+        assertEquals(HeadToHeadStats.Record.NONE, aggregates.player(99));
+    }
+
+    @Test
+    void onGameDayCompleted_loadedTournament_addsDayOnce() {
+        stubHistory();
+        HeadToHeadStats.Aggregates aggregates = stats.forTournament(TournamentType.LEAGUE, 1L);
+
+        stats.onGameDayCompleted(new GameDayCompletedEvent(TournamentType.LEAGUE, 1L, 8L,
+            new long[]{1, 2, 5, 6}, new int[]{15, 21}));
+        // The already loaded day is not counted twice
+        stats.onGameDayCompleted(new GameDayCompletedEvent(TournamentType.LEAGUE, 1L, 7L,
+            new long[]{1, 2, 3, 4}, new int[]{21, 15}));
+
+        assertEquals(new HeadToHeadStats.Record(2, 1, 1, 36, 36), aggregates.partnership(1, 2));
+        assertEquals(new HeadToHeadStats.Record(1, 1, 0, 21, 15), aggregates.headToHead(6, 2));
+        assertEquals(3, aggregates.player(1).played());
+    }
+
+    @Test
+    void onGameDayCompleted_tournamentNotLoaded_isIgnored() {
+        stats.onGameDayCompleted(new GameDayCompletedEvent(TournamentType.APL, 2L, 8L,
+            new long[]{1, 2, 3, 4}, new int[]{21, 15}));
+
+        verifyNoInteractions(rankReplayRepository);
+    }
+
+    @Test
+    void forTournament_pastTheLimit_dropsTheLeastRecentlyUsedTournament() {
+        for (long id = 1; id <= CompletedMatchIndex.MAX_TOURNAMENTS; id++) {
+            stats.forTournament(TournamentType.APL, id);
+        }
+        stats.forTournament(TournamentType.APL, 1L);
+
+        // One over the limit: tournament 2 is now the least recently used
+        stats.forTournament(TournamentType.APL, CompletedMatchIndex.MAX_TOURNAMENTS + 1L);
+        stats.forTournament(TournamentType.APL, 1L);
+        stats.forTournament(TournamentType.APL, 2L);
+
+        verify(rankReplayRepository, times(1)).streamCompletedMatches(eq(TournamentType.APL), eq(1L), any());
+        verify(rankReplayRepository, times(2)).streamCompletedMatches(eq(TournamentType.APL), eq(2L), any());
+    }
+
+    @Test
+    void aggregates_manyPlayers_growWithoutLosingRecords() {
+        HeadToHeadStats.Aggregates aggregates = HeadToHeadStats.Aggregates.empty();
+        long[] day = new long[400];
+        int[] scores = new int[200];
+        for (int i = 0; i < day.length; i++) {
+            day[i] = 1000 + i;
+        }
+        for (int m = 0; m < scores.length; m += 2) {
+            scores[m] = 21;
+            scores[m + 1] = 10;
+        }
+
+        aggregates.addDay(1L, day, scores);
+
+        for (int m = 0; m < day.length; m += 4) {
+            assertEquals(1, aggregates.partnership(day[m], day[m + 1]).wins());
+            assertEquals(1, aggregates.headToHead(day[m + 3], day[m]).losses());
+            assertEquals(-11, aggregates.player(day[m + 2]).pointDifferential());
+        }
+    }
+
+    // ── helpers ───────────────────────────────────────────────────────────────
+
+    /** Day 7: 1+2 beat 3+4 21-15; then 1+4 lose to 3+2 18-21. */
+    private void stubHistory() {
+        doAnswer(invocation -> {
+            RankReplayRepository.MatchRowHandler handler = invocation.getArgument(2);
+            handler.onMatch(7L, 100L, 1, 2, 3, 4, 21, 15);
+            handler.onMatch(7L, 101L, 1, 4, 3, 2, 18, 21);
+            return null;
+        }).when(rankReplayRepository).streamCompletedMatches(eq(TournamentType.LEAGUE), eq(1L), any());
+    }
+}
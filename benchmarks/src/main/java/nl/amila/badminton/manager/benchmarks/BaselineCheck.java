@@ -0,0 +1,90 @@
+package nl.amila.badminton.manager.benchmarks;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares a JMH JSON result file against a recorded baseline and exits with status 1
+ * when any benchmark regressed by more than the allowed percentage.
+ *
+ * Usage: {@code java -cp benchmarks.jar nl.amila.badminton.manager.benchmarks.BaselineCheck
+ * <baseline.json> <current.json> [maxRegressionPercent=10]}
+ */
+public final class BaselineCheck {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private BaselineCheck() {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record Result(String benchmark, String mode, Map<String, String> params, Metric primaryMetric) {}
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record Metric(double score, double scoreError, String scoreUnit) {}
+
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineCheck <baseline.json> <current.json> [maxRegressionPercent]");
+            System.exit(2);
+        }
+        File baselineFile = new File(args[0]);
+        if (!baselineFile.isFile()) {
+            System.err.println("No baseline at " + baselineFile + " — record one with -rf json -rff " + baselineFile);
+            System.exit(2);
+        }
+        double maxRegressionPercent = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+
+        Map<String, Result> baseline = index(MAPPER.readValue(baselineFile, Result[].class));
+        Map<String, Result> current = index(MAPPER.readValue(new File(args[1]), Result[].class));
+
+        int regressions = 0;
+        for (Map.Entry<String, Result> entry : current.entrySet()) {
+            Result before = baseline.get(entry.getKey());
+            Result after = entry.getValue();
+            if (before == null) {
+                System.out.printf("NEW   %s: %.3f %s%n", entry.getKey(),
+                    after.primaryMetric().score(), after.primaryMetric().scoreUnit());
+                continue;
+            }
+            double change = percentChange(before, after);
+            boolean regressed = change > maxRegressionPercent;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%s %s: %.3f -> %.3f %s (%+.1f%%)%n", regressed ? "SLOW " : "OK   ", entry.getKey(),
+                before.primaryMetric().score(), after.primaryMetric().score(),
+                after.primaryMetric().scoreUnit(), change);
+        }
+
+        if (regressions > 0) {
+            System.out.printf("%d benchmark(s) regressed by more than %.1f%%%n", regressions, maxRegressionPercent);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * How much worse {@code after} is than {@code before}, in percent (negative = faster).
+     * Throughput is higher-is-better; every other JMH mode reports time per operation.
+     */
+    static double percentChange(Result before, Result after) {
+        double b = before.primaryMetric().score();
+        double a = after.primaryMetric().score();
+        double change = (a - b) / b * 100.0;
+        return "thrpt".equals(after.mode()) ? -change : change;
+    }
+
+    private static Map<String, Result> index(Result[] results) {
+        Map<String, Result> byKey = new LinkedHashMap<>();
+        for (Result result : results) {
+            String params = result.params() == null ? "" : new TreeMap<>(result.params()).toString();
+            byKey.put(result.benchmark() + params, result);
+        }
+        return byKey;
+    }
+}
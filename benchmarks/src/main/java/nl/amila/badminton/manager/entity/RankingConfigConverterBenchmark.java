@@ -0,0 +1,42 @@
+package nl.amila.badminton.manager.entity;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON round-trips of the ranking_config column, run on every settings load and save.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class RankingConfigConverterBenchmark {
+
+    private final RankingConfigConverter converter = new RankingConfigConverter();
+    private final RankingConfig config = new ModifiedEloConfig(32);
+    private String json;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        json = converter.convertToDatabaseColumn(config);
+    }
+
+    @Benchmark
+    public void serialize(Blackhole bh) {
+        bh.consume(converter.convertToDatabaseColumn(config));
+    }
+
+    @Benchmark
+    public void deserialize(Blackhole bh) {
+        bh.consume(converter.convertToEntityAttribute(json));
+    }
+
+    @Benchmark
+    public void roundTrip(Blackhole bh) {
+        bh.consume(converter.convertToEntityAttribute(converter.convertToDatabaseColumn(config)));
+    }
+}
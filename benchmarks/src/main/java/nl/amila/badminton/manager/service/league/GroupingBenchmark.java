@@ -0,0 +1,158 @@
+package nl.amila.badminton.manager.service.league;
+
+import nl.amila.badminton.manager.entity.TournamentPlayer;
+import nl.amila.badminton.manager.entity.league.LeagueGameDay;
+import nl.amila.badminton.manager.entity.league.LeagueGameDayGroup;
+import nl.amila.badminton.manager.entity.league.LeagueGameDayGroupPlayer;
+import nl.amila.badminton.manager.service.scheduling.BalancedGrouping;
+import nl.amila.badminton.manager.service.scheduling.GroupAllocator;
+import nl.amila.badminton.manager.service.scheduling.PairingFrequencyIndex;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Group sizing and match schedule generation used by createGameDay.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class GroupingBenchmark {
+
+    private static final PairingFrequencyIndex.Pairings NO_HISTORY = PairingFrequencyIndex.Pairings.empty();
+
+    @Param({"8", "21", "32", "1000"})
+    public int players;
+
+    private LeagueGameDayGroup groupOfFour;
+    private LeagueGameDayGroup groupOfFive;
+    private LeagueGameDayGroup groupOfSeven;
+    /** The seven players' own previous day, so every seat order is searched. */
+    private PairingFrequencyIndex.Pairings sevenHistory;
+    private LeagueGameDay day;
+    private List<TournamentPlayer> selectedPlayers;
+    private double[] ratings;
+    private List<Integer> sizes;
+    private int[] pairA;
+    private int[] pairB;
+    private int[] pairTimes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // A 9-player day has exactly one group of 4 and one of 5
+        var nine = LeagueGameDayFixtures.scoredGameDay(9, 1L);
+        for (LeagueGameDayGroup group : nine.getGroups()) {
+            if (group.getPlayers().size() == 4) {
+                groupOfFour = group;
+            } else {
+                groupOfFive = group;
+            }
+        }
+        // A 7-player day is a single group with rotating byes
+        groupOfSeven = LeagueGameDayFixtures.scoredGameDay(7, 1L).getGroups().iterator().next();
+        sevenHistory = PairingFrequencyIndex.Pairings.empty();
+        sevenHistory.addDay(1L, groupOfSeven.getMatches().stream()
+            .flatMapToLong(m -> LongStream.of(
+                m.getTeam1Player1().getTournamentPlayer().getId(), m.getTeam1Player2().getTournamentPlayer().getId(),
+                m.getTeam2Player1().getTournamentPlayer().getId(), m.getTeam2Player2().getTournamentPlayer().getId()))
+            .toArray());
+
+        day = LeagueGameDayFixtures.scoredGameDay(players, 1L);
+        selectedPlayers = new ArrayList<>(players);
+        for (LeagueGameDayGroup group : day.getGroups()) {
+            for (LeagueGameDayGroupPlayer gp : group.getPlayers()) {
+                selectedPlayers.add(gp.getTournamentPlayer());
+            }
+        }
+
+        // Balanced grouping input: rank-sorted ratings, history of two days in the same rank slices
+        ratings = selectedPlayers.stream().mapToDouble(tp -> tp.getRankScore().doubleValue()).sorted().toArray();
+        for (int i = 0; i < ratings.length / 2; i++) {
+            double tmp = ratings[i];
+            ratings[i] = ratings[ratings.length - 1 - i];
+            ratings[ratings.length - 1 - i] = tmp;
+        }
+        sizes = GroupAllocator.groupSizes(players, null);
+        List<int[]> pairs = new ArrayList<>();
+        int start = 0;
+        for (int size : sizes) {
+            for (int i = start; i < start + size; i++) {
+                for (int j = i + 1; j < start + size; j++) {
+                    pairs.add(new int[]{i, j});
+                }
+            }
+            start += size;
+        }
+        pairA = pairs.stream().mapToInt(p -> p[0]).toArray();
+        pairB = pairs.stream().mapToInt(p -> p[1]).toArray();
+        pairTimes = pairs.stream().mapToInt(p -> 2).toArray();
+    }
+
+    @Benchmark
+    public void groupSizes(Blackhole bh) {
+        bh.consume(GroupAllocator.groupSizes(players, null));
+    }
+
+    /** Includes clearing the previously generated matches, which is small next to generation. */
+    @Benchmark
+    public void generateMatchesGroupOfFour(Blackhole bh) {
+        groupOfFour.getMatches().clear();
+        LeagueGameDayService.generateMatches(groupOfFour, NO_HISTORY);
+        bh.consume(groupOfFour.getMatches());
+    }
+
+    @Benchmark
+    public void generateMatchesGroupOfFive(Blackhole bh) {
+        groupOfFive.getMatches().clear();
+        LeagueGameDayService.generateMatches(groupOfFive, NO_HISTORY);
+        bh.consume(groupOfFive.getMatches());
+    }
+
+    @Benchmark
+    public void generateMatchesGroupOfSeven(Blackhole bh) {
+        groupOfSeven.getMatches().clear();
+        LeagueGameDayService.generateMatches(groupOfSeven, sevenHistory);
+        bh.consume(groupOfSeven.getMatches());
+    }
+
+    /**
+     * The in-memory part of createGameDay: size the groups, fill them in rank order and generate
+     * every group's matches. Should scale linearly with the player count.
+     */
+    @Benchmark
+    public void allocateAndGenerate(Blackhole bh) {
+        List<Integer> sizes = GroupAllocator.groupSizes(players, null);
+        int next = 0;
+        for (int g = 0; g < sizes.size(); g++) {
+            LeagueGameDayGroup group = new LeagueGameDayGroup(day, g + 1);
+            for (int i = 0; i < sizes.get(g); i++) {
+                group.getPlayers().add(new LeagueGameDayGroupPlayer(group, selectedPlayers.get(next++)));
+            }
+            LeagueGameDayService.generateMatches(group, NO_HISTORY);
+            bh.consume(group);
+        }
+    }
+
+    /** Simulated-annealing group formation against a repeat-heavy history; bounded at 40 ms. */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void balancedGrouping(Blackhole bh) {
+        bh.consume(BalancedGrouping.arrange(ratings, sizes, pairA, pairB, pairTimes, new Random(1)));
+    }
+
+    /** Court and round assignment for the whole day on 40 courts. */
+    @Benchmark
+    public void scheduleCourtsFortyCourts(Blackhole bh) {
+        LeagueGameDayService.scheduleCourts(day.getGroups(), 40);
+        bh.consume(day);
+    }
+}
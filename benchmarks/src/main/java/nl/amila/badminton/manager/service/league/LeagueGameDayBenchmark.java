@@ -0,0 +1,83 @@
+package nl.amila.badminton.manager.service.league;
+
+import nl.amila.badminton.manager.entity.ModifiedEloConfig;
+import nl.amila.badminton.manager.entity.league.LeagueGameDay;
+import nl.amila.badminton.manager.entity.league.LeagueGameDayGroup;
+import nl.amila.badminton.manager.entity.league.LeagueGameDayGroupMatch;
+import nl.amila.badminton.manager.repository.league.LeagueGameDayRepository;
+import nl.amila.badminton.manager.service.ranking.MatchBatch;
+import nl.amila.badminton.manager.service.ranking.ModifiedEloRankingEngine;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Game day hot paths of {@link LeagueGameDayService}: the Modified-ELO pass run by finishGameDay
+ * (with and without building the batch and history rows), and the two ways of mapping a game day
+ * to its DTO (entity graph vs flat rows).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class LeagueGameDayBenchmark {
+
+    private static final long SEED = 20250101L;
+    private static final ModifiedEloConfig ELO_CONFIG = new ModifiedEloConfig(32);
+    private static final ModifiedEloRankingEngine ENGINE = new ModifiedEloRankingEngine();
+
+    /** Player counts from a single group up to the largest allowed game day (MAX_PLAYERS). */
+    @Param({"5", "16", "32"})
+    public int players;
+
+    private LeagueGameDay day;
+    private MatchBatch batch;
+    private List<LeagueGameDay> days;
+    private List<LeagueGameDayRepository.GroupRow> groupRows;
+    private List<LeagueGameDayRepository.GroupPlayerRow> groupPlayerRows;
+    private List<LeagueGameDayRepository.MatchRow> matchRows;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        day = LeagueGameDayFixtures.scoredGameDay(players, SEED);
+        days = List.of(day);
+        groupRows = LeagueGameDayFixtures.groupRows(day);
+        groupPlayerRows = LeagueGameDayFixtures.groupPlayerRows(day);
+        matchRows = LeagueGameDayFixtures.matchRows(day);
+
+        int matchCount = day.getGroups().stream().mapToInt(g -> g.getMatches().size()).sum();
+        batch = new MatchBatch(matchCount);
+        for (LeagueGameDayGroup group : day.getGroups()) {
+            for (LeagueGameDayGroupMatch match : group.getMatches()) {
+                batch.addMatch(
+                    match.getTeam1Player1().getTournamentPlayer(), match.getTeam1Player2().getTournamentPlayer(),
+                    match.getTeam2Player1().getTournamentPlayer(), match.getTeam2Player2().getTournamentPlayer(),
+                    match.getTeam1Score(), match.getTeam2Score());
+            }
+        }
+    }
+
+    @Benchmark
+    public void modifiedEloDeltas(Blackhole bh) {
+        bh.consume(LeagueGameDayService.computeRankChanges(day.getGroups(), ENGINE, ELO_CONFIG));
+    }
+
+    @Benchmark
+    public void modifiedEloEngineOnly(Blackhole bh) {
+        bh.consume(ENGINE.compute(ELO_CONFIG, batch));
+    }
+
+    @Benchmark
+    public void toDtoFromEntityGraph(Blackhole bh) {
+        bh.consume(LeagueGameDayService.toDto(day));
+    }
+
+    @Benchmark
+    public void assembleDtoFromFlatRows(Blackhole bh) {
+        bh.consume(LeagueGameDayService.assembleDtos(days, groupRows, groupPlayerRows, matchRows));
+    }
+}
@@ -0,0 +1,160 @@
+package nl.amila.badminton.manager.service.league;
+
+import nl.amila.badminton.manager.entity.Tournament;
+import nl.amila.badminton.manager.entity.TournamentPlayer;
+import nl.amila.badminton.manager.entity.TournamentType;
+import nl.amila.badminton.manager.entity.User;
+import nl.amila.badminton.manager.entity.league.GameDayStatus;
+import nl.amila.badminton.manager.entity.league.LeagueGameDay;
+import nl.amila.badminton.manager.entity.league.LeagueGameDayGroup;
+import nl.amila.badminton.manager.entity.league.LeagueGameDayGroupMatch;
+import nl.amila.badminton.manager.entity.league.LeagueGameDayGroupPlayer;
+import nl.amila.badminton.manager.repository.league.LeagueGameDayRepository;
+import nl.amila.badminton.manager.service.scheduling.GroupAllocator;
+import nl.amila.badminton.manager.service.scheduling.PairingFrequencyIndex;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Reproducible in-memory league game days for benchmarks.
+ * The same player count and seed always produce the same groups, rank scores and match results.
+ */
+public final class LeagueGameDayFixtures {
+
+    private LeagueGameDayFixtures() {
+    }
+
+    /**
+     * An ONGOING game day with {@code playerCount} rank-sorted players split into groups of 4 and 5,
+     * every match generated by the production schedule and scored.
+     */
+    public static LeagueGameDay scoredGameDay(int playerCount, long seed) {
+        Random random = new Random(seed);
+        Tournament tournament = new Tournament("Benchmark League", 1L, true, TournamentType.LEAGUE);
+        setId(tournament, 1L);
+
+        LeagueGameDay day = new LeagueGameDay(tournament, LocalDate.of(2025, 1, 1));
+        setId(day, 1L);
+        day.setStatus(GameDayStatus.ONGOING);
+
+        List<TournamentPlayer> players = new ArrayList<>();
+        for (int i = 1; i <= playerCount; i++) {
+            User user = new User("player" + i, "player" + i + "@example.com", "x", "First" + i, "Last" + i);
+            setId(user, (long) i);
+            BigDecimal rankScore = BigDecimal.valueOf(500 + random.nextGaussian() * 150).setScale(2, RoundingMode.HALF_UP);
+            TournamentPlayer tp = new TournamentPlayer(tournament, user, rankScore);
+            setId(tp, (long) i);
+            players.add(tp);
+        }
+        players.sort((a, b) -> b.getRankScore().compareTo(a.getRankScore()));
+
+        // Deterministic shuffle of the group size order (production uses an unseeded shuffle)
+        List<Integer> sizes = new ArrayList<>(GroupAllocator.groupSizes(playerCount, null));
+        Collections.sort(sizes);
+        Collections.shuffle(sizes, random);
+
+        long groupPlayerId = 1;
+        long matchId = 1;
+        int next = 0;
+        for (int g = 0; g < sizes.size(); g++) {
+            LeagueGameDayGroup group = new LeagueGameDayGroup(day, g + 1);
+            setId(group, (long) (g + 1));
+            for (int i = 0; i < sizes.get(g); i++) {
+                LeagueGameDayGroupPlayer gp = new LeagueGameDayGroupPlayer(group, players.get(next++));
+                setId(gp, groupPlayerId++);
+                group.getPlayers().add(gp);
+            }
+            LeagueGameDayService.generateMatches(group, PairingFrequencyIndex.Pairings.empty());
+            for (LeagueGameDayGroupMatch match : group.getMatches()) {
+                setId(match, matchId++);
+                boolean team1Wins = random.nextBoolean();
+                int loserScore = random.nextInt(20);
+                match.setTeam1Score(team1Wins ? 21 : loserScore);
+                match.setTeam2Score(team1Wins ? loserScore : 21);
+            }
+            day.getGroups().add(group);
+        }
+        return day;
+    }
+
+    /**
+     * The flat read-model rows the repository would return for {@code day}.
+     */
+    public static List<LeagueGameDayRepository.GroupRow> groupRows(LeagueGameDay day) {
+        List<LeagueGameDayRepository.GroupRow> rows = new ArrayList<>();
+        for (LeagueGameDayGroup group : day.getGroups()) {
+            rows.add(new GroupRowFixture(group.getId(), day.getId(), group.getGroupNumber()));
+        }
+        return rows;
+    }
+
+    public static List<LeagueGameDayRepository.GroupPlayerRow> groupPlayerRows(LeagueGameDay day) {
+        List<LeagueGameDayRepository.GroupPlayerRow> rows = new ArrayList<>();
+        for (LeagueGameDayGroup group : day.getGroups()) {
+            for (LeagueGameDayGroupPlayer gp : group.getPlayers()) {
+                rows.add(new GroupPlayerRowFixture(gp.getId(), group.getId(), gp.getTournamentPlayer()));
+            }
+        }
+        return rows;
+    }
+
+    public static List<LeagueGameDayRepository.MatchRow> matchRows(LeagueGameDay day) {
+        List<LeagueGameDayRepository.MatchRow> rows = new ArrayList<>();
+        for (LeagueGameDayGroup group : day.getGroups()) {
+            for (LeagueGameDayGroupMatch match : group.getMatches()) {
+                rows.add(new MatchRowFixture(match, group.getId()));
+            }
+        }
+        return rows;
+    }
+
+    private static void setId(Object entity, Long id) {
+        try {
+            var field = entity.getClass().getDeclaredField("id");
+            field.setAccessible(true);
+            field.set(entity, id);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not set id on " + entity.getClass().getSimpleName(), e);
+        }
+    }
+
+    private record GroupRowFixture(Long id, Long gameDayId, int groupNumber)
+            implements LeagueGameDayRepository.GroupRow {
+        @Override public Long getId() { return id; }
+        @Override public Long getGameDayId() { return gameDayId; }
+        @Override public int getGroupNumber() { return groupNumber; }
+    }
+
+    private record GroupPlayerRowFixture(Long id, Long groupId, TournamentPlayer tp)
+            implements LeagueGameDayRepository.GroupPlayerRow {
+        @Override public Long getId() { return id; }
+        @Override public Long getGroupId() { return groupId; }
+        @Override public Long getTournamentPlayerId() { return tp.getId(); }
+        @Override public Long getUserId() { return tp.getUser().getId(); }
+        @Override public String getFirstName() { return tp.getUser().getFirstName(); }
+        @Override public String getLastName() { return tp.getUser().getLastName(); }
+        @Override public BigDecimal getRankScore() { return tp.getRankScore(); }
+    }
+
+    private record MatchRowFixture(LeagueGameDayGroupMatch match, Long groupId)
+            implements LeagueGameDayRepository.MatchRow {
+        @Override public Long getId() { return match.getId(); }
+        @Override public Long getGroupId() { return groupId; }
+        @Override public int getMatchOrder() { return match.getMatchOrder(); }
+        @Override public Long getTeam1Player1Id() { return match.getTeam1Player1().getId(); }
+        @Override public Long getTeam1Player2Id() { return match.getTeam1Player2().getId(); }
+        @Override public Long getTeam2Player1Id() { return match.getTeam2Player1().getId(); }
+        @Override public Long getTeam2Player2Id() { return match.getTeam2Player2().getId(); }
+        @Override public Integer getTeam1Score() { return match.getTeam1Score(); }
+        @Override public Integer getTeam2Score() { return match.getTeam2Score(); }
+        @Override public Integer getCourtNumber() { return match.getCourtNumber(); }
+        @Override public Integer getRoundNumber() { return match.getRoundNumber(); }
+        @Override public Long getVersion() { return match.getVersion(); }
+    }
+}
@@ -12,11 +12,9 @@ const apiClient = axios.create({
 // Request interceptor to add auth header
 apiClient.interceptors.request.use(
   (config) => {
-    const credentials = localStorage.getItem('credentials')
-    if (credentials) {
-      const { username, password } = JSON.parse(credentials)
-      const auth = btoa(`${username}:${password}`)
-      config.headers.Authorization = `Basic ${auth}`
+    const token = localStorage.getItem('token')
+    if (token) {
+      config.headers.Authorization = `Bearer ${token}`
     }
     return config
   },
@@ -25,15 +23,53 @@ apiClient.interceptors.request.use(
   }
 )
 
+// Shared in-flight refresh so concurrent 401s trigger a single token rotation
+let refreshPromise = null
+
+const refreshAccessToken = () => {
+  if (!refreshPromise) {
+    const refreshToken = localStorage.getItem('refreshToken')
+    refreshPromise = apiClient.post('/api/auth/refresh', { refreshToken })
+      .then((response) => {
+        localStorage.setItem('token', response.data.token)
+        localStorage.setItem('refreshToken', response.data.refreshToken)
+        return response.data.token
+      })
+      .finally(() => {
+        refreshPromise = null
+      })
+  }
+  return refreshPromise
+}
+
+const clearSession = () => {
+  localStorage.removeItem('token')
+  localStorage.removeItem('refreshToken')
+  localStorage.removeItem('user')
+  window.location.href = '/#/login'
+}
+
 // Response interceptor to handle errors
 apiClient.interceptors.response.use(
   (response) => response,
-  (error) => {
-    if (error.response?.status === 401) {
-      // Clear credentials and redirect to login
-      localStorage.removeItem('credentials')
-      localStorage.removeItem('user')
-      window.location.href = '/#/login'
+  async (error) => {
+    const original = error.config
+    // Stream tickets are issued against the access token, so they refresh like any other call
+    const isAuthCall = original?.url?.startsWith('/api/auth/') && original.url !== '/api/auth/stream-ticket'
+    if (error.response?.status === 401 && original && !isAuthCall) {
+      // Access token expired: rotate once and replay the request
+      if (!original._retried && localStorage.getItem('refreshToken')) {
+        original._retried = true
+        try {
+          const token = await refreshAccessToken()
+          original.headers.Authorization = `Bearer ${token}`
+          return apiClient(original)
+        } catch (refreshError) {
+          clearSession()
+          return Promise.reject(refreshError)
+        }
+      }
+      clearSession()
     }
     return Promise.reject(error)
   }
@@ -133,14 +169,21 @@ export const tournamentAPI = {
     return apiClient.delete(`/api/tournaments/${tournamentId}/game-days/${dayId}/cancel`)
   },
 
-  // Submit or overwrite score for a match (ONGOING days only)
-  submitMatchScore (tournamentId, dayId, groupId, matchId, data) {
+  // Submit or overwrite score for a match (ONGOING days only).
+  // view: 'day' returns the whole game day, 'match' only the scored match and its new version
+  submitMatchScore (tournamentId, dayId, groupId, matchId, data, view = 'day') {
     return apiClient.put(
       `/api/tournaments/${tournamentId}/game-days/${dayId}/groups/${groupId}/matches/${matchId}/score`,
-      data
+      data,
+      { params: { view } }
     )
   },
 
+  // Submit several scores of one group together; each carries the match version it was edited from
+  submitGroupScores (tournamentId, dayId, groupId, data) {
+    return apiClient.put(`/api/tournaments/${tournamentId}/game-days/${dayId}/groups/${groupId}/scores`, data)
+  },
+
   // Finish a game day (ONGOING → COMPLETED): triggers Modified-ELO rank calculation
   finishGameDay (tournamentId, dayId) {
     return apiClient.post(`/api/tournaments/${tournamentId}/game-days/${dayId}/finish`)
@@ -151,6 +194,59 @@ export const tournamentAPI = {
     return apiClient.get(`/api/tournaments/${tournamentId}/rankings`)
   },
 
+  // Rank score over time as parallel arrays; players defaults to everyone.
+  // downsample: 'day' (each game day's close), 'lttb' (at most points per player) or 'none'
+  getRankProgression (tournamentId, { players = [], downsample = 'day', points } = {}) {
+    return apiClient.get(`/api/tournaments/${tournamentId}/rankings/progression`, {
+      params: { players: players.length ? players.join(',') : undefined, downsample, points }
+    })
+  },
+
+  // ── One-off endpoints ─────────────────────────────────────────────────────
+
+  // Draw the next round of a one-off tournament
+  generateOneOffRound (tournamentId) {
+    return apiClient.post(`/api/tournaments/${tournamentId}/one-off/rounds`)
+  },
+
+  // Get all rounds of a one-off tournament
+  getOneOffRounds (tournamentId) {
+    return apiClient.get(`/api/tournaments/${tournamentId}/one-off/rounds`)
+  },
+
+  // Submit or correct a one-off match score
+  submitOneOffScore (tournamentId, roundId, matchId, team1Score, team2Score, version) {
+    return apiClient.put(`/api/tournaments/${tournamentId}/one-off/rounds/${roundId}/matches/${matchId}/score`, {
+      team1Score,
+      team2Score,
+      version
+    })
+  },
+
+  // Get the live standings of a one-off tournament
+  getOneOffStandings (tournamentId) {
+    return apiClient.get(`/api/tournaments/${tournamentId}/one-off/standings`)
+  },
+
+  // Seed and draw the knockout bracket (format: SINGLE_ELIMINATION or DOUBLE_ELIMINATION)
+  createBracket (tournamentId, format, seedFromTournamentId) {
+    return apiClient.post(`/api/tournaments/${tournamentId}/one-off/bracket`, { format, seedFromTournamentId })
+  },
+
+  // Get the knockout bracket as per-match arrays (public)
+  getBracket (tournamentId) {
+    return apiClient.get(`/api/tournaments/${tournamentId}/one-off/bracket`)
+  },
+
+  // Record or correct a bracket match result (matchNumber is 1-based)
+  submitBracketResult (tournamentId, matchNumber, team1Score, team2Score, version) {
+    return apiClient.put(`/api/tournaments/${tournamentId}/one-off/bracket/matches/${matchNumber}/score`, {
+      team1Score,
+      team2Score,
+      version
+    })
+  },
+
   // ── Player-scoped endpoints ───────────────────────────────────────────────
 
   // Get all tournaments for the authenticated player
@@ -182,8 +278,55 @@ export const tournamentAPI = {
   },
 
   // Get completed game day history for a player (any authenticated user can view any player)
-  getPlayerHistory (tournamentId, tournamentPlayerId) {
-    return apiClient.get(`/api/tournaments/${tournamentId}/game-days/players/${tournamentPlayerId}/history`)
+  // Pass the previous page's nextCursor as cursor to load older game days
+  getPlayerHistory (tournamentId, tournamentPlayerId, cursor = null) {
+    return apiClient.get(
+      `/api/tournaments/${tournamentId}/game-days/players/${tournamentPlayerId}/history`,
+      { params: cursor ? { cursor } : {} }
+    )
+  }
+}
+
+const STREAM_RETRY_DELAY_MS = 2000
+
+// Subscribe to live score updates of an ongoing game day (Server-Sent Events).
+// onScore receives { groupId, matchId, team1Score, team2Score }; onReconnect fires after the
+// stream was re-established, so callers can reload anything missed while disconnected.
+// Returns a function that closes the stream.
+export const openGameDayStream = (tournamentId, dayId, { onScore, onReconnect } = {}) => {
+  let source = null
+  let closed = false
+  let connectedOnce = false
+
+  const connect = () => {
+    // EventSource cannot send the Authorization header, so the URL carries a short-lived stream ticket
+    apiClient.post('/api/auth/stream-ticket')
+      .then((response) => {
+        if (closed) return
+        const ticket = encodeURIComponent(response.data.token)
+        source = new EventSource(
+          `${apiClient.defaults.baseURL}/api/tournaments/${tournamentId}/game-days/${dayId}/stream?ticket=${ticket}`
+        )
+        source.onopen = () => {
+          if (connectedOnce && onReconnect) onReconnect()
+          connectedOnce = true
+        }
+        source.addEventListener('score', (event) => {
+          if (onScore) onScore(JSON.parse(event.data))
+        })
+        source.onerror = () => {
+          // The browser retries transient errors itself; a CLOSED stream usually means the ticket expired
+          if (closed || source.readyState !== EventSource.CLOSED) return
+          setTimeout(() => { if (!closed) connect() }, STREAM_RETRY_DELAY_MS)
+        }
+      })
+      .catch(() => {})
+  }
+
+  connect()
+  return () => {
+    closed = true
+    if (source) source.close()
   }
 }
 
@@ -21,18 +21,12 @@ const authService = {
    */
   async login (credentials) {
     try {
-      const { username, password } = credentials
-      const auth = btoa(`${username}:${password}`)
-
-      const response = await apiClient.post('/api/auth/login', credentials, {
-        headers: {
-          Authorization: `Basic ${auth}`
-        }
-      })
+      const response = await apiClient.post('/api/auth/login', credentials)
 
       if (response.data.success) {
-        // Store credentials and user data
-        localStorage.setItem('credentials', JSON.stringify({ username, password }))
+        // Store tokens and user data (the password itself is never kept)
+        localStorage.setItem('token', response.data.token)
+        localStorage.setItem('refreshToken', response.data.refreshToken)
         localStorage.setItem('user', JSON.stringify(response.data.user))
       }
 
@@ -46,7 +40,13 @@ const authService = {
    * Logout user
    */
   logout () {
-    localStorage.removeItem('credentials')
+    const refreshToken = localStorage.getItem('refreshToken')
+    if (refreshToken) {
+      // Best effort: revoke the refresh token server-side
+      apiClient.post('/api/auth/logout', { refreshToken }).catch(() => {})
+    }
+    localStorage.removeItem('token')
+    localStorage.removeItem('refreshToken')
     localStorage.removeItem('user')
   },
 
@@ -62,7 +62,7 @@ const authService = {
    * Check if user is authenticated
    */
   isAuthenticated () {
-    return !!localStorage.getItem('credentials')
+    return !!localStorage.getItem('refreshToken')
   },
 
   /**